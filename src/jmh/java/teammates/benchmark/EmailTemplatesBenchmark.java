@@ -0,0 +1,123 @@
+package teammates.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import teammates.common.util.SanitizationHelper;
+import teammates.common.util.Templates;
+import teammates.common.util.Templates.CompiledTemplate;
+import teammates.common.util.Templates.EmailTemplates;
+
+/**
+ * Benchmarks populating the template of session emails for every student of a large course,
+ * as done by {@link teammates.logic.api.EmailGenerator} when sending session reminders.
+ *
+ * <p>The emails are populated the same way as in {@code EmailGenerator}, without loading the course,
+ * session and students from the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailTemplatesBenchmark {
+
+    private static final int NUMBER_OF_STUDENTS = 10_000;
+
+    private static final String COURSE_ID = "CS1010-AY2223S1";
+    private static final String COURSE_NAME = "Programming Methodology";
+    private static final String SESSION_NAME = "Peer Evaluation 1";
+    private static final String DEADLINE = "Fri, 30 Sep 2022, 11:59 PM SGT";
+    private static final String SESSION_INSTRUCTIONS =
+            "<p>Please give feedback to each of your team members, including yourself.</p>";
+    private static final String SUBMIT_URL_PREFIX = "https://teammates.example.com/web/sessions/submission"
+            + "?courseid=" + COURSE_ID + "&fsname=Peer%20Evaluation%201&key=";
+
+    private final List<String> studentNames = new ArrayList<>();
+    private final List<String> studentKeys = new ArrayList<>();
+    private CompiledTemplate template;
+
+    /**
+     * Compiles the template and creates the names and registration keys of the students.
+     */
+    @Setup
+    public void setUp() {
+        template = Templates.compile(EmailTemplates.USER_FEEDBACK_SESSION);
+        for (int i = 0; i < NUMBER_OF_STUDENTS; i++) {
+            studentNames.add("Student " + i + " O'Connor");
+            studentKeys.add(String.format("%064x", i));
+        }
+    }
+
+    /**
+     * Compiles the template of session emails, which is done once when {@code EmailGenerator} is loaded.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public CompiledTemplate compileTemplate() {
+        return Templates.compile(EmailTemplates.USER_FEEDBACK_SESSION);
+    }
+
+    /**
+     * Populates the compiled template for every student, with the values shared by all the emails populated once.
+     */
+    @Benchmark
+    public void populateCompiledTemplate(Blackhole blackhole) {
+        CompiledTemplate sessionTemplate = template.populatePartially(
+                "${status}", "is still open for submissions",
+                "${courseName}", SanitizationHelper.sanitizeForHtml(COURSE_NAME),
+                "${courseId}", SanitizationHelper.sanitizeForHtml(COURSE_ID),
+                "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(SESSION_NAME),
+                "${deadline}", SanitizationHelper.sanitizeForHtml(DEADLINE),
+                "${sessionInstructions}", SESSION_INSTRUCTIONS,
+                "${feedbackAction}", "submit, edit or view",
+                "${instructorPreamble}", "",
+                "${additionalContactInformation}", "");
+
+        StringBuilder emailBodyBuilder = new StringBuilder();
+        for (int i = 0; i < NUMBER_OF_STUDENTS; i++) {
+            emailBodyBuilder.setLength(0);
+            sessionTemplate.populateInto(emailBodyBuilder,
+                    "${userName}", SanitizationHelper.sanitizeForHtml(studentNames.get(i)),
+                    "${submitUrl}", SUBMIT_URL_PREFIX + studentKeys.get(i));
+            blackhole.consume(emailBodyBuilder.toString());
+        }
+    }
+
+    /**
+     * Populates the template for every student by replacing each variable in the whole template,
+     * as {@code EmailGenerator} used to do.
+     */
+    @Benchmark
+    public void populateTemplateByReplacement(Blackhole blackhole) {
+        for (int i = 0; i < NUMBER_OF_STUDENTS; i++) {
+            blackhole.consume(Templates.populateTemplate(EmailTemplates.USER_FEEDBACK_SESSION,
+                    "${userName}", SanitizationHelper.sanitizeForHtml(studentNames.get(i)),
+                    "${status}", "is still open for submissions",
+                    "${courseName}", SanitizationHelper.sanitizeForHtml(COURSE_NAME),
+                    "${courseId}", SanitizationHelper.sanitizeForHtml(COURSE_ID),
+                    "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(SESSION_NAME),
+                    "${deadline}", SanitizationHelper.sanitizeForHtml(DEADLINE),
+                    "${instructorPreamble}", "",
+                    "${sessionInstructions}", SESSION_INSTRUCTIONS,
+                    "${submitUrl}", SUBMIT_URL_PREFIX + studentKeys.get(i),
+                    "${feedbackAction}", "submit, edit or view",
+                    "${additionalContactInformation}", ""));
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+package teammates.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import teammates.common.util.FieldValidator;
+import teammates.common.util.StringHelper;
+
+/**
+ * Benchmarks validating the fields of every student in the enrollment of a large course,
+ * as done by {@link FieldValidator} for each enrolled student.
+ *
+ * <p>One in five of the student names contains non-ASCII characters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FieldValidatorBenchmark {
+
+    private static final int NUMBER_OF_STUDENTS = 10_000;
+
+    private final List<String> names = new ArrayList<>();
+    private final List<String> emails = new ArrayList<>();
+    private final List<String> teamNames = new ArrayList<>();
+    private final List<String> sectionNames = new ArrayList<>();
+
+    /**
+     * Creates the name, email, team and section of every student in the enrollment.
+     */
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < NUMBER_OF_STUDENTS; i++) {
+            names.add(i % 5 == 0 ? "Zoë Bérénice Nguyễn " + i : "Alice Betsy Tan " + i);
+            emails.add("student" + i + ".cs1010@u.nus.edu");
+            teamNames.add("Team " + i / 5);
+            sectionNames.add("Tutorial Group " + i / 500);
+        }
+    }
+
+    /**
+     * Validates the fields of every student with {@link FieldValidator}.
+     */
+    @Benchmark
+    public void validateEnrollment(Blackhole blackhole) {
+        for (int i = 0; i < NUMBER_OF_STUDENTS; i++) {
+            blackhole.consume(FieldValidator.getInvalidityInfoForPersonName(names.get(i)));
+            blackhole.consume(FieldValidator.getInvalidityInfoForEmail(emails.get(i)));
+            blackhole.consume(FieldValidator.getInvalidityInfoForTeamName(teamNames.get(i)));
+            blackhole.consume(FieldValidator.getInvalidityInfoForSectionName(sectionNames.get(i)));
+        }
+    }
+
+    /**
+     * Matches the fields of every student against the validation regexes with {@link StringHelper#isMatching}.
+     */
+    @Benchmark
+    public void matchEnrollment(Blackhole blackhole) {
+        for (int i = 0; i < NUMBER_OF_STUDENTS; i++) {
+            blackhole.consume(StringHelper.isMatching(names.get(i), FieldValidator.REGEX_NAME));
+            blackhole.consume(StringHelper.isMatching(emails.get(i), FieldValidator.REGEX_EMAIL));
+            blackhole.consume(StringHelper.isMatching(teamNames.get(i), FieldValidator.REGEX_EMAIL));
+            blackhole.consume(StringHelper.isMatching(teamNames.get(i), FieldValidator.REGEX_NAME));
+            blackhole.consume(StringHelper.isMatching(sectionNames.get(i), FieldValidator.REGEX_NAME));
+        }
+    }
+
+    /**
+     * Matches the fields of every student against the validation regexes with a pattern compiled
+     * with {@link Pattern#CANON_EQ} for each match, as {@link StringHelper#isMatching} used to do.
+     */
+    @Benchmark
+    public void matchEnrollmentWithNewPatterns(Blackhole blackhole) {
+        for (int i = 0; i < NUMBER_OF_STUDENTS; i++) {
+            blackhole.consume(matchWithNewPattern(names.get(i), FieldValidator.REGEX_NAME));
+            blackhole.consume(matchWithNewPattern(emails.get(i), FieldValidator.REGEX_EMAIL));
+            blackhole.consume(matchWithNewPattern(teamNames.get(i), FieldValidator.REGEX_EMAIL));
+            blackhole.consume(matchWithNewPattern(teamNames.get(i), FieldValidator.REGEX_NAME));
+            blackhole.consume(matchWithNewPattern(sectionNames.get(i), FieldValidator.REGEX_NAME));
+        }
+    }
+
+    private static boolean matchWithNewPattern(String input, String regex) {
+        return Pattern.compile(regex, Pattern.CANON_EQ).matcher(input).matches();
+    }
+
+}
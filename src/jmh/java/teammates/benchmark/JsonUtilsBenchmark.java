@@ -0,0 +1,84 @@
+package teammates.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.GsonBuilder;
+
+import teammates.common.datatransfer.questions.FeedbackResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackRubricResponseDetails;
+import teammates.common.util.JsonUtils;
+
+/**
+ * Benchmarks the (de)serialization of response details with {@link JsonUtils},
+ * which happens for every response read from or written to the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonUtilsBenchmark {
+
+    private FeedbackRubricResponseDetails responseDetails;
+    private String responseDetailsJson;
+
+    /**
+     * Creates the response details of a rubric question with ten sub-questions.
+     */
+    @Setup
+    public void setUp() {
+        responseDetails = new FeedbackRubricResponseDetails();
+        responseDetails.setAnswer(Arrays.asList(0, 1, 2, 3, 4, 0, 1, 2, 3, 4));
+        responseDetailsJson = responseDetails.getJsonString();
+    }
+
+    /**
+     * Serializes the response details, as done when a response is saved.
+     */
+    @Benchmark
+    public String serializeResponseDetails() {
+        return responseDetails.getJsonString();
+    }
+
+    /**
+     * Deserializes the response details, as done when a response is read.
+     */
+    @Benchmark
+    public FeedbackResponseDetails deserializeResponseDetails() {
+        return JsonUtils.fromJson(responseDetailsJson, FeedbackRubricResponseDetails.class);
+    }
+
+    /**
+     * Copies the response details, as done whenever the details of a response are given out.
+     */
+    @Benchmark
+    public FeedbackResponseDetails copyResponseDetails() {
+        return responseDetails.getDeepCopy();
+    }
+
+    /**
+     * Serializes the response details with a Gson instance built for the call,
+     * as {@link JsonUtils} used to do for every call.
+     *
+     * <p>This is a lower bound of the former cost, as the custom type adapters are not registered here.
+     */
+    @Benchmark
+    public String serializeResponseDetailsWithNewGsonInstance() {
+        return new GsonBuilder().disableHtmlEscaping().create()
+                .toJson(responseDetails, FeedbackRubricResponseDetails.class);
+    }
+
+}
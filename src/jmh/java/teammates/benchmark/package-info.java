@@ -0,0 +1,4 @@
+/**
+ * Contains JMH micro-benchmarks of performance-sensitive code, run with {@code ./gradlew jmh}.
+ */
+package teammates.benchmark;
@@ -1,7 +1,9 @@
 package teammates.common.datatransfer;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -13,36 +15,91 @@ import teammates.common.util.Const;
  * Contains a list of students and instructors in a course. Useful for caching
  * a copy of student and instructor details of a course instead of reading
  * them from the database multiple times.
+ *
+ * <p>The roster is indexed when it is created: each student and each instructor is assigned a dense integer id,
+ * and the lookups by email, team, section and identifier are precomputed,
+ * so that checking the relationship between participants does not involve scanning the roster.
+ * The roster cannot be modified after it is created, and can therefore be shared across requests,
+ * as long as the attributes it contains are not modified by the callers.
  */
 public class CourseRoster {
 
-    private final Map<String, StudentAttributes> studentListByEmail = new HashMap<>();
-    private final Map<String, InstructorAttributes> instructorListByEmail = new HashMap<>();
+    private static final ParticipantInfo UNKNOWN_PARTICIPANT_INFO =
+            new ParticipantInfo(Const.USER_NOBODY_TEXT, Const.USER_NOBODY_TEXT, Const.DEFAULT_SECTION);
+
+    /** The students of the course, indexed by student id. */
+    private final List<StudentAttributes> students;
+    /** The instructors of the course, indexed by instructor id. */
+    private final List<InstructorAttributes> instructors;
+    private final Map<String, Integer> studentIdByEmail = new HashMap<>();
+    private final Map<String, Integer> instructorIdByEmail = new HashMap<>();
+    private final Map<String, Integer> teamIdByName = new HashMap<>();
+    /** The team id of each student, indexed by student id. */
+    private final int[] teamIdOfStudent;
     private final Map<String, List<StudentAttributes>> teamToMembersTable;
+    private final Map<String, List<StudentAttributes>> sectionToMembersTable;
+    private final Map<String, ParticipantInfo> participantInfoByIdentifier = new HashMap<>();
 
     public CourseRoster(List<StudentAttributes> students, List<InstructorAttributes> instructors) {
-        populateStudentListByEmail(students);
-        populateInstructorListByEmail(instructors);
-        teamToMembersTable = buildTeamToMembersTable(getStudents());
+        this.students = removeDuplicateStudents(students);
+        this.instructors = removeDuplicateInstructors(instructors);
+
+        teamIdOfStudent = new int[this.students.size()];
+        for (int studentId = 0; studentId < this.students.size(); studentId++) {
+            StudentAttributes student = this.students.get(studentId);
+            studentIdByEmail.put(student.getEmail(), studentId);
+            teamIdOfStudent[studentId] = teamIdByName.computeIfAbsent(student.getTeam(), team -> teamIdByName.size());
+        }
+        for (int instructorId = 0; instructorId < this.instructors.size(); instructorId++) {
+            instructorIdByEmail.put(this.instructors.get(instructorId).getEmail(), instructorId);
+        }
+
+        teamToMembersTable = toUnmodifiableTable(buildTeamToMembersTable(this.students));
+        sectionToMembersTable = toUnmodifiableTable(buildSectionToMembersTable(this.students));
+        populateParticipantInfoByIdentifier();
     }
 
+    /**
+     * Returns the students of the course.
+     *
+     * <p>The list returned cannot be modified.
+     */
     public List<StudentAttributes> getStudents() {
-        return new ArrayList<>(studentListByEmail.values());
+        return students;
     }
 
+    /**
+     * Returns the instructors of the course.
+     *
+     * <p>The list returned cannot be modified.
+     */
     public List<InstructorAttributes> getInstructors() {
-        return new ArrayList<>(instructorListByEmail.values());
+        return instructors;
     }
 
+    /**
+     * Returns a map from team name to team members.
+     *
+     * <p>The map returned and the lists in it cannot be modified.
+     */
     public Map<String, List<StudentAttributes>> getTeamToMembersTable() {
         return teamToMembersTable;
     }
 
+    /**
+     * Returns the students in the given section, or an empty list if there is no such section.
+     *
+     * <p>The list returned cannot be modified.
+     */
+    public List<StudentAttributes> getStudentsInSection(String sectionName) {
+        return sectionToMembersTable.getOrDefault(sectionName, Collections.emptyList());
+    }
+
     /**
      * Checks whether a student is in course.
      */
     public boolean isStudentInCourse(String studentEmail) {
-        return studentListByEmail.containsKey(studentEmail);
+        return studentIdByEmail.containsKey(studentEmail);
     }
 
     /**
@@ -56,54 +113,67 @@ public class CourseRoster {
      * Checks whether a student is in team.
      */
     public boolean isStudentInTeam(String studentEmail, String targetTeamName) {
-        StudentAttributes student = studentListByEmail.get(studentEmail);
-        return student != null && student.getTeam().equals(targetTeamName);
+        Integer studentId = studentIdByEmail.get(studentEmail);
+        Integer teamId = teamIdByName.get(targetTeamName);
+        return studentId != null && teamId != null && teamIdOfStudent[studentId] == teamId;
     }
 
     /**
      * Checks whether two students are in the same team.
      */
     public boolean isStudentsInSameTeam(String studentEmail1, String studentEmail2) {
-        StudentAttributes student1 = studentListByEmail.get(studentEmail1);
-        StudentAttributes student2 = studentListByEmail.get(studentEmail2);
-        return student1 != null && student2 != null
-                && student1.getTeam() != null && student1.getTeam().equals(student2.getTeam());
+        Integer studentId1 = studentIdByEmail.get(studentEmail1);
+        Integer studentId2 = studentIdByEmail.get(studentEmail2);
+        return studentId1 != null && studentId2 != null
+                && students.get(studentId1).getTeam() != null
+                && teamIdOfStudent[studentId1] == teamIdOfStudent[studentId2];
     }
 
     /**
      * Returns the student object for the given email.
      */
     public StudentAttributes getStudentForEmail(String email) {
-        return studentListByEmail.get(email);
+        Integer studentId = studentIdByEmail.get(email);
+        return studentId == null ? null : students.get(studentId);
     }
 
     /**
      * Returns the instructor object for the given email.
      */
     public InstructorAttributes getInstructorForEmail(String email) {
-        return instructorListByEmail.get(email);
+        Integer instructorId = instructorIdByEmail.get(email);
+        return instructorId == null ? null : instructors.get(instructorId);
     }
 
-    private void populateStudentListByEmail(List<StudentAttributes> students) {
-
+    private static List<StudentAttributes> removeDuplicateStudents(List<StudentAttributes> students) {
         if (students == null) {
-            return;
+            return Collections.emptyList();
         }
 
+        // the last student with the same email takes precedence
+        Map<String, StudentAttributes> studentsByEmail = new LinkedHashMap<>();
         for (StudentAttributes s : students) {
-            studentListByEmail.put(s.getEmail(), s);
+            studentsByEmail.put(s.getEmail(), s);
         }
+        return Collections.unmodifiableList(new ArrayList<>(studentsByEmail.values()));
     }
 
-    private void populateInstructorListByEmail(List<InstructorAttributes> instructors) {
-
+    private static List<InstructorAttributes> removeDuplicateInstructors(List<InstructorAttributes> instructors) {
         if (instructors == null) {
-            return;
+            return Collections.emptyList();
         }
 
+        // the last instructor with the same email takes precedence
+        Map<String, InstructorAttributes> instructorsByEmail = new LinkedHashMap<>();
         for (InstructorAttributes i : instructors) {
-            instructorListByEmail.put(i.getEmail(), i);
+            instructorsByEmail.put(i.getEmail(), i);
         }
+        return Collections.unmodifiableList(new ArrayList<>(instructorsByEmail.values()));
+    }
+
+    private static Map<String, List<StudentAttributes>> toUnmodifiableTable(Map<String, List<StudentAttributes>> table) {
+        table.replaceAll((key, members) -> Collections.unmodifiableList(members));
+        return Collections.unmodifiableMap(table);
     }
 
     /**
@@ -119,40 +189,40 @@ public class CourseRoster {
         return teamToMembersTable;
     }
 
+    private static Map<String, List<StudentAttributes>> buildSectionToMembersTable(List<StudentAttributes> students) {
+        Map<String, List<StudentAttributes>> sectionToMembersTable = new HashMap<>();
+        // group students by section
+        for (StudentAttributes studentAttributes : students) {
+            sectionToMembersTable.computeIfAbsent(studentAttributes.getSection(), key -> new ArrayList<>())
+                    .add(studentAttributes);
+        }
+        return sectionToMembersTable;
+    }
+
+    private void populateParticipantInfoByIdentifier() {
+        // populated in increasing order of precedence, for identifiers shared by more than one kind of participant
+        for (Map.Entry<String, List<StudentAttributes>> team : teamToMembersTable.entrySet()) {
+            StudentAttributes teamMember = team.getValue().iterator().next();
+            participantInfoByIdentifier.put(team.getKey(),
+                    new ParticipantInfo(team.getKey(), team.getKey(), teamMember.getSection()));
+        }
+        for (InstructorAttributes instructor : instructors) {
+            participantInfoByIdentifier.put(instructor.getEmail(),
+                    new ParticipantInfo(instructor.getName(), Const.USER_TEAM_FOR_INSTRUCTOR, Const.DEFAULT_SECTION));
+        }
+        for (StudentAttributes student : students) {
+            participantInfoByIdentifier.put(student.getEmail(),
+                    new ParticipantInfo(student.getName(), student.getTeam(), student.getSection()));
+        }
+    }
+
     /**
      * Gets info of a participant associated with an identifier in the course.
      *
      * @return an object {@link ParticipantInfo} containing the name, teamName and the sectionName.
      */
     public ParticipantInfo getInfoForIdentifier(String identifier) {
-        String name = Const.USER_NOBODY_TEXT;
-        String teamName = Const.USER_NOBODY_TEXT;
-        String sectionName = Const.DEFAULT_SECTION;
-
-        boolean isStudent = getStudentForEmail(identifier) != null;
-        boolean isInstructor = getInstructorForEmail(identifier) != null;
-        boolean isTeam = getTeamToMembersTable().containsKey(identifier);
-        if (isStudent) {
-            StudentAttributes student = getStudentForEmail(identifier);
-
-            name = student.getName();
-            teamName = student.getTeam();
-            sectionName = student.getSection();
-        } else if (isInstructor) {
-            InstructorAttributes instructor = getInstructorForEmail(identifier);
-
-            name = instructor.getName();
-            teamName = Const.USER_TEAM_FOR_INSTRUCTOR;
-            sectionName = Const.DEFAULT_SECTION;
-        } else if (isTeam) {
-            StudentAttributes teamMember = getTeamToMembersTable().get(identifier).iterator().next();
-
-            name = identifier;
-            teamName = identifier;
-            sectionName = teamMember.getSection();
-        }
-
-        return new ParticipantInfo(name, teamName, sectionName);
+        return participantInfoByIdentifier.getOrDefault(identifier, UNKNOWN_PARTICIPANT_INFO);
     }
 
     /**
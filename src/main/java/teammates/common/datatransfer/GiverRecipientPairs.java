@@ -0,0 +1,123 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Represents a set of giver-recipient pairs, e.g. all the possible pairs of a feedback question.
+ *
+ * <p>Givers and recipients are each assigned a dense index when they are first added,
+ * and the recipients of each giver are kept as a bitset over the recipient indexes.
+ * A pair therefore takes a single bit instead of an entry of a set of identifiers,
+ * which matters for questions where the number of pairs grows quadratically with the size of the course.
+ */
+public class GiverRecipientPairs {
+
+    private final List<String> givers = new ArrayList<>();
+    private final Map<String, Integer> giverIndexes = new HashMap<>();
+    private final List<String> recipients = new ArrayList<>();
+    private final Map<String, Integer> recipientIndexes = new HashMap<>();
+    private final List<BitSet> recipientsOfGivers = new ArrayList<>();
+
+    /**
+     * Adds the pairs of {@code giver} with each of {@code recipientsOfGiver}.
+     *
+     * <p>The giver is added even if there are no recipients.
+     */
+    public void addAll(String giver, Collection<String> recipientsOfGiver) {
+        Integer giverIndex = giverIndexes.get(giver);
+        if (giverIndex == null) {
+            giverIndex = givers.size();
+            givers.add(giver);
+            giverIndexes.put(giver, giverIndex);
+            recipientsOfGivers.add(new BitSet());
+        }
+
+        BitSet recipientBits = recipientsOfGivers.get(giverIndex);
+        for (String recipient : recipientsOfGiver) {
+            Integer recipientIndex = recipientIndexes.get(recipient);
+            if (recipientIndex == null) {
+                recipientIndex = recipients.size();
+                recipients.add(recipient);
+                recipientIndexes.put(recipient, recipientIndex);
+            }
+            recipientBits.set(recipientIndex);
+        }
+    }
+
+    /**
+     * Removes the pair of {@code giver} and {@code recipient} if it exists.
+     */
+    public void remove(String giver, String recipient) {
+        Integer giverIndex = giverIndexes.get(giver);
+        Integer recipientIndex = recipientIndexes.get(recipient);
+        if (giverIndex == null || recipientIndex == null) {
+            return;
+        }
+        recipientsOfGivers.get(giverIndex).clear(recipientIndex);
+    }
+
+    /**
+     * Returns true if the pair of {@code giver} and {@code recipient} exists.
+     */
+    public boolean contains(String giver, String recipient) {
+        Integer giverIndex = giverIndexes.get(giver);
+        Integer recipientIndex = recipientIndexes.get(recipient);
+        return giverIndex != null && recipientIndex != null && recipientsOfGivers.get(giverIndex).get(recipientIndex);
+    }
+
+    /**
+     * Returns the number of givers added, including those whose pairs have all been removed.
+     */
+    public int getNumberOfGivers() {
+        return givers.size();
+    }
+
+    /**
+     * Returns the number of pairs.
+     */
+    public int size() {
+        int size = 0;
+        for (BitSet recipientBits : recipientsOfGivers) {
+            size += recipientBits.cardinality();
+        }
+        return size;
+    }
+
+    /**
+     * Gets the recipients paired with {@code giver}, in the order they were first added.
+     */
+    public Set<String> getRecipientsOf(String giver) {
+        Set<String> recipientsOfGiver = new LinkedHashSet<>();
+        Integer giverIndex = giverIndexes.get(giver);
+        if (giverIndex == null) {
+            return recipientsOfGiver;
+        }
+        BitSet recipientBits = recipientsOfGivers.get(giverIndex);
+        for (int i = recipientBits.nextSetBit(0); i >= 0; i = recipientBits.nextSetBit(i + 1)) {
+            recipientsOfGiver.add(recipients.get(i));
+        }
+        return recipientsOfGiver;
+    }
+
+    /**
+     * Performs {@code action} on each pair, ordered by giver then by recipient in the order they were first added.
+     */
+    public void forEach(BiConsumer<String, String> action) {
+        for (int giverIndex = 0; giverIndex < givers.size(); giverIndex++) {
+            String giver = givers.get(giverIndex);
+            BitSet recipientBits = recipientsOfGivers.get(giverIndex);
+            for (int i = recipientBits.nextSetBit(0); i >= 0; i = recipientBits.nextSetBit(i + 1)) {
+                action.accept(giver, recipients.get(i));
+            }
+        }
+    }
+
+}
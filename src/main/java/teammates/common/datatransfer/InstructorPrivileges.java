@@ -101,6 +101,13 @@ public final class InstructorPrivileges {
         this.sessionLevel = new LinkedHashMap<>();
     }
 
+    private InstructorPrivileges(InstructorPermissionSet courseLevel, Map<String, InstructorPermissionSet> sectionLevel,
+            Map<String, Map<String, InstructorPermissionSet>> sessionLevel) {
+        this.courseLevel = courseLevel;
+        this.sectionLevel = sectionLevel;
+        this.sessionLevel = sessionLevel;
+    }
+
     public InstructorPrivileges(String instrRole) {
         this();
         switch (instrRole) {
@@ -446,6 +453,14 @@ public final class InstructorPrivileges {
         return copy;
     }
 
+    /**
+     * Gets a deep copy of this object.
+     */
+    public InstructorPrivileges getCopy() {
+        return new InstructorPrivileges(
+                getCourseLevelPrivileges(), getSectionLevelPrivileges(), getSessionLevelPrivileges());
+    }
+
     @Override
     public boolean equals(Object another) {
         if (!(another instanceof InstructorPrivileges)) {
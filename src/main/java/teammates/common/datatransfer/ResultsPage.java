@@ -0,0 +1,37 @@
+package teammates.common.datatransfer;
+
+import javax.annotation.Nullable;
+
+/**
+ * Represents a page of results, together with the token to get the next page with.
+ *
+ * <p>The token is opaque to the caller and is only meaningful to the method which returned the page.
+ *
+ * @param <T> the type of the results
+ */
+public class ResultsPage<T> {
+    private final T results;
+    @Nullable
+    private final String nextPageToken;
+
+    public ResultsPage(T results, @Nullable String nextPageToken) {
+        this.results = results;
+        this.nextPageToken = nextPageToken;
+    }
+
+    public T getResults() {
+        return results;
+    }
+
+    /**
+     * Returns the token to get the next page with, or null if this is the last page.
+     */
+    @Nullable
+    public String getNextPageToken() {
+        return nextPageToken;
+    }
+
+    public boolean hasNextPage() {
+        return nextPageToken != null;
+    }
+}
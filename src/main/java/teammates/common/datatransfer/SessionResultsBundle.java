@@ -1,9 +1,11 @@
 package teammates.common.datatransfer;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -18,10 +20,11 @@ public class SessionResultsBundle {
 
     private final Map<String, FeedbackQuestionAttributes> questionsMap;
     private final Map<String, List<FeedbackResponseAttributes>> questionResponseMap;
-    private final Map<String, List<FeedbackResponseAttributes>> questionMissingResponseMap;
+    private final Map<String, Supplier<List<FeedbackResponseAttributes>>> questionMissingResponseGenerators;
     private final Map<String, List<FeedbackResponseCommentAttributes>> responseCommentsMap;
     private final Map<String, Boolean> responseGiverVisibilityTable;
     private final Map<String, Boolean> responseRecipientVisibilityTable;
+    private final MissingResponseNameVisibilityChecker missingResponseNameVisibilityChecker;
     private final Map<Long, Boolean> commentGiverVisibilityTable;
     private final CourseRoster roster;
 
@@ -33,19 +36,53 @@ public class SessionResultsBundle {
                                 Map<String, List<FeedbackResponseCommentAttributes>> responseCommentsMap,
                                 Map<Long, Boolean> commentGiverVisibilityTable,
                                 CourseRoster roster) {
+        // the visibility of the names in the given missing responses is in the visibility tables
+        this(questionsMap, responses, toGenerators(buildQuestionToResponseMap(questionsMap, missingResponses)),
+                responseGiverVisibilityTable, responseRecipientVisibilityTable,
+                (question, missingResponse, isGiverName) -> false, responseCommentsMap,
+                commentGiverVisibilityTable, roster);
+    }
+
+    /**
+     * Creates a bundle whose missing responses are generated per question only when they are needed.
+     *
+     * <p>The visibility of the names in the missing responses is not in {@code responseGiverVisibilityTable}
+     * and {@code responseRecipientVisibilityTable}, but checked by {@code missingResponseNameVisibilityChecker}
+     * whenever it is needed.
+     *
+     * @param questionMissingResponseGenerators the generators of the missing responses of the questions,
+     *                                          which may be absent for questions without missing responses
+     */
+    public SessionResultsBundle(Map<String, FeedbackQuestionAttributes> questionsMap,
+                                List<FeedbackResponseAttributes> responses,
+                                Map<String, Supplier<List<FeedbackResponseAttributes>>> questionMissingResponseGenerators,
+                                Map<String, Boolean> responseGiverVisibilityTable,
+                                Map<String, Boolean> responseRecipientVisibilityTable,
+                                MissingResponseNameVisibilityChecker missingResponseNameVisibilityChecker,
+                                Map<String, List<FeedbackResponseCommentAttributes>> responseCommentsMap,
+                                Map<Long, Boolean> commentGiverVisibilityTable,
+                                CourseRoster roster) {
 
         this.questionsMap = questionsMap;
         this.responseCommentsMap = responseCommentsMap;
         this.responseGiverVisibilityTable = responseGiverVisibilityTable;
         this.responseRecipientVisibilityTable = responseRecipientVisibilityTable;
+        this.missingResponseNameVisibilityChecker = missingResponseNameVisibilityChecker;
         this.commentGiverVisibilityTable = commentGiverVisibilityTable;
         this.roster = roster;
-        this.questionResponseMap = buildQuestionToResponseMap(responses);
-        this.questionMissingResponseMap = buildQuestionToResponseMap(missingResponses);
+        this.questionResponseMap = buildQuestionToResponseMap(questionsMap, responses);
+        this.questionMissingResponseGenerators = questionMissingResponseGenerators;
+    }
+
+    private static Map<String, Supplier<List<FeedbackResponseAttributes>>> toGenerators(
+            Map<String, List<FeedbackResponseAttributes>> questionToResponseMap) {
+        Map<String, Supplier<List<FeedbackResponseAttributes>>> generators = new HashMap<>();
+        questionToResponseMap.forEach((questionId, responses) -> generators.put(questionId, () -> responses));
+        return generators;
     }
 
-    private Map<String, List<FeedbackResponseAttributes>> buildQuestionToResponseMap(
-            List<FeedbackResponseAttributes> responses) {
+    private static Map<String, List<FeedbackResponseAttributes>> buildQuestionToResponseMap(
+            Map<String, FeedbackQuestionAttributes> questionsMap, List<FeedbackResponseAttributes> responses) {
         // build question to response map
         Map<String, List<FeedbackResponseAttributes>> questionToResponseMap = new LinkedHashMap<>();
         List<FeedbackQuestionAttributes> questions = new ArrayList<>(questionsMap.values());
@@ -84,7 +121,7 @@ public class SessionResultsBundle {
         FeedbackParticipantType participantType;
         String responseId = response.getId();
 
-        boolean isVisible;
+        Boolean isVisible;
         if (isGiver) {
             isVisible = responseGiverVisibilityTable.get(responseId);
             participantType = question.getGiverType();
@@ -92,6 +129,9 @@ public class SessionResultsBundle {
             isVisible = responseRecipientVisibilityTable.get(responseId);
             participantType = question.getRecipientType();
         }
+        if (isVisible == null) {
+            isVisible = missingResponseNameVisibilityChecker.isNameVisible(question, response, isGiver);
+        }
         boolean isTypeNone = participantType == FeedbackParticipantType.NONE;
 
         return isVisible || isTypeNone;
@@ -121,10 +161,28 @@ public class SessionResultsBundle {
         return questionResponseMap;
     }
 
+    /**
+     * Gets the missing responses of all questions.
+     *
+     * <p>The missing responses are generated on every call.
+     * Use {@link #getQuestionMissingResponses(String)} to only hold those of one question at a time.
+     */
     public Map<String, List<FeedbackResponseAttributes>> getQuestionMissingResponseMap() {
+        Map<String, List<FeedbackResponseAttributes>> questionMissingResponseMap = new LinkedHashMap<>();
+        for (String questionId : questionsMap.keySet()) {
+            questionMissingResponseMap.put(questionId, getQuestionMissingResponses(questionId));
+        }
         return questionMissingResponseMap;
     }
 
+    /**
+     * Gets the missing responses of a question, which are generated on every call.
+     */
+    public List<FeedbackResponseAttributes> getQuestionMissingResponses(String questionId) {
+        Supplier<List<FeedbackResponseAttributes>> generator = questionMissingResponseGenerators.get(questionId);
+        return generator == null ? new ArrayList<>() : generator.get();
+    }
+
     private static String getEncryptedName(String name) {
         return StringHelper.encrypt(name);
     }
@@ -156,4 +214,19 @@ public class SessionResultsBundle {
     public Map<Long, Boolean> getCommentGiverVisibilityTable() {
         return commentGiverVisibilityTable;
     }
+
+    /**
+     * Checks whether the name of the giver or the recipient of a missing response is visible to the current user.
+     */
+    @FunctionalInterface
+    public interface MissingResponseNameVisibilityChecker {
+
+        /**
+         * Returns true if the name is visible to the current user.
+         *
+         * @param isGiverName true to check the name of the giver, false to check the name of the recipient
+         */
+        boolean isNameVisible(FeedbackQuestionAttributes question, FeedbackResponseAttributes missingResponse,
+                boolean isGiverName);
+    }
 }
@@ -0,0 +1,52 @@
+package teammates.common.datatransfer;
+
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.StudentAttributes;
+
+/**
+ * Represents the results of enrolling students into a course.
+ */
+public class StudentEnrollmentResults {
+    private final List<StudentAttributes> enrolledStudents;
+    private final List<FailedEnrollment> failedEnrollments;
+
+    public StudentEnrollmentResults(List<StudentAttributes> enrolledStudents, List<FailedEnrollment> failedEnrollments) {
+        this.enrolledStudents = enrolledStudents;
+        this.failedEnrollments = failedEnrollments;
+    }
+
+    public List<StudentAttributes> getEnrolledStudents() {
+        return enrolledStudents;
+    }
+
+    /**
+     * Gets the students who failed to be enrolled, one for each student given to be enrolled.
+     *
+     * <p>Several students can share the same email, e.g. when the email is blank or duplicated.
+     */
+    public List<FailedEnrollment> getFailedEnrollments() {
+        return failedEnrollments;
+    }
+
+    /**
+     * Represents a student who failed to be enrolled.
+     */
+    public static class FailedEnrollment {
+        private final String email;
+        private final String errorMessage;
+
+        public FailedEnrollment(String email, String errorMessage) {
+            this.email = email;
+            this.errorMessage = errorMessage;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+    }
+}
@@ -37,7 +37,7 @@ public class TeamEvalResult {
          * other methods are set as public for the ease of testing.
          */
 
-        log.fine("==================\n" + "starting result calculation for\n"
+        log.fine(() -> "==================\n" + "starting result calculation for\n"
                 + pointsToString(submissionValues));
 
         claimed = submissionValues;
@@ -45,43 +45,43 @@ public class TeamEvalResult {
         normalizedClaimed = normalizeValues(claimed);
 
         int[][] claimedSanitized = sanitizeInput(submissionValues);
-        log.fine("claimed values sanitized :\n"
+        log.fine(() -> "claimed values sanitized :\n"
                 + pointsToString(claimedSanitized));
 
         double[][] claimedSanitizedNormalized = normalizeValues(intToDouble(claimedSanitized));
-        log.fine("claimed values sanitized and normalized :\n"
+        log.fine(() -> "claimed values sanitized and normalized :\n"
                 + pointsToString(claimedSanitizedNormalized));
 
         double[][] peerContributionRatioAsDouble = calculatePeerContributionRatio(claimedSanitizedNormalized);
-        log.fine("peerContributionRatio as double :\n"
+        log.fine(() -> "peerContributionRatio as double :\n"
                 + pointsToString(peerContributionRatioAsDouble));
 
         double[] averagePerceivedAsDouble = averageColumns(peerContributionRatioAsDouble);
-        log.fine("averagePerceived as double:\n"
+        log.fine(() -> "averagePerceived as double:\n"
                 + replaceMagicNumbers(Arrays.toString(averagePerceivedAsDouble)));
 
         double[] normalizedAveragePerceivedAsDouble = normalizeValues(averagePerceivedAsDouble);
-        log.fine("normalizedAveragePerceivedAsDouble as double:\n"
+        log.fine(() -> "normalizedAveragePerceivedAsDouble as double:\n"
                 + replaceMagicNumbers(Arrays
                         .toString(normalizedAveragePerceivedAsDouble)));
 
         double[][] normalizedPeerContributionRatioAsDouble =
                 adjustPeerContributionRatioToTallyNormalizedAveragePerceived(peerContributionRatioAsDouble);
-        log.fine("normalizedPeerContributionRatio as double :\n"
+        log.fine(() -> "normalizedPeerContributionRatio as double :\n"
                 + pointsToString(peerContributionRatioAsDouble));
 
         normalizedPeerContributionRatio = doubleToInt(normalizedPeerContributionRatioAsDouble);
-        log.fine("normalizedUnbiasedClaimed as int :\n"
+        log.fine(() -> "normalizedUnbiasedClaimed as int :\n"
                 + pointsToString(normalizedPeerContributionRatio));
 
         denormalizedAveragePerceived = calculatePerceivedForStudents(
                 claimedSanitized, normalizedAveragePerceivedAsDouble);
-        log.fine("perceived to students :\n"
+        log.fine(() -> "perceived to students :\n"
                 + pointsToString(denormalizedAveragePerceived));
 
         normalizedAveragePerceived = doubleToInt(normalizedAveragePerceivedAsDouble);
 
-        log.fine("Final result:\n" + this.toString());
+        log.fine(() -> "Final result:\n" + this.toString());
 
         log.fine("==================");
     }
@@ -310,7 +310,7 @@ public class TeamEvalResult {
                     isSanitized(doubleToInt(input[i])));
             output[i] = averageColumn(input, i);
         }
-        log.fine("Column averages: "
+        log.fine(() -> "Column averages: "
                 + replaceMagicNumbers(Arrays.toString(output)));
         return output;
     }
@@ -333,7 +333,7 @@ public class TeamEvalResult {
         double average = count == 0 ? NA : (double) (sum / count);
 
         String logMessage = "Average(" + values.toString().trim() + ") = " + average;
-        log.fine(replaceMagicNumbers(logMessage));
+        log.fine(() -> replaceMagicNumbers(logMessage));
 
         return average;
     }
@@ -64,6 +64,21 @@ public class CourseAttributes extends EntityAttributes<Course> implements Compar
         return courseAttributes;
     }
 
+    /**
+     * Gets a deep copy of this object.
+     */
+    public CourseAttributes getCopy() {
+        CourseAttributes courseAttributes = new CourseAttributes(id);
+
+        courseAttributes.name = name;
+        courseAttributes.timeZone = timeZone;
+        courseAttributes.institute = institute;
+        courseAttributes.createdAt = createdAt;
+        courseAttributes.deletedAt = deletedAt;
+
+        return courseAttributes;
+    }
+
     /**
      * Returns a builder for {@link CourseAttributes}.
      */
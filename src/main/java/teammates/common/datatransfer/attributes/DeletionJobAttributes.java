@@ -0,0 +1,193 @@
+package teammates.common.datatransfer.attributes;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.util.FieldValidator;
+import teammates.storage.entity.DeletionJob;
+
+/**
+ * The data transfer object for {@link DeletionJob} entities.
+ */
+public class DeletionJobAttributes extends EntityAttributes<DeletionJob> {
+
+    /**
+     * The stages of a deletion job, each deleting one kind of entities, in the order they are run.
+     *
+     * <p>The course or session itself is deleted when the job is started, so that it is gone for users
+     * while the entities under it are deleted in the background.
+     */
+    public enum Stage {
+        FEEDBACK_RESPONSE_COMMENTS,
+        FEEDBACK_RESPONSES,
+        FEEDBACK_SESSION_GIVER_SHARDS,
+        FEEDBACK_QUESTIONS,
+    }
+
+    private final String courseId;
+    @Nullable
+    private final String feedbackSessionName;
+    @Nullable
+    private Stage stage;
+    @Nullable
+    private String cursor;
+    private long numberOfEntitiesDeleted;
+    private Instant createdAt;
+    private Instant updatedAt;
+
+    private DeletionJobAttributes(String courseId, @Nullable String feedbackSessionName) {
+        this.courseId = courseId;
+        this.feedbackSessionName = feedbackSessionName;
+        this.stage = Stage.values()[0];
+    }
+
+    /**
+     * Gets the {@link DeletionJobAttributes} instance of the given {@link DeletionJob}.
+     */
+    public static DeletionJobAttributes valueOf(DeletionJob job) {
+        DeletionJobAttributes jobAttributes = new DeletionJobAttributes(job.getCourseId(), job.getFeedbackSessionName());
+
+        jobAttributes.stage = Stage.valueOf(job.getStage());
+        jobAttributes.cursor = job.getCursor();
+        jobAttributes.numberOfEntitiesDeleted = job.getNumberOfEntitiesDeleted();
+        jobAttributes.createdAt = job.getCreatedAt();
+        jobAttributes.updatedAt = job.getUpdatedAt();
+
+        return jobAttributes;
+    }
+
+    /**
+     * Gets a new job deleting the entities of a course.
+     */
+    public static DeletionJobAttributes forCourse(String courseId) {
+        return new DeletionJobAttributes(courseId, null);
+    }
+
+    /**
+     * Gets a new job deleting the entities of a feedback session.
+     */
+    public static DeletionJobAttributes forFeedbackSession(String courseId, String feedbackSessionName) {
+        assert feedbackSessionName != null;
+
+        return new DeletionJobAttributes(courseId, feedbackSessionName);
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    /**
+     * Returns the name of the feedback session to delete, or null if the whole course is to be deleted.
+     */
+    @Nullable
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public boolean isForCourse() {
+        return feedbackSessionName == null;
+    }
+
+    /**
+     * Returns the stage to run next, or null if the job is completed.
+     */
+    @Nullable
+    public Stage getStage() {
+        return stage;
+    }
+
+    /**
+     * Returns the cursor to continue the current stage from, or null to start the stage from the first entity.
+     */
+    @Nullable
+    public String getCursor() {
+        return cursor;
+    }
+
+    public long getNumberOfEntitiesDeleted() {
+        return numberOfEntitiesDeleted;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public boolean isCompleted() {
+        return stage == null;
+    }
+
+    /**
+     * Gets the query matching the entities to be deleted by the job.
+     */
+    public AttributesDeletionQuery toDeletionQuery() {
+        AttributesDeletionQuery.Builder builder = AttributesDeletionQuery.builder().withCourseId(courseId);
+        if (feedbackSessionName != null) {
+            builder.withFeedbackSessionName(feedbackSessionName);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Records the progress of a batch of the current stage.
+     *
+     * @param numberOfEntitiesDeletedInBatch the number of entities deleted by the batch
+     * @param nextCursor the cursor to continue the stage from, or null if the stage is completed
+     */
+    public void recordBatch(int numberOfEntitiesDeletedInBatch, @Nullable String nextCursor) {
+        assert !isCompleted();
+
+        numberOfEntitiesDeleted += numberOfEntitiesDeletedInBatch;
+        cursor = nextCursor;
+        if (nextCursor == null) {
+            int nextOrdinal = stage.ordinal() + 1;
+            stage = nextOrdinal == Stage.values().length ? null : Stage.values()[nextOrdinal];
+        }
+    }
+
+    /**
+     * Restarts the current stage from the first entity, e.g. when its cursor can no longer be used.
+     */
+    public void restartStage() {
+        cursor = null;
+    }
+
+    @Override
+    public List<String> getInvalidityInfo() {
+        List<String> errors = new ArrayList<>();
+
+        addNonEmptyError(FieldValidator.getInvalidityInfoForCourseId(courseId), errors);
+
+        if (feedbackSessionName != null) {
+            addNonEmptyError(FieldValidator.getInvalidityInfoForFeedbackSessionName(feedbackSessionName), errors);
+        }
+
+        return errors;
+    }
+
+    @Override
+    public DeletionJob toEntity() {
+        assert !isCompleted() : "A completed job is not to be saved";
+
+        return new DeletionJob(courseId, feedbackSessionName, stage.name(), cursor, numberOfEntitiesDeleted, createdAt);
+    }
+
+    @Override
+    public void sanitizeForSaving() {
+        // nothing to sanitize before saving
+    }
+
+    @Override
+    public String toString() {
+        return "DeletionJobAttributes [courseId=" + courseId + ", feedbackSessionName=" + feedbackSessionName
+                + ", stage=" + stage + ", numberOfEntitiesDeleted=" + numberOfEntitiesDeleted + "]";
+    }
+
+}
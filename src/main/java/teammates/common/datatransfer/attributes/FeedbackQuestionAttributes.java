@@ -182,7 +182,7 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
             return true;
         }
 
-        return this.getQuestionDetailsCopy().shouldChangesRequireResponseDeletion(newAttributes.getQuestionDetailsCopy());
+        return questionDetails.shouldChangesRequireResponseDeletion(newAttributes.questionDetails);
     }
 
     @Override
@@ -375,6 +375,11 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
         this.questionDescription = SanitizationHelper.sanitizeForRichText(this.questionDescription);
     }
 
+    /**
+     * Gets the question details without copying them; the details returned must not be modified.
+     *
+     * @see #getQuestionDetailsCopy()
+     */
     public FeedbackQuestionDetails getQuestionDetails() {
         return questionDetails;
     }
@@ -383,6 +388,9 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
         this.questionDetails = newQuestionDetails.getDeepCopy();
     }
 
+    /**
+     * Gets a deep copy of the question details, which can be modified freely.
+     */
     public FeedbackQuestionDetails getQuestionDetailsCopy() {
         return questionDetails.getDeepCopy();
     }
@@ -215,6 +215,11 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
         // nothing to sanitize before saving
     }
 
+    /**
+     * Gets the response details without copying them; the details returned must not be modified.
+     *
+     * @see #getResponseDetailsCopy()
+     */
     public FeedbackResponseDetails getResponseDetails() {
         return responseDetails;
     }
@@ -227,6 +232,9 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
         return responseDetails.getJsonString();
     }
 
+    /**
+     * Gets a deep copy of the response details, which can be modified freely.
+     */
     public FeedbackResponseDetails getResponseDetailsCopy() {
         return responseDetails.getDeepCopy();
     }
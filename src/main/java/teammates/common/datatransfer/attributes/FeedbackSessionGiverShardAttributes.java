@@ -0,0 +1,135 @@
+package teammates.common.datatransfer.attributes;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import teammates.common.util.FieldValidator;
+import teammates.storage.entity.FeedbackSessionGiverShard;
+
+/**
+ * The data transfer object for {@link FeedbackSessionGiverShard} entities.
+ */
+public class FeedbackSessionGiverShardAttributes extends EntityAttributes<FeedbackSessionGiverShard> {
+
+    /**
+     * The number of shards the givers of a session are spread over.
+     */
+    public static final int NUMBER_OF_SHARDS = 16;
+
+    private final String courseId;
+    private final String feedbackSessionName;
+    private final int shardIndex;
+    private final Set<String> givers;
+    private Instant updatedAt;
+
+    private FeedbackSessionGiverShardAttributes(String courseId, String feedbackSessionName, int shardIndex) {
+        this.courseId = courseId;
+        this.feedbackSessionName = feedbackSessionName;
+        this.shardIndex = shardIndex;
+        this.givers = new HashSet<>();
+    }
+
+    /**
+     * Gets the {@link FeedbackSessionGiverShardAttributes} instance of the given {@link FeedbackSessionGiverShard}.
+     */
+    public static FeedbackSessionGiverShardAttributes valueOf(FeedbackSessionGiverShard shard) {
+        FeedbackSessionGiverShardAttributes shardAttributes = new FeedbackSessionGiverShardAttributes(
+                shard.getCourseId(), shard.getFeedbackSessionName(), shard.getShardIndex());
+
+        if (shard.getGivers() != null) {
+            shardAttributes.givers.addAll(shard.getGivers());
+        }
+        shardAttributes.updatedAt = shard.getUpdatedAt();
+
+        return shardAttributes;
+    }
+
+    /**
+     * Gets an empty shard of a session, i.e. one without any giver.
+     */
+    public static FeedbackSessionGiverShardAttributes valueOf(String courseId, String feedbackSessionName, int shardIndex) {
+        assert shardIndex >= 0 && shardIndex < NUMBER_OF_SHARDS;
+
+        return new FeedbackSessionGiverShardAttributes(courseId, feedbackSessionName, shardIndex);
+    }
+
+    /**
+     * Gets the index of the shard which {@code giver} belongs to.
+     */
+    public static int getShardIndex(String giver) {
+        return Math.floorMod(giver.hashCode(), NUMBER_OF_SHARDS);
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public int getShardIndex() {
+        return shardIndex;
+    }
+
+    public Set<String> getGivers() {
+        return Collections.unmodifiableSet(givers);
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    /**
+     * Adds {@code giver} to the shard.
+     *
+     * @return true if the giver was not in the shard
+     */
+    public boolean addGiver(String giver) {
+        assert getShardIndex(giver) == shardIndex;
+
+        return givers.add(giver);
+    }
+
+    /**
+     * Removes {@code giver} from the shard.
+     *
+     * @return true if the giver was in the shard
+     */
+    public boolean removeGiver(String giver) {
+        return givers.remove(giver);
+    }
+
+    @Override
+    public List<String> getInvalidityInfo() {
+        List<String> errors = new ArrayList<>();
+
+        addNonEmptyError(FieldValidator.getInvalidityInfoForCourseId(courseId), errors);
+
+        addNonEmptyError(FieldValidator.getInvalidityInfoForFeedbackSessionName(feedbackSessionName), errors);
+
+        return errors;
+    }
+
+    @Override
+    public FeedbackSessionGiverShard toEntity() {
+        return new FeedbackSessionGiverShard(courseId, feedbackSessionName, shardIndex, new HashSet<>(givers));
+    }
+
+    @Override
+    public void sanitizeForSaving() {
+        // nothing to sanitize before saving
+    }
+
+    @Override
+    public String toString() {
+        return "FeedbackSessionGiverShardAttributes [courseId=" + courseId
+                + ", feedbackSessionName=" + feedbackSessionName + ", shardIndex=" + shardIndex
+                + ", givers=" + givers + "]";
+    }
+
+}
@@ -103,7 +103,7 @@ public class InstructorAttributes extends EntityAttributes<Instructor> {
         instructorAttributes.displayedName = displayedName;
         instructorAttributes.isArchived = isArchived;
         instructorAttributes.isDisplayedToStudents = isDisplayedToStudents;
-        instructorAttributes.privileges = privileges;
+        instructorAttributes.privileges = privileges.getCopy();
         instructorAttributes.createdAt = createdAt;
         instructorAttributes.updatedAt = updatedAt;
 
@@ -0,0 +1,48 @@
+package teammates.common.datatransfer.logs;
+
+/**
+ * Contains specific structure and processing logic for search indexing log.
+ */
+public class SearchIndexingLogDetails extends LogDetails {
+
+    private String collectionName;
+    private int numberOfDocuments;
+    private long indexingLag;
+
+    public SearchIndexingLogDetails() {
+        super(LogEvent.SEARCH_INDEXING);
+    }
+
+    public String getCollectionName() {
+        return collectionName;
+    }
+
+    public void setCollectionName(String collectionName) {
+        this.collectionName = collectionName;
+    }
+
+    public int getNumberOfDocuments() {
+        return numberOfDocuments;
+    }
+
+    public void setNumberOfDocuments(int numberOfDocuments) {
+        this.numberOfDocuments = numberOfDocuments;
+    }
+
+    /**
+     * Gets the time between the indexing being scheduled and the documents being indexed, in milliseconds.
+     */
+    public long getIndexingLag() {
+        return indexingLag;
+    }
+
+    public void setIndexingLag(long indexingLag) {
+        this.indexingLag = indexingLag;
+    }
+
+    @Override
+    public void hideSensitiveInformation() {
+        // no fields need to be hidden
+    }
+
+}
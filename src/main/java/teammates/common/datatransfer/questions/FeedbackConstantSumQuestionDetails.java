@@ -5,8 +5,11 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.util.FieldValidator;
+import teammates.common.util.JsonUtils;
 
 /**
  * Contains specific structure and processing logic for constant sum feedback questions.
@@ -82,6 +85,40 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
         return !this.distributePointsFor.equals(newConstSumDetails.distributePointsFor);
     }
 
+    @Override
+    public String getQuestionSummaryStatisticsJson(FeedbackQuestionAttributes question, SessionResultsBundle bundle) {
+        FeedbackQuestionStatistics.ValueSummaryAccumulator optionAccumulator =
+                new FeedbackQuestionStatistics.ValueSummaryAccumulator();
+        if (!distributeToRecipients) {
+            constSumOptions.forEach(optionAccumulator::register);
+        }
+        FeedbackQuestionStatistics.RecipientValueAccumulator recipientAccumulator =
+                new FeedbackQuestionStatistics.RecipientValueAccumulator(question, bundle);
+
+        List<FeedbackResponseAttributes> responses = FeedbackQuestionStatistics.getResponses(question, bundle);
+        for (FeedbackResponseAttributes response : responses) {
+            List<Integer> answers = ((FeedbackConstantSumResponseDetails) response.getResponseDetails()).getAnswers();
+            if (distributeToRecipients) {
+                if (!answers.isEmpty()) {
+                    recipientAccumulator.add(response, answers.get(0));
+                }
+                continue;
+            }
+            for (int i = 0; i < answers.size() && i < constSumOptions.size(); i++) {
+                optionAccumulator.add(constSumOptions.get(i), answers.get(i));
+            }
+        }
+
+        FeedbackQuestionStatistics statistics = new FeedbackQuestionStatistics();
+        statistics.setNumberOfResponses(responses.size());
+        if (distributeToRecipients) {
+            statistics.setRecipientValues(recipientAccumulator);
+        } else {
+            statistics.setPerOption(optionAccumulator.toSummaries());
+        }
+        return JsonUtils.toJson(statistics);
+    }
+
     @Override
     public List<String> validateQuestionDetails() {
         List<String> errors = new ArrayList<>();
@@ -2,9 +2,13 @@ package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.util.JsonUtils;
 
 /**
  * Contains specific structure and processing logic for MCQ feedback questions.
@@ -62,6 +66,42 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
         return this.otherEnabled != newMcqDetails.otherEnabled;
     }
 
+    @Override
+    public String getQuestionSummaryStatisticsJson(FeedbackQuestionAttributes question, SessionResultsBundle bundle) {
+        Map<String, Double> weightPerOption = FeedbackQuestionStatistics.getWeightPerOption(
+                mcqChoices, mcqWeights, otherEnabled, mcqOtherWeight);
+        FeedbackQuestionStatistics.ValueSummaryAccumulator optionAccumulator =
+                new FeedbackQuestionStatistics.ValueSummaryAccumulator();
+        if (generateOptionsFor == FeedbackParticipantType.NONE) {
+            mcqChoices.forEach(optionAccumulator::register);
+        }
+        if (otherEnabled) {
+            optionAccumulator.register(FeedbackQuestionStatistics.OTHER_OPTION);
+        }
+        FeedbackQuestionStatistics.RecipientValueAccumulator recipientAccumulator =
+                new FeedbackQuestionStatistics.RecipientValueAccumulator(question, bundle);
+
+        List<FeedbackResponseAttributes> responses = FeedbackQuestionStatistics.getResponses(question, bundle);
+        for (FeedbackResponseAttributes response : responses) {
+            FeedbackMcqResponseDetails details = (FeedbackMcqResponseDetails) response.getResponseDetails();
+            String option = details.isOther() ? FeedbackQuestionStatistics.OTHER_OPTION : details.getAnswer();
+            double weight = weightPerOption.getOrDefault(option, 0.0);
+            optionAccumulator.add(option, weight);
+            if (hasAssignedWeights) {
+                recipientAccumulator.add(response, weight);
+            }
+        }
+
+        FeedbackQuestionStatistics statistics = new FeedbackQuestionStatistics();
+        statistics.setNumberOfResponses(responses.size());
+        statistics.setOptionFrequencies(optionAccumulator, hasAssignedWeights);
+        if (hasAssignedWeights) {
+            // per recipient statistics are only meaningful when weights are assigned
+            statistics.setRecipientValues(recipientAccumulator);
+        }
+        return JsonUtils.toJson(statistics);
+    }
+
     @Override
     public List<String> validateQuestionDetails() {
         List<String> errors = new ArrayList<>();
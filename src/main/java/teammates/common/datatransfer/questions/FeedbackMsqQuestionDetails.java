@@ -1,11 +1,17 @@
 package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 
 /**
  * Contains specific structure and processing logic for MSQ feedback questions.
@@ -110,6 +116,63 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
         return this.otherEnabled != newMsqDetails.otherEnabled;
     }
 
+    @Override
+    public String getQuestionSummaryStatisticsJson(FeedbackQuestionAttributes question, SessionResultsBundle bundle) {
+        Map<String, Double> weightPerOption = FeedbackQuestionStatistics.getWeightPerOption(
+                msqChoices, msqWeights, otherEnabled, msqOtherWeight);
+        boolean isGeneratedOptions = generateOptionsFor != FeedbackParticipantType.NONE;
+        Set<String> choices = new HashSet<>(msqChoices);
+        FeedbackQuestionStatistics.ValueSummaryAccumulator optionAccumulator =
+                new FeedbackQuestionStatistics.ValueSummaryAccumulator();
+        if (!isGeneratedOptions) {
+            msqChoices.forEach(optionAccumulator::register);
+        }
+        if (otherEnabled) {
+            optionAccumulator.register(FeedbackQuestionStatistics.OTHER_OPTION);
+        }
+        FeedbackQuestionStatistics.RecipientValueAccumulator recipientAccumulator =
+                new FeedbackQuestionStatistics.RecipientValueAccumulator(question, bundle);
+
+        List<FeedbackResponseAttributes> responses = FeedbackQuestionStatistics.getResponses(question, bundle);
+        for (FeedbackResponseAttributes response : responses) {
+            FeedbackMsqResponseDetails details = (FeedbackMsqResponseDetails) response.getResponseDetails();
+            if (details.isOther()) {
+                addMsqAnswer(FeedbackQuestionStatistics.OTHER_OPTION, weightPerOption, optionAccumulator,
+                        recipientAccumulator, response);
+            }
+            for (String answer : details.getAnswers()) {
+                if (MSQ_ANSWER_NONE_OF_THE_ABOVE.equals(answer)) {
+                    continue;
+                }
+                if (!isGeneratedOptions && !choices.contains(answer)) {
+                    // the content of the 'Other' field, which is already counted
+                    continue;
+                }
+                addMsqAnswer(answer, weightPerOption, optionAccumulator, recipientAccumulator, response);
+            }
+        }
+
+        FeedbackQuestionStatistics statistics = new FeedbackQuestionStatistics();
+        statistics.setNumberOfResponses(responses.size());
+        statistics.setOptionFrequencies(optionAccumulator, hasAssignedWeights);
+        if (hasAssignedWeights) {
+            // per recipient statistics are only meaningful when weights are assigned
+            statistics.setRecipientValues(recipientAccumulator);
+        }
+        return JsonUtils.toJson(statistics);
+    }
+
+    private void addMsqAnswer(String option, Map<String, Double> weightPerOption,
+                              FeedbackQuestionStatistics.ValueSummaryAccumulator optionAccumulator,
+                              FeedbackQuestionStatistics.RecipientValueAccumulator recipientAccumulator,
+                              FeedbackResponseAttributes response) {
+        double weight = weightPerOption.getOrDefault(option, 0.0);
+        optionAccumulator.add(option, weight);
+        if (hasAssignedWeights) {
+            recipientAccumulator.add(response, weight);
+        }
+    }
+
     @Override
     public List<String> validateQuestionDetails() {
         List<String> errors = new ArrayList<>();
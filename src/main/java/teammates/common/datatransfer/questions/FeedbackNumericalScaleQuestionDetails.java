@@ -5,7 +5,10 @@ import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.List;
 
+import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.util.JsonUtils;
 
 /**
  * Contains specific structure and processing logic for numerical scale feedback questions.
@@ -43,6 +46,24 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
                || this.step != newNumScaleDetails.step;
     }
 
+    @Override
+    public String getQuestionSummaryStatisticsJson(FeedbackQuestionAttributes question, SessionResultsBundle bundle) {
+        FeedbackQuestionStatistics.RecipientValueAccumulator recipientAccumulator =
+                new FeedbackQuestionStatistics.RecipientValueAccumulator(question, bundle);
+
+        List<FeedbackResponseAttributes> responses = FeedbackQuestionStatistics.getResponses(question, bundle);
+        for (FeedbackResponseAttributes response : responses) {
+            FeedbackNumericalScaleResponseDetails details =
+                    (FeedbackNumericalScaleResponseDetails) response.getResponseDetails();
+            recipientAccumulator.add(response, details.getAnswer());
+        }
+
+        FeedbackQuestionStatistics statistics = new FeedbackQuestionStatistics();
+        statistics.setNumberOfResponses(responses.size());
+        statistics.setRecipientValues(recipientAccumulator);
+        return JsonUtils.toJson(statistics);
+    }
+
     @Override
     public List<String> validateQuestionDetails() {
         List<String> errors = new ArrayList<>();
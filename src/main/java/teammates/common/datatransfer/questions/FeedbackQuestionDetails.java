@@ -40,6 +40,17 @@ public abstract class FeedbackQuestionDetails {
         return "";
     }
 
+    /**
+     * Get summary statistics of all the responses to the question in {@code bundle} as JSON string.
+     *
+     * <p>Unlike {@link #getQuestionResultStatisticsJson}, the statistics are calculated here for all
+     * question types which support them, so that they can be viewed without fetching all the responses.
+     * Returns an empty string if the question type does not support statistics.
+     */
+    public String getQuestionSummaryStatisticsJson(FeedbackQuestionAttributes question, SessionResultsBundle bundle) {
+        return getQuestionResultStatisticsJson(question, null, bundle);
+    }
+
     /**
      * Checks whether the changes to the question details require deletion of corresponding responses.
      */
@@ -133,8 +144,7 @@ public abstract class FeedbackQuestionDetails {
      */
     public FeedbackQuestionDetails getDeepCopy() {
         assert questionType != null;
-        String serializedDetails = getJsonString();
-        return JsonUtils.fromJson(serializedDetails, questionType.getQuestionDetailsClass());
+        return JsonUtils.deepCopy(this, questionType.getQuestionDetailsClass());
     }
 
     public FeedbackQuestionType getQuestionType() {
@@ -0,0 +1,307 @@
+package teammates.common.datatransfer.questions;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+
+/**
+ * Summary statistics of all the responses to a question.
+ *
+ * <p>Only the fields which are applicable to the question type are populated.
+ *
+ * @see FeedbackQuestionDetails#getQuestionSummaryStatisticsJson(FeedbackQuestionAttributes, SessionResultsBundle)
+ */
+public class FeedbackQuestionStatistics {
+
+    /**
+     * The option under which all answers given in the 'Other' field are grouped.
+     */
+    static final String OTHER_OPTION = "Other";
+
+    private int numberOfResponses;
+    private ValueSummary overall;
+    private Map<String, Integer> answerFrequency;
+    private Map<String, Double> percentagePerOption;
+    private Map<String, Double> weightedPercentagePerOption;
+    private Map<String, ValueSummary> perOption;
+    private int[][] subQuestionAnswerFrequency;
+    private List<ValueSummary> perSubQuestion;
+    private Map<String, ValueSummary> perRecipient;
+    private Map<String, ValueSummary> perTeam;
+
+    public int getNumberOfResponses() {
+        return numberOfResponses;
+    }
+
+    void setNumberOfResponses(int numberOfResponses) {
+        this.numberOfResponses = numberOfResponses;
+    }
+
+    public ValueSummary getOverall() {
+        return overall;
+    }
+
+    void setOverall(ValueSummary overall) {
+        this.overall = overall;
+    }
+
+    public Map<String, Integer> getAnswerFrequency() {
+        return answerFrequency;
+    }
+
+    public Map<String, Double> getPercentagePerOption() {
+        return percentagePerOption;
+    }
+
+    public Map<String, Double> getWeightedPercentagePerOption() {
+        return weightedPercentagePerOption;
+    }
+
+    /**
+     * Sets the answer frequency and the percentage of answers of each option.
+     *
+     * <p>The weighted percentages are set as well if {@code hasAssignedWeights} is true,
+     * in which case the value accumulated for each option is the total weight of the answers.
+     */
+    void setOptionFrequencies(ValueSummaryAccumulator optionAccumulator, boolean hasAssignedWeights) {
+        Map<String, ValueSummary> summaries = optionAccumulator.toSummaries();
+        int numberOfAnswers = 0;
+        double totalWeight = 0;
+        for (ValueSummary summary : summaries.values()) {
+            numberOfAnswers += summary.count;
+            totalWeight += summary.total;
+        }
+
+        answerFrequency = new LinkedHashMap<>();
+        percentagePerOption = new LinkedHashMap<>();
+        weightedPercentagePerOption = hasAssignedWeights ? new LinkedHashMap<>() : null;
+        for (Map.Entry<String, ValueSummary> entry : summaries.entrySet()) {
+            ValueSummary summary = entry.getValue();
+            answerFrequency.put(entry.getKey(), summary.count);
+            percentagePerOption.put(entry.getKey(), getPercentage(summary.count, numberOfAnswers));
+            if (hasAssignedWeights) {
+                weightedPercentagePerOption.put(entry.getKey(), getPercentage(summary.total, totalWeight));
+            }
+        }
+    }
+
+    public Map<String, ValueSummary> getPerOption() {
+        return perOption;
+    }
+
+    void setPerOption(Map<String, ValueSummary> perOption) {
+        this.perOption = perOption;
+    }
+
+    public int[][] getSubQuestionAnswerFrequency() {
+        return subQuestionAnswerFrequency;
+    }
+
+    void setSubQuestionAnswerFrequency(int[][] subQuestionAnswerFrequency) {
+        this.subQuestionAnswerFrequency = subQuestionAnswerFrequency;
+    }
+
+    public List<ValueSummary> getPerSubQuestion() {
+        return perSubQuestion;
+    }
+
+    void setPerSubQuestion(List<ValueSummary> perSubQuestion) {
+        this.perSubQuestion = perSubQuestion;
+    }
+
+    public Map<String, ValueSummary> getPerRecipient() {
+        return perRecipient;
+    }
+
+    public Map<String, ValueSummary> getPerTeam() {
+        return perTeam;
+    }
+
+    /**
+     * Sets the overall summary and the per-recipient and per-team breakdowns.
+     */
+    void setRecipientValues(RecipientValueAccumulator recipientAccumulator) {
+        this.overall = recipientAccumulator.overall.toSummaries().get(RecipientValueAccumulator.OVERALL_KEY);
+        this.perRecipient = recipientAccumulator.perRecipient.toSummaries();
+        this.perTeam = recipientAccumulator.perTeam.toSummaries();
+    }
+
+    /**
+     * Gets all the responses to {@code question} in {@code bundle}.
+     */
+    static List<FeedbackResponseAttributes> getResponses(FeedbackQuestionAttributes question, SessionResultsBundle bundle) {
+        return bundle.getQuestionResponseMap().getOrDefault(question.getId(), Collections.emptyList());
+    }
+
+    /**
+     * Gets the weight of each option, including the 'Other' option if it is enabled.
+     */
+    static Map<String, Double> getWeightPerOption(List<String> choices, List<Double> weights,
+                                                  boolean isOtherEnabled, double otherWeight) {
+        Map<String, Double> weightPerOption = new HashMap<>();
+        for (int i = 0; i < choices.size() && i < weights.size(); i++) {
+            weightPerOption.put(choices.get(i), weights.get(i));
+        }
+        if (isOtherEnabled) {
+            weightPerOption.put(OTHER_OPTION, otherWeight);
+        }
+        return weightPerOption;
+    }
+
+    private static double getPercentage(double value, double total) {
+        return total == 0 ? 0 : 100 * value / total;
+    }
+
+    /**
+     * Represents the summary of a group of numeric values.
+     */
+    public static class ValueSummary {
+        private final int count;
+        private final double total;
+        private final double average;
+        private final double min;
+        private final double max;
+
+        ValueSummary(int count, double total, double min, double max) {
+            this.count = count;
+            this.total = total;
+            this.average = count == 0 ? 0 : total / count;
+            this.min = min;
+            this.max = max;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public double getTotal() {
+            return total;
+        }
+
+        public double getAverage() {
+            return average;
+        }
+
+        public double getMin() {
+            return min;
+        }
+
+        public double getMax() {
+            return max;
+        }
+    }
+
+    /**
+     * Accumulates numeric values grouped by key, keeping only the running summary of each group
+     * in primitive arrays indexed by the order in which the keys are first seen.
+     */
+    static class ValueSummaryAccumulator {
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final Map<String, Integer> indexes = new LinkedHashMap<>();
+        private int[] counts = new int[INITIAL_CAPACITY];
+        private double[] totals = new double[INITIAL_CAPACITY];
+        private double[] mins = new double[INITIAL_CAPACITY];
+        private double[] maxes = new double[INITIAL_CAPACITY];
+
+        /**
+         * Registers a group without adding any value to it, so that it is included in the summaries even if empty.
+         */
+        void register(String key) {
+            getIndex(key);
+        }
+
+        /**
+         * Adds {@code value} to the group of {@code key}.
+         */
+        void add(String key, double value) {
+            int index = getIndex(key);
+            if (counts[index] == 0) {
+                mins[index] = value;
+                maxes[index] = value;
+            } else {
+                mins[index] = Math.min(mins[index], value);
+                maxes[index] = Math.max(maxes[index], value);
+            }
+            counts[index]++;
+            totals[index] += value;
+        }
+
+        /**
+         * Gets the summary of each group, in the order in which the groups are first registered or added to.
+         */
+        Map<String, ValueSummary> toSummaries() {
+            Map<String, ValueSummary> summaries = new LinkedHashMap<>();
+            indexes.forEach((key, index) ->
+                    summaries.put(key, new ValueSummary(counts[index], totals[index], mins[index], maxes[index])));
+            return summaries;
+        }
+
+        private int getIndex(String key) {
+            Integer index = indexes.get(key);
+            if (index != null) {
+                return index;
+            }
+            int newIndex = indexes.size();
+            if (newIndex == counts.length) {
+                int newCapacity = counts.length * 2;
+                counts = Arrays.copyOf(counts, newCapacity);
+                totals = Arrays.copyOf(totals, newCapacity);
+                mins = Arrays.copyOf(mins, newCapacity);
+                maxes = Arrays.copyOf(maxes, newCapacity);
+            }
+            indexes.put(key, newIndex);
+            return newIndex;
+        }
+    }
+
+    /**
+     * Accumulates numeric values received by each recipient and by each recipient team.
+     *
+     * <p>Recipients whose identities are not visible in the results are grouped under their anonymous names,
+     * and under the anonymous names of their teams.
+     */
+    static class RecipientValueAccumulator {
+        private static final String OVERALL_KEY = "";
+
+        private final ValueSummaryAccumulator overall = new ValueSummaryAccumulator();
+        private final ValueSummaryAccumulator perRecipient = new ValueSummaryAccumulator();
+        private final ValueSummaryAccumulator perTeam = new ValueSummaryAccumulator();
+        private final FeedbackParticipantType recipientType;
+        private final SessionResultsBundle bundle;
+
+        RecipientValueAccumulator(FeedbackQuestionAttributes question, SessionResultsBundle bundle) {
+            // recipient type for self-feedback is the same as the giver type
+            this.recipientType = question.getRecipientType() == FeedbackParticipantType.SELF
+                    ? question.getGiverType()
+                    : question.getRecipientType();
+            this.bundle = bundle;
+        }
+
+        /**
+         * Adds the values received by the recipient of {@code response}.
+         */
+        void add(FeedbackResponseAttributes response, double... values) {
+            String recipient = response.getRecipient();
+            String team = bundle.getRoster().getInfoForIdentifier(recipient).getTeamName();
+            if (!bundle.isResponseRecipientVisible(response)) {
+                recipient = SessionResultsBundle.getAnonName(recipientType, recipient);
+                team = SessionResultsBundle.getAnonName(FeedbackParticipantType.TEAMS, team);
+            }
+            for (double value : values) {
+                overall.add(OVERALL_KEY, value);
+                perRecipient.add(recipient, value);
+                perTeam.add(team, value);
+            }
+        }
+    }
+
+}
@@ -5,8 +5,11 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 
 /**
  * Contains specific structure and processing logic for rank options feedback questions.
@@ -47,6 +50,29 @@ public class FeedbackRankOptionsQuestionDetails extends FeedbackRankQuestionDeta
             || this.maxOptionsToBeRanked != newRankQuestionDetails.maxOptionsToBeRanked;
     }
 
+    @Override
+    public String getQuestionSummaryStatisticsJson(FeedbackQuestionAttributes question, SessionResultsBundle bundle) {
+        FeedbackQuestionStatistics.ValueSummaryAccumulator optionAccumulator =
+                new FeedbackQuestionStatistics.ValueSummaryAccumulator();
+        options.forEach(optionAccumulator::register);
+
+        List<FeedbackResponseAttributes> responses = FeedbackQuestionStatistics.getResponses(question, bundle);
+        for (FeedbackResponseAttributes response : responses) {
+            List<Integer> answers = ((FeedbackRankOptionsResponseDetails) response.getResponseDetails()).getAnswers();
+            for (int i = 0; i < answers.size() && i < options.size(); i++) {
+                int rank = answers.get(i);
+                if (rank != Const.POINTS_NOT_SUBMITTED) {
+                    optionAccumulator.add(options.get(i), rank);
+                }
+            }
+        }
+
+        FeedbackQuestionStatistics statistics = new FeedbackQuestionStatistics();
+        statistics.setNumberOfResponses(responses.size());
+        statistics.setPerOption(optionAccumulator.toSummaries());
+        return JsonUtils.toJson(statistics);
+    }
+
     @Override
     public List<String> validateQuestionDetails() {
         List<String> errors = new ArrayList<>();
@@ -5,8 +5,11 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 
 /**
  * Contains specific structure and processing logic for rank recipients feedback questions.
@@ -26,6 +29,25 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
         return false;
     }
 
+    @Override
+    public String getQuestionSummaryStatisticsJson(FeedbackQuestionAttributes question, SessionResultsBundle bundle) {
+        FeedbackQuestionStatistics.RecipientValueAccumulator recipientAccumulator =
+                new FeedbackQuestionStatistics.RecipientValueAccumulator(question, bundle);
+
+        List<FeedbackResponseAttributes> responses = FeedbackQuestionStatistics.getResponses(question, bundle);
+        for (FeedbackResponseAttributes response : responses) {
+            int rank = ((FeedbackRankRecipientsResponseDetails) response.getResponseDetails()).getAnswer();
+            if (rank != Const.POINTS_NOT_SUBMITTED) {
+                recipientAccumulator.add(response, rank);
+            }
+        }
+
+        FeedbackQuestionStatistics statistics = new FeedbackQuestionStatistics();
+        statistics.setNumberOfResponses(responses.size());
+        statistics.setRecipientValues(recipientAccumulator);
+        return JsonUtils.toJson(statistics);
+    }
+
     @Override
     public List<String> validateQuestionDetails() {
         return new ArrayList<>();
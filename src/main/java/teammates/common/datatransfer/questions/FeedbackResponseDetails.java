@@ -42,8 +42,7 @@ public abstract class FeedbackResponseDetails {
         if (questionType == FeedbackQuestionType.TEXT) {
             return new FeedbackTextResponseDetails(getAnswerString());
         }
-        String serializedResponseDetails = getJsonString();
-        return JsonUtils.fromJson(serializedResponseDetails, questionType.getResponseDetailsClass());
+        return JsonUtils.deepCopy(this, questionType.getResponseDetailsClass());
     }
 
     public void setQuestionType(FeedbackQuestionType questionType) {
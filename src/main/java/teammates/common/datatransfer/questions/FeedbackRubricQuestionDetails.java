@@ -1,9 +1,13 @@
 package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.util.JsonUtils;
 
 /**
  * Contains specific structure and processing logic for rubric feedback questions.
@@ -90,6 +94,53 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
             || !newRubricDetails.rubricSubQuestions.containsAll(this.rubricSubQuestions);
     }
 
+    @Override
+    public String getQuestionSummaryStatisticsJson(FeedbackQuestionAttributes question, SessionResultsBundle bundle) {
+        int numOfSubQuestions = rubricSubQuestions.size();
+        int numOfChoices = rubricChoices.size();
+        int[][] answerFrequency = new int[numOfSubQuestions][numOfChoices];
+        boolean isWeighted = hasAssignedWeights && isValidWeightSize();
+        FeedbackQuestionStatistics.ValueSummaryAccumulator subQuestionAccumulator =
+                new FeedbackQuestionStatistics.ValueSummaryAccumulator();
+        for (int i = 0; i < numOfSubQuestions; i++) {
+            subQuestionAccumulator.register(String.valueOf(i));
+        }
+        FeedbackQuestionStatistics.RecipientValueAccumulator recipientAccumulator =
+                new FeedbackQuestionStatistics.RecipientValueAccumulator(question, bundle);
+
+        List<FeedbackResponseAttributes> responses = FeedbackQuestionStatistics.getResponses(question, bundle);
+        for (FeedbackResponseAttributes response : responses) {
+            List<Integer> answer = ((FeedbackRubricResponseDetails) response.getResponseDetails()).getAnswer();
+            double[] chosenWeights = new double[numOfSubQuestions];
+            int numOfChosenWeights = 0;
+            for (int i = 0; i < answer.size() && i < numOfSubQuestions; i++) {
+                int choice = answer.get(i);
+                if (choice == RUBRIC_ANSWER_NOT_CHOSEN || choice >= numOfChoices) {
+                    continue;
+                }
+                answerFrequency[i][choice]++;
+                if (isWeighted) {
+                    double weight = rubricWeightsForEachCell.get(i).get(choice);
+                    subQuestionAccumulator.add(String.valueOf(i), weight);
+                    chosenWeights[numOfChosenWeights++] = weight;
+                }
+            }
+            if (isWeighted) {
+                recipientAccumulator.add(response, Arrays.copyOf(chosenWeights, numOfChosenWeights));
+            }
+        }
+
+        FeedbackQuestionStatistics statistics = new FeedbackQuestionStatistics();
+        statistics.setNumberOfResponses(responses.size());
+        statistics.setSubQuestionAnswerFrequency(answerFrequency);
+        if (isWeighted) {
+            // weighted averages of each sub-question, and of all sub-questions for each recipient
+            statistics.setPerSubQuestion(new ArrayList<>(subQuestionAccumulator.toSummaries().values()));
+            statistics.setRecipientValues(recipientAccumulator);
+        }
+        return JsonUtils.toJson(statistics);
+    }
+
     @Override
     public List<String> validateQuestionDetails() {
         // For rubric questions,
@@ -97,6 +97,9 @@ public final class Config {
     /** The value of the "app.search.service.host" in build.properties file. */
     public static final String SEARCH_SERVICE_HOST;
 
+    /** The value of the "app.entity.cache.service" in build.properties file. */
+    public static final String ENTITY_CACHE_SERVICE;
+
     /** The value of the "app.enable.datastore.backup" in build.properties file. */
     public static final boolean ENABLE_DATASTORE_BACKUP;
 
@@ -140,6 +143,7 @@ public final class Config {
         MAILJET_APIKEY = properties.getProperty("app.mailjet.apikey");
         MAILJET_SECRETKEY = properties.getProperty("app.mailjet.secretkey");
         SEARCH_SERVICE_HOST = properties.getProperty("app.search.service.host");
+        ENTITY_CACHE_SERVICE = properties.getProperty("app.entity.cache.service");
         ENABLE_DATASTORE_BACKUP = Boolean.parseBoolean(properties.getProperty("app.enable.datastore.backup", "false"));
         MAINTENANCE = Boolean.parseBoolean(properties.getProperty("app.maintenance", "false"));
     }
@@ -37,6 +37,8 @@ public final class Const {
 
     public static final int SEARCH_QUERY_SIZE_LIMIT = 50;
 
+    public static final int RESULTS_PAGE_SIZE_LIMIT = 1000;
+
     // These constants are used as variable values to mean that the variable is in a 'special' state.
 
     public static final int INT_UNINITIALIZED = -9999;
@@ -175,6 +177,9 @@ public final class Const {
         public static final String QUERY_LOGS_ORDER = "order";
 
         public static final String LIMIT = "limit";
+
+        public static final String PAGE_SIZE = "pagesize";
+        public static final String PAGE_TOKEN = "pagetoken";
     }
 
     /**
@@ -315,7 +320,9 @@ public final class Const {
         public static final String INSTRUCTOR = URI_PREFIX + "/instructor";
         public static final String INSTRUCTOR_PRIVILEGE = URI_PREFIX + "/instructor/privilege";
         public static final String INSTRUCTOR_KEY = URI_PREFIX + "/instructor/key";
+        public static final String INSTRUCTOR_DASHBOARD = URI_PREFIX + "/instructor/dashboard";
         public static final String RESULT = URI_PREFIX + "/result";
+        public static final String RESULT_STATISTICS = URI_PREFIX + "/result/statistics";
         public static final String STUDENTS = URI_PREFIX + "/students";
         public static final String STUDENT = URI_PREFIX + "/student";
         public static final String STUDENT_KEY = URI_PREFIX + "/student/key";
@@ -346,6 +353,7 @@ public final class Const {
         public static final String LOGS = URI_PREFIX + "/logs/query";
         public static final String ACTION_CLASS = URI_PREFIX + "/actionclass";
         public static final String USER_COOKIE = URI_PREFIX + "/cookie";
+        public static final String DELETION_JOB = URI_PREFIX + "/deletionjob";
 
         public static final String STUDENT_PROFILE_PICTURE = URI_PREFIX + "/student/profilePic";
         public static final String STUDENT_PROFILE = URI_PREFIX + "/student/profile";
@@ -369,6 +377,7 @@ public final class Const {
                 URI_PREFIX + "/feedbackSessionClosingReminders";
         public static final String AUTOMATED_FEEDBACK_PUBLISHED_REMINDERS =
                 URI_PREFIX + "/feedbackSessionPublishedReminders";
+        public static final String AUTOMATED_DELETION_JOBS_RESUMPTION = URI_PREFIX + "/resumeDeletionJobs";
     }
 
     /**
@@ -405,6 +414,7 @@ public final class Const {
 
         public static final String SEND_EMAIL_QUEUE_NAME = "send-email-queue";
         public static final String SEND_EMAIL_WORKER_URL = URI_PREFIX + "/sendEmail";
+        public static final String SEND_EMAILS_WORKER_URL = URI_PREFIX + "/sendEmails";
 
         public static final String STUDENT_COURSE_JOIN_EMAIL_QUEUE_NAME = "student-course-join-email-queue";
         public static final String STUDENT_COURSE_JOIN_EMAIL_WORKER_URL = URI_PREFIX + "/studentCourseJoinEmail";
@@ -414,6 +424,10 @@ public final class Const {
         public static final String ACCOUNT_REQUEST_SEARCH_INDEXING_WORKER_URL =
                 URI_PREFIX + "/accountRequestSearchIndexing";
         public static final String STUDENT_SEARCH_INDEXING_WORKER_URL = URI_PREFIX + "/studentSearchIndexing";
+        public static final String STUDENTS_SEARCH_INDEXING_WORKER_URL = URI_PREFIX + "/studentsSearchIndexing";
+
+        public static final String DELETION_QUEUE_NAME = "deletion-queue";
+        public static final String DELETION_WORKER_URL = URI_PREFIX + "/deletion";
     }
 
 }
@@ -11,6 +11,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 
+import com.google.common.base.CharMatcher;
+
 import teammates.common.datatransfer.FeedbackParticipantType;
 
 /**
@@ -229,6 +231,11 @@ public final class FieldValidator {
      */
     public static final String REGEX_GOOGLE_ID_NON_EMAIL = "[a-zA-Z0-9_.-]+";
 
+    /**
+     * Characters that cannot appear in a name matching {@link #REGEX_NAME}.
+     */
+    private static final CharMatcher NAME_INVALID_CHARS = CharMatcher.anyOf("|%");
+
     private FieldValidator() {
         // utility class
         // Intentional private constructor to prevent instantiation.
@@ -513,7 +520,9 @@ public final class FieldValidator {
             }
             return "";
         }
-        if (!StringHelper.isMatching(value, REGEX_NAME)) {
+        // the first character is already known to be alphanumeric, which leaves
+        // the invalid characters of REGEX_NAME to be checked without the regex
+        if (NAME_INVALID_CHARS.matchesAnyOf(value)) {
             return getPopulatedErrorMessage(INVALID_NAME_ERROR_MESSAGE, value, fieldName,
                                             REASON_CONTAINS_INVALID_CHAR);
         }
@@ -1,5 +1,6 @@
 package teammates.common.util;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
 import java.time.Duration;
 import java.time.Instant;
@@ -8,13 +9,14 @@ import java.time.format.DateTimeFormatter;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
-import com.google.gson.JsonPrimitive;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
 import teammates.common.datatransfer.logs.LogDetails;
 import teammates.common.datatransfer.logs.LogEvent;
@@ -27,6 +29,10 @@ import teammates.common.datatransfer.questions.FeedbackResponseDetails;
  */
 public final class JsonUtils {
 
+    // Gson instances are thread-safe and cache the type adapters they create, hence they are built only once
+    private static final Gson GSON = createGsonInstance(false);
+    private static final Gson PRETTY_PRINTING_GSON = createGsonInstance(true);
+
     private JsonUtils() {
         // utility class
     }
@@ -35,14 +41,14 @@ public final class JsonUtils {
      * This creates a Gson object that can handle the Date format we use in the
      * Json file and also reformat the Json string in pretty-print format.
      */
-    private static Gson getGsonInstance(boolean prettyPrint) {
+    private static Gson createGsonInstance(boolean prettyPrint) {
         GsonBuilder builder = new GsonBuilder()
-                .registerTypeAdapter(Instant.class, new InstantAdapter())
-                .registerTypeAdapter(ZoneId.class, new ZoneIdAdapter())
-                .registerTypeAdapter(Duration.class, new DurationMinutesAdapter())
-                .registerTypeAdapter(FeedbackQuestionDetails.class, new FeedbackQuestionDetailsAdapter())
-                .registerTypeAdapter(FeedbackResponseDetails.class, new FeedbackResponseDetailsAdapter())
-                .registerTypeAdapter(LogDetails.class, new LogDetailsAdapter())
+                .registerTypeAdapter(Instant.class, new InstantAdapter().nullSafe())
+                .registerTypeAdapter(ZoneId.class, new ZoneIdAdapter().nullSafe())
+                .registerTypeAdapter(Duration.class, new DurationMinutesAdapter().nullSafe())
+                .registerTypeAdapterFactory(new FeedbackQuestionDetailsAdapterFactory())
+                .registerTypeAdapterFactory(new FeedbackResponseDetailsAdapterFactory())
+                .registerTypeAdapterFactory(new LogDetailsAdapterFactory())
                 .disableHtmlEscaping();
         if (prettyPrint) {
             builder.setPrettyPrinting();
@@ -50,6 +56,10 @@ public final class JsonUtils {
         return builder.create();
     }
 
+    private static Gson getGsonInstance(boolean prettyPrint) {
+        return prettyPrint ? PRETTY_PRINTING_GSON : GSON;
+    }
+
     /**
      * Serializes and pretty-prints the specified object into its equivalent JSON string.
      *
@@ -87,6 +97,25 @@ public final class JsonUtils {
         getGsonInstance(false).toJson(src, writer);
     }
 
+    /**
+     * Serializes the specified object into its equivalent JSON and writes it into an open {@link JsonWriter}.
+     * This allows large JSON documents to be written piece by piece.
+     *
+     * @see Gson#toJson(Object, Type, JsonWriter)
+     */
+    public static void toCompactJson(Object src, Type typeOfSrc, JsonWriter writer) {
+        getGsonInstance(false).toJson(src, typeOfSrc, writer);
+    }
+
+    /**
+     * Serializes the specified object into its equivalent JSON tree.
+     *
+     * @see Gson#toJsonTree(Object)
+     */
+    public static JsonElement toJsonTree(Object src) {
+        return getGsonInstance(false).toJsonTree(src);
+    }
+
     /**
      * Deserializes the specified JSON string into an object of the specified type.
      *
@@ -105,6 +134,18 @@ public final class JsonUtils {
         return getGsonInstance(false).fromJson(json, classOfT);
     }
 
+    /**
+     * Makes a deep copy of the specified object by serializing it into a JSON tree and deserializing it back.
+     *
+     * <p>This is cheaper than going through the JSON string, as no text needs to be formatted and parsed.
+     *
+     * @see Gson#toJsonTree(Object, Type)
+     * @see Gson#fromJson(JsonElement, Class)
+     */
+    public static <T> T deepCopy(Object src, Class<T> classOfT) {
+        return getGsonInstance(false).fromJson(getGsonInstance(false).toJsonTree(src, classOfT), classOfT);
+    }
+
     /**
      * Parses the specified JSON string into a {@link JsonElement} object.
      *
@@ -114,110 +155,164 @@ public final class JsonUtils {
         return JsonParser.parseString(json);
     }
 
-    private static class InstantAdapter implements JsonSerializer<Instant>, JsonDeserializer<Instant> {
+    private static class InstantAdapter extends TypeAdapter<Instant> {
 
         @Override
-        public JsonElement serialize(Instant instant, Type type, JsonSerializationContext context) {
-            synchronized (this) {
-                return new JsonPrimitive(DateTimeFormatter.ISO_INSTANT.format(instant));
-            }
+        public void write(JsonWriter out, Instant instant) throws IOException {
+            out.value(DateTimeFormatter.ISO_INSTANT.format(instant));
         }
 
         @Override
-        public Instant deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            synchronized (this) {
-                return Instant.parse(element.getAsString());
-            }
+        public Instant read(JsonReader in) throws IOException {
+            return Instant.parse(in.nextString());
         }
     }
 
-    private static class ZoneIdAdapter implements JsonSerializer<ZoneId>, JsonDeserializer<ZoneId> {
+    private static class ZoneIdAdapter extends TypeAdapter<ZoneId> {
 
         @Override
-        public JsonElement serialize(ZoneId zoneId, Type type, JsonSerializationContext context) {
-            synchronized (this) {
-                return new JsonPrimitive(zoneId.getId());
-            }
+        public void write(JsonWriter out, ZoneId zoneId) throws IOException {
+            out.value(zoneId.getId());
         }
 
         @Override
-        public ZoneId deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            synchronized (this) {
-                return ZoneId.of(element.getAsString());
-            }
+        public ZoneId read(JsonReader in) throws IOException {
+            return ZoneId.of(in.nextString());
         }
     }
 
-    private static class DurationMinutesAdapter implements JsonSerializer<Duration>, JsonDeserializer<Duration> {
+    private static class DurationMinutesAdapter extends TypeAdapter<Duration> {
 
         @Override
-        public JsonElement serialize(Duration duration, Type type, JsonSerializationContext context) {
-            synchronized (this) {
-                return new JsonPrimitive(duration.toMinutes());
-            }
+        public void write(JsonWriter out, Duration duration) throws IOException {
+            out.value(duration.toMinutes());
         }
 
         @Override
-        public Duration deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            synchronized (this) {
-                return Duration.ofMinutes(element.getAsLong());
-            }
+        public Duration read(JsonReader in) throws IOException {
+            return Duration.ofMinutes(in.nextLong());
         }
     }
 
-    private static class FeedbackResponseDetailsAdapter implements JsonSerializer<FeedbackResponseDetails>,
-            JsonDeserializer<FeedbackResponseDetails> {
+    /**
+     * Creates adapters which (de)serialize an abstract type as one of its concrete subclasses.
+     *
+     * <p>Serialization is streamed through the adapter of the concrete subclass directly,
+     * whereas deserialization needs to read the whole JSON object first to determine the subclass.
+     *
+     * @param <T> the abstract type
+     */
+    private abstract static class PolymorphicAdapterFactory<T> implements TypeAdapterFactory {
+
+        private final Class<T> abstractClass;
+
+        PolymorphicAdapterFactory(Class<T> abstractClass) {
+            this.abstractClass = abstractClass;
+        }
+
+        /**
+         * Gets the concrete subclass to serialize {@code src} as.
+         */
+        abstract Class<? extends T> getClassToSerialize(T src);
+
+        /**
+         * Gets the concrete subclass to deserialize {@code json} into.
+         */
+        abstract Class<? extends T> getClassToDeserialize(JsonObject json);
 
         @Override
-        public JsonElement serialize(FeedbackResponseDetails src, Type typeOfSrc, JsonSerializationContext context) {
-            return context.serialize(src, src.getQuestionType().getResponseDetailsClass());
+        @SuppressWarnings("unchecked")
+        public <R> TypeAdapter<R> create(Gson gson, TypeToken<R> type) {
+            if (type.getRawType() != abstractClass) {
+                return null;
+            }
+            TypeAdapter<JsonElement> jsonElementAdapter = gson.getAdapter(JsonElement.class);
+
+            TypeAdapter<T> adapter = new TypeAdapter<T>() {
+
+                @Override
+                public void write(JsonWriter out, T value) throws IOException {
+                    if (value == null) {
+                        out.nullValue();
+                        return;
+                    }
+                    TypeAdapter<T> delegate = (TypeAdapter<T>) gson.getAdapter(getClassToSerialize(value));
+                    delegate.write(out, value);
+                }
+
+                @Override
+                public T read(JsonReader in) throws IOException {
+                    JsonElement json = jsonElementAdapter.read(in);
+                    if (json.isJsonNull()) {
+                        return null;
+                    }
+                    return gson.getAdapter(getClassToDeserialize(json.getAsJsonObject())).fromJsonTree(json);
+                }
+            };
+            return (TypeAdapter<R>) adapter;
+        }
+    }
+
+    private static class FeedbackResponseDetailsAdapterFactory
+            extends PolymorphicAdapterFactory<FeedbackResponseDetails> {
+
+        FeedbackResponseDetailsAdapterFactory() {
+            super(FeedbackResponseDetails.class);
         }
 
         @Override
-        public FeedbackResponseDetails deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) {
-            FeedbackQuestionType questionType =
-                    FeedbackQuestionType.valueOf(json.getAsJsonObject().get("questionType").getAsString());
-            return context.deserialize(json, questionType.getResponseDetailsClass());
+        Class<? extends FeedbackResponseDetails> getClassToSerialize(FeedbackResponseDetails src) {
+            return src.getQuestionType().getResponseDetailsClass();
         }
 
+        @Override
+        Class<? extends FeedbackResponseDetails> getClassToDeserialize(JsonObject json) {
+            return FeedbackQuestionType.valueOf(json.get("questionType").getAsString()).getResponseDetailsClass();
+        }
     }
 
-    private static class FeedbackQuestionDetailsAdapter implements JsonSerializer<FeedbackQuestionDetails>,
-            JsonDeserializer<FeedbackQuestionDetails> {
+    private static class FeedbackQuestionDetailsAdapterFactory
+            extends PolymorphicAdapterFactory<FeedbackQuestionDetails> {
+
+        FeedbackQuestionDetailsAdapterFactory() {
+            super(FeedbackQuestionDetails.class);
+        }
 
         @Override
-        public JsonElement serialize(FeedbackQuestionDetails src, Type typeOfSrc, JsonSerializationContext context) {
-            return context.serialize(src, src.getQuestionType().getQuestionDetailsClass());
+        Class<? extends FeedbackQuestionDetails> getClassToSerialize(FeedbackQuestionDetails src) {
+            return src.getQuestionType().getQuestionDetailsClass();
         }
 
         @Override
-        public FeedbackQuestionDetails deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) {
-            FeedbackQuestionType questionType =
-                    FeedbackQuestionType.valueOf(json.getAsJsonObject().get("questionType").getAsString());
-            return context.deserialize(json, questionType.getQuestionDetailsClass());
+        Class<? extends FeedbackQuestionDetails> getClassToDeserialize(JsonObject json) {
+            return FeedbackQuestionType.valueOf(json.get("questionType").getAsString()).getQuestionDetailsClass();
         }
     }
 
-    private static class LogDetailsAdapter implements JsonSerializer<LogDetails>, JsonDeserializer<LogDetails> {
+    private static class LogDetailsAdapterFactory extends PolymorphicAdapterFactory<LogDetails> {
+
+        LogDetailsAdapterFactory() {
+            super(LogDetails.class);
+        }
 
         @Override
-        public JsonElement serialize(LogDetails src, Type typeOfSrc, JsonSerializationContext context) {
-            return context.serialize(src, src.getEvent().getDetailsClass());
+        Class<? extends LogDetails> getClassToSerialize(LogDetails src) {
+            return src.getEvent().getDetailsClass();
         }
 
         @Override
-        public LogDetails deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) {
+        Class<? extends LogDetails> getClassToDeserialize(JsonObject json) {
             LogEvent event;
-            if (json.getAsJsonObject().has("event")) {
+            if (json.has("event")) {
                 try {
-                    event = LogEvent.valueOf(json.getAsJsonObject().get("event").getAsString());
+                    event = LogEvent.valueOf(json.get("event").getAsString());
                 } catch (IllegalArgumentException e) {
                     event = LogEvent.DEFAULT_LOG;
                 }
             } else {
                 event = LogEvent.DEFAULT_LOG;
             }
-            return context.deserialize(json, event.getDetailsClass());
+            return event.getDetailsClass();
         }
     }
 }
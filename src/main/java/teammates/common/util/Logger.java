@@ -4,13 +4,15 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
+import java.util.logging.Level;
 
 import javax.servlet.http.HttpServletRequest;
 
-import com.google.common.reflect.TypeToken;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 
 import teammates.common.datatransfer.logs.ExceptionLogDetails;
 import teammates.common.datatransfer.logs.InstanceLogDetails;
@@ -26,11 +28,15 @@ import teammates.common.datatransfer.logs.SourceLocation;
 @SuppressWarnings("PMD.MoreThanOneLogger") // class is designed as a facade for two different loggers
 public final class Logger {
 
+    private static final String SOURCE_LOCATION_KEY = "logging.googleapis.com/sourceLocation";
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
     private final java.util.logging.Logger standardLog;
     private final java.util.logging.Logger errorLog;
 
     private Logger() {
-        StackTraceElement logRequester = getLoggerSource();
+        StackWalker.StackFrame logRequester = getLoggerSource();
         String loggerName = logRequester == null ? "null" : logRequester.getClassName();
         this.standardLog = java.util.logging.Logger.getLogger(loggerName + "-out");
         this.standardLog.setUseParentHandlers(false);
@@ -47,14 +53,40 @@ public final class Logger {
      * Logs a message at FINE level.
      */
     public void fine(String message) {
-        standardLog.fine(formatLogMessage(message, LogSeverity.DEBUG));
+        if (standardLog.isLoggable(Level.FINE)) {
+            standardLog.fine(formatLogMessage(message, LogSeverity.DEBUG));
+        }
+    }
+
+    /**
+     * Logs a message at FINE level.
+     *
+     * <p>The message is only constructed if FINE level messages are logged.
+     */
+    public void fine(Supplier<String> messageSupplier) {
+        if (standardLog.isLoggable(Level.FINE)) {
+            standardLog.fine(formatLogMessage(messageSupplier.get(), LogSeverity.DEBUG));
+        }
     }
 
     /**
      * Logs a message at INFO level.
      */
     public void info(String message) {
-        standardLog.info(formatLogMessage(message, LogSeverity.INFO));
+        if (standardLog.isLoggable(Level.INFO)) {
+            standardLog.info(formatLogMessage(message, LogSeverity.INFO));
+        }
+    }
+
+    /**
+     * Logs a message at INFO level.
+     *
+     * <p>The message is only constructed if INFO level messages are logged.
+     */
+    public void info(Supplier<String> messageSupplier) {
+        if (standardLog.isLoggable(Level.INFO)) {
+            standardLog.info(formatLogMessage(messageSupplier.get(), LogSeverity.INFO));
+        }
     }
 
     /**
@@ -85,13 +117,10 @@ public final class Logger {
 
         String message = "Instance " + instanceEvent.toLowerCase() + ": " + shortenedInstanceId;
 
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("message", message);
-        payload.put("severity", LogSeverity.INFO);
-
-        Map<String, Object> detailsSpecificPayload =
-                JsonUtils.fromJson(JsonUtils.toCompactJson(details), new TypeToken<Map<String, Object>>(){}.getType());
-        payload.putAll(detailsSpecificPayload);
+        JsonObject payload = new JsonObject();
+        payload.addProperty("message", message);
+        payload.addProperty("severity", LogSeverity.INFO.name());
+        addLogDetails(payload, details);
 
         // Need to use println as the logger is disabled when the instance is shutting down
         System.out.println(JsonUtils.toCompactJson(payload));
@@ -141,15 +170,16 @@ public final class Logger {
      * Logs a particular event at INFO level.
      */
     public void event(String message, LogDetails details) {
+        if (!standardLog.isLoggable(Level.INFO)) {
+            return;
+        }
         String logMessage;
         if (Config.isDevServer()) {
             logMessage = formatLogMessageForHumanDisplay(message) + " extra_info: "
                     + JsonUtils.toCompactJson(details);
         } else {
-            Map<String, Object> payload = getBaseCloudLoggingPayload(message, LogSeverity.INFO);
-            Map<String, Object> detailsSpecificPayload =
-                    JsonUtils.fromJson(JsonUtils.toCompactJson(details), new TypeToken<Map<String, Object>>(){}.getType());
-            payload.putAll(detailsSpecificPayload);
+            JsonObject payload = getBaseCloudLoggingPayload(message, LogSeverity.INFO, getLoggerSourceLocation());
+            addLogDetails(payload, details);
 
             logMessage = JsonUtils.toCompactJson(payload);
         }
@@ -160,30 +190,36 @@ public final class Logger {
      * Logs a message at WARNING level.
      */
     public void warning(String message) {
-        standardLog.warning(formatLogMessage(message, LogSeverity.WARNING));
+        if (standardLog.isLoggable(Level.WARNING)) {
+            standardLog.warning(formatLogMessage(message, LogSeverity.WARNING));
+        }
     }
 
     /**
      * Logs a message at WARNING level.
      */
     public void warning(String message, Throwable t) {
-        String logMessage = getLogMessageWithStackTrace(message, t, LogSeverity.WARNING);
-        standardLog.warning(logMessage);
+        if (standardLog.isLoggable(Level.WARNING)) {
+            standardLog.warning(getLogMessageWithStackTrace(message, t, LogSeverity.WARNING));
+        }
     }
 
     /**
      * Logs a message at SEVERE level.
      */
     public void severe(String message) {
-        errorLog.severe(formatLogMessage(message, LogSeverity.ERROR));
+        if (errorLog.isLoggable(Level.SEVERE)) {
+            errorLog.severe(formatLogMessage(message, LogSeverity.ERROR));
+        }
     }
 
     /**
      * Logs a message at SEVERE level.
      */
     public void severe(String message, Throwable t) {
-        String logMessage = getLogMessageWithStackTrace(message, t, LogSeverity.ERROR);
-        errorLog.severe(logMessage);
+        if (errorLog.isLoggable(Level.SEVERE)) {
+            errorLog.severe(getLogMessageWithStackTrace(message, t, LogSeverity.ERROR));
+        }
     }
 
     private String getLogMessageWithStackTrace(String message, Throwable t, LogSeverity severity) {
@@ -197,8 +233,6 @@ public final class Logger {
                     + System.lineSeparator() + sw.toString();
         }
 
-        Map<String, Object> payload = getBaseCloudLoggingPayload(message, severity);
-
         List<String> exceptionClasses = new ArrayList<>();
         List<List<String>> exceptionStackTraces = new ArrayList<>();
         List<String> exceptionMessages = new ArrayList<>();
@@ -218,21 +252,19 @@ public final class Logger {
         details.setExceptionStackTraces(exceptionStackTraces);
         details.setExceptionMessages(exceptionMessages);
 
+        SourceLocation loggerSourceLocation = getLoggerSourceLocation();
+        SourceLocation sourceLocation = loggerSourceLocation;
         StackTraceElement tSource = getFirstInternalStackTrace(t);
         if (tSource != null) {
-            SourceLocation tSourceLocation = new SourceLocation(
-                    tSource.getClassName(), (long) tSource.getLineNumber(), tSource.getMethodName());
-
             // Replace the source location with the Throwable's source location instead
-            SourceLocation loggerSourceLocation = (SourceLocation) payload.get("logging.googleapis.com/sourceLocation");
-            payload.put("logging.googleapis.com/sourceLocation", tSourceLocation);
+            sourceLocation = new SourceLocation(
+                    tSource.getClassName(), (long) tSource.getLineNumber(), tSource.getMethodName());
 
             details.setLoggerSourceLocation(loggerSourceLocation);
         }
 
-        Map<String, Object> detailsSpecificPayload =
-                JsonUtils.fromJson(JsonUtils.toCompactJson(details), new TypeToken<Map<String, Object>>(){}.getType());
-        payload.putAll(detailsSpecificPayload);
+        JsonObject payload = getBaseCloudLoggingPayload(message, severity, sourceLocation);
+        addLogDetails(payload, details);
 
         return JsonUtils.toCompactJson(payload);
     }
@@ -279,7 +311,7 @@ public final class Logger {
     private String formatLogMessageForHumanDisplay(String message) {
         StringBuilder prefix = new StringBuilder();
 
-        StackTraceElement source = getLoggerSource();
+        StackWalker.StackFrame source = getLoggerSource();
         if (source != null) {
             prefix.append(source.getClassName()).append(':')
                     .append(source.getMethodName()).append(':')
@@ -294,45 +326,61 @@ public final class Logger {
     }
 
     private String formatLogMessageForCloudLogging(String message, LogSeverity severity) {
-        return JsonUtils.toCompactJson(getBaseCloudLoggingPayload(message, severity));
+        return JsonUtils.toCompactJson(getBaseCloudLoggingPayload(message, severity, getLoggerSourceLocation()));
     }
 
-    private Map<String, Object> getBaseCloudLoggingPayload(String message, LogSeverity severity) {
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("message", message);
-        payload.put("severity", severity);
+    private JsonObject getBaseCloudLoggingPayload(String message, LogSeverity severity, SourceLocation sourceLocation) {
+        JsonObject payload = new JsonObject();
+        payload.addProperty("message", message);
+        payload.addProperty("severity", severity.name());
 
-        StackTraceElement source = getLoggerSource();
-        if (source != null) {
-            SourceLocation sourceLocation = new SourceLocation(
-                    source.getClassName(), (long) source.getLineNumber(), source.getMethodName());
-            payload.put("logging.googleapis.com/sourceLocation", sourceLocation);
+        if (sourceLocation != null) {
+            payload.add(SOURCE_LOCATION_KEY, JsonUtils.toJsonTree(sourceLocation));
         }
 
         if (RequestTracer.getTraceId() != null) {
-            payload.put("logging.googleapis.com/trace",
+            payload.addProperty("logging.googleapis.com/trace",
                     "projects/" + Config.APP_ID + "/traces/" + RequestTracer.getTraceId());
         }
 
         if (RequestTracer.getSpanId() != null) {
-            payload.put("logging.googleapis.com/spanId", RequestTracer.getSpanId());
+            payload.addProperty("logging.googleapis.com/spanId", RequestTracer.getSpanId());
         }
 
         return payload;
     }
 
-    private StackTraceElement getLoggerSource() {
-        StackTraceElement[] stes = Thread.currentThread().getStackTrace();
-        for (int i = 0; i < stes.length; i++) {
-            StackTraceElement ste = stes[i];
-            if (ste.getClassName().equals(Logger.class.getName()) && i + 1 < stes.length) {
-                StackTraceElement nextSte = stes[i + 1];
-                if (!nextSte.getClassName().equals(Logger.class.getName())) {
-                    return nextSte;
-                }
-            }
+    /**
+     * Adds the fields of the log details to the payload, replacing any fields of the same name.
+     *
+     * <p>The log details are serialized into a JSON tree directly,
+     * instead of going through a JSON string and parsing it back.
+     */
+    private void addLogDetails(JsonObject payload, LogDetails details) {
+        JsonObject detailsSpecificPayload = JsonUtils.toJsonTree(details).getAsJsonObject();
+        for (Map.Entry<String, JsonElement> field : detailsSpecificPayload.entrySet()) {
+            payload.add(field.getKey(), field.getValue());
         }
-        return null;
+    }
+
+    private SourceLocation getLoggerSourceLocation() {
+        StackWalker.StackFrame source = getLoggerSource();
+        if (source == null) {
+            return null;
+        }
+        return new SourceLocation(source.getClassName(), (long) source.getLineNumber(), source.getMethodName());
+    }
+
+    /**
+     * Returns the stack frame of the caller of the logger.
+     *
+     * <p>Only the frames up to the caller are walked, rather than capturing the whole stack trace.
+     */
+    private StackWalker.StackFrame getLoggerSource() {
+        return STACK_WALKER.walk(frames -> frames
+                .dropWhile(frame -> frame.getClassName().equals(Logger.class.getName()))
+                .findFirst()
+                .orElse(null));
     }
 
 }
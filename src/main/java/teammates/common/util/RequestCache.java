@@ -0,0 +1,66 @@
+package teammates.common.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Caches data which are repeatedly looked up within the same HTTP request.
+ *
+ * <p>The cache is only active in the thread between {@link #start()} and {@link #clear()};
+ * outside of that, nothing is cached and every lookup is done afresh.
+ */
+public final class RequestCache {
+
+    private static final ThreadLocal<Map<Object, Map<Object, Object>>> THREAD_LOCAL = new ThreadLocal<>();
+
+    private RequestCache() {
+        // utility class
+    }
+
+    /**
+     * Starts caching for the request handled by the current thread.
+     */
+    public static void start() {
+        THREAD_LOCAL.set(new HashMap<>());
+    }
+
+    /**
+     * Clears all data cached for the request handled by the current thread and stops caching.
+     */
+    public static void clear() {
+        THREAD_LOCAL.remove();
+    }
+
+    /**
+     * Gets the value cached under {@code key} in {@code namespace}, using {@code loader} to load it if it is not cached.
+     *
+     * <p>Null values are cached as well.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T get(Object namespace, Object key, Supplier<T> loader) {
+        Map<Object, Map<Object, Object>> cache = THREAD_LOCAL.get();
+        if (cache == null) {
+            return loader.get();
+        }
+
+        Map<Object, Object> namespaceCache = cache.computeIfAbsent(namespace, k -> new HashMap<>());
+        if (namespaceCache.containsKey(key)) {
+            return (T) namespaceCache.get(key);
+        }
+        T value = loader.get();
+        namespaceCache.put(key, value);
+        return value;
+    }
+
+    /**
+     * Removes all values cached in {@code namespace}.
+     */
+    public static void invalidate(Object namespace) {
+        Map<Object, Map<Object, Object>> cache = THREAD_LOCAL.get();
+        if (cache != null) {
+            cache.remove(namespace);
+        }
+    }
+
+}
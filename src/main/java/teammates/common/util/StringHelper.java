@@ -3,7 +3,9 @@ package teammates.common.util;
 import java.text.DecimalFormat;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -25,6 +27,9 @@ import teammates.common.exception.InvalidParametersException;
 public final class StringHelper {
     private static final Logger log = Logger.getLogger();
 
+    private static final Map<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
+    private static final Map<String, Pattern> CANON_EQ_PATTERNS = new ConcurrentHashMap<>();
+
     private StringHelper() {
         // utility class
     }
@@ -47,13 +52,25 @@ public final class StringHelper {
 
     /**
      * Checks whether the input string matches the regex.
+     *
+     * <p>The compiled pattern is cached, so {@code regex} should be one of a fixed set of regexes
+     * (e.g. a constant) rather than one built from user input.
      * @param input The string to be matched
      * @param regex The regex  used for the matching
      */
     public static boolean isMatching(String input, String regex) {
+        return getPattern(regex, input).matcher(input).matches();
+    }
+
+    private static Pattern getPattern(String regex, String input) {
+        // An ASCII string has no canonically equivalent forms other than itself,
+        // so the costly CANON_EQ matching is only needed for non-ASCII input
+        if (CharMatcher.ascii().matchesAllOf(input)) {
+            return PATTERNS.computeIfAbsent(regex, Pattern::compile);
+        }
         // Important to use the CANON_EQ flag to make sure that canonical characters
         // such as é is correctly matched regardless of single/double code point encoding
-        return Pattern.compile(regex, Pattern.CANON_EQ).matcher(input).matches();
+        return CANON_EQ_PATTERNS.computeIfAbsent(regex, r -> Pattern.compile(r, Pattern.CANON_EQ));
     }
 
     /**
@@ -1,5 +1,8 @@
 package teammates.common.util;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Contains utility methods for creating strings from given templates.
  */
@@ -28,6 +31,115 @@ public final class Templates {
         return populatedTemplate;
     }
 
+    /**
+     * Parses the template into a {@link CompiledTemplate}, which can then be populated repeatedly
+     * without going through the whole template once for every variable.
+     */
+    public static CompiledTemplate compile(String template) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        int literalStart = 0;
+        int variableStart = template.indexOf("${");
+        while (variableStart >= 0) {
+            int variableEnd = template.indexOf('}', variableStart);
+            if (variableEnd < 0) {
+                break;
+            }
+            literals.add(template.substring(literalStart, variableStart));
+            variables.add(template.substring(variableStart, variableEnd + 1));
+            literalStart = variableEnd + 1;
+            variableStart = template.indexOf("${", literalStart);
+        }
+        literals.add(template.substring(literalStart));
+        return new CompiledTemplate(literals, variables);
+    }
+
+    /**
+     * A template parsed into alternating literal text and variables, e.g. {@code ${userName}}.
+     *
+     * <p>Unlike {@link #populateTemplate(String, String...)}, the template is populated in a single pass,
+     * and the values are not searched for variables; a value containing a variable is therefore inserted as it is.
+     * Variables without a value given are left as they are.
+     */
+    public static final class CompiledTemplate {
+
+        /** The literal text around the variables; there is always one more literal than there are variables. */
+        private final List<String> literals;
+        private final List<String> variables;
+
+        private CompiledTemplate(List<String> literals, List<String> variables) {
+            this.literals = literals;
+            this.variables = variables;
+        }
+
+        /**
+         * Populates the variables with the given values, leaving the other variables to be populated later.
+         *
+         * <p>This is useful for values shared by many populated templates, e.g. the details of a session
+         * shared by the emails to all students of the session.
+         *
+         * @param keyValuePairs even number of key-value pairs: { "key1", "val1", "key2", "val2", ... }
+         */
+        public CompiledTemplate populatePartially(String... keyValuePairs) {
+            assert keyValuePairs.length % 2 == 0 : "The number of elements in keyValuePairs passed in must be even";
+            List<String> newLiterals = new ArrayList<>();
+            List<String> newVariables = new ArrayList<>();
+            StringBuilder literal = new StringBuilder(literals.get(0));
+            for (int i = 0; i < variables.size(); i++) {
+                String value = getValue(variables.get(i), keyValuePairs);
+                if (value == null) {
+                    newLiterals.add(literal.toString());
+                    newVariables.add(variables.get(i));
+                    literal.setLength(0);
+                } else {
+                    literal.append(value);
+                }
+                literal.append(literals.get(i + 1));
+            }
+            newLiterals.add(literal.toString());
+            return new CompiledTemplate(newLiterals, newVariables);
+        }
+
+        /**
+         * Populates the template with the given values.
+         *
+         * @param keyValuePairs even number of key-value pairs: { "key1", "val1", "key2", "val2", ... }
+         * @return the populated template
+         */
+        public String populate(String... keyValuePairs) {
+            StringBuilder builder = new StringBuilder();
+            populateInto(builder, keyValuePairs);
+            return builder.toString();
+        }
+
+        /**
+         * Populates the template with the given values, appending the populated template to {@code builder}.
+         *
+         * <p>This allows the same builder to be reused for many populated templates.
+         *
+         * @param keyValuePairs even number of key-value pairs: { "key1", "val1", "key2", "val2", ... }
+         */
+        public void populateInto(StringBuilder builder, String... keyValuePairs) {
+            assert keyValuePairs.length % 2 == 0 : "The number of elements in keyValuePairs passed in must be even";
+            builder.append(literals.get(0));
+            for (int i = 0; i < variables.size(); i++) {
+                String value = getValue(variables.get(i), keyValuePairs);
+                builder.append(value == null ? variables.get(i) : value);
+                builder.append(literals.get(i + 1));
+            }
+        }
+
+        private static String getValue(String variable, String... keyValuePairs) {
+            // a linear search suffices as templates have few variables
+            for (int i = 0; i < keyValuePairs.length; i += 2) {
+                if (keyValuePairs[i].equals(variable)) {
+                    return keyValuePairs[i + 1];
+                }
+            }
+            return null;
+        }
+    }
+
     /**
      * Collection of templates of emails to be sent by the system.
      */
@@ -0,0 +1,68 @@
+package teammates.common.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits the rate of operations with a token bucket.
+ *
+ * <p>The bucket holds up to {@code capacity} tokens and is refilled at {@code tokensPerSecond}.
+ * Each operation takes as many tokens as its cost; an operation taking more tokens than available
+ * is allowed to go ahead after waiting for the missing tokens to be refilled.
+ * A burst of up to {@code capacity} tokens is therefore allowed after the bucket has been idle,
+ * while the rate over a longer period does not exceed {@code tokensPerSecond}.
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double nanosPerToken;
+    private final LongSupplier nanoClock;
+
+    private double availableTokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(double capacity, double tokensPerSecond) {
+        this(capacity, tokensPerSecond, System::nanoTime);
+    }
+
+    TokenBucket(double capacity, double tokensPerSecond, LongSupplier nanoClock) {
+        assert capacity > 0;
+        assert tokensPerSecond > 0;
+
+        this.capacity = capacity;
+        this.nanosPerToken = TimeUnit.SECONDS.toNanos(1) / tokensPerSecond;
+        this.nanoClock = nanoClock;
+        this.availableTokens = capacity;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Takes {@code tokens} from the bucket, waiting for them to be refilled if necessary.
+     */
+    public void acquire(int tokens) throws InterruptedException {
+        long waitNanos = reserve(tokens);
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Takes {@code tokens} from the bucket, which may leave the bucket owing tokens.
+     *
+     * @return the time in nanoseconds to wait until the tokens taken are refilled, or 0 if no waiting is needed
+     */
+    synchronized long reserve(int tokens) {
+        assert tokens >= 0;
+
+        long nowNanos = nanoClock.getAsLong();
+        availableTokens = Math.min(capacity, availableTokens + (nowNanos - lastRefillNanos) / nanosPerToken);
+        lastRefillNanos = nowNanos;
+
+        availableTokens -= tokens;
+        if (availableTokens >= 0) {
+            return 0;
+        }
+        return (long) Math.ceil(-availableTokens * nanosPerToken);
+    }
+
+}
@@ -20,6 +20,7 @@ import teammates.common.util.EmailWrapper;
 import teammates.common.util.RequestTracer;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.Templates;
+import teammates.common.util.Templates.CompiledTemplate;
 import teammates.common.util.Templates.EmailTemplates;
 import teammates.common.util.TimeHelper;
 import teammates.logic.core.CoursesLogic;
@@ -52,6 +53,17 @@ public final class EmailGenerator {
 
     private static final long SESSION_LINK_RECOVERY_DURATION_IN_DAYS = 90;
 
+    private static final String USER_SPECIFIC_LINK_PLACEHOLDER =
+            "{in the actual email sent to the students, this will be the unique link}";
+
+    // the templates of emails sent to all users of a session are compiled once, as they are populated for each user
+    private static final CompiledTemplate USER_FEEDBACK_SESSION_TEMPLATE =
+            Templates.compile(EmailTemplates.USER_FEEDBACK_SESSION);
+    private static final CompiledTemplate USER_FEEDBACK_SESSION_PUBLISHED_TEMPLATE =
+            Templates.compile(EmailTemplates.USER_FEEDBACK_SESSION_PUBLISHED);
+    private static final CompiledTemplate USER_FEEDBACK_SESSION_UNPUBLISHED_TEMPLATE =
+            Templates.compile(EmailTemplates.USER_FEEDBACK_SESSION_UNPUBLISHED);
+
     private static final EmailGenerator instance = new EmailGenerator();
 
     private final CoursesLogic coursesLogic = CoursesLogic.inst();
@@ -93,7 +105,7 @@ public final class EmailGenerator {
                 ? FEEDBACK_STATUS_SESSION_OPENING
                 : FEEDBACK_STATUS_SESSION_CLOSING;
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", status);
+        CompiledTemplate template = USER_FEEDBACK_SESSION_TEMPLATE.populatePartially("${status}", status);
         return generateFeedbackSessionEmailBases(course, session, students, instructors, instructorsToNotify, template,
                 emailType, FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW);
     }
@@ -203,7 +215,8 @@ public final class EmailGenerator {
             List<InstructorAttributes> instructorsToRemind, InstructorAttributes instructorToNotify) {
 
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
-        String template = EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", FEEDBACK_STATUS_SESSION_OPEN);
+        CompiledTemplate template =
+                USER_FEEDBACK_SESSION_TEMPLATE.populatePartially("${status}", FEEDBACK_STATUS_SESSION_OPEN);
         List<InstructorAttributes> instructorToNotifyAsList = new ArrayList<>();
         if (instructorToNotify != null) {
             instructorToNotifyAsList.add(instructorToNotify);
@@ -513,13 +526,13 @@ public final class EmailGenerator {
             FeedbackSessionAttributes session, List<StudentAttributes> students,
             List<InstructorAttributes> instructors, List<InstructorAttributes> instructorsToNotify, EmailType emailType) {
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
-        String template;
+        CompiledTemplate template;
         String action;
         if (emailType == EmailType.FEEDBACK_PUBLISHED) {
-            template = EmailTemplates.USER_FEEDBACK_SESSION_PUBLISHED;
+            template = USER_FEEDBACK_SESSION_PUBLISHED_TEMPLATE;
             action = FEEDBACK_ACTION_VIEW;
         } else {
-            template = EmailTemplates.USER_FEEDBACK_SESSION_UNPUBLISHED;
+            template = USER_FEEDBACK_SESSION_UNPUBLISHED_TEMPLATE;
             action = FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW;
         }
 
@@ -529,8 +542,8 @@ public final class EmailGenerator {
 
     private List<EmailWrapper> generateFeedbackSessionEmailBases(
             CourseAttributes course, FeedbackSessionAttributes session, List<StudentAttributes> students,
-            List<InstructorAttributes> instructors, List<InstructorAttributes> instructorsToNotify, String template,
-            EmailType type, String feedbackAction) {
+            List<InstructorAttributes> instructors, List<InstructorAttributes> instructorsToNotify,
+            CompiledTemplate template, EmailType type, String feedbackAction) {
         StringBuilder studentAdditionalContactBuilder = new StringBuilder();
         StringBuilder instructorAdditionalContactBuilder = new StringBuilder();
         if (type == EmailType.FEEDBACK_CLOSING || type == EmailType.FEEDBACK_SESSION_REMINDER) {
@@ -540,25 +553,49 @@ public final class EmailGenerator {
         studentAdditionalContactBuilder.append(getAdditionalContactInformationFragment(course, false));
         instructorAdditionalContactBuilder.append(getAdditionalContactInformationFragment(course, true));
 
+        // populate the values shared by all the emails once, leaving only the user-specific values for each email
+        Instant endTime = TimeHelper.getMidnightAdjustedInstantBasedOnZone(
+                session.getEndTime(), session.getTimeZone(), false);
+        CompiledTemplate sessionTemplate = template.populatePartially(
+                "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
+                "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
+                "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()),
+                "${deadline}", SanitizationHelper.sanitizeForHtml(
+                        TimeHelper.formatInstant(endTime, session.getTimeZone(), DATETIME_DISPLAY_FORMAT)),
+                "${sessionInstructions}", session.getInstructionsString(),
+                "${feedbackAction}", feedbackAction);
+        CompiledTemplate studentTemplate = sessionTemplate.populatePartially(
+                "${instructorPreamble}", "",
+                "${additionalContactInformation}", studentAdditionalContactBuilder.toString());
+        CompiledTemplate instructorTemplate = sessionTemplate.populatePartially(
+                "${instructorPreamble}", "",
+                "${additionalContactInformation}", instructorAdditionalContactBuilder.toString());
+        CompiledTemplate notifiedInstructorTemplate = sessionTemplate.populatePartially(
+                "${instructorPreamble}", fillUpInstructorPreamble(course),
+                "${submitUrl}", USER_SPECIFIC_LINK_PLACEHOLDER,
+                "${reportUrl}", USER_SPECIFIC_LINK_PLACEHOLDER,
+                "${additionalContactInformation}", studentAdditionalContactBuilder.toString());
+
+        StringBuilder emailBodyBuilder = new StringBuilder();
         List<EmailWrapper> emails = new ArrayList<>();
         for (StudentAttributes student : students) {
             emails.add(generateFeedbackSessionEmailBaseForStudents(course, session, student,
-                    template, type, feedbackAction, studentAdditionalContactBuilder.toString()));
+                    studentTemplate, emailBodyBuilder, type));
         }
         for (InstructorAttributes instructor : instructors) {
             emails.add(generateFeedbackSessionEmailBaseForInstructors(course, session, instructor,
-                    template, type, feedbackAction, instructorAdditionalContactBuilder.toString()));
+                    instructorTemplate, emailBodyBuilder, type));
         }
         for (InstructorAttributes instructor : instructorsToNotify) {
             emails.add(generateFeedbackSessionEmailBaseForNotifiedInstructors(course, session, instructor,
-                    template, type, feedbackAction, studentAdditionalContactBuilder.toString()));
+                    notifiedInstructorTemplate, emailBodyBuilder, type));
         }
         return emails;
     }
 
     private EmailWrapper generateFeedbackSessionEmailBaseForStudents(
-            CourseAttributes course, FeedbackSessionAttributes session, StudentAttributes student, String template,
-            EmailType type, String feedbackAction, String additionalContactInformation) {
+            CourseAttributes course, FeedbackSessionAttributes session, StudentAttributes student,
+            CompiledTemplate template, StringBuilder emailBodyBuilder, EmailType type) {
         String submitUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_SUBMISSION_PAGE)
                 .withCourseId(course.getId())
                 .withSessionName(session.getFeedbackSessionName())
@@ -571,32 +608,22 @@ public final class EmailGenerator {
                 .withRegistrationKey(student.getKey())
                 .toAbsoluteString();
 
-        Instant endTime = TimeHelper.getMidnightAdjustedInstantBasedOnZone(
-                session.getEndTime(), session.getTimeZone(), false);
-        String emailBody = Templates.populateTemplate(template,
+        emailBodyBuilder.setLength(0);
+        template.populateInto(emailBodyBuilder,
                 "${userName}", SanitizationHelper.sanitizeForHtml(student.getName()),
-                "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
-                "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
-                "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()),
-                "${deadline}", SanitizationHelper.sanitizeForHtml(
-                        TimeHelper.formatInstant(endTime, session.getTimeZone(), DATETIME_DISPLAY_FORMAT)),
-                "${instructorPreamble}", "",
-                "${sessionInstructions}", session.getInstructionsString(),
                 "${submitUrl}", submitUrl,
-                "${reportUrl}", reportUrl,
-                "${feedbackAction}", feedbackAction,
-                "${additionalContactInformation}", additionalContactInformation);
+                "${reportUrl}", reportUrl);
 
         EmailWrapper email = getEmptyEmailAddressedToEmail(student.getEmail());
         email.setType(type);
         email.setSubjectFromType(course.getName(), session.getFeedbackSessionName());
-        email.setContent(emailBody);
+        email.setContent(emailBodyBuilder.toString());
         return email;
     }
 
     private EmailWrapper generateFeedbackSessionEmailBaseForInstructors(
             CourseAttributes course, FeedbackSessionAttributes session, InstructorAttributes instructor,
-            String template, EmailType type, String feedbackAction, String additionalContactInformation) {
+            CompiledTemplate template, StringBuilder emailBodyBuilder, EmailType type) {
         String submitUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_SUBMISSION_PAGE)
                 .withCourseId(course.getId())
                 .withSessionName(session.getFeedbackSessionName())
@@ -611,53 +638,31 @@ public final class EmailGenerator {
                 .withEntityType(Const.EntityType.INSTRUCTOR)
                 .toAbsoluteString();
 
-        Instant endTime = TimeHelper.getMidnightAdjustedInstantBasedOnZone(
-                session.getEndTime(), session.getTimeZone(), false);
-        String emailBody = Templates.populateTemplate(template,
+        emailBodyBuilder.setLength(0);
+        template.populateInto(emailBodyBuilder,
                 "${userName}", SanitizationHelper.sanitizeForHtml(instructor.getName()),
-                "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
-                "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
-                "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()),
-                "${deadline}", SanitizationHelper.sanitizeForHtml(
-                        TimeHelper.formatInstant(endTime, session.getTimeZone(), DATETIME_DISPLAY_FORMAT)),
-                "${instructorPreamble}", "",
-                "${sessionInstructions}", session.getInstructionsString(),
                 "${submitUrl}", submitUrl,
-                "${reportUrl}", reportUrl,
-                "${feedbackAction}", feedbackAction,
-                "${additionalContactInformation}", additionalContactInformation);
+                "${reportUrl}", reportUrl);
 
         EmailWrapper email = getEmptyEmailAddressedToEmail(instructor.getEmail());
         email.setType(type);
         email.setSubjectFromType(course.getName(), session.getFeedbackSessionName());
-        email.setContent(emailBody);
+        email.setContent(emailBodyBuilder.toString());
         return email;
     }
 
     private EmailWrapper generateFeedbackSessionEmailBaseForNotifiedInstructors(
             CourseAttributes course, FeedbackSessionAttributes session, InstructorAttributes instructor,
-            String template, EmailType type, String feedbackAction, String additionalContactInformation) {
-        Instant endTime = TimeHelper.getMidnightAdjustedInstantBasedOnZone(
-                session.getEndTime(), session.getTimeZone(), false);
-        String emailBody = Templates.populateTemplate(template,
-                "${userName}", SanitizationHelper.sanitizeForHtml(instructor.getName()),
-                "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
-                "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
-                "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()),
-                "${deadline}", SanitizationHelper.sanitizeForHtml(
-                        TimeHelper.formatInstant(endTime, session.getTimeZone(), DATETIME_DISPLAY_FORMAT)),
-                "${instructorPreamble}", fillUpInstructorPreamble(course),
-                "${sessionInstructions}", session.getInstructionsString(),
-                "${submitUrl}", "{in the actual email sent to the students, this will be the unique link}",
-                "${reportUrl}", "{in the actual email sent to the students, this will be the unique link}",
-                "${feedbackAction}", feedbackAction,
-                "${additionalContactInformation}", additionalContactInformation);
+            CompiledTemplate template, StringBuilder emailBodyBuilder, EmailType type) {
+        emailBodyBuilder.setLength(0);
+        template.populateInto(emailBodyBuilder,
+                "${userName}", SanitizationHelper.sanitizeForHtml(instructor.getName()));
 
         EmailWrapper email = getEmptyEmailAddressedToEmail(instructor.getEmail());
         email.setType(type);
         email.setIsCopy(true);
         email.setSubjectFromType(course.getName(), session.getFeedbackSessionName());
-        email.setContent(emailBody);
+        email.setContent(emailBodyBuilder.toString());
         return email;
     }
 
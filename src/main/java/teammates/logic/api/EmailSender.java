@@ -1,5 +1,8 @@
 package teammates.logic.api;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apache.http.HttpStatus;
 
 import teammates.common.datatransfer.logs.EmailSentLogDetails;
@@ -9,6 +12,7 @@ import teammates.common.util.Const;
 import teammates.common.util.EmailSendingStatus;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
+import teammates.common.util.TokenBucket;
 import teammates.logic.external.EmailSenderService;
 import teammates.logic.external.EmptyEmailService;
 import teammates.logic.external.MailgunService;
@@ -24,20 +28,30 @@ public class EmailSender {
 
     private static final EmailSender instance = new EmailSender();
     private final EmailSenderService service;
+    private final TokenBucket rateLimiter;
 
     EmailSender() {
+        this(createService());
+    }
+
+    EmailSender(EmailSenderService service) {
+        this.service = service;
+        // allows a burst of up to one second's worth of emails
+        this.rateLimiter = new TokenBucket(service.getMaxEmailsPerSecond(), service.getMaxEmailsPerSecond());
+    }
+
+    private static EmailSenderService createService() {
         if (Config.isDevServer()) {
-            service = new EmptyEmailService();
+            return new EmptyEmailService();
+        }
+        if (Config.isUsingSendgrid()) {
+            return new SendgridService();
+        } else if (Config.isUsingMailgun()) {
+            return new MailgunService();
+        } else if (Config.isUsingMailjet()) {
+            return new MailjetService();
         } else {
-            if (Config.isUsingSendgrid()) {
-                service = new SendgridService();
-            } else if (Config.isUsingMailgun()) {
-                service = new MailgunService();
-            } else if (Config.isUsingMailjet()) {
-                service = new MailjetService();
-            } else {
-                service = new EmptyEmailService();
-            }
+            return new EmptyEmailService();
         }
     }
 
@@ -71,6 +85,53 @@ public class EmailSender {
             }
         }
 
+        logEmailSent(message, status);
+        return status;
+    }
+
+    /**
+     * Sends the given {@code messages} and generates a log report for each of them.
+     *
+     * <p>The messages are sent in batches of the maximum size supported by the email service,
+     * and the rate of sending is limited to the maximum rate configured for the email service.
+     *
+     * @return the messages which failed to be sent
+     */
+    public List<EmailWrapper> sendEmails(List<EmailWrapper> messages) {
+        List<EmailWrapper> messagesToSend = new ArrayList<>();
+        for (EmailWrapper message : messages) {
+            if (!isTestingAccount(message.getRecipient())) {
+                messagesToSend.add(message);
+            }
+        }
+
+        List<EmailWrapper> failedMessages = new ArrayList<>();
+        int batchSize = service.getMaxBatchSize();
+        for (int i = 0; i < messagesToSend.size(); i += batchSize) {
+            List<EmailWrapper> batch = messagesToSend.subList(i, Math.min(i + batchSize, messagesToSend.size()));
+            try {
+                rateLimiter.acquire(batch.size());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.severe("Interrupted while waiting to send emails", e);
+                failedMessages.addAll(messagesToSend.subList(i, messagesToSend.size()));
+                break;
+            }
+
+            List<EmailSendingStatus> statuses = service.sendEmails(batch);
+            for (int j = 0; j < batch.size(); j++) {
+                EmailSendingStatus status = statuses.get(j);
+                if (!status.isSuccess()) {
+                    log.severe("Email failed to send: " + status.getMessage());
+                    failedMessages.add(batch.get(j));
+                }
+                logEmailSent(batch.get(j), status);
+            }
+        }
+        return failedMessages;
+    }
+
+    private void logEmailSent(EmailWrapper message, EmailSendingStatus status) {
         EmailSentLogDetails details = new EmailSentLogDetails();
         details.setEmailRecipient(message.getRecipient());
         details.setEmailSubject(message.getSubject());
@@ -82,8 +143,6 @@ public class EmailSender {
             details.setEmailStatusMessage(status.getMessage());
         }
         log.event("Email sent: " + message.getType(), details);
-
-        return status;
     }
 
     private boolean isTestingAccount(String email) {
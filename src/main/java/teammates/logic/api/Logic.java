@@ -1,6 +1,7 @@
 package teammates.logic.api;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -8,10 +9,13 @@ import java.util.Set;
 import javax.annotation.Nullable;
 
 import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.ResultsPage;
 import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.datatransfer.StudentEnrollmentResults;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.AccountRequestAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.DeletionJobAttributes;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
@@ -29,6 +33,7 @@ import teammates.logic.core.AccountRequestsLogic;
 import teammates.logic.core.AccountsLogic;
 import teammates.logic.core.CoursesLogic;
 import teammates.logic.core.DataBundleLogic;
+import teammates.logic.core.DeletionJobsLogic;
 import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponseCommentsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
@@ -57,6 +62,7 @@ public class Logic {
     final FeedbackResponseCommentsLogic feedbackResponseCommentsLogic = FeedbackResponseCommentsLogic.inst();
     final ProfilesLogic profilesLogic = ProfilesLogic.inst();
     final DataBundleLogic dataBundleLogic = DataBundleLogic.inst();
+    final DeletionJobsLogic deletionJobsLogic = DeletionJobsLogic.inst();
 
     Logic() {
         // prevent initialization
@@ -445,6 +451,23 @@ public class Logic {
         coursesLogic.deleteCourseCascade(courseId);
     }
 
+    /**
+     * Deletes a course, its students, instructors and sessions, and starts a job deleting
+     * the questions, responses and comments of the course in the background.
+     *
+     * <p>Fails silently if no such course.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @return the job started, or the existing job if the course is already deleted (null if there is none)
+     * @see #runDeletionJob(String, String, int)
+     */
+    public DeletionJobAttributes startCourseDeletion(String courseId) throws InvalidParametersException {
+        assert courseId != null;
+        return coursesLogic.startCourseDeletion(courseId);
+    }
+
     /**
      * Moves a course to Recycle Bin by its given corresponding ID.
      *
@@ -522,6 +545,21 @@ public class Logic {
         return studentsLogic.getStudentForEmail(courseId, email);
     }
 
+    /**
+     * Gets the students of a course with any of the given emails in a single batch lookup.
+     *
+     * <p>Emails which do not belong to any student of the course are ignored.
+     *
+     * <br>Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public List<StudentAttributes> getStudentsForEmails(String courseId, Collection<String> emails) {
+        assert courseId != null;
+        assert emails != null;
+
+        return studentsLogic.getStudentsForEmails(courseId, emails);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -702,6 +740,25 @@ public class Logic {
         return studentsLogic.updateStudentCascade(updateOptions);
     }
 
+    /**
+     * Enrolls students into a course, creating the students who are not in the course
+     * and updating the students who are already in the course with batched writes.
+     *
+     * <p>Responses are updated for students whose team or section changes, as in {@link #updateStudentCascade}.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @return the students enrolled, and the students who failed to be enrolled
+     * @see StudentsLogic#enrollStudents(String, List)
+     */
+    public StudentEnrollmentResults enrollStudents(String courseId, List<StudentAttributes> studentsToEnroll) {
+        assert courseId != null;
+        assert studentsToEnroll != null;
+
+        return studentsLogic.enrollStudents(courseId, studentsToEnroll);
+    }
+
     /**
      * Make the student join the course, i.e. associate the Google ID to the student.<br>
      * Create an account for the student if there is no account exist for him.
@@ -809,6 +866,20 @@ public class Logic {
         studentsLogic.putDocument(student);
     }
 
+    /**
+     * Creates or updates search documents for the given students.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see StudentsLogic#putDocuments(List)
+     */
+    public void putStudentDocuments(List<StudentAttributes> students) throws SearchServiceException {
+        assert students != null;
+
+        studentsLogic.putDocuments(students);
+    }
+
     /**
      * Creates a feedback session.
      *
@@ -866,6 +937,19 @@ public class Logic {
         return feedbackSessionsLogic.getFeedbackSessionsForCourse(courseId);
     }
 
+    /**
+     * Gets the feedback sessions of the courses, except those that are soft-deleted.
+     *
+     * <p>The sessions of each course are queried concurrently.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public List<FeedbackSessionAttributes> getFeedbackSessionsForCourses(List<String> courseIds) {
+        assert courseIds != null;
+        return feedbackSessionsLogic.getFeedbackSessionsForCourses(courseIds);
+    }
+
     /**
      * Gets the expected number of submissions for a feedback session.
      *
@@ -1028,6 +1112,67 @@ public class Logic {
         feedbackSessionsLogic.deleteFeedbackSessionCascade(feedbackSessionName, courseId);
     }
 
+    /**
+     * Deletes a feedback session, and starts a job deleting its questions, responses and comments in the background.
+     *
+     * <p>Fails silently if no such session.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @return the job started, or the existing job if the session is already deleted (null if there is none)
+     * @see #runDeletionJob(String, String, int)
+     */
+    public DeletionJobAttributes startFeedbackSessionDeletion(String feedbackSessionName, String courseId)
+            throws InvalidParametersException {
+        assert feedbackSessionName != null;
+        assert courseId != null;
+
+        return feedbackSessionsLogic.startFeedbackSessionDeletion(feedbackSessionName, courseId);
+    }
+
+    /**
+     * Gets the job deleting a course, or a feedback session if {@code feedbackSessionName} is given.
+     *
+     * <br/>Preconditions: <br/>
+     * * {@code courseId} is non-null.
+     *
+     * @return null if no such job exists, e.g. the job is already completed
+     */
+    public DeletionJobAttributes getDeletionJob(String courseId, @Nullable String feedbackSessionName) {
+        assert courseId != null;
+
+        return deletionJobsLogic.getDeletionJob(courseId, feedbackSessionName);
+    }
+
+    /**
+     * Gets the jobs deleting courses and feedback sessions which have not made progress since {@code time}.
+     *
+     * <br/>Preconditions: <br/>
+     * * {@code time} is non-null.
+     */
+    public List<DeletionJobAttributes> getDeletionJobsNotUpdatedSince(Instant time) {
+        assert time != null;
+
+        return deletionJobsLogic.getDeletionJobsNotUpdatedSince(time);
+    }
+
+    /**
+     * Runs up to {@code maxNumberOfBatches} batches of the job deleting a course,
+     * or a feedback session if {@code feedbackSessionName} is given.
+     *
+     * <br/>Preconditions: <br/>
+     * * {@code courseId} is non-null.
+     *
+     * @return the job with its progress, or null if the job is completed or does not exist
+     */
+    public DeletionJobAttributes runDeletionJob(
+            String courseId, @Nullable String feedbackSessionName, int maxNumberOfBatches) {
+        assert courseId != null;
+
+        return deletionJobsLogic.runDeletionJob(courseId, feedbackSessionName, maxNumberOfBatches);
+    }
+
     /**
      * Soft-deletes a specific session to Recycle Bin.
      */
@@ -1152,6 +1297,23 @@ public class Logic {
                 feedbackSessionName, courseId, userEmail, questionId, section);
     }
 
+    /**
+     * Gets a page of the session result for a feedback session.
+     *
+     * @see FeedbackResponsesLogic#getSessionResultsPageForCourse(String, String, String, String, String, String, int)
+     */
+    public ResultsPage<SessionResultsBundle> getSessionResultsPageForCourse(
+            String feedbackSessionName, String courseId, String userEmail,
+            @Nullable String questionId, @Nullable String section, @Nullable String pageToken, int pageSize)
+            throws InvalidParametersException {
+        assert feedbackSessionName != null;
+        assert courseId != null;
+        assert userEmail != null;
+
+        return feedbackResponsesLogic.getSessionResultsPageForCourse(
+                feedbackSessionName, courseId, userEmail, questionId, section, pageToken, pageSize);
+    }
+
     /**
      * Gets the session result for a feedback session for the given user.
      *
@@ -1179,6 +1341,21 @@ public class Logic {
         return feedbackResponsesLogic.getFeedbackResponsesFromStudentOrTeamForQuestion(question, student);
     }
 
+    /**
+     * Gets a page of existing feedback responses from student or the team of the student for the given question.
+     *
+     * @see FeedbackResponsesLogic#getFeedbackResponsesFromStudentOrTeamForQuestionPage
+     */
+    public ResultsPage<List<FeedbackResponseAttributes>> getFeedbackResponsesFromStudentOrTeamForQuestionPage(
+            FeedbackQuestionAttributes question, StudentAttributes student, @Nullable String pageToken, int pageSize)
+            throws InvalidParametersException {
+        assert question != null;
+        assert student != null;
+
+        return feedbackResponsesLogic.getFeedbackResponsesFromStudentOrTeamForQuestionPage(
+                question, student, pageToken, pageSize);
+    }
+
     /**
      * Get existing feedback responses from instructor for the given question.
      */
@@ -1191,6 +1368,21 @@ public class Logic {
                 question.getFeedbackQuestionId(), instructorAttributes.getEmail());
     }
 
+    /**
+     * Gets a page of existing feedback responses from instructor for the given question.
+     *
+     * @see FeedbackResponsesLogic#getFeedbackResponsesFromGiverForQuestionPage(String, String, String, int)
+     */
+    public ResultsPage<List<FeedbackResponseAttributes>> getFeedbackResponsesFromInstructorForQuestionPage(
+            FeedbackQuestionAttributes question, InstructorAttributes instructorAttributes,
+            @Nullable String pageToken, int pageSize) throws InvalidParametersException {
+        assert question != null;
+        assert instructorAttributes != null;
+
+        return feedbackResponsesLogic.getFeedbackResponsesFromGiverForQuestionPage(
+                question.getFeedbackQuestionId(), instructorAttributes.getEmail(), pageToken, pageSize);
+    }
+
     public FeedbackResponseAttributes getFeedbackResponse(String feedbackResponseId) {
         assert feedbackResponseId != null;
         return feedbackResponsesLogic.getFeedbackResponse(feedbackResponseId);
@@ -1,20 +1,27 @@
 package teammates.logic.api;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import javax.annotation.Nullable;
+
 import teammates.common.util.Config;
+import teammates.common.util.Const;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.Const.TaskQueue;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
 import teammates.common.util.TaskWrapper;
 import teammates.logic.external.GoogleCloudTasksService;
 import teammates.logic.external.LocalTaskQueueService;
 import teammates.logic.external.TaskQueueService;
 import teammates.ui.request.FeedbackSessionRemindRequest;
-import teammates.ui.request.SendEmailRequest;
+import teammates.ui.request.SendEmailsRequest;
+import teammates.ui.request.StudentsSearchIndexingRequest;
 
 /**
  * Allows for adding specific type of tasks to the task queue.
@@ -23,6 +30,18 @@ public class TaskQueuer {
 
     private static final Logger log = Logger.getLogger();
 
+    /**
+     * Maximum number of students indexed by a single search indexing task.
+     */
+    static final int STUDENTS_SEARCH_INDEXING_BATCH_SIZE = 100;
+
+    /**
+     * Maximum size in bytes of the serialized request body of a single email sending task.
+     *
+     * <p>This keeps the task within the 100KB size limit of Cloud Tasks, leaving room for the rest of the task.
+     */
+    static final int SEND_EMAIL_TASK_MAX_BODY_SIZE = 90 * 1024;
+
     private static final TaskQueuer instance = new TaskQueuer();
     private final TaskQueueService service;
 
@@ -179,6 +198,10 @@ public class TaskQueuer {
     /**
      * Schedules for the given list of emails to be sent.
      *
+     * <p>The emails are sent in batches, with one task added for each batch.
+     * Each batch holds as many emails as fit in {@value #SEND_EMAIL_TASK_MAX_BODY_SIZE} bytes once serialized,
+     * and an email which does not fit on its own is sent in a batch by itself.
+     *
      * @param emails the list of emails to be sent
      */
     public void scheduleEmailsForSending(List<EmailWrapper> emails) {
@@ -191,12 +214,25 @@ public class TaskQueuer {
         int oneHourInMillis = 60 * 60 * 1000;
         int emailIntervalMillis = Math.min(5000, oneHourInMillis / emails.size());
 
-        int numberOfEmailsSent = 0;
-        for (EmailWrapper email : emails) {
-            long emailDelayTimer = (long) numberOfEmailsSent * (long) emailIntervalMillis;
-            scheduleEmailForSending(email, emailDelayTimer);
-            numberOfEmailsSent++;
+        int emptyBodySize = getSerializedSize(new SendEmailsRequest(new ArrayList<>()));
+        int batchStart = 0;
+        int batchBodySize = emptyBodySize;
+        for (int i = 0; i < emails.size(); i++) {
+            int emailSize = getSerializedSize(emails.get(i));
+            // each email after the first one in a batch is preceded by a separator
+            if (i > batchStart && batchBodySize + 1 + emailSize > SEND_EMAIL_TASK_MAX_BODY_SIZE) {
+                scheduleEmailsForSending(emails.subList(batchStart, i), (long) batchStart * (long) emailIntervalMillis);
+                batchStart = i;
+                batchBodySize = emptyBodySize;
+            }
+            batchBodySize += i == batchStart ? emailSize : 1 + emailSize;
         }
+        scheduleEmailsForSending(emails.subList(batchStart, emails.size()),
+                (long) batchStart * (long) emailIntervalMillis);
+    }
+
+    private static int getSerializedSize(Object requestBody) {
+        return JsonUtils.toCompactJson(requestBody).getBytes(Const.ENCODING).length;
     }
 
     /**
@@ -244,25 +280,61 @@ public class TaskQueuer {
                 paramMap, null);
     }
 
-    private void scheduleEmailForSending(EmailWrapper email, long emailDelayTimer) {
+    /**
+     * Schedules for the search indexing of the students of course {@code courseId} identified by {@code emails}.
+     *
+     * <p>The students are indexed in batches of at most {@value #STUDENTS_SEARCH_INDEXING_BATCH_SIZE},
+     * with one task added for each batch.
+     *
+     * @param courseId the course ID of the students
+     * @param emails the emails of the students
+     */
+    public void scheduleStudentsForSearchIndexing(String courseId, List<String> emails) {
+        Instant scheduledTime = Instant.now();
+        for (int i = 0; i < emails.size(); i += STUDENTS_SEARCH_INDEXING_BATCH_SIZE) {
+            List<String> batch = emails.subList(i, Math.min(i + STUDENTS_SEARCH_INDEXING_BATCH_SIZE, emails.size()));
+            StudentsSearchIndexingRequest indexingRequest =
+                    new StudentsSearchIndexingRequest(courseId, batch.toArray(new String[0]), scheduledTime);
+
+            addTask(TaskQueue.SEARCH_INDEXING_QUEUE_NAME, TaskQueue.STUDENTS_SEARCH_INDEXING_WORKER_URL,
+                    new HashMap<>(), indexingRequest);
+        }
+    }
+
+    /**
+     * Schedules for the next batches of the job deleting the course {@code courseId},
+     * or its session {@code feedbackSessionName} if given, to be run.
+     *
+     * @param courseId the ID of the course being deleted
+     * @param feedbackSessionName the name of the session being deleted, or null if the whole course is being deleted
+     */
+    public void scheduleDeletion(String courseId, @Nullable String feedbackSessionName) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+        if (feedbackSessionName != null) {
+            paramMap.put(ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
+        }
+
+        addTask(TaskQueue.DELETION_QUEUE_NAME, TaskQueue.DELETION_WORKER_URL, paramMap, null);
+    }
+
+    private void scheduleEmailsForSending(List<EmailWrapper> emails, long emailDelayTimer) {
         try {
-            SendEmailRequest request = new SendEmailRequest(email);
+            SendEmailsRequest request = new SendEmailsRequest(new ArrayList<>(emails));
 
-            addDeferredTask(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
+            addDeferredTask(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAILS_WORKER_URL,
                             new HashMap<>(), request, emailDelayTimer);
         } catch (Exception e) {
-            String emailSubject = email.getSubject();
-            String emailSenderName = email.getSenderName();
-            String emailSender = email.getSenderEmail();
-            String emailReceiver = email.getRecipient();
-            String emailReplyToAddress = email.getReplyTo();
-
-            log.severe("Error when adding email to task queue: " + e.getMessage() + "\n"
-                       + "Email sender: " + emailSender + "\n"
-                       + "Email sender name: " + emailSenderName + "\n"
-                       + "Email receiver: " + emailReceiver + "\n"
-                       + "Email subject: " + emailSubject + "\n"
-                       + "Email reply-to address: " + emailReplyToAddress);
+            StringBuilder emailsInfo = new StringBuilder();
+            for (EmailWrapper email : emails) {
+                emailsInfo.append("Email sender: ").append(email.getSenderEmail()).append('\n')
+                        .append("Email sender name: ").append(email.getSenderName()).append('\n')
+                        .append("Email receiver: ").append(email.getRecipient()).append('\n')
+                        .append("Email subject: ").append(email.getSubject()).append('\n')
+                        .append("Email reply-to address: ").append(email.getReplyTo()).append('\n');
+            }
+
+            log.severe("Error when adding emails to task queue: " + e.getMessage() + "\n" + emailsInfo);
         }
     }
 
@@ -52,7 +52,9 @@ public final class AccountsLogic {
      */
     AccountAttributes createAccount(AccountAttributes accountData)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return accountsDb.createEntity(accountData);
+        AccountAttributes createdAccount = accountsDb.createEntity(accountData);
+        UserRolesCache.inst().invalidate(createdAccount.getGoogleId());
+        return createdAccount;
     }
 
     /**
@@ -64,10 +66,14 @@ public final class AccountsLogic {
 
     /**
      * Returns true if the given account exists and is an instructor.
+     *
+     * <p>The result is cached across requests, see {@link UserRolesCache}.
      */
     public boolean isAccountAnInstructor(String googleId) {
-        AccountAttributes a = accountsDb.getAccount(googleId);
-        return a != null && a.isInstructor();
+        return UserRolesCache.inst().isInstructor(googleId, () -> {
+            AccountAttributes a = accountsDb.getAccount(googleId);
+            return a != null && a.isInstructor();
+        });
     }
 
     /**
@@ -91,6 +97,7 @@ public final class AccountsLogic {
         if (accountsDb.getAccount(googleId) == null) {
             createStudentAccount(student);
         }
+        UserRolesCache.inst().invalidate(googleId);
 
         return student;
     }
@@ -143,6 +150,7 @@ public final class AccountsLogic {
                             .withGoogleId(student.getGoogleId())
                             .build());
         }
+        UserRolesCache.inst().invalidate(googleId);
 
         return instructor;
     }
@@ -219,6 +227,7 @@ public final class AccountsLogic {
             assert false : "Invalid account data detected unexpectedly "
                     + "while removing instruction privileges from account " + googleId + ": " + e.getMessage();
         }
+        UserRolesCache.inst().invalidate(googleId);
     }
 
     /**
@@ -230,6 +239,7 @@ public final class AccountsLogic {
                         .withIsInstructor(true)
                         .build()
         );
+        UserRolesCache.inst().invalidate(googleId);
     }
 
     /**
@@ -259,6 +269,7 @@ public final class AccountsLogic {
         instructorsLogic.deleteInstructorsForGoogleIdCascade(googleId);
         studentsLogic.deleteStudentsForGoogleIdCascade(googleId);
         accountsDb.deleteAccount(googleId);
+        UserRolesCache.inst().invalidate(googleId);
     }
 
     /**
@@ -275,6 +286,7 @@ public final class AccountsLogic {
                 .build();
 
         accountsDb.createEntity(account);
+        UserRolesCache.inst().invalidate(account.getGoogleId());
     }
 
 }
@@ -11,6 +11,7 @@ import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.InstructorPrivileges;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.DeletionJobAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
@@ -43,6 +44,7 @@ public final class CoursesLogic {
     private final CoursesDb coursesDb = CoursesDb.inst();
 
     private AccountsLogic accountsLogic;
+    private DeletionJobsLogic deletionJobsLogic;
     private FeedbackSessionsLogic feedbackSessionsLogic;
     private FeedbackQuestionsLogic fqLogic;
     private FeedbackResponsesLogic frLogic;
@@ -60,6 +62,7 @@ public final class CoursesLogic {
 
     void initLogicDependencies() {
         accountsLogic = AccountsLogic.inst();
+        deletionJobsLogic = DeletionJobsLogic.inst();
         feedbackSessionsLogic = FeedbackSessionsLogic.inst();
         fqLogic = FeedbackQuestionsLogic.inst();
         frLogic = FeedbackResponsesLogic.inst();
@@ -82,10 +85,15 @@ public final class CoursesLogic {
      *
      * @return the created course
      * @throws InvalidParametersException if the course is not valid
-     * @throws EntityAlreadyExistsException if the course already exists in the database.
+     * @throws EntityAlreadyExistsException if the course already exists in the database,
+     *         or the entities of a course with the same ID are still being deleted.
      */
     CourseAttributes createCourse(CourseAttributes courseToCreate)
             throws InvalidParametersException, EntityAlreadyExistsException {
+        if (deletionJobsLogic.hasDeletionJobsForCourse(courseToCreate.getId())) {
+            throw new EntityAlreadyExistsException(
+                    "The course " + courseToCreate.getId() + " is still being deleted. Please try again later.");
+        }
         return coursesDb.createEntity(courseToCreate);
     }
 
@@ -236,23 +244,9 @@ public final class CoursesLogic {
     public List<CourseAttributes> getCoursesForInstructor(List<InstructorAttributes> instructorList) {
         assert instructorList != null;
 
-        List<String> courseIdList = instructorList.stream()
-                .filter(instructor -> !coursesDb.getCourse(instructor.getCourseId()).isCourseDeleted())
-                .map(InstructorAttributes::getCourseId)
+        return getCoursesOfInstructors(instructorList).stream()
+                .filter(course -> !course.isCourseDeleted())
                 .collect(Collectors.toList());
-
-        List<CourseAttributes> courseList = coursesDb.getCourses(courseIdList);
-
-        // Check that all courseIds queried returned a course.
-        if (courseIdList.size() > courseList.size()) {
-            for (CourseAttributes ca : courseList) {
-                courseIdList.remove(ca.getId());
-            }
-            log.severe("Course(s) was deleted but the instructor still exists: " + System.lineSeparator()
-                    + courseIdList.toString());
-        }
-
-        return courseList;
     }
 
     /**
@@ -261,22 +255,31 @@ public final class CoursesLogic {
     public List<CourseAttributes> getSoftDeletedCoursesForInstructors(List<InstructorAttributes> instructorList) {
         assert instructorList != null;
 
-        List<String> softDeletedCourseIdList = instructorList.stream()
-                .filter(instructor -> coursesDb.getCourse(instructor.getCourseId()).isCourseDeleted())
+        return getCoursesOfInstructors(instructorList).stream()
+                .filter(CourseAttributes::isCourseDeleted)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the courses of the instructors with a single batch read, including the soft-deleted courses.
+     */
+    private List<CourseAttributes> getCoursesOfInstructors(List<InstructorAttributes> instructorList) {
+        List<String> courseIdList = instructorList.stream()
                 .map(InstructorAttributes::getCourseId)
                 .collect(Collectors.toList());
 
-        List<CourseAttributes> softDeletedCourseList = coursesDb.getCourses(softDeletedCourseIdList);
+        List<CourseAttributes> courseList = coursesDb.getCourses(courseIdList);
 
-        if (softDeletedCourseIdList.size() > softDeletedCourseList.size()) {
-            for (CourseAttributes ca : softDeletedCourseList) {
-                softDeletedCourseIdList.remove(ca.getId());
+        // Check that all courseIds queried returned a course.
+        if (courseIdList.size() > courseList.size()) {
+            for (CourseAttributes ca : courseList) {
+                courseIdList.remove(ca.getId());
             }
             log.severe("Course(s) was deleted but the instructor still exists: " + System.lineSeparator()
-                    + softDeletedCourseIdList.toString());
+                    + courseIdList.toString());
         }
 
-        return softDeletedCourseList;
+        return courseList;
     }
 
     /**
@@ -324,6 +327,41 @@ public final class CoursesLogic {
         coursesDb.deleteCourse(courseId);
     }
 
+    /**
+     * Deletes a course, its students, instructors and sessions, and starts a job deleting
+     * the questions, responses and comments of the course in the background.
+     *
+     * <p>The course is gone for users when this returns, while the job is run with
+     * {@link DeletionJobsLogic#runDeletionJob(String, String, int)}.
+     * Fails silently if no such course.
+     *
+     * @return the job started, or the existing job if the course is already deleted (null if there is none)
+     */
+    public DeletionJobAttributes startCourseDeletion(String courseId) throws InvalidParametersException {
+        if (getCourse(courseId) == null) {
+            return deletionJobsLogic.getDeletionJob(courseId, null);
+        }
+
+        // the job is created first, so that the entities left behind are deleted even if this is interrupted
+        DeletionJobAttributes job;
+        try {
+            job = deletionJobsLogic.createDeletionJob(DeletionJobAttributes.forCourse(courseId));
+        } catch (EntityAlreadyExistsException e) {
+            job = deletionJobsLogic.getDeletionJob(courseId, null);
+        }
+
+        AttributesDeletionQuery query = AttributesDeletionQuery.builder()
+                .withCourseId(courseId)
+                .build();
+        feedbackSessionsLogic.deleteFeedbackSessions(query);
+        studentsLogic.deleteStudents(query);
+        instructorsLogic.deleteInstructors(query);
+
+        coursesDb.deleteCourse(courseId);
+
+        return job;
+    }
+
     /**
      * Moves a course to Recycle Bin by its given corresponding ID.
      * @return the time when the course is moved to the recycle bin
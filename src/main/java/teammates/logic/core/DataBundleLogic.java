@@ -31,6 +31,7 @@ import teammates.storage.api.CoursesDb;
 import teammates.storage.api.FeedbackQuestionsDb;
 import teammates.storage.api.FeedbackResponseCommentsDb;
 import teammates.storage.api.FeedbackResponsesDb;
+import teammates.storage.api.FeedbackSessionGiverShardsDb;
 import teammates.storage.api.FeedbackSessionsDb;
 import teammates.storage.api.InstructorsDb;
 import teammates.storage.api.ProfilesDb;
@@ -52,6 +53,7 @@ public final class DataBundleLogic {
     private final StudentsDb studentsDb = StudentsDb.inst();
     private final InstructorsDb instructorsDb = InstructorsDb.inst();
     private final FeedbackSessionsDb fbDb = FeedbackSessionsDb.inst();
+    private final FeedbackSessionGiverShardsDb fsgsDb = FeedbackSessionGiverShardsDb.inst();
     private final FeedbackQuestionsDb fqDb = FeedbackQuestionsDb.inst();
     private final FeedbackResponsesDb frDb = FeedbackResponsesDb.inst();
     private final FeedbackResponseCommentsDb fcDb = FeedbackResponseCommentsDb.inst();
@@ -116,6 +118,10 @@ public final class DataBundleLogic {
         List<FeedbackResponseAttributes> newFeedbackResponses = frDb.putEntities(responses);
         List<FeedbackResponseCommentAttributes> newFeedbackResponseComments = fcDb.putEntities(responseComments);
 
+        // data is written directly to the database, bypassing the cache invalidation in the logic layer
+        SessionResultsCache.inst().invalidateAll();
+        UserRolesCache.inst().invalidateAll();
+
         updateDataBundleValue(newAccounts, dataBundle.accounts);
         updateDataBundleValue(newAccountRequests, dataBundle.accountRequests);
         updateDataBundleValue(newProfiles, dataBundle.profiles);
@@ -159,25 +165,28 @@ public final class DataBundleLogic {
     public void putDocuments(DataBundle dataBundle) throws SearchServiceException {
         // query the entity in db first to get the actual data and create document for actual entity
 
+        // documents of each kind are put with a single request
         Map<String, StudentAttributes> students = dataBundle.students;
+        List<StudentAttributes> studentsInDb = new ArrayList<>();
         for (StudentAttributes student : students.values()) {
-            StudentAttributes studentInDb = studentsDb.getStudentForEmail(student.getCourse(), student.getEmail());
-            studentsDb.putDocument(studentInDb);
+            studentsInDb.add(studentsDb.getStudentForEmail(student.getCourse(), student.getEmail()));
         }
+        studentsDb.putDocuments(studentsInDb);
 
         Map<String, InstructorAttributes> instructors = dataBundle.instructors;
+        List<InstructorAttributes> instructorsInDb = new ArrayList<>();
         for (InstructorAttributes instructor : instructors.values()) {
-            InstructorAttributes instructorInDb =
-                    instructorsDb.getInstructorForEmail(instructor.getCourseId(), instructor.getEmail());
-            instructorsDb.putDocument(instructorInDb);
+            instructorsInDb.add(instructorsDb.getInstructorForEmail(instructor.getCourseId(), instructor.getEmail()));
         }
+        instructorsDb.putDocuments(instructorsInDb);
 
         Map<String, AccountRequestAttributes> accountRequests = dataBundle.accountRequests;
+        List<AccountRequestAttributes> accountRequestsInDb = new ArrayList<>();
         for (AccountRequestAttributes accountRequest : accountRequests.values()) {
-            AccountRequestAttributes accountRequestInDb =
-                    accountRequestsDb.getAccountRequest(accountRequest.getEmail(), accountRequest.getInstitute());
-            accountRequestsDb.putDocument(accountRequestInDb);
+            accountRequestsInDb.add(
+                    accountRequestsDb.getAccountRequest(accountRequest.getEmail(), accountRequest.getInstitute()));
         }
+        accountRequestsDb.putDocuments(accountRequestsInDb);
     }
 
     private void processInstructors(
@@ -379,6 +388,9 @@ public final class DataBundleLogic {
         dataBundle.accountRequests.values().forEach(accountRequest -> {
             accountRequestsDb.deleteAccountRequest(accountRequest.getEmail(), accountRequest.getInstitute());
         });
+
+        SessionResultsCache.inst().invalidateAll();
+        UserRolesCache.inst().invalidateAll();
     }
 
     private void deleteCourses(Collection<CourseAttributes> courses) {
@@ -393,6 +405,7 @@ public final class DataBundleLogic {
                         .build();
                 fcDb.deleteFeedbackResponseComments(query);
                 frDb.deleteFeedbackResponses(query);
+                fsgsDb.deleteFeedbackSessionGiverShards(query);
                 fqDb.deleteFeedbackQuestions(query);
                 fbDb.deleteFeedbackSessions(query);
                 studentsDb.deleteStudents(query);
@@ -0,0 +1,160 @@
+package teammates.logic.core;
+
+import java.time.Instant;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.ResultsPage;
+import teammates.common.datatransfer.attributes.DeletionJobAttributes;
+import teammates.common.exception.EntityAlreadyExistsException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Logger;
+import teammates.storage.api.DeletionJobsDb;
+
+/**
+ * Handles operations related to the jobs deleting courses and feedback sessions in the background.
+ *
+ * <p>A job deletes the entities under a course or a session in batches, one kind of entities after another,
+ * and is checkpointed after each batch, so that it can be resumed from where it stopped if interrupted.
+ *
+ * @see DeletionJobAttributes
+ * @see DeletionJobsDb
+ */
+public final class DeletionJobsLogic {
+
+    /**
+     * The maximum number of entities deleted in a batch.
+     */
+    static final int BATCH_SIZE = 500;
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final DeletionJobsLogic instance = new DeletionJobsLogic();
+
+    private final DeletionJobsDb deletionJobsDb = DeletionJobsDb.inst();
+
+    private FeedbackQuestionsLogic fqLogic;
+    private FeedbackResponsesLogic frLogic;
+    private FeedbackResponseCommentsLogic frcLogic;
+    private FeedbackSessionGiverShardsLogic fsgsLogic;
+
+    private DeletionJobsLogic() {
+        // prevent initialization
+    }
+
+    public static DeletionJobsLogic inst() {
+        return instance;
+    }
+
+    void initLogicDependencies() {
+        fqLogic = FeedbackQuestionsLogic.inst();
+        frLogic = FeedbackResponsesLogic.inst();
+        frcLogic = FeedbackResponseCommentsLogic.inst();
+        fsgsLogic = FeedbackSessionGiverShardsLogic.inst();
+    }
+
+    /**
+     * Creates a job.
+     *
+     * @return the created job
+     * @throws InvalidParametersException if the job is not valid
+     * @throws EntityAlreadyExistsException if a job for the same course or session already exists
+     */
+    DeletionJobAttributes createDeletionJob(DeletionJobAttributes job)
+            throws InvalidParametersException, EntityAlreadyExistsException {
+        return deletionJobsDb.createEntity(job);
+    }
+
+    /**
+     * Gets the job deleting a course, or a feedback session if {@code feedbackSessionName} is given.
+     *
+     * @return null if no such job exists, e.g. the job is already completed
+     */
+    public DeletionJobAttributes getDeletionJob(String courseId, @Nullable String feedbackSessionName) {
+        return deletionJobsDb.getDeletionJob(courseId, feedbackSessionName);
+    }
+
+    /**
+     * Checks whether a course or any of its feedback sessions is still being deleted.
+     */
+    public boolean hasDeletionJobsForCourse(String courseId) {
+        return deletionJobsDb.hasDeletionJobsForCourse(courseId);
+    }
+
+    /**
+     * Gets the jobs which have not made progress since {@code time}, e.g. as their tasks are lost.
+     */
+    public List<DeletionJobAttributes> getDeletionJobsNotUpdatedSince(Instant time) {
+        return deletionJobsDb.getDeletionJobsNotUpdatedSince(time);
+    }
+
+    /**
+     * Runs up to {@code maxNumberOfBatches} batches of the job deleting a course,
+     * or a feedback session if {@code feedbackSessionName} is given.
+     *
+     * <p>The job is removed once all the entities under the course or session are deleted.
+     *
+     * @return the job with its progress, or null if the job is completed or does not exist
+     */
+    public DeletionJobAttributes runDeletionJob(
+            String courseId, @Nullable String feedbackSessionName, int maxNumberOfBatches) {
+        assert maxNumberOfBatches > 0;
+
+        DeletionJobAttributes job = deletionJobsDb.getDeletionJob(courseId, feedbackSessionName);
+        if (job == null) {
+            return null;
+        }
+
+        AttributesDeletionQuery query = job.toDeletionQuery();
+        for (int i = 0; i < maxNumberOfBatches && !job.isCompleted(); i++) {
+            try {
+                ResultsPage<Integer> batch = runBatch(job.getStage(), query, job.getCursor());
+                job.recordBatch(batch.getResults(), batch.getNextPageToken());
+            } catch (InvalidParametersException e) {
+                // deleting is idempotent, so the stage can safely be run again from the first entity
+                log.warning("Restarting stage " + job.getStage() + " of " + job + " as its cursor is invalid", e);
+                job.restartStage();
+            }
+
+            if (!job.isCompleted()) {
+                saveDeletionJob(job);
+            }
+        }
+
+        if (job.isCompleted()) {
+            deletionJobsDb.deleteDeletionJob(courseId, feedbackSessionName);
+            log.info("Deletion completed: " + job);
+            return null;
+        }
+        return job;
+    }
+
+    private ResultsPage<Integer> runBatch(DeletionJobAttributes.Stage stage, AttributesDeletionQuery query,
+            @Nullable String cursor) throws InvalidParametersException {
+        switch (stage) {
+        case FEEDBACK_RESPONSE_COMMENTS:
+            return frcLogic.deleteFeedbackResponseCommentsBatch(query, cursor, BATCH_SIZE);
+        case FEEDBACK_RESPONSES:
+            return frLogic.deleteFeedbackResponsesBatch(query, cursor, BATCH_SIZE);
+        case FEEDBACK_SESSION_GIVER_SHARDS:
+            return fsgsLogic.deleteGiverSetsBatch(query, cursor, BATCH_SIZE);
+        case FEEDBACK_QUESTIONS:
+            return fqLogic.deleteFeedbackQuestionsBatch(query, cursor, BATCH_SIZE);
+        default:
+            assert false : "Unreachable branch";
+            return null;
+        }
+    }
+
+    private void saveDeletionJob(DeletionJobAttributes job) {
+        try {
+            deletionJobsDb.putEntity(job);
+        } catch (InvalidParametersException e) {
+            // the job is validated when it is created and its identity never changes
+            assert false : "Unreachable branch";
+        }
+    }
+
+}
@@ -14,6 +14,8 @@ import javax.annotation.Nullable;
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.GiverRecipientPairs;
+import teammates.common.datatransfer.ResultsPage;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -80,6 +82,8 @@ public final class FeedbackQuestionsLogic {
         FeedbackQuestionAttributes createdQuestion = fqDb.putEntity(fqa);
 
         adjustQuestionNumbers(questionsBefore.size() + 1, createdQuestion.getQuestionNumber(), questionsBefore);
+        SessionResultsCache.inst().invalidateSession(createdQuestion.getCourseId(),
+                createdQuestion.getFeedbackSessionName());
         return createdQuestion;
     }
 
@@ -316,10 +320,7 @@ public final class FeedbackQuestionsLogic {
                 }
             } else {
                 if (generateOptionsFor == FeedbackParticipantType.STUDENTS_IN_SAME_SECTION) {
-                    final String finalGiverSection = giverSection;
-                    studentList = courseRoster.getStudents().stream()
-                            .filter(studentAttributes -> studentAttributes.getSection()
-                                    .equals(finalGiverSection)).collect(Collectors.toList());
+                    studentList = courseRoster.getStudentsInSection(giverSection);
                 } else {
                     studentList = courseRoster.getStudents();
                 }
@@ -360,7 +361,11 @@ public final class FeedbackQuestionsLogic {
             Map<String, List<StudentAttributes>> teamToTeamMembersTable;
             List<StudentAttributes> teamStudents;
             if (generateOptionsFor == FeedbackParticipantType.TEAMS_IN_SAME_SECTION) {
-                teamStudents = studentsLogic.getStudentsForSection(giverSection, question.getCourseId());
+                if (courseRoster == null) {
+                    teamStudents = studentsLogic.getStudentsForSection(giverSection, question.getCourseId());
+                } else {
+                    teamStudents = courseRoster.getStudentsInSection(giverSection);
+                }
                 teamToTeamMembersTable = CourseRoster.buildTeamToMembersTable(teamStudents);
             } else {
                 if (courseRoster == null) {
@@ -423,41 +428,35 @@ public final class FeedbackQuestionsLogic {
     }
 
     /**
-     * Builds a complete giver to recipient map for a {@code relatedQuestion}.
+     * Builds all the possible giver-recipient pairs for a {@code relatedQuestion}.
      *
      * @param relatedQuestion The question to be considered
      * @param courseRoster the roster in the course
-     * @return a map from giver to recipient for the question.
+     * @return the giver-recipient pairs for the question.
      */
-    public Map<String, Set<String>> buildCompleteGiverRecipientMap(
+    public GiverRecipientPairs buildCompleteGiverRecipientPairs(
             FeedbackQuestionAttributes relatedQuestion, CourseRoster courseRoster) {
-        Map<String, Set<String>> completeGiverRecipientMap = new HashMap<>();
+        GiverRecipientPairs completeGiverRecipientPairs = new GiverRecipientPairs();
 
         List<String> possibleGivers = getPossibleGivers(relatedQuestion, courseRoster);
         for (String possibleGiver : possibleGivers) {
             switch (relatedQuestion.getGiverType()) {
             case STUDENTS:
                 StudentAttributes studentGiver = courseRoster.getStudentForEmail(possibleGiver);
-                completeGiverRecipientMap
-                        .computeIfAbsent(possibleGiver, key -> new HashSet<>())
-                        .addAll(getRecipientsOfQuestion(
-                                relatedQuestion, null, studentGiver, courseRoster).keySet());
+                completeGiverRecipientPairs.addAll(possibleGiver,
+                        getRecipientsOfQuestion(relatedQuestion, null, studentGiver, courseRoster).keySet());
                 break;
             case TEAMS:
                 StudentAttributes oneTeamMember =
                         courseRoster.getTeamToMembersTable().get(possibleGiver).iterator().next();
-                completeGiverRecipientMap
-                        .computeIfAbsent(possibleGiver, key -> new HashSet<>())
-                        .addAll(getRecipientsOfQuestion(
-                                relatedQuestion, null, oneTeamMember, courseRoster).keySet());
+                completeGiverRecipientPairs.addAll(possibleGiver,
+                        getRecipientsOfQuestion(relatedQuestion, null, oneTeamMember, courseRoster).keySet());
                 break;
             case INSTRUCTORS:
             case SELF:
                 InstructorAttributes instructorGiver = courseRoster.getInstructorForEmail(possibleGiver);
-                completeGiverRecipientMap
-                        .computeIfAbsent(possibleGiver, key -> new HashSet<>())
-                        .addAll(getRecipientsOfQuestion(
-                                relatedQuestion, instructorGiver, null, courseRoster).keySet());
+                completeGiverRecipientPairs.addAll(possibleGiver,
+                        getRecipientsOfQuestion(relatedQuestion, instructorGiver, null, courseRoster).keySet());
                 break;
             default:
                 log.severe("Invalid giver type specified");
@@ -465,7 +464,7 @@ public final class FeedbackQuestionsLogic {
             }
         }
 
-        return completeGiverRecipientMap;
+        return completeGiverRecipientPairs;
     }
 
     /**
@@ -679,6 +678,8 @@ public final class FeedbackQuestionsLogic {
         if (oldQuestion.areResponseDeletionsRequiredForChanges(updatedQuestion)) {
             frLogic.deleteFeedbackResponsesForQuestionCascade(oldQuestion.getId());
         }
+        SessionResultsCache.inst().invalidateSession(updatedQuestion.getCourseId(),
+                updatedQuestion.getFeedbackSessionName());
 
         return updatedQuestion;
     }
@@ -739,6 +740,8 @@ public final class FeedbackQuestionsLogic {
         if (questionToDelete.getQuestionNumber() < questionsToShiftQnNumber.size()) {
             shiftQuestionNumbersDown(questionToDelete.getQuestionNumber(), questionsToShiftQnNumber);
         }
+        SessionResultsCache.inst().invalidateSession(questionToDelete.getCourseId(),
+                questionToDelete.getFeedbackSessionName());
     }
 
     /**
@@ -746,6 +749,21 @@ public final class FeedbackQuestionsLogic {
      */
     public void deleteFeedbackQuestions(AttributesDeletionQuery query) {
         fqDb.deleteFeedbackQuestions(query);
+        SessionResultsCache.inst().invalidate(query);
+    }
+
+    /**
+     * Deletes a batch of questions using {@link AttributesDeletionQuery}.
+     *
+     * @param cursor the cursor returned with the previous batch, or null to start from the first one
+     * @return the number of questions deleted, with the cursor to continue deleting from as the token of the next page
+     * @throws InvalidParametersException if {@code cursor} is not a valid cursor
+     */
+    public ResultsPage<Integer> deleteFeedbackQuestionsBatch(
+            AttributesDeletionQuery query, @Nullable String cursor, int limit) throws InvalidParametersException {
+        ResultsPage<Integer> batch = fqDb.deleteFeedbackQuestionsBatch(query, cursor, limit);
+        SessionResultsCache.inst().invalidate(query);
+        return batch;
     }
 
     // Shifts all question numbers after questionNumberToShiftFrom down by one.
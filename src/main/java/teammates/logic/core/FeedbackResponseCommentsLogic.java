@@ -1,6 +1,7 @@
 package teammates.logic.core;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -9,6 +10,7 @@ import javax.annotation.Nullable;
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.ResultsPage;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
@@ -67,7 +69,9 @@ public final class FeedbackResponseCommentsLogic {
                 frComment.isCommentFromFeedbackParticipant());
         verifyIsFeedbackSessionOfCourse(frComment.getCourseId(), frComment.getFeedbackSessionName());
 
-        return frcDb.createEntity(frComment);
+        FeedbackResponseCommentAttributes createdComment = frcDb.createEntity(frComment);
+        SessionResultsCache.inst().putComment(createdComment);
+        return createdComment;
     }
 
     /**
@@ -143,6 +147,7 @@ public final class FeedbackResponseCommentsLogic {
     public void updateFeedbackResponseCommentsEmails(String courseId, String oldEmail, String updatedEmail) {
         frcDb.updateGiverEmailOfFeedbackResponseComments(courseId, oldEmail, updatedEmail);
         frcDb.updateLastEditorEmailOfFeedbackResponseComments(courseId, oldEmail, updatedEmail);
+        SessionResultsCache.inst().invalidateCourse(courseId);
     }
 
     /**
@@ -155,12 +160,26 @@ public final class FeedbackResponseCommentsLogic {
         List<FeedbackResponseCommentAttributes> comments = getFeedbackResponseCommentForResponse(feedbackResponseId);
         FeedbackResponseAttributes response = frLogic.getFeedbackResponse(feedbackResponseId);
         for (FeedbackResponseCommentAttributes comment : comments) {
-            frcDb.updateFeedbackResponseComment(
+            FeedbackResponseCommentAttributes updatedComment = frcDb.updateFeedbackResponseComment(
                     FeedbackResponseCommentAttributes.updateOptionsBuilder(comment.getId())
                             .withGiverSection(response.getGiverSection())
                             .withReceiverSection(response.getRecipientSection())
                             .build()
             );
+            SessionResultsCache.inst().putComment(updatedComment);
+        }
+    }
+
+    /**
+     * Updates the giverSection and receiverSection of the comments of the given responses in a course
+     * to match the responses, with a single batch write.
+     */
+    public void updateSectionsOfFeedbackResponseComments(
+            String courseId, Collection<FeedbackResponseAttributes> responses) {
+        List<FeedbackResponseCommentAttributes> updatedComments =
+                frcDb.updateSectionsOfFeedbackResponseComments(courseId, responses);
+        for (FeedbackResponseCommentAttributes updatedComment : updatedComments) {
+            SessionResultsCache.inst().putComment(updatedComment);
         }
     }
 
@@ -175,7 +194,9 @@ public final class FeedbackResponseCommentsLogic {
             FeedbackResponseCommentAttributes.UpdateOptions updateOptions)
             throws InvalidParametersException, EntityDoesNotExistException {
 
-        return frcDb.updateFeedbackResponseComment(updateOptions);
+        FeedbackResponseCommentAttributes updatedComment = frcDb.updateFeedbackResponseComment(updateOptions);
+        SessionResultsCache.inst().putComment(updatedComment);
+        return updatedComment;
     }
 
     /**
@@ -191,6 +212,7 @@ public final class FeedbackResponseCommentsLogic {
      */
     public void deleteFeedbackResponseComment(long commentId) {
         frcDb.deleteFeedbackResponseComment(commentId);
+        SessionResultsCache.inst().removeComment(commentId);
     }
 
     /**
@@ -198,6 +220,21 @@ public final class FeedbackResponseCommentsLogic {
      */
     public void deleteFeedbackResponseComments(AttributesDeletionQuery query) {
         frcDb.deleteFeedbackResponseComments(query);
+        SessionResultsCache.inst().invalidate(query);
+    }
+
+    /**
+     * Deletes a batch of comments using {@link AttributesDeletionQuery}.
+     *
+     * @param cursor the cursor returned with the previous batch, or null to start from the first one
+     * @return the number of comments deleted, with the cursor to continue deleting from as the token of the next page
+     * @throws InvalidParametersException if {@code cursor} is not a valid cursor
+     */
+    public ResultsPage<Integer> deleteFeedbackResponseCommentsBatch(
+            AttributesDeletionQuery query, @Nullable String cursor, int limit) throws InvalidParametersException {
+        ResultsPage<Integer> batch = frcDb.deleteFeedbackResponseCommentsBatch(query, cursor, limit);
+        SessionResultsCache.inst().invalidate(query);
+        return batch;
     }
 
     /**
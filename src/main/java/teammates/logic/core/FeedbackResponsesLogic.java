@@ -8,12 +8,16 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.GiverRecipientPairs;
+import teammates.common.datatransfer.ResultsPage;
 import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -26,6 +30,7 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.common.util.RequestTracer;
+import teammates.storage.api.ConcurrentReads;
 import teammates.storage.api.FeedbackResponsesDb;
 
 /**
@@ -38,10 +43,13 @@ public final class FeedbackResponsesLogic {
 
     private static final FeedbackResponsesLogic instance = new FeedbackResponsesLogic();
 
+    private static final String PAGE_TOKEN_SEPARATOR = ":";
+
     private final FeedbackResponsesDb frDb = FeedbackResponsesDb.inst();
 
     private FeedbackQuestionsLogic fqLogic;
     private FeedbackResponseCommentsLogic frcLogic;
+    private FeedbackSessionGiverShardsLogic fsgsLogic;
     private InstructorsLogic instructorsLogic;
     private StudentsLogic studentsLogic;
 
@@ -56,6 +64,7 @@ public final class FeedbackResponsesLogic {
     void initLogicDependencies() {
         fqLogic = FeedbackQuestionsLogic.inst();
         frcLogic = FeedbackResponseCommentsLogic.inst();
+        fsgsLogic = FeedbackSessionGiverShardsLogic.inst();
         instructorsLogic = InstructorsLogic.inst();
         studentsLogic = StudentsLogic.inst();
     }
@@ -76,7 +85,10 @@ public final class FeedbackResponsesLogic {
      */
     public FeedbackResponseAttributes createFeedbackResponse(FeedbackResponseAttributes fra)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return frDb.createEntity(fra);
+        FeedbackResponseAttributes createdResponse = frDb.createEntity(fra);
+        SessionResultsCache.inst().putResponse(createdResponse);
+        fsgsLogic.updateGiverSet(null, createdResponse);
+        return createdResponse;
     }
 
     /**
@@ -201,6 +213,39 @@ public final class FeedbackResponsesLogic {
         return frDb.getFeedbackResponsesFromGiverForQuestion(question.getId(), student.getEmail());
     }
 
+    /**
+     * Gets a page of the responses given by a student or the team of the student for a question.
+     *
+     * <p>The responses of a team are given by any of its members, hence they are not paged
+     * and are always returned as a single page.
+     *
+     * @param pageToken the token of the previous page, or null to get the first page
+     * @throws InvalidParametersException if {@code pageToken} is not a valid token
+     */
+    public ResultsPage<List<FeedbackResponseAttributes>> getFeedbackResponsesFromStudentOrTeamForQuestionPage(
+            FeedbackQuestionAttributes question, StudentAttributes student, @Nullable String pageToken, int pageSize)
+            throws InvalidParametersException {
+        if (question.getGiverType() == FeedbackParticipantType.TEAMS) {
+            if (pageToken != null) {
+                throw new InvalidParametersException("Invalid page token: " + pageToken);
+            }
+            return new ResultsPage<>(getFeedbackResponsesFromStudentOrTeamForQuestion(question, student), null);
+        }
+        return frDb.getFeedbackResponsesFromGiverForQuestionPage(question.getId(), student.getEmail(), pageToken, pageSize);
+    }
+
+    /**
+     * Gets a page of the responses given by a user for a question.
+     *
+     * @param pageToken the token of the previous page, or null to get the first page
+     * @throws InvalidParametersException if {@code pageToken} is not a valid token
+     */
+    public ResultsPage<List<FeedbackResponseAttributes>> getFeedbackResponsesFromGiverForQuestionPage(
+            String feedbackQuestionId, String giver, @Nullable String pageToken, int pageSize)
+            throws InvalidParametersException {
+        return frDb.getFeedbackResponsesFromGiverForQuestionPage(feedbackQuestionId, giver, pageToken, pageSize);
+    }
+
     /**
      * Checks whether the giver name of a response is visible to an user.
      */
@@ -337,21 +382,12 @@ public final class FeedbackResponsesLogic {
             boolean isCourseWide, String feedbackSessionName, String courseId, String section, String questionId,
             boolean isInstructor, String userEmail, InstructorAttributes instructor, StudentAttributes student,
             CourseRoster roster, List<FeedbackQuestionAttributes> allQuestions,
-            List<FeedbackResponseAttributes> allResponses) {
+            List<FeedbackResponseAttributes> allResponses, List<FeedbackResponseCommentAttributes> allComments) {
         Map<String, FeedbackQuestionAttributes> allQuestionsMap = new HashMap<>();
         for (FeedbackQuestionAttributes qn : allQuestions) {
             allQuestionsMap.put(qn.getId(), qn);
         }
 
-        // load comment(s)
-        List<FeedbackResponseCommentAttributes> allComments;
-        if (questionId == null) {
-            allComments = frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, section);
-        } else {
-            allComments = frcLogic.getFeedbackResponseCommentForQuestionInSection(questionId, section);
-        }
-        RequestTracer.checkRemainingTime();
-
         // related questions, responses, and comment
         Map<String, FeedbackQuestionAttributes> relatedQuestionsMap = new HashMap<>();
         Map<String, FeedbackResponseAttributes> relatedResponsesMap = new HashMap<>();
@@ -423,17 +459,20 @@ public final class FeedbackResponsesLogic {
         RequestTracer.checkRemainingTime();
 
         List<FeedbackResponseAttributes> existingResponses = new ArrayList<>(relatedResponsesMap.values());
-        List<FeedbackResponseAttributes> missingResponses = Collections.emptyList();
+        Map<String, Supplier<List<FeedbackResponseAttributes>>> missingResponseGenerators = Collections.emptyMap();
         if (isCourseWide) {
-            missingResponses = buildMissingResponses(
-                    courseId, feedbackSessionName, instructor, responseGiverVisibilityTable,
-                    responseRecipientVisibilityTable, relatedQuestionsMap, existingResponses, roster, section);
+            missingResponseGenerators = buildMissingResponseGenerators(
+                    courseId, feedbackSessionName, instructor, relatedQuestionsMap, existingResponses, roster, section);
         }
         RequestTracer.checkRemainingTime();
 
-        return new SessionResultsBundle(relatedQuestionsMap, existingResponses, missingResponses,
-                responseGiverVisibilityTable, responseRecipientVisibilityTable, relatedCommentsMap,
-                commentVisibilityTable, roster);
+        // the visibility of the names in the missing responses is checked when needed instead of being stored,
+        // as there can be many more missing responses than existing ones
+        return new SessionResultsBundle(relatedQuestionsMap, existingResponses, missingResponseGenerators,
+                responseGiverVisibilityTable, responseRecipientVisibilityTable,
+                (question, missingResponse, isGiverName) -> isNameVisibleToUser(
+                        question, missingResponse, userEmail, isInstructor, isGiverName, roster),
+                relatedCommentsMap, commentVisibilityTable, roster);
     }
 
     /**
@@ -449,29 +488,149 @@ public final class FeedbackResponsesLogic {
     public SessionResultsBundle getSessionResultsForCourse(
             String feedbackSessionName, String courseId, String instructorEmail,
             @Nullable String questionId, @Nullable String section) {
+        // load all data of the session and passively filter them later
+        // the data is shared by all instructors viewing the session, hence it is cached
+        SessionResultsCache.SessionResultsData sessionData = SessionResultsCache.inst().get(
+                courseId, feedbackSessionName, () -> loadSessionResultsData(feedbackSessionName, courseId));
+        CourseRoster roster = sessionData.getRoster();
+        List<FeedbackQuestionAttributes> allQuestions = sessionData.getQuestions(questionId);
+        List<FeedbackResponseAttributes> allResponses = sessionData.getResponses(questionId, section);
+        List<FeedbackResponseCommentAttributes> allComments = sessionData.getComments(questionId, section);
+        RequestTracer.checkRemainingTime();
+
+        // consider the current viewing user
+        InstructorAttributes instructor = instructorsLogic.getInstructorForEmail(courseId, instructorEmail);
+
+        return buildResultsBundle(true, feedbackSessionName, courseId, section, questionId, true, instructorEmail,
+                instructor, null, roster, allQuestions, allResponses, allComments);
+    }
+
+    /**
+     * Gets a page of the session result for a feedback session, so that the result of a large session
+     * can be loaded progressively without loading all of its responses at once.
+     *
+     * <p>The responses are paged by question in the order of the question numbers, then by response.
+     * Unlike {@link #getSessionResultsForCourse(String, String, String, String, String)},
+     * the bundle of a page contains neither missing responses nor questions without responses in the page.
+     *
+     * @param feedbackSessionName the feedback session name
+     * @param courseId the ID of the course
+     * @param instructorEmail the instructor viewing the feedback session
+     * @param questionId if not null, will only return partial bundle for the question
+     * @param section if not null, will only return partial bundle for the section
+     * @param pageToken the token of the previous page, or null to get the first page
+     * @param pageSize the maximum number of responses loaded for the page
+     * @return the page of the session result bundle
+     * @throws InvalidParametersException if {@code pageToken} is not a valid token
+     */
+    public ResultsPage<SessionResultsBundle> getSessionResultsPageForCourse(
+            String feedbackSessionName, String courseId, String instructorEmail,
+            @Nullable String questionId, @Nullable String section, @Nullable String pageToken, int pageSize)
+            throws InvalidParametersException {
+        List<FeedbackQuestionAttributes> allQuestions = getQuestionsForSession(feedbackSessionName, courseId, questionId);
+
+        // the token is the ID of the question to continue from, followed by the cursor within the question if any
+        int questionIndex = 0;
+        String cursor = null;
+        if (pageToken != null) {
+            int separatorIndex = pageToken.indexOf(PAGE_TOKEN_SEPARATOR);
+            String tokenQuestionId = separatorIndex < 0 ? pageToken : pageToken.substring(0, separatorIndex);
+            cursor = separatorIndex < 0 ? null : pageToken.substring(separatorIndex + PAGE_TOKEN_SEPARATOR.length());
+            while (questionIndex < allQuestions.size()
+                    && !allQuestions.get(questionIndex).getId().equals(tokenQuestionId)) {
+                questionIndex++;
+            }
+            if (questionIndex == allQuestions.size()) {
+                throw new InvalidParametersException("Invalid page token: " + pageToken);
+            }
+        }
+
+        // load response(s)
+        List<FeedbackQuestionAttributes> pageQuestions = new ArrayList<>();
+        List<FeedbackResponseAttributes> pageResponses = new ArrayList<>();
+        int numberOfResponsesLoaded = 0;
+        String nextPageToken = null;
+        for (; questionIndex < allQuestions.size(); questionIndex++) {
+            FeedbackQuestionAttributes question = allQuestions.get(questionIndex);
+            if (numberOfResponsesLoaded == pageSize) {
+                nextPageToken = question.getId();
+                break;
+            }
+
+            ResultsPage<List<FeedbackResponseAttributes>> responsesPage = frDb.getFeedbackResponsesForQuestionPage(
+                    question.getId(), cursor, pageSize - numberOfResponsesLoaded);
+            cursor = null;
+            numberOfResponsesLoaded += responsesPage.getResults().size();
+            int numberOfResponsesInPage = pageResponses.size();
+            for (FeedbackResponseAttributes response : responsesPage.getResults()) {
+                if (section == null || section.equals(response.getGiverSection())
+                        || section.equals(response.getRecipientSection())) {
+                    pageResponses.add(response);
+                }
+            }
+            // questions without responses in the page are left out, as they belong to no page in particular
+            if (pageResponses.size() > numberOfResponsesInPage) {
+                pageQuestions.add(question);
+            }
+            RequestTracer.checkRemainingTime();
+
+            if (responsesPage.hasNextPage()) {
+                nextPageToken = question.getId() + PAGE_TOKEN_SEPARATOR + responsesPage.getNextPageToken();
+                break;
+            }
+        }
+
+        // load comment(s) of the questions with responses in the page
+        Set<String> pageQuestionIds = pageResponses.stream()
+                .map(FeedbackResponseAttributes::getFeedbackQuestionId)
+                .collect(Collectors.toSet());
+        List<FeedbackResponseCommentAttributes> pageComments = new ArrayList<>();
+        for (String pageQuestionId : pageQuestionIds) {
+            pageComments.addAll(frcLogic.getFeedbackResponseCommentForQuestionInSection(pageQuestionId, section));
+        }
+        RequestTracer.checkRemainingTime();
+
         CourseRoster roster = new CourseRoster(
                 studentsLogic.getStudentsForCourse(courseId),
                 instructorsLogic.getInstructorsForCourse(courseId));
 
+        // consider the current viewing user
+        InstructorAttributes instructor = instructorsLogic.getInstructorForEmail(courseId, instructorEmail);
+
+        SessionResultsBundle bundle = buildResultsBundle(false, feedbackSessionName, courseId, section, questionId,
+                true, instructorEmail, instructor, null, roster, pageQuestions, pageResponses, pageComments);
+        return new ResultsPage<>(bundle, nextPageToken);
+    }
+
+    private SessionResultsCache.SessionResultsData loadSessionResultsData(String feedbackSessionName, String courseId) {
+        // the reads are independent of one another, so they are issued all at once
+        ConcurrentReads.PendingRead<List<StudentAttributes>> students =
+                ConcurrentReads.start(() -> studentsLogic.getStudentsForCourse(courseId));
+        ConcurrentReads.PendingRead<List<InstructorAttributes>> instructors =
+                ConcurrentReads.start(() -> instructorsLogic.getInstructorsForCourse(courseId));
+        ConcurrentReads.PendingRead<List<FeedbackQuestionAttributes>> questions =
+                ConcurrentReads.start(() -> getQuestionsForSession(feedbackSessionName, courseId, null));
+        ConcurrentReads.PendingRead<List<FeedbackResponseAttributes>> responses =
+                ConcurrentReads.start(() -> getFeedbackResponsesForSessionInSection(feedbackSessionName, courseId, null));
+        ConcurrentReads.PendingRead<List<FeedbackResponseCommentAttributes>> comments =
+                ConcurrentReads.start(() ->
+                        frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, null));
+
+        CourseRoster roster = new CourseRoster(ConcurrentReads.await(students), ConcurrentReads.await(instructors));
+
         // load question(s)
-        List<FeedbackQuestionAttributes> allQuestions = getQuestionsForSession(feedbackSessionName, courseId, questionId);
+        List<FeedbackQuestionAttributes> allQuestions = ConcurrentReads.await(questions);
         RequestTracer.checkRemainingTime();
 
         // load response(s)
-        List<FeedbackResponseAttributes> allResponses;
-        // load all response for instructors and passively filter them later
-        if (questionId == null) {
-            allResponses = getFeedbackResponsesForSessionInSection(feedbackSessionName, courseId, section);
-        } else {
-            allResponses = getFeedbackResponsesForQuestionInSection(questionId, section);
-        }
+        List<FeedbackResponseAttributes> allResponses = ConcurrentReads.await(responses);
         RequestTracer.checkRemainingTime();
 
-        // consider the current viewing user
-        InstructorAttributes instructor = instructorsLogic.getInstructorForEmail(courseId, instructorEmail);
+        // load comment(s)
+        List<FeedbackResponseCommentAttributes> allComments = ConcurrentReads.await(comments);
+        RequestTracer.checkRemainingTime();
 
-        return buildResultsBundle(true, feedbackSessionName, courseId, section, questionId, true, instructorEmail,
-                instructor, null, roster, allQuestions, allResponses);
+        return new SessionResultsCache.SessionResultsData(courseId, roster, allQuestions, allResponses, allComments);
     }
 
     /**
@@ -509,104 +668,102 @@ public final class FeedbackResponsesLogic {
         }
         RequestTracer.checkRemainingTime();
 
+        // load comment(s)
+        List<FeedbackResponseCommentAttributes> allComments;
+        if (questionId == null) {
+            allComments = frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, null);
+        } else {
+            allComments = frcLogic.getFeedbackResponseCommentForQuestionInSection(questionId, null);
+        }
+        RequestTracer.checkRemainingTime();
+
         return buildResultsBundle(false, feedbackSessionName, courseId, null, questionId, isInstructor, userEmail,
-                instructor, student, roster, allQuestions, allResponses);
+                instructor, student, roster, allQuestions, allResponses, allComments);
     }
 
     /**
      * Builds viewable missing responses for the session for instructor.
      *
      * @param instructor the instructor
-     * @param responseGiverVisibilityTable
-     *         the giver visibility table which will be updated with the visibility of missing responses
-     * @param responseRecipientVisibilityTable
-     *         the recipient visibility table which will be updated with the visibility of missing responses
      * @param relatedQuestionsMap the relevant questions
      * @param existingResponses existing responses
      * @param courseRoster the course roster
      * @param section if not null, will only build missing responses for the section
      * @return a list of missing responses for the session.
      */
-    private List<FeedbackResponseAttributes> buildMissingResponses(
+    private Map<String, Supplier<List<FeedbackResponseAttributes>>> buildMissingResponseGenerators(
             String courseId, String feedbackSessionName, InstructorAttributes instructor,
-            Map<String, Boolean> responseGiverVisibilityTable, Map<String, Boolean> responseRecipientVisibilityTable,
             Map<String, FeedbackQuestionAttributes> relatedQuestionsMap,
             List<FeedbackResponseAttributes> existingResponses, CourseRoster courseRoster, @Nullable String section) {
 
         // first get all possible giver recipient pairs
-        Map<String, Map<String, Set<String>>> questionCompleteGiverRecipientMap = new HashMap<>();
+        Map<String, GiverRecipientPairs> questionCompleteGiverRecipientPairs = new HashMap<>();
         for (FeedbackQuestionAttributes feedbackQuestion : relatedQuestionsMap.values()) {
-            if (feedbackQuestion.getQuestionDetailsCopy().shouldGenerateMissingResponses(feedbackQuestion)) {
-                questionCompleteGiverRecipientMap.put(feedbackQuestion.getId(),
-                        fqLogic.buildCompleteGiverRecipientMap(feedbackQuestion, courseRoster));
-            } else {
-                questionCompleteGiverRecipientMap.put(feedbackQuestion.getId(), new HashMap<>());
+            if (feedbackQuestion.getQuestionDetails().shouldGenerateMissingResponses(feedbackQuestion)) {
+                questionCompleteGiverRecipientPairs.put(feedbackQuestion.getId(),
+                        fqLogic.buildCompleteGiverRecipientPairs(feedbackQuestion, courseRoster));
             }
         }
 
         // remove the existing responses in those pairs
         for (FeedbackResponseAttributes existingResponse : existingResponses) {
-            Map<String, Set<String>> currGiverRecipientMap =
-                    questionCompleteGiverRecipientMap.get(existingResponse.getFeedbackQuestionId());
-            if (!currGiverRecipientMap.containsKey(existingResponse.getGiver())) {
+            GiverRecipientPairs currGiverRecipientPairs =
+                    questionCompleteGiverRecipientPairs.get(existingResponse.getFeedbackQuestionId());
+            if (currGiverRecipientPairs == null) {
                 continue;
             }
-            currGiverRecipientMap.get(existingResponse.getGiver()).remove(existingResponse.getRecipient());
+            currGiverRecipientPairs.remove(existingResponse.getGiver(), existingResponse.getRecipient());
         }
 
+        // the dummy responses of a question are only built when they are needed,
+        // so that only the remaining pairs are held until then
+        Map<String, Supplier<List<FeedbackResponseAttributes>>> missingResponseGenerators = new HashMap<>();
+        questionCompleteGiverRecipientPairs.forEach((questionId, giverRecipientPairs) ->
+                missingResponseGenerators.put(questionId, () -> buildMissingResponses(
+                        courseId, feedbackSessionName, instructor, relatedQuestionsMap.get(questionId),
+                        giverRecipientPairs, courseRoster, section)));
+
+        return missingResponseGenerators;
+    }
+
+    private List<FeedbackResponseAttributes> buildMissingResponses(
+            String courseId, String feedbackSessionName, InstructorAttributes instructor,
+            FeedbackQuestionAttributes correspondingQuestion, GiverRecipientPairs missingGiverRecipientPairs,
+            CourseRoster courseRoster, @Nullable String section) {
+        String questionId = correspondingQuestion.getId();
+
         List<FeedbackResponseAttributes> missingResponses = new ArrayList<>();
         // build dummy responses
-        for (Map.Entry<String, Map<String, Set<String>>> currGiverRecipientMapEntry
-                : questionCompleteGiverRecipientMap.entrySet()) {
-            FeedbackQuestionAttributes correspondingQuestion =
-                    relatedQuestionsMap.get(currGiverRecipientMapEntry.getKey());
-            String questionId = correspondingQuestion.getId();
-
-            for (Map.Entry<String, Set<String>> giverRecipientEntry
-                    : currGiverRecipientMapEntry.getValue().entrySet()) {
-                // giver
-                String giverIdentifier = giverRecipientEntry.getKey();
-                CourseRoster.ParticipantInfo giverInfo = courseRoster.getInfoForIdentifier(giverIdentifier);
-
-                for (String recipientIdentifier : giverRecipientEntry.getValue()) {
-                    // recipient
-                    CourseRoster.ParticipantInfo recipientInfo = courseRoster.getInfoForIdentifier(recipientIdentifier);
-
-                    // skip responses not in current section
-                    if (section != null
-                            && !giverInfo.getSectionName().equals(section)
-                            && !recipientInfo.getSectionName().equals(section)) {
-                        continue;
-                    }
+        missingGiverRecipientPairs.forEach((giverIdentifier, recipientIdentifier) -> {
+            CourseRoster.ParticipantInfo giverInfo = courseRoster.getInfoForIdentifier(giverIdentifier);
+            CourseRoster.ParticipantInfo recipientInfo = courseRoster.getInfoForIdentifier(recipientIdentifier);
+
+            // skip responses not in current section
+            if (section != null
+                    && !giverInfo.getSectionName().equals(section)
+                    && !recipientInfo.getSectionName().equals(section)) {
+                return;
+            }
 
-                    FeedbackResponseAttributes missingResponse =
-                            FeedbackResponseAttributes.builder(questionId, giverIdentifier, recipientIdentifier)
-                                    .withCourseId(courseId)
-                                    .withFeedbackSessionName(feedbackSessionName)
-                                    .withGiverSection(giverInfo.getSectionName())
-                                    .withRecipientSection(recipientInfo.getSectionName())
-                                    .withResponseDetails(new FeedbackTextResponseDetails("No Response"))
-                                    .build();
-
-                    // check visibility of the missing response
-                    boolean isVisibleResponse = isResponseVisibleForUser(
-                            instructor.getEmail(), true, null, Collections.emptySet(),
-                            missingResponse, correspondingQuestion, instructor);
-                    if (!isVisibleResponse) {
-                        continue;
-                    }
+            FeedbackResponseAttributes missingResponse =
+                    FeedbackResponseAttributes.builder(questionId, giverIdentifier, recipientIdentifier)
+                            .withCourseId(courseId)
+                            .withFeedbackSessionName(feedbackSessionName)
+                            .withGiverSection(giverInfo.getSectionName())
+                            .withRecipientSection(recipientInfo.getSectionName())
+                            .withResponseDetails(new FeedbackTextResponseDetails("No Response"))
+                            .build();
 
-                    // generate giver/recipient name visibility table
-                    responseGiverVisibilityTable.put(missingResponse.getId(),
-                            isNameVisibleToUser(correspondingQuestion, missingResponse,
-                                    instructor.getEmail(), true, true, courseRoster));
-                    responseRecipientVisibilityTable.put(missingResponse.getId(),
-                            isNameVisibleToUser(correspondingQuestion, missingResponse,
-                                    instructor.getEmail(), true, false, courseRoster));
-                    missingResponses.add(missingResponse);
-                }
+            // check visibility of the missing response
+            boolean isVisibleResponse = isResponseVisibleForUser(
+                    instructor.getEmail(), true, null, Collections.emptySet(),
+                    missingResponse, correspondingQuestion, instructor);
+            if (!isVisibleResponse) {
+                return;
             }
-        }
+
+            missingResponses.add(missingResponse);
+        });
 
         return missingResponses;
     }
@@ -693,6 +850,12 @@ public final class FeedbackResponsesLogic {
         FeedbackResponseAttributes newResponse = frDb.updateFeedbackResponse(updateOptions);
 
         boolean isResponseIdChanged = !oldResponse.getId().equals(newResponse.getId());
+        if (isResponseIdChanged) {
+            SessionResultsCache.inst().removeResponse(oldResponse.getId());
+        }
+        SessionResultsCache.inst().putResponse(newResponse);
+        fsgsLogic.updateGiverSet(oldResponse, newResponse);
+
         boolean isGiverSectionChanged = !oldResponse.getGiverSection().equals(newResponse.getGiverSection());
         boolean isRecipientSectionChanged = !oldResponse.getRecipientSection().equals(newResponse.getRecipientSection());
 
@@ -729,6 +892,42 @@ public final class FeedbackResponsesLogic {
      */
     public void updateFeedbackResponsesForChangingTeam(
             String courseId, String userEmail, String oldTeam, String newTeam) {
+        deleteTeamResponsesInvolvingUser(courseId, userEmail);
+
+        boolean isOldTeamEmpty = studentsLogic.getStudentsForTeam(oldTeam, courseId).isEmpty();
+        if (isOldTeamEmpty) {
+            deleteFeedbackResponsesInvolvedEntityOfCourseCascade(courseId, oldTeam);
+        }
+    }
+
+    /**
+     * Updates responses for students of a course whose teams change at the same time.
+     *
+     * <p>This has the same effect as {@link #updateFeedbackResponsesForChangingTeam} for each of the students,
+     * but checks whether the old teams become empty only once for all of them.
+     *
+     * @param oldTeamByStudentEmail the old team of each student whose team changes, keyed by the student's email
+     */
+    public void updateFeedbackResponsesForChangingTeams(String courseId, Map<String, String> oldTeamByStudentEmail) {
+        if (oldTeamByStudentEmail.isEmpty()) {
+            return;
+        }
+
+        for (String userEmail : oldTeamByStudentEmail.keySet()) {
+            deleteTeamResponsesInvolvingUser(courseId, userEmail);
+        }
+
+        Set<String> remainingTeams = studentsLogic.getStudentsForCourse(courseId).stream()
+                .map(StudentAttributes::getTeam)
+                .collect(Collectors.toSet());
+        for (String oldTeam : new HashSet<>(oldTeamByStudentEmail.values())) {
+            if (!remainingTeams.contains(oldTeam)) {
+                deleteFeedbackResponsesInvolvedEntityOfCourseCascade(courseId, oldTeam);
+            }
+        }
+    }
+
+    private void deleteTeamResponsesInvolvingUser(String courseId, String userEmail) {
         FeedbackQuestionAttributes question;
         // deletes all responses given by the user to team members or given by the user as a representative of a team.
         List<FeedbackResponseAttributes> responsesFromUser =
@@ -750,11 +949,25 @@ public final class FeedbackResponsesLogic {
                 deleteFeedbackResponseCascade(response.getId());
             }
         }
+    }
 
-        boolean isOldTeamEmpty = studentsLogic.getStudentsForTeam(oldTeam, courseId).isEmpty();
-        if (isOldTeamEmpty) {
-            deleteFeedbackResponsesInvolvedEntityOfCourseCascade(courseId, oldTeam);
+    /**
+     * Updates the responses of students of a course whose sections change, with a single batch write
+     * for the responses and another for their comments.
+     *
+     * @param newSectionByStudentEmail the new section of each student whose section changes
+     */
+    public void updateFeedbackResponsesForChangingSections(String courseId, Map<String, String> newSectionByStudentEmail) {
+        if (newSectionByStudentEmail.isEmpty()) {
+            return;
         }
+
+        List<FeedbackResponseAttributes> updatedResponses =
+                frDb.updateSectionsOfFeedbackResponses(courseId, newSectionByStudentEmail);
+        for (FeedbackResponseAttributes updatedResponse : updatedResponses) {
+            SessionResultsCache.inst().putResponse(updatedResponse);
+        }
+        frcLogic.updateSectionsOfFeedbackResponseComments(courseId, updatedResponses);
     }
 
     /**
@@ -774,10 +987,11 @@ public final class FeedbackResponsesLogic {
 
         for (FeedbackResponseAttributes response : responsesToUser) {
             try {
-                frDb.updateFeedbackResponse(
+                FeedbackResponseAttributes updatedResponse = frDb.updateFeedbackResponse(
                         FeedbackResponseAttributes.updateOptionsBuilder(response.getId())
                                 .withRecipientSection(newSection)
                                 .build());
+                SessionResultsCache.inst().putResponse(updatedResponse);
             } catch (EntityAlreadyExistsException e) {
                 assert false : "Not possible to trigger recreating of response";
             }
@@ -792,10 +1006,11 @@ public final class FeedbackResponsesLogic {
 
         for (FeedbackResponseAttributes response : responsesFromUser) {
             try {
-                frDb.updateFeedbackResponse(
+                FeedbackResponseAttributes updatedResponse = frDb.updateFeedbackResponse(
                         FeedbackResponseAttributes.updateOptionsBuilder(response.getId())
                                 .withGiverSection(newSection)
                                 .build());
+                SessionResultsCache.inst().putResponse(updatedResponse);
             } catch (EntityAlreadyExistsException e) {
                 assert false : "Not possible to trigger recreating of response";
             }
@@ -850,6 +1065,22 @@ public final class FeedbackResponsesLogic {
      */
     public void deleteFeedbackResponses(AttributesDeletionQuery query) {
         frDb.deleteFeedbackResponses(query);
+        SessionResultsCache.inst().invalidate(query);
+        fsgsLogic.deleteGiverSets(query);
+    }
+
+    /**
+     * Deletes a batch of responses using {@link AttributesDeletionQuery}.
+     *
+     * @param cursor the cursor returned with the previous batch, or null to start from the first one
+     * @return the number of responses deleted, with the cursor to continue deleting from as the token of the next page
+     * @throws InvalidParametersException if {@code cursor} is not a valid cursor
+     */
+    public ResultsPage<Integer> deleteFeedbackResponsesBatch(
+            AttributesDeletionQuery query, @Nullable String cursor, int limit) throws InvalidParametersException {
+        ResultsPage<Integer> batch = frDb.deleteFeedbackResponsesBatch(query, cursor, limit);
+        SessionResultsCache.inst().invalidate(query);
+        return batch;
     }
 
     /**
@@ -860,7 +1091,12 @@ public final class FeedbackResponsesLogic {
                 AttributesDeletionQuery.builder()
                         .withResponseId(responseId)
                         .build());
+        FeedbackResponseAttributes response = frDb.getFeedbackResponse(responseId);
         frDb.deleteFeedbackResponse(responseId);
+        SessionResultsCache.inst().removeResponse(responseId);
+        if (response != null) {
+            fsgsLogic.updateGiverSet(response, null);
+        }
     }
 
     /**
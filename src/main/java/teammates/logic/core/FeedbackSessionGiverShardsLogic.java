@@ -0,0 +1,167 @@
+package teammates.logic.core;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.ResultsPage;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionGiverShardAttributes;
+import teammates.common.exception.InvalidParametersException;
+import teammates.storage.api.FeedbackSessionGiverShardsDb;
+
+/**
+ * Handles operations related to the sets of givers who have submitted responses in feedback sessions.
+ *
+ * <p>The set of givers of a session is updated whenever a response in the session is created, updated or deleted,
+ * so that the number of submissions can be read without going through all the responses of the session.
+ *
+ * @see FeedbackSessionGiverShardAttributes
+ * @see FeedbackSessionGiverShardsDb
+ */
+public final class FeedbackSessionGiverShardsLogic {
+
+    private static final FeedbackSessionGiverShardsLogic instance = new FeedbackSessionGiverShardsLogic();
+
+    private final FeedbackSessionGiverShardsDb fsgsDb = FeedbackSessionGiverShardsDb.inst();
+
+    private FeedbackQuestionsLogic fqLogic;
+    private FeedbackResponsesLogic frLogic;
+
+    private FeedbackSessionGiverShardsLogic() {
+        // prevent initialization
+    }
+
+    public static FeedbackSessionGiverShardsLogic inst() {
+        return instance;
+    }
+
+    void initLogicDependencies() {
+        fqLogic = FeedbackQuestionsLogic.inst();
+        frLogic = FeedbackResponsesLogic.inst();
+    }
+
+    /**
+     * Gets the set of givers who have submitted responses in a session.
+     *
+     * <p>Shards which do not exist yet (e.g. the responses were created before the shards were maintained)
+     * are built from the existing responses and persisted.
+     */
+    public Set<String> getGiverSetThatAnswerFeedbackSession(String courseId, String feedbackSessionName) {
+        List<FeedbackSessionGiverShardAttributes> shards =
+                fsgsDb.getFeedbackSessionGiverShards(courseId, feedbackSessionName);
+
+        Set<String> givers = new HashSet<>();
+        boolean[] isShardPresent = new boolean[FeedbackSessionGiverShardAttributes.NUMBER_OF_SHARDS];
+        for (FeedbackSessionGiverShardAttributes shard : shards) {
+            givers.addAll(shard.getGivers());
+            isShardPresent[shard.getShardIndex()] = true;
+        }
+        if (shards.size() == FeedbackSessionGiverShardAttributes.NUMBER_OF_SHARDS) {
+            return givers;
+        }
+
+        // A giver whose first response is written between loading the responses and persisting the shard
+        // is not reflected, as the shard does not exist yet when the response is written.
+        // The window is limited to the first read of the shard.
+        Set<String> giversFromResponses = frLogic.getGiverSetThatAnswerFeedbackSession(courseId, feedbackSessionName);
+        for (int i = 0; i < FeedbackSessionGiverShardAttributes.NUMBER_OF_SHARDS; i++) {
+            if (isShardPresent[i]) {
+                continue;
+            }
+            FeedbackSessionGiverShardAttributes shard =
+                    FeedbackSessionGiverShardAttributes.valueOf(courseId, feedbackSessionName, i);
+            for (String giver : giversFromResponses) {
+                if (FeedbackSessionGiverShardAttributes.getShardIndex(giver) == i) {
+                    shard.addGiver(giver);
+                }
+            }
+            givers.addAll(fsgsDb.createFeedbackSessionGiverShardIfAbsent(shard).getGivers());
+        }
+        return givers;
+    }
+
+    /**
+     * Updates the set of givers of a session for a response which is created, updated or deleted.
+     *
+     * <p>This must be called after the change is written, as a giver is only removed from the set
+     * if the giver has no more responses in the session.
+     *
+     * @param oldResponse the response before the change, or null if the response is created
+     * @param newResponse the response after the change, or null if the response is deleted
+     */
+    public void updateGiverSet(
+            @Nullable FeedbackResponseAttributes oldResponse, @Nullable FeedbackResponseAttributes newResponse) {
+        assert oldResponse != null || newResponse != null;
+
+        if (newResponse != null) {
+            addGiver(newResponse.getCourseId(), newResponse.getFeedbackSessionName(), newResponse.getGiver());
+        }
+        if (oldResponse != null && (newResponse == null || !oldResponse.getGiver().equals(newResponse.getGiver()))) {
+            removeGiverIfNoResponses(oldResponse.getCourseId(), oldResponse.getFeedbackSessionName(),
+                    oldResponse.getGiver());
+        }
+    }
+
+    private void addGiver(String courseId, String feedbackSessionName, String giver) {
+        fsgsDb.updateFeedbackSessionGiverShard(courseId, feedbackSessionName,
+                FeedbackSessionGiverShardAttributes.getShardIndex(giver), shard -> shard.addGiver(giver));
+    }
+
+    private void removeGiverIfNoResponses(String courseId, String feedbackSessionName, String giver) {
+        if (frLogic.hasGiverRespondedForSession(giver, feedbackSessionName, courseId)) {
+            return;
+        }
+        fsgsDb.updateFeedbackSessionGiverShard(courseId, feedbackSessionName,
+                FeedbackSessionGiverShardAttributes.getShardIndex(giver), shard -> shard.removeGiver(giver));
+
+        // A response of the giver written after the check above is not reflected by its own update of the set
+        // if the giver was still in the set at that time, so the giver is added back in that case.
+        // The responses cannot be checked within the transaction of the shard, as Datastore transactions
+        // only allow ancestor queries.
+        if (frLogic.hasGiverRespondedForSession(giver, feedbackSessionName, courseId)) {
+            addGiver(courseId, feedbackSessionName, giver);
+        }
+    }
+
+    /**
+     * Deletes the sets of givers affected by the deletion of responses using {@link AttributesDeletionQuery}.
+     *
+     * <p>The sets are rebuilt from the remaining responses when they are next read.
+     */
+    public void deleteGiverSets(AttributesDeletionQuery query) {
+        if (query.isCourseIdPresent()) {
+            fsgsDb.deleteFeedbackSessionGiverShards(query);
+            return;
+        }
+        if (query.isQuestionIdPresent()) {
+            FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(query.getQuestionId());
+            if (question == null) {
+                return;
+            }
+            fsgsDb.deleteFeedbackSessionGiverShards(AttributesDeletionQuery.builder()
+                    .withCourseId(question.getCourseId())
+                    .withFeedbackSessionName(question.getFeedbackSessionName())
+                    .build());
+        }
+    }
+
+    /**
+     * Deletes a batch of shards of the sets of givers using {@link AttributesDeletionQuery}.
+     *
+     * <p>Only deletion by course or by session is supported.
+     *
+     * @param cursor the cursor returned with the previous batch, or null to start from the first one
+     * @return the number of shards deleted, with the cursor to continue deleting from as the token of the next page
+     * @throws InvalidParametersException if {@code cursor} is not a valid cursor
+     */
+    public ResultsPage<Integer> deleteGiverSetsBatch(
+            AttributesDeletionQuery query, @Nullable String cursor, int limit) throws InvalidParametersException {
+        return fsgsDb.deleteFeedbackSessionGiverShardsBatch(query, cursor, limit);
+    }
+
+}
@@ -7,10 +7,11 @@ import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.DeletionJobAttributes;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
-import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
@@ -44,9 +45,11 @@ public final class FeedbackSessionsLogic {
     private final FeedbackSessionsDb fsDb = FeedbackSessionsDb.inst();
 
     private CoursesLogic coursesLogic;
+    private DeletionJobsLogic deletionJobsLogic;
     private FeedbackQuestionsLogic fqLogic;
     private FeedbackResponsesLogic frLogic;
     private FeedbackResponseCommentsLogic frcLogic;
+    private FeedbackSessionGiverShardsLogic fsgsLogic;
     private InstructorsLogic instructorsLogic;
     private StudentsLogic studentsLogic;
 
@@ -60,9 +63,11 @@ public final class FeedbackSessionsLogic {
 
     void initLogicDependencies() {
         coursesLogic = CoursesLogic.inst();
+        deletionJobsLogic = DeletionJobsLogic.inst();
         fqLogic = FeedbackQuestionsLogic.inst();
         frLogic = FeedbackResponsesLogic.inst();
         frcLogic = FeedbackResponseCommentsLogic.inst();
+        fsgsLogic = FeedbackSessionGiverShardsLogic.inst();
         instructorsLogic = InstructorsLogic.inst();
         studentsLogic = StudentsLogic.inst();
     }
@@ -72,10 +77,15 @@ public final class FeedbackSessionsLogic {
      *
      * @return created feedback session
      * @throws InvalidParametersException if the session is not valid
-     * @throws EntityAlreadyExistsException if the session already exist
+     * @throws EntityAlreadyExistsException if the session already exist,
+     *         or the entities of a session with the same name are still being deleted
      */
     public FeedbackSessionAttributes createFeedbackSession(FeedbackSessionAttributes fsa)
             throws InvalidParametersException, EntityAlreadyExistsException {
+        if (deletionJobsLogic.getDeletionJob(fsa.getCourseId(), fsa.getFeedbackSessionName()) != null) {
+            throw new EntityAlreadyExistsException("The feedback session " + fsa.getFeedbackSessionName()
+                    + " is still being deleted. Please try again later.");
+        }
         return fsDb.createEntity(fsa);
     }
 
@@ -111,6 +121,13 @@ public final class FeedbackSessionsLogic {
         return fsDb.getFeedbackSessionsForCourse(courseId);
     }
 
+    /**
+     * Gets all feedback sessions of the courses, querying the sessions of each course concurrently.
+     */
+    public List<FeedbackSessionAttributes> getFeedbackSessionsForCourses(List<String> courseIds) {
+        return fsDb.getFeedbackSessionsForCourses(courseIds);
+    }
+
     /**
      * Gets all feedback sessions of a course started after time.
      */
@@ -124,17 +141,7 @@ public final class FeedbackSessionsLogic {
     public List<FeedbackSessionAttributes> getFeedbackSessionsListForInstructor(
             List<InstructorAttributes> instructorList) {
 
-        List<InstructorAttributes> courseNotDeletedInstructorList = instructorList.stream()
-                .filter(instructor -> !coursesLogic.getCourse(instructor.getCourseId()).isCourseDeleted())
-                .collect(Collectors.toList());
-
-        List<FeedbackSessionAttributes> fsList = new ArrayList<>();
-
-        for (InstructorAttributes instructor : courseNotDeletedInstructorList) {
-            fsList.addAll(getFeedbackSessionsListForCourse(instructor.getCourseId()));
-        }
-
-        return fsList;
+        return fsDb.getFeedbackSessionsForCourses(getCourseNotDeletedCourseIds(instructorList));
     }
 
     /**
@@ -145,17 +152,13 @@ public final class FeedbackSessionsLogic {
     public List<FeedbackSessionAttributes> getSoftDeletedFeedbackSessionsListForInstructors(
             List<InstructorAttributes> instructorList) {
 
-        List<InstructorAttributes> courseNotDeletedInstructorList = instructorList.stream()
-                .filter(instructor -> !coursesLogic.getCourse(instructor.getCourseId()).isCourseDeleted())
-                .collect(Collectors.toList());
-
-        List<FeedbackSessionAttributes> fsList = new ArrayList<>();
-
-        for (InstructorAttributes instructor : courseNotDeletedInstructorList) {
-            fsList.addAll(getSoftDeletedFeedbackSessionsListForCourse(instructor.getCourseId()));
-        }
+        return fsDb.getSoftDeletedFeedbackSessionsForCourses(getCourseNotDeletedCourseIds(instructorList));
+    }
 
-        return fsList;
+    private List<String> getCourseNotDeletedCourseIds(List<InstructorAttributes> instructorList) {
+        return coursesLogic.getCoursesForInstructor(instructorList).stream()
+                .map(CourseAttributes::getId)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -463,6 +466,37 @@ public final class FeedbackSessionsLogic {
         fsDb.deleteFeedbackSession(feedbackSessionName, courseId);
     }
 
+    /**
+     * Deletes a feedback session, and starts a job deleting its questions, responses and comments in the background.
+     *
+     * <p>The session is gone for users when this returns, while the job is run with
+     * {@link DeletionJobsLogic#runDeletionJob(String, String, int)}.
+     * Fails silently if no such session.
+     *
+     * @return the job started, or the existing job if the session is already deleted (null if there is none)
+     * @throws InvalidParametersException if the course ID or session name is not valid
+     */
+    public DeletionJobAttributes startFeedbackSessionDeletion(String feedbackSessionName, String courseId)
+            throws InvalidParametersException {
+        if (getFeedbackSession(feedbackSessionName, courseId) == null
+                && getFeedbackSessionFromRecycleBin(feedbackSessionName, courseId) == null) {
+            return deletionJobsLogic.getDeletionJob(courseId, feedbackSessionName);
+        }
+
+        // the job is created first, so that the entities left behind are deleted even if this is interrupted
+        DeletionJobAttributes job;
+        try {
+            job = deletionJobsLogic.createDeletionJob(
+                    DeletionJobAttributes.forFeedbackSession(courseId, feedbackSessionName));
+        } catch (EntityAlreadyExistsException e) {
+            job = deletionJobsLogic.getDeletionJob(courseId, feedbackSessionName);
+        }
+
+        fsDb.deleteFeedbackSession(feedbackSessionName, courseId);
+
+        return job;
+    }
+
     /**
      * Deletes sessions using {@link AttributesDeletionQuery}.
      */
@@ -492,7 +526,6 @@ public final class FeedbackSessionsLogic {
      * Gets the expected number of submissions for a feedback session.
      */
     public int getExpectedTotalSubmission(FeedbackSessionAttributes fsa) {
-        List<StudentAttributes> students = studentsLogic.getStudentsForCourse(fsa.getCourseId());
         List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(fsa.getCourseId());
         List<FeedbackQuestionAttributes> questions =
                 fqLogic.getFeedbackQuestionsForSession(fsa.getFeedbackSessionName(), fsa.getCourseId());
@@ -501,7 +534,7 @@ public final class FeedbackSessionsLogic {
         int expectedTotal = 0;
 
         if (!studentQns.isEmpty()) {
-            expectedTotal += students.size();
+            expectedTotal += studentsLogic.getNumberOfStudentsForCourse(fsa.getCourseId());
         }
 
         for (InstructorAttributes instructor : instructors) {
@@ -519,17 +552,7 @@ public final class FeedbackSessionsLogic {
      * Gets the actual number of submissions for a feedback session.
      */
     public int getActualTotalSubmission(FeedbackSessionAttributes fsa) {
-        return frLogic.getGiverSetThatAnswerFeedbackSession(fsa.getCourseId(), fsa.getFeedbackSessionName()).size();
-    }
-
-    private List<FeedbackSessionAttributes> getFeedbackSessionsListForCourse(String courseId) {
-
-        return fsDb.getFeedbackSessionsForCourse(courseId);
-    }
-
-    private List<FeedbackSessionAttributes> getSoftDeletedFeedbackSessionsListForCourse(String courseId) {
-
-        return fsDb.getSoftDeletedFeedbackSessionsForCourse(courseId);
+        return fsgsLogic.getGiverSetThatAnswerFeedbackSession(fsa.getCourseId(), fsa.getFeedbackSessionName()).size();
     }
 
     /**
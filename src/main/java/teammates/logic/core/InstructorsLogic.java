@@ -78,7 +78,9 @@ public final class InstructorsLogic {
      */
     public InstructorAttributes createInstructor(InstructorAttributes instructorToAdd)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return instructorsDb.createEntity(instructorToAdd);
+        InstructorAttributes createdInstructor = instructorsDb.createEntity(instructorToAdd);
+        SessionResultsCache.inst().invalidateCourse(createdInstructor.getCourseId());
+        return createdInstructor;
     }
 
     /**
@@ -235,6 +237,7 @@ public final class InstructorsLogic {
             frcLogic.updateFeedbackResponseCommentsEmails(
                     updatedInstructor.getCourseId(), originalInstructor.getEmail(), updatedInstructor.getEmail());
         }
+        SessionResultsCache.inst().invalidateCourse(updatedInstructor.getCourseId());
 
         return updatedInstructor;
     }
@@ -264,7 +267,9 @@ public final class InstructorsLogic {
         verifyAtLeastOneInstructorIsDisplayed(originalInstructor.getCourseId(), isOriginalInstructorDisplayed,
                 newInstructor.isDisplayedToStudents());
 
-        return instructorsDb.updateInstructorByEmail(updateOptions);
+        InstructorAttributes updatedInstructor = instructorsDb.updateInstructorByEmail(updateOptions);
+        SessionResultsCache.inst().invalidateCourse(updatedInstructor.getCourseId());
+        return updatedInstructor;
     }
 
     /**
@@ -272,6 +277,7 @@ public final class InstructorsLogic {
      */
     public void deleteInstructors(AttributesDeletionQuery query) {
         instructorsDb.deleteInstructors(query);
+        SessionResultsCache.inst().invalidate(query);
     }
 
     /**
@@ -287,6 +293,7 @@ public final class InstructorsLogic {
 
         frLogic.deleteFeedbackResponsesInvolvedEntityOfCourseCascade(courseId, email);
         instructorsDb.deleteInstructor(courseId, email);
+        SessionResultsCache.inst().invalidateCourse(courseId);
     }
 
     /**
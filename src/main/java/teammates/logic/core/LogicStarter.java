@@ -18,20 +18,24 @@ public class LogicStarter implements ServletContextListener {
     public static void initializeDependencies() {
         AccountsLogic accountsLogic = AccountsLogic.inst();
         CoursesLogic coursesLogic = CoursesLogic.inst();
+        DeletionJobsLogic deletionJobsLogic = DeletionJobsLogic.inst();
         FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
         FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
         FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
         FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+        FeedbackSessionGiverShardsLogic fsgsLogic = FeedbackSessionGiverShardsLogic.inst();
         InstructorsLogic instructorsLogic = InstructorsLogic.inst();
         StudentsLogic studentsLogic = StudentsLogic.inst();
         ProfilesLogic profilesLogic = ProfilesLogic.inst();
 
         accountsLogic.initLogicDependencies();
         coursesLogic.initLogicDependencies();
+        deletionJobsLogic.initLogicDependencies();
         fqLogic.initLogicDependencies();
         frLogic.initLogicDependencies();
         frcLogic.initLogicDependencies();
         fsLogic.initLogicDependencies();
+        fsgsLogic.initLogicDependencies();
         instructorsLogic.initLogicDependencies();
         studentsLogic.initLogicDependencies();
         profilesLogic.initLogicDependencies();
@@ -0,0 +1,295 @@
+package teammates.logic.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+
+/**
+ * Caches the raw data (questions, responses, comments and course roster) required to build
+ * the results of a feedback session, so that they need not be reloaded from the database on every request.
+ *
+ * <p>Only the whole-session data is cached; filtering by question, section and viewer is done per request.
+ * Responses and comments are patched in place when they are changed through the logic layer,
+ * whereas changes to questions, sessions and the roster invalidate the affected entries.
+ *
+ * <p>The cache is local to the server instance and changes made by other instances are not visible to it,
+ * hence entries are also expired after a short period of time.
+ *
+ * <p>Attributes held by the cache are shared across requests and must not be modified by the callers.
+ */
+final class SessionResultsCache {
+
+    private static final SessionResultsCache instance = new SessionResultsCache();
+
+    private static final int MAX_CACHED_SESSIONS = 50;
+    private static final Duration ENTRY_LIFETIME = Duration.ofMinutes(2);
+
+    private final Cache<String, SessionResultsData> cache = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_SESSIONS)
+            .expireAfterWrite(ENTRY_LIFETIME)
+            .build();
+
+    /**
+     * Incremented on every change to the cache, so that data loaded concurrently with a change is not cached.
+     */
+    private final AtomicLong modificationCount = new AtomicLong();
+
+    private SessionResultsCache() {
+        // prevent initialization
+    }
+
+    static SessionResultsCache inst() {
+        return instance;
+    }
+
+    private static String getKey(String courseId, String feedbackSessionName) {
+        return courseId + "%" + feedbackSessionName;
+    }
+
+    /**
+     * Gets the cached results data of a session, loading it with {@code loader} if it is not cached.
+     */
+    SessionResultsData get(String courseId, String feedbackSessionName, Supplier<SessionResultsData> loader) {
+        String key = getKey(courseId, feedbackSessionName);
+        SessionResultsData data = cache.getIfPresent(key);
+        if (data != null) {
+            return data;
+        }
+
+        long modificationCountBeforeLoading = modificationCount.get();
+        data = loader.get();
+        synchronized (this) {
+            // data loaded concurrently with a change may be outdated
+            if (modificationCount.get() == modificationCountBeforeLoading) {
+                cache.put(key, data);
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Adds or replaces a response in the cached data of its session.
+     */
+    void putResponse(FeedbackResponseAttributes response) {
+        markModified();
+        SessionResultsData data = cache.getIfPresent(getKey(response.getCourseId(), response.getFeedbackSessionName()));
+        if (data != null) {
+            data.putResponse(response);
+        }
+    }
+
+    /**
+     * Removes a response and its comments from the cached data.
+     */
+    void removeResponse(String responseId) {
+        markModified();
+        for (SessionResultsData data : cache.asMap().values()) {
+            data.removeResponse(responseId);
+        }
+    }
+
+    /**
+     * Adds or replaces a comment in the cached data of its session.
+     */
+    void putComment(FeedbackResponseCommentAttributes comment) {
+        markModified();
+        SessionResultsData data = cache.getIfPresent(getKey(comment.getCourseId(), comment.getFeedbackSessionName()));
+        if (data != null) {
+            data.putComment(comment);
+        }
+    }
+
+    /**
+     * Removes a comment from the cached data.
+     */
+    void removeComment(long commentId) {
+        markModified();
+        for (SessionResultsData data : cache.asMap().values()) {
+            data.removeComment(commentId);
+        }
+    }
+
+    /**
+     * Invalidates the cached data of a session.
+     */
+    void invalidateSession(String courseId, String feedbackSessionName) {
+        markModified();
+        cache.invalidate(getKey(courseId, feedbackSessionName));
+    }
+
+    /**
+     * Invalidates the cached data of all sessions in a course.
+     */
+    void invalidateCourse(String courseId) {
+        markModified();
+        cache.asMap().values().removeIf(data -> data.courseId.equals(courseId));
+    }
+
+    /**
+     * Invalidates the cached data affected by a deletion with {@link AttributesDeletionQuery}.
+     */
+    void invalidate(AttributesDeletionQuery query) {
+        if (query.isResponseIdPresent()) {
+            markModified();
+            for (SessionResultsData data : cache.asMap().values()) {
+                data.removeCommentsForResponse(query.getResponseId());
+            }
+        } else if (query.isCourseIdPresent() && query.isFeedbackSessionNamePresent()) {
+            invalidateSession(query.getCourseId(), query.getFeedbackSessionName());
+        } else if (query.isCourseIdPresent()) {
+            invalidateCourse(query.getCourseId());
+        } else if (query.isQuestionIdPresent()) {
+            markModified();
+            cache.asMap().values().removeIf(data -> data.hasQuestion(query.getQuestionId()));
+        } else {
+            invalidateAll();
+        }
+    }
+
+    /**
+     * Invalidates all cached data.
+     */
+    void invalidateAll() {
+        markModified();
+        cache.invalidateAll();
+    }
+
+    private synchronized void markModified() {
+        modificationCount.incrementAndGet();
+    }
+
+    /**
+     * The unfiltered data required to build the results of a feedback session.
+     */
+    static final class SessionResultsData {
+
+        private final String courseId;
+        private final CourseRoster roster;
+        private final List<FeedbackQuestionAttributes> questions;
+        private final Map<String, FeedbackResponseAttributes> responses = new LinkedHashMap<>();
+        private final Map<Long, FeedbackResponseCommentAttributes> comments = new LinkedHashMap<>();
+
+        SessionResultsData(String courseId, CourseRoster roster, List<FeedbackQuestionAttributes> questions,
+                List<FeedbackResponseAttributes> responses, List<FeedbackResponseCommentAttributes> comments) {
+            this.courseId = courseId;
+            this.roster = roster;
+            this.questions = Collections.unmodifiableList(new ArrayList<>(questions));
+            for (FeedbackResponseAttributes response : responses) {
+                this.responses.put(response.getId(), response);
+            }
+            for (FeedbackResponseCommentAttributes comment : comments) {
+                this.comments.put(comment.getId(), comment);
+            }
+        }
+
+        CourseRoster getRoster() {
+            return roster;
+        }
+
+        /**
+         * Gets the questions of the session.
+         *
+         * @param questionId if not null, will only return the question with the ID
+         */
+        List<FeedbackQuestionAttributes> getQuestions(@Nullable String questionId) {
+            if (questionId == null) {
+                return questions;
+            }
+            List<FeedbackQuestionAttributes> filteredQuestions = new ArrayList<>();
+            for (FeedbackQuestionAttributes question : questions) {
+                if (question.getId().equals(questionId)) {
+                    filteredQuestions.add(question);
+                }
+            }
+            return filteredQuestions;
+        }
+
+        /**
+         * Gets the responses of the session.
+         *
+         * @param questionId if not null, will only return responses for the question
+         * @param section if not null, will only return responses given to/from the section
+         */
+        synchronized List<FeedbackResponseAttributes> getResponses(
+                @Nullable String questionId, @Nullable String section) {
+            List<FeedbackResponseAttributes> filteredResponses = new ArrayList<>();
+            for (FeedbackResponseAttributes response : responses.values()) {
+                if (questionId != null && !questionId.equals(response.getFeedbackQuestionId())) {
+                    continue;
+                }
+                if (section != null && !section.equals(response.getGiverSection())
+                        && !section.equals(response.getRecipientSection())) {
+                    continue;
+                }
+                filteredResponses.add(response);
+            }
+            return filteredResponses;
+        }
+
+        /**
+         * Gets the comments of the session.
+         *
+         * @param questionId if not null, will only return comments for the question
+         * @param section if not null, will only return comments given to/from the section
+         */
+        synchronized List<FeedbackResponseCommentAttributes> getComments(
+                @Nullable String questionId, @Nullable String section) {
+            List<FeedbackResponseCommentAttributes> filteredComments = new ArrayList<>();
+            for (FeedbackResponseCommentAttributes comment : comments.values()) {
+                if (questionId != null && !questionId.equals(comment.getFeedbackQuestionId())) {
+                    continue;
+                }
+                if (section != null && !section.equals(comment.getGiverSection())
+                        && !section.equals(comment.getReceiverSection())) {
+                    continue;
+                }
+                filteredComments.add(comment);
+            }
+            return filteredComments;
+        }
+
+        private boolean hasQuestion(String questionId) {
+            return questions.stream().anyMatch(question -> question.getId().equals(questionId));
+        }
+
+        private synchronized void putResponse(FeedbackResponseAttributes response) {
+            responses.put(response.getId(), response);
+        }
+
+        private synchronized void removeResponse(String responseId) {
+            if (responses.remove(responseId) != null) {
+                removeCommentsForResponse(responseId);
+            }
+        }
+
+        private synchronized void putComment(FeedbackResponseCommentAttributes comment) {
+            comments.put(comment.getId(), comment);
+        }
+
+        private synchronized void removeComment(long commentId) {
+            comments.remove(commentId);
+        }
+
+        private synchronized void removeCommentsForResponse(String responseId) {
+            comments.values().removeIf(comment -> responseId.equals(comment.getFeedbackResponseId()));
+        }
+
+    }
+
+}
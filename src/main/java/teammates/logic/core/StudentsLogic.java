@@ -1,10 +1,19 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.StringJoiner;
+import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.StudentEnrollmentResults;
+import teammates.common.datatransfer.StudentEnrollmentResults.FailedEnrollment;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EnrollException;
@@ -14,6 +23,7 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.SearchServiceException;
 import teammates.common.util.Const;
 import teammates.common.util.RequestTracer;
+import teammates.common.util.StringHelper;
 import teammates.storage.api.StudentsDb;
 
 /**
@@ -33,6 +43,14 @@ public final class StudentsLogic {
     static final String ERROR_ENROLL_EXCEED_SECTION_LIMIT_INSTRUCTION =
             "To avoid performance problems, please do not enroll more than %s students in a single section.";
 
+    static final String ERROR_ENROLL_DUPLICATE_EMAIL =
+            "The student with the email %s is enrolled more than once.";
+
+    static final String ERROR_ENROLL_REGISTRATION_KEY =
+            "Unable to generate a unique registration key for the student.";
+
+    private static final int ENROLLMENT_BATCH_SIZE = 100;
+
     private static final StudentsLogic instance = new StudentsLogic();
 
     private final StudentsDb studentsDb = StudentsDb.inst();
@@ -60,7 +78,10 @@ public final class StudentsLogic {
      */
     public StudentAttributes createStudent(StudentAttributes studentData)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return studentsDb.createEntity(studentData);
+        StudentAttributes createdStudent = studentsDb.createEntity(studentData);
+        SessionResultsCache.inst().invalidateCourse(createdStudent.getCourse());
+        UserRolesCache.inst().invalidate(createdStudent.getGoogleId());
+        return createdStudent;
     }
 
     /**
@@ -70,6 +91,13 @@ public final class StudentsLogic {
         return studentsDb.getStudentForEmail(courseId, email);
     }
 
+    /**
+     * Gets the students of a course with any of the given emails.
+     */
+    public List<StudentAttributes> getStudentsForEmails(String courseId, Collection<String> emails) {
+        return studentsDb.getStudentsForEmails(courseId, emails);
+    }
+
     /**
      * Gets list of students by email.
      */
@@ -105,6 +133,13 @@ public final class StudentsLogic {
         return studentsDb.getStudentsForCourse(courseId);
     }
 
+    /**
+     * Gets the number of students of a course.
+     */
+    public int getNumberOfStudentsForCourse(String courseId) {
+        return studentsDb.getNumberOfStudentsForCourse(courseId);
+    }
+
     /**
      * Gets the first {@code batchSize} students of a course.
      */
@@ -156,9 +191,11 @@ public final class StudentsLogic {
 
     /**
      * Returns true if the user associated with the googleId is a student in any course in the system.
+     *
+     * <p>The result is cached across requests, see {@link UserRolesCache}.
      */
     public boolean isStudentInAnyCourse(String googleId) {
-        return !getStudentsForGoogleId(googleId).isEmpty();
+        return UserRolesCache.inst().isStudent(googleId, () -> studentsDb.hasStudentsForGoogleId(googleId));
     }
 
     /**
@@ -231,9 +268,93 @@ public final class StudentsLogic {
 
         // TODO: check to delete comments for this section/team if the section/team is no longer existent in the course
 
+        SessionResultsCache.inst().invalidateCourse(updatedStudent.getCourse());
+        // the student joins the course, or the account is unlinked from the student
+        if (!Objects.equals(originalStudent.getGoogleId(), updatedStudent.getGoogleId())) {
+            UserRolesCache.inst().invalidate(originalStudent.getGoogleId());
+            UserRolesCache.inst().invalidate(updatedStudent.getGoogleId());
+        }
+
         return updatedStudent;
     }
 
+    /**
+     * Enrolls students into a course.
+     *
+     * <p>Students who are not in the course are created, while students who are already in the course have
+     * their enrollment details updated. The students are validated in a single pass and then written in batches.
+     * Responses are updated for all students whose team or section changes, as done by
+     * {@link #updateStudentCascade(StudentAttributes.UpdateOptions)} for a single student.
+     *
+     * <p>The documents of the students WILL NOT be updated.
+     *
+     * @return the students enrolled in the same order as given, and the students who failed to be enrolled
+     */
+    public StudentEnrollmentResults enrollStudents(String courseId, List<StudentAttributes> studentsToEnroll) {
+        Map<String, StudentAttributes> originalStudents = getStudentsForCourse(courseId).stream()
+                .collect(Collectors.toMap(StudentAttributes::getEmail, student -> student));
+        List<FailedEnrollment> failedEnrollments = new ArrayList<>();
+
+        List<StudentAttributes> validStudents = new ArrayList<>();
+        Set<String> emailsToEnroll = new HashSet<>();
+        for (StudentAttributes student : studentsToEnroll) {
+            student.sanitizeForSaving();
+            if (!student.isValid()) {
+                failedEnrollments.add(
+                        new FailedEnrollment(student.getEmail(), StringHelper.toString(student.getInvalidityInfo())));
+            } else if (emailsToEnroll.add(student.getEmail())) {
+                validStudents.add(student);
+            } else {
+                failedEnrollments.add(new FailedEnrollment(
+                        student.getEmail(), String.format(ERROR_ENROLL_DUPLICATE_EMAIL, student.getEmail())));
+            }
+        }
+
+        List<StudentAttributes> enrolledStudents = new ArrayList<>();
+        for (int i = 0; i < validStudents.size(); i += ENROLLMENT_BATCH_SIZE) {
+            RequestTracer.checkRemainingTime();
+            List<StudentAttributes> batch =
+                    validStudents.subList(i, Math.min(i + ENROLLMENT_BATCH_SIZE, validStudents.size()));
+            List<StudentAttributes> enrolledBatch = studentsDb.putStudentsForEnrollment(courseId, batch);
+            enrolledStudents.addAll(enrolledBatch);
+            if (enrolledBatch.size() < batch.size()) {
+                Set<String> enrolledEmails = enrolledBatch.stream()
+                        .map(StudentAttributes::getEmail)
+                        .collect(Collectors.toSet());
+                batch.stream()
+                        .filter(student -> !enrolledEmails.contains(student.getEmail()))
+                        .forEach(student -> failedEnrollments.add(
+                                new FailedEnrollment(student.getEmail(), ERROR_ENROLL_REGISTRATION_KEY)));
+            }
+        }
+
+        Map<String, String> oldTeamByStudentEmail = new HashMap<>();
+        for (StudentAttributes enrolledStudent : enrolledStudents) {
+            StudentAttributes originalStudent = originalStudents.get(enrolledStudent.getEmail());
+            if (originalStudent != null && isTeamChanged(originalStudent.getTeam(), enrolledStudent.getTeam())) {
+                oldTeamByStudentEmail.put(enrolledStudent.getEmail(), originalStudent.getTeam());
+            }
+        }
+        frLogic.updateFeedbackResponsesForChangingTeams(courseId, oldTeamByStudentEmail);
+
+        Map<String, String> newSectionByStudentEmail = new HashMap<>();
+        for (StudentAttributes enrolledStudent : enrolledStudents) {
+            StudentAttributes originalStudent = originalStudents.get(enrolledStudent.getEmail());
+            if (originalStudent != null
+                    && isSectionChanged(originalStudent.getSection(), enrolledStudent.getSection())) {
+                newSectionByStudentEmail.put(enrolledStudent.getEmail(), enrolledStudent.getSection());
+            }
+        }
+        RequestTracer.checkRemainingTime();
+        frLogic.updateFeedbackResponsesForChangingSections(courseId, newSectionByStudentEmail);
+
+        if (!enrolledStudents.isEmpty()) {
+            SessionResultsCache.inst().invalidateCourse(courseId);
+        }
+
+        return new StudentEnrollmentResults(enrolledStudents, failedEnrollments);
+    }
+
     /**
      * Resets the googleId associated with the student.
      */
@@ -414,6 +535,8 @@ public final class StudentsLogic {
             frLogic.deleteFeedbackResponsesInvolvedEntityOfCourseCascade(student.getCourse(), student.getTeam());
         }
         studentsDb.deleteStudent(courseId, studentEmail);
+        SessionResultsCache.inst().invalidateCourse(courseId);
+        UserRolesCache.inst().invalidate(student.getGoogleId());
     }
 
     /**
@@ -433,6 +556,9 @@ public final class StudentsLogic {
      */
     public void deleteStudents(AttributesDeletionQuery query) {
         studentsDb.deleteStudents(query);
+        SessionResultsCache.inst().invalidate(query);
+        // the Google IDs of the deleted students are not known here
+        UserRolesCache.inst().invalidateAll();
     }
 
     /**
@@ -444,6 +570,15 @@ public final class StudentsLogic {
         studentsDb.putDocument(student);
     }
 
+    /**
+     * Creates or updates search documents for the given students.
+     *
+     * @param students the students to be put into documents
+     */
+    public void putDocuments(List<StudentAttributes> students) throws SearchServiceException {
+        studentsDb.putDocuments(students);
+    }
+
     private boolean isInEnrollList(StudentAttributes student,
             List<StudentAttributes> studentInfoList) {
         for (StudentAttributes studentInfo : studentInfoList) {
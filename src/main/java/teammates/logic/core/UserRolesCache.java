@@ -0,0 +1,110 @@
+package teammates.logic.core;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Caches the roles of users by Google ID, so that the roles need not be resolved from the database
+ * on every authenticated request.
+ *
+ * <p>The entries of a user are invalidated explicitly whenever the roles of the user may change through the logic layer,
+ * i.e. when the user joins a course, is downgraded from instructor to student or has the account deleted.
+ *
+ * <p>The cache is local to the server instance and changes made by other instances are not visible to it,
+ * hence entries are expired after a short period of time, which bounds how long outdated roles may be granted.
+ */
+final class UserRolesCache {
+
+    private static final UserRolesCache instance = new UserRolesCache();
+
+    private static final int MAX_CACHED_USERS = 10_000;
+    private static final Duration ENTRY_LIFETIME = Duration.ofSeconds(30);
+
+    private final Cache<String, Boolean> instructorRoles = createCache();
+    private final Cache<String, Boolean> studentRoles = createCache();
+
+    /**
+     * Incremented on every invalidation, so that roles loaded concurrently with a change are not cached.
+     */
+    private final AtomicLong modificationCount = new AtomicLong();
+
+    private UserRolesCache() {
+        // prevent initialization
+    }
+
+    static UserRolesCache inst() {
+        return instance;
+    }
+
+    private static Cache<String, Boolean> createCache() {
+        return CacheBuilder.newBuilder()
+                .maximumSize(MAX_CACHED_USERS)
+                .expireAfterWrite(ENTRY_LIFETIME)
+                .build();
+    }
+
+    /**
+     * Returns true if the user has an instructor account, using {@code loader} to check if it is not cached.
+     */
+    boolean isInstructor(String googleId, Supplier<Boolean> loader) {
+        return get(instructorRoles, googleId, loader);
+    }
+
+    /**
+     * Returns true if the user is a student in any course, using {@code loader} to check if it is not cached.
+     */
+    boolean isStudent(String googleId, Supplier<Boolean> loader) {
+        return get(studentRoles, googleId, loader);
+    }
+
+    private boolean get(Cache<String, Boolean> roles, String googleId, Supplier<Boolean> loader) {
+        Boolean hasRole = roles.getIfPresent(googleId);
+        if (hasRole != null) {
+            return hasRole;
+        }
+
+        long modificationCountBeforeLoading = modificationCount.get();
+        hasRole = loader.get();
+        synchronized (this) {
+            // roles loaded concurrently with a change may be outdated
+            if (modificationCount.get() == modificationCountBeforeLoading) {
+                roles.put(googleId, hasRole);
+            }
+        }
+        return hasRole;
+    }
+
+    /**
+     * Invalidates the cached roles of a user.
+     *
+     * <p>Does nothing if {@code googleId} is null, e.g. for a student who has not joined the course.
+     */
+    void invalidate(@Nullable String googleId) {
+        if (googleId == null) {
+            return;
+        }
+        markModified();
+        instructorRoles.invalidate(googleId);
+        studentRoles.invalidate(googleId);
+    }
+
+    /**
+     * Invalidates the cached roles of all users.
+     */
+    void invalidateAll() {
+        markModified();
+        instructorRoles.invalidateAll();
+        studentRoles.invalidateAll();
+    }
+
+    private synchronized void markModified() {
+        modificationCount.incrementAndGet();
+    }
+
+}
@@ -0,0 +1,61 @@
+package teammates.logic.external;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntPredicate;
+
+import teammates.common.util.EmailWrapper;
+
+/**
+ * Groups emails for the email services whose batch sending substitutes the subject and content for each recipient.
+ */
+final class EmailBatches {
+
+    private EmailBatches() {
+        // utility class
+    }
+
+    /**
+     * Groups the indexes of {@code wrappers} such that the emails in each group share the sender and reply-to address,
+     * so that each group can be sent as a single batch with the subject and content substituted for each recipient.
+     *
+     * <p>Emails with a bcc recipient are each put in a group of their own,
+     * so that the bcc recipient receives only the copy intended for it.
+     * So are the emails whose indexes do not satisfy {@code isSubstitutable}, e.g. emails too large to be substituted.
+     * A recipient appears at most once in each group, as the substitutions are keyed by recipient.
+     */
+    static List<List<Integer>> groupIndexesBySender(List<EmailWrapper> wrappers, IntPredicate isSubstitutable) {
+        List<List<Integer>> groups = new ArrayList<>();
+        Map<List<String>, List<Integer>> openGroupsBySender = new HashMap<>();
+        Map<List<String>, Set<String>> openGroupRecipientsBySender = new HashMap<>();
+        for (int i = 0; i < wrappers.size(); i++) {
+            EmailWrapper wrapper = wrappers.get(i);
+            boolean hasBcc = wrapper.getBcc() != null && !wrapper.getBcc().isEmpty();
+            if (hasBcc || !isSubstitutable.test(i)) {
+                groups.add(Collections.singletonList(i));
+                continue;
+            }
+
+            List<String> sender = Arrays.asList(wrapper.getSenderName(), wrapper.getSenderEmail(), wrapper.getReplyTo());
+            List<Integer> group = openGroupsBySender.get(sender);
+            Set<String> recipients = openGroupRecipientsBySender.get(sender);
+            if (group == null || recipients.contains(wrapper.getRecipient())) {
+                group = new ArrayList<>();
+                recipients = new HashSet<>();
+                openGroupsBySender.put(sender, group);
+                openGroupRecipientsBySender.put(sender, recipients);
+                groups.add(group);
+            }
+            group.add(i);
+            recipients.add(wrapper.getRecipient());
+        }
+        return groups;
+    }
+
+}
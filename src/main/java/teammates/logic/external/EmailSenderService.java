@@ -1,5 +1,7 @@
 package teammates.logic.external;
 
+import java.util.List;
+
 import teammates.common.exception.EmailSendingException;
 import teammates.common.util.EmailSendingStatus;
 import teammates.common.util.EmailWrapper;
@@ -20,4 +22,23 @@ public interface EmailSenderService {
      */
     EmailSendingStatus sendEmail(EmailWrapper wrapper) throws EmailSendingException;
 
+    /**
+     * Sends the emails packaged as {@code wrappers}, with as few calls to the service as the service allows.
+     *
+     * <p>At most {@link #getMaxBatchSize()} emails will be given at once.
+     *
+     * @return the status of sending each email, in the same order as {@code wrappers}
+     */
+    List<EmailSendingStatus> sendEmails(List<EmailWrapper> wrappers);
+
+    /**
+     * Returns the maximum number of emails to be sent with a single call to {@link #sendEmails(List)}.
+     */
+    int getMaxBatchSize();
+
+    /**
+     * Returns the maximum number of emails to be sent per second by each instance of the application.
+     */
+    double getMaxEmailsPerSecond();
+
 }
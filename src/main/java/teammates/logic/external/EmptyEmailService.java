@@ -1,5 +1,8 @@
 package teammates.logic.external;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.apache.http.HttpStatus;
 
 import teammates.common.util.EmailSendingStatus;
@@ -10,6 +13,10 @@ import teammates.common.util.EmailWrapper;
  */
 public class EmptyEmailService implements EmailSenderService {
 
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private static final double MAX_EMAILS_PER_SECOND = 1000;
+
     @Override
     public EmailWrapper parseToEmail(EmailWrapper wrapper) {
         return wrapper;
@@ -20,4 +27,19 @@ public class EmptyEmailService implements EmailSenderService {
         return new EmailSendingStatus(HttpStatus.SC_OK, null);
     }
 
+    @Override
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> wrappers) {
+        return Collections.nCopies(wrappers.size(), new EmailSendingStatus(HttpStatus.SC_OK, null));
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return MAX_BATCH_SIZE;
+    }
+
+    @Override
+    public double getMaxEmailsPerSecond() {
+        return MAX_EMAILS_PER_SECOND;
+    }
+
 }
@@ -1,12 +1,17 @@
 package teammates.logic.external;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import javax.ws.rs.core.MediaType;
 
 import org.apache.http.HttpStatus;
+import org.json.JSONObject;
 
 import com.sun.jersey.api.client.Client;
+import com.sun.jersey.api.client.ClientHandlerException;
 import com.sun.jersey.api.client.ClientResponse;
 import com.sun.jersey.api.client.WebResource;
 import com.sun.jersey.api.client.filter.HTTPBasicAuthFilter;
@@ -27,6 +32,16 @@ public class MailgunService implements EmailSenderService {
 
     private static final Logger log = Logger.getLogger();
 
+    /**
+     * Maximum number of recipients allowed in a single batch sending request.
+     */
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private static final double MAX_EMAILS_PER_SECOND = 100;
+
+    private static final String SUBJECT_RECIPIENT_VARIABLE = "subject";
+    private static final String HTML_CONTENT_RECIPIENT_VARIABLE = "html";
+
     /**
      * {@inheritDoc}
      */
@@ -34,10 +49,7 @@ public class MailgunService implements EmailSenderService {
     public FormDataMultiPart parseToEmail(EmailWrapper wrapper) {
         FormDataMultiPart formData = new FormDataMultiPart();
 
-        String sender = wrapper.getSenderName() == null || wrapper.getSenderName().isEmpty()
-                        ? wrapper.getSenderEmail()
-                        : wrapper.getSenderName() + " <" + wrapper.getSenderEmail() + ">";
-        formData.field("from", sender);
+        formData.field("from", getSender(wrapper));
 
         formData.field("to", wrapper.getRecipient());
 
@@ -52,9 +64,84 @@ public class MailgunService implements EmailSenderService {
         return formData;
     }
 
+    /**
+     * Parses emails which share the sender and reply-to address to a single batch sending request,
+     * with the subject and content of each email given in the recipient variables of its recipient.
+     */
+    private FormDataMultiPart parseToPersonalizedEmail(List<EmailWrapper> wrappers) {
+        FormDataMultiPart formData = new FormDataMultiPart();
+
+        formData.field("from", getSender(wrappers.get(0)));
+
+        JSONObject recipientVariables = new JSONObject();
+        for (EmailWrapper wrapper : wrappers) {
+            formData.field("to", wrapper.getRecipient());
+            recipientVariables.put(wrapper.getRecipient(), new JSONObject()
+                    .put(SUBJECT_RECIPIENT_VARIABLE, wrapper.getSubject())
+                    .put(HTML_CONTENT_RECIPIENT_VARIABLE, wrapper.getContent()));
+        }
+        formData.field("recipient-variables", recipientVariables.toString());
+
+        formData.field("h:Reply-To", wrappers.get(0).getReplyTo());
+        formData.field("subject", "%recipient." + SUBJECT_RECIPIENT_VARIABLE + "%");
+        formData.field("html", "%recipient." + HTML_CONTENT_RECIPIENT_VARIABLE + "%");
+
+        return formData;
+    }
+
+    private static String getSender(EmailWrapper wrapper) {
+        return wrapper.getSenderName() == null || wrapper.getSenderName().isEmpty()
+                ? wrapper.getSenderEmail()
+                : wrapper.getSenderName() + " <" + wrapper.getSenderEmail() + ">";
+    }
+
     @Override
     public EmailSendingStatus sendEmail(EmailWrapper wrapper) {
-        try (FormDataMultiPart email = parseToEmail(wrapper)) {
+        return send(parseToEmail(wrapper));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Emails which share the sender and reply-to address are sent with a single batch sending request,
+     * with recipient variables substituting the subject and content of the email of each recipient.
+     * Each recipient receives a message of its own, and only sees itself as the recipient.
+     */
+    @Override
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> wrappers) {
+        EmailSendingStatus[] statuses = new EmailSendingStatus[wrappers.size()];
+        for (List<Integer> group : EmailBatches.groupIndexesBySender(wrappers, i -> true)) {
+            FormDataMultiPart email;
+            if (group.size() == 1) {
+                email = parseToEmail(wrappers.get(group.get(0)));
+            } else {
+                List<EmailWrapper> groupWrappers = new ArrayList<>();
+                for (int index : group) {
+                    groupWrappers.add(wrappers.get(index));
+                }
+                email = parseToPersonalizedEmail(groupWrappers);
+            }
+
+            EmailSendingStatus status = send(email);
+            for (int index : group) {
+                statuses[index] = status;
+            }
+        }
+        return Arrays.asList(statuses);
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return MAX_BATCH_SIZE;
+    }
+
+    @Override
+    public double getMaxEmailsPerSecond() {
+        return MAX_EMAILS_PER_SECOND;
+    }
+
+    private EmailSendingStatus send(FormDataMultiPart formData) {
+        try (FormDataMultiPart email = formData) {
             Client client = Client.create();
             client.addFilter(new HTTPBasicAuthFilter("api", Config.MAILGUN_APIKEY));
             WebResource webResource =
@@ -64,6 +151,9 @@ public class MailgunService implements EmailSenderService {
                     .post(ClientResponse.class, email);
 
             return new EmailSendingStatus(response.getStatus(), response.getStatusInfo().getReasonPhrase());
+        } catch (ClientHandlerException e) {
+            // e.g. network error; reported as a failure so that the other emails in the batch are still sent
+            return new EmailSendingStatus(HttpStatus.SC_BAD_GATEWAY, e.getMessage());
         } catch (IOException e) {
             log.warning("Could not clean up resources after sending email", e);
             return new EmailSendingStatus(HttpStatus.SC_OK, e.getMessage());
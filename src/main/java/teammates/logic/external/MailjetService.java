@@ -1,5 +1,8 @@
 package teammates.logic.external;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.apache.http.HttpStatus;
 import org.json.JSONArray;
 import org.json.JSONObject;
@@ -27,6 +30,18 @@ import teammates.common.util.EmailWrapper;
  */
 public class MailjetService implements EmailSenderService {
 
+    /**
+     * Property of the send API taking the list of messages to be sent with a single request.
+     */
+    private static final String MESSAGES = "Messages";
+
+    /**
+     * Maximum number of messages allowed in a single request.
+     */
+    private static final int MAX_BATCH_SIZE = 50;
+
+    private static final double MAX_EMAILS_PER_SECOND = 100;
+
     /**
      * {@inheritDoc}
      */
@@ -52,7 +67,43 @@ public class MailjetService implements EmailSenderService {
 
     @Override
     public EmailSendingStatus sendEmail(EmailWrapper wrapper) throws EmailSendingException {
-        MailjetRequest email = parseToEmail(wrapper);
+        return send(parseToEmail(wrapper));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>All the emails are sent as separate messages of a single request.
+     */
+    @Override
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> wrappers) {
+        MailjetRequest request = new MailjetRequest(Email.resource);
+        JSONArray messages = new JSONArray();
+        for (EmailWrapper wrapper : wrappers) {
+            messages.put(new JSONObject(parseToEmail(wrapper).getBody()));
+        }
+        request.property(MESSAGES, messages);
+
+        EmailSendingStatus status;
+        try {
+            status = send(request);
+        } catch (EmailSendingException e) {
+            status = new EmailSendingStatus(e.getStatusCode(), e.getMessage());
+        }
+        return Collections.nCopies(wrappers.size(), status);
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return MAX_BATCH_SIZE;
+    }
+
+    @Override
+    public double getMaxEmailsPerSecond() {
+        return MAX_EMAILS_PER_SECOND;
+    }
+
+    private EmailSendingStatus send(MailjetRequest email) throws EmailSendingException {
         MailjetClient mailjet = new MailjetClient(
                 ClientOptions.builder().apiKey(Config.MAILJET_APIKEY).apiSecretKey(Config.MAILJET_SECRETKEY).build());
         try {
@@ -1,6 +1,10 @@
 package teammates.logic.external;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
 
 import org.apache.http.HttpStatus;
 import org.jsoup.Jsoup;
@@ -16,6 +20,7 @@ import com.sendgrid.helpers.mail.objects.Personalization;
 
 import teammates.common.exception.EmailSendingException;
 import teammates.common.util.Config;
+import teammates.common.util.Const;
 import teammates.common.util.EmailSendingStatus;
 import teammates.common.util.EmailWrapper;
 
@@ -27,11 +32,35 @@ import teammates.common.util.EmailWrapper;
  */
 public class SendgridService implements EmailSenderService {
 
+    /**
+     * Maximum number of personalizations allowed in a single request.
+     */
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private static final double MAX_EMAILS_PER_SECOND = 100;
+
+    /**
+     * Maximum total size in bytes of the substitutions of a single personalization.
+     */
+    private static final int MAX_SUBSTITUTIONS_SIZE = 10_000;
+
+    private static final String TEXT_CONTENT_SUBSTITUTION_KEY = "-textContent-";
+    private static final String HTML_CONTENT_SUBSTITUTION_KEY = "-htmlContent-";
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Mail parseToEmail(EmailWrapper wrapper) {
+        Mail email = parseToEmailWithoutContent(wrapper);
+        email.addPersonalization(parseToPersonalization(wrapper));
+        email.setSubject(wrapper.getSubject());
+        email.addContent(new Content("text/plain", Jsoup.parse(wrapper.getContent()).text()));
+        email.addContent(new Content("text/html", wrapper.getContent()));
+        return email;
+    }
+
+    private Mail parseToEmailWithoutContent(EmailWrapper wrapper) {
         Mail email = new Mail();
         Email sender;
         if (wrapper.getSenderName() == null || wrapper.getSenderName().isEmpty()) {
@@ -41,21 +70,102 @@ public class SendgridService implements EmailSenderService {
         }
         email.setFrom(sender);
         email.setReplyTo(new Email(wrapper.getReplyTo()));
+        return email;
+    }
+
+    /**
+     * Parses emails which share the sender and reply-to address to a single email,
+     * with the subject and content of each email given in the personalization of its recipient.
+     */
+    private Mail parseToPersonalizedEmail(List<EmailWrapper> wrappers, List<String> textContents) {
+        Mail email = parseToEmailWithoutContent(wrappers.get(0));
+        email.addContent(new Content("text/plain", TEXT_CONTENT_SUBSTITUTION_KEY));
+        email.addContent(new Content("text/html", HTML_CONTENT_SUBSTITUTION_KEY));
+        for (int i = 0; i < wrappers.size(); i++) {
+            EmailWrapper wrapper = wrappers.get(i);
+            Personalization personalization = parseToPersonalization(wrapper);
+            personalization.setSubject(wrapper.getSubject());
+            personalization.addSubstitution(TEXT_CONTENT_SUBSTITUTION_KEY, textContents.get(i));
+            personalization.addSubstitution(HTML_CONTENT_SUBSTITUTION_KEY, wrapper.getContent());
+            email.addPersonalization(personalization);
+        }
+        return email;
+    }
+
+    private Personalization parseToPersonalization(EmailWrapper wrapper) {
         Personalization personalization = new Personalization();
         personalization.addTo(new Email(wrapper.getRecipient()));
         if (wrapper.getBcc() != null && !wrapper.getBcc().isEmpty()) {
             personalization.addBcc(new Email(wrapper.getBcc()));
         }
-        email.addPersonalization(personalization);
-        email.setSubject(wrapper.getSubject());
-        email.addContent(new Content("text/plain", Jsoup.parse(wrapper.getContent()).text()));
-        email.addContent(new Content("text/html", wrapper.getContent()));
-        return email;
+        return personalization;
     }
 
     @Override
     public EmailSendingStatus sendEmail(EmailWrapper wrapper) throws EmailSendingException {
-        Mail email = parseToEmail(wrapper);
+        return send(parseToEmail(wrapper));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Emails which share the sender and reply-to address are sent with a single request,
+     * with one personalization for each recipient substituting the subject and content of its email.
+     * Emails whose content is too large to be substituted are sent with a request of their own.
+     */
+    @Override
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> wrappers) {
+        List<String> textContents = new ArrayList<>();
+        for (EmailWrapper wrapper : wrappers) {
+            textContents.add(Jsoup.parse(wrapper.getContent()).text());
+        }
+        IntPredicate isSubstitutable = i -> getSubstitutionsSize(wrappers.get(i), textContents.get(i))
+                <= MAX_SUBSTITUTIONS_SIZE;
+
+        EmailSendingStatus[] statuses = new EmailSendingStatus[wrappers.size()];
+        for (List<Integer> group : EmailBatches.groupIndexesBySender(wrappers, isSubstitutable)) {
+            Mail email;
+            if (group.size() == 1) {
+                email = parseToEmail(wrappers.get(group.get(0)));
+            } else {
+                List<EmailWrapper> groupWrappers = new ArrayList<>();
+                List<String> groupTextContents = new ArrayList<>();
+                for (int index : group) {
+                    groupWrappers.add(wrappers.get(index));
+                    groupTextContents.add(textContents.get(index));
+                }
+                email = parseToPersonalizedEmail(groupWrappers, groupTextContents);
+            }
+
+            EmailSendingStatus status;
+            try {
+                status = send(email);
+            } catch (EmailSendingException e) {
+                status = new EmailSendingStatus(e.getStatusCode(), e.getMessage());
+            }
+            for (int index : group) {
+                statuses[index] = status;
+            }
+        }
+        return Arrays.asList(statuses);
+    }
+
+    private static int getSubstitutionsSize(EmailWrapper wrapper, String textContent) {
+        return TEXT_CONTENT_SUBSTITUTION_KEY.length() + textContent.getBytes(Const.ENCODING).length
+                + HTML_CONTENT_SUBSTITUTION_KEY.length() + wrapper.getContent().getBytes(Const.ENCODING).length;
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return MAX_BATCH_SIZE;
+    }
+
+    @Override
+    public double getMaxEmailsPerSecond() {
+        return MAX_EMAILS_PER_SECOND;
+    }
+
+    private EmailSendingStatus send(Mail email) throws EmailSendingException {
         SendGrid sendgrid = new SendGrid(Config.SENDGRID_APIKEY);
         Request request = new Request();
         request.setMethod(Method.POST);
@@ -47,6 +47,13 @@ public final class AccountRequestsDb extends EntitiesDb<AccountRequest, AccountR
         getSearchManager().putDocument(accountRequest);
     }
 
+    /**
+     * Creates or updates search documents for the given account requests with a single request.
+     */
+    public void putDocuments(List<AccountRequestAttributes> accountRequests) throws SearchServiceException {
+        getSearchManager().putDocuments(accountRequests);
+    }
+
     /**
      * Searches all account requests in the system.
      *
@@ -153,7 +160,7 @@ public final class AccountRequestsDb extends EntitiesDb<AccountRequest, AccountR
     boolean hasExistingEntities(AccountRequestAttributes entityToCreate) {
         Key<AccountRequest> keyToFind = Key.create(AccountRequest.class,
                 AccountRequest.generateId(entityToCreate.getEmail(), entityToCreate.getInstitute()));
-        return !load().filterKey(keyToFind).keys().list().isEmpty();
+        return exists(load().filterKey(keyToFind));
     }
 
     @Override
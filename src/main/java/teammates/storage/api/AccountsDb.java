@@ -87,7 +87,9 @@ public final class AccountsDb extends EntitiesDb<Account, AccountAttributes> {
     }
 
     private Account getAccountEntity(String googleId) {
-        Account account = load().id(googleId).now();
+        // looked up on every request to resolve the roles of the user, so it is reused within the request;
+        // it is not cached across requests, as roles revoked through other server instances would still be granted
+        Account account = loadCachedInRequest(Key.create(Account.class, googleId), () -> load().id(googleId).now());
         if (account == null) {
             return null;
         }
@@ -103,7 +105,7 @@ public final class AccountsDb extends EntitiesDb<Account, AccountAttributes> {
     @Override
     boolean hasExistingEntities(AccountAttributes entityToCreate) {
         Key<Account> keyToFind = Key.create(Account.class, entityToCreate.getGoogleId());
-        return !load().filterKey(keyToFind).keys().list().isEmpty();
+        return exists(load().filterKey(keyToFind));
     }
 
     @Override
@@ -0,0 +1,185 @@
+package teammates.storage.api;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.googlecode.objectify.ObjectifyService;
+import com.googlecode.objectify.util.Closeable;
+
+import teammates.common.util.RequestTracer;
+
+/**
+ * Runs independent reads from the database concurrently.
+ *
+ * <p>Each read is run in a thread from a shared, bounded pool within its own Objectify context,
+ * as the context of the calling request is bound to the thread serving the request.
+ * The reads are therefore not part of any transaction of the caller, and the request-scoped state of the caller
+ * (e.g. {@link teammates.common.util.RequestCache}) is not visible to them.
+ *
+ * <p>A read started from within another concurrent read is run in the calling thread instead,
+ * so that reads waiting for other reads cannot exhaust the pool.
+ *
+ * <p>A read which is still waiting for a thread of the pool when its result is awaited is run in the awaiting thread,
+ * so that a saturated pool delays the caller by at most {@link #MAX_QUEUEING_MILLIS}.
+ * A read which has already started is awaited until it completes or the current request exceeds its deadline.
+ */
+public final class ConcurrentReads {
+
+    /**
+     * The number of threads of the pool shared by all requests of the server instance.
+     *
+     * <p>The threads mostly wait for datastore calls, so the pool is sized for the concurrent reads of
+     * the requests served by an instance at once (10 by default on App Engine), each of which starts
+     * one or two reads at a time in the common case, rather than for the number of CPUs.
+     */
+    private static final int NUMBER_OF_THREADS = 16;
+
+    /**
+     * The maximum time a read waits for a thread of the pool before it is run in the awaiting thread.
+     */
+    private static final long MAX_QUEUEING_MILLIS = 200;
+
+    /**
+     * The interval at which the deadline of the current request is checked while awaiting a read which has started.
+     */
+    private static final long DEADLINE_CHECK_INTERVAL_MILLIS = 1000;
+
+    private static final ThreadLocal<Boolean> IS_IN_CONCURRENT_READ = ThreadLocal.withInitial(() -> false);
+
+    private static final ExecutorService EXECUTOR =
+            Executors.newFixedThreadPool(NUMBER_OF_THREADS, new DaemonThreadFactory());
+
+    private ConcurrentReads() {
+        // utility class
+    }
+
+    /**
+     * Starts {@code read} concurrently with the calling thread.
+     *
+     * @return the pending read, whose result is to be obtained with {@link #await(PendingRead)}
+     */
+    public static <T> PendingRead<T> start(Supplier<T> read) {
+        assert read != null;
+
+        PendingRead<T> pendingRead = new PendingRead<>(read);
+        if (IS_IN_CONCURRENT_READ.get()) {
+            pendingRead.runIfNotStarted();
+            return pendingRead;
+        }
+        EXECUTOR.execute(() -> runInNewContext(pendingRead));
+        return pendingRead;
+    }
+
+    /**
+     * Waits for the result of a read started with {@link #start(Supplier)}.
+     *
+     * <p>Any exception thrown by the read is rethrown as it is.
+     *
+     * @throws teammates.common.exception.DeadlineExceededException if the current request exceeds its deadline
+     *         while the read is running in the pool
+     */
+    public static <T> T await(PendingRead<T> pendingRead) {
+        try {
+            return pendingRead.result.get(MAX_QUEUEING_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // the read is either waiting for a thread of the pool, in which case it is run here instead,
+            // or already running, in which case it is awaited
+            pendingRead.runIfNotStarted();
+            return awaitStartedRead(pendingRead);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static <T> T awaitStartedRead(PendingRead<T> pendingRead) {
+        while (true) {
+            try {
+                return pendingRead.result.get(DEADLINE_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                RequestTracer.checkRemainingTime();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } catch (ExecutionException e) {
+                throw rethrow(e);
+            }
+        }
+    }
+
+    private static RuntimeException rethrow(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        throw new IllegalStateException(cause);
+    }
+
+    private static void runInNewContext(PendingRead<?> pendingRead) {
+        IS_IN_CONCURRENT_READ.set(true);
+        try (Closeable ignored = ObjectifyService.begin()) {
+            pendingRead.runIfNotStarted();
+        } finally {
+            IS_IN_CONCURRENT_READ.set(false);
+        }
+    }
+
+    /**
+     * Represents a read started with {@link ConcurrentReads#start(Supplier)}.
+     *
+     * <p>The read is run exactly once, by either a thread of the pool or the thread awaiting it,
+     * whichever gets to it first.
+     */
+    public static final class PendingRead<T> {
+
+        private final Supplier<T> read;
+        private final AtomicBoolean isStarted = new AtomicBoolean();
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private PendingRead(Supplier<T> read) {
+            this.read = read;
+        }
+
+        private void runIfNotStarted() {
+            if (!isStarted.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                result.complete(read.get());
+            } catch (RuntimeException | Error e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+    }
+
+    /**
+     * Creates daemon threads, so that the pool does not keep the application from shutting down.
+     */
+    private static class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "concurrent-reads-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+}
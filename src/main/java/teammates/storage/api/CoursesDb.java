@@ -38,7 +38,8 @@ public final class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
     public CourseAttributes getCourse(String courseId) {
         assert courseId != null;
 
-        return makeAttributesOrNull(getCourseEntity(courseId));
+        return getCachedAcrossRequests(courseId,
+                () -> makeAttributesOrNull(getCourseEntity(courseId)), CourseAttributes::getCopy);
     }
 
     /**
@@ -145,11 +146,11 @@ public final class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
     @Override
     boolean hasExistingEntities(CourseAttributes entityToCreate) {
         Key<Course> keyToFind = Key.create(Course.class, entityToCreate.getId());
-        return !load().filterKey(keyToFind).keys().list().isEmpty();
+        return exists(load().filterKey(keyToFind));
     }
 
     private Course getCourseEntity(String courseId) {
-        return load().id(courseId).now();
+        return loadCachedInRequest(Key.create(Course.class, courseId), () -> load().id(courseId).now());
     }
 
     private List<Course> getCourseEntities(List<String> courseIds) {
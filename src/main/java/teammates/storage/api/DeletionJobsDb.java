@@ -0,0 +1,96 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.cmd.LoadType;
+
+import teammates.common.datatransfer.attributes.DeletionJobAttributes;
+import teammates.storage.entity.DeletionJob;
+
+/**
+ * Handles CRUD operations for the jobs deleting courses and feedback sessions in the background.
+ *
+ * @see DeletionJob
+ * @see DeletionJobAttributes
+ */
+public final class DeletionJobsDb extends EntitiesDb<DeletionJob, DeletionJobAttributes> {
+
+    private static final DeletionJobsDb instance = new DeletionJobsDb();
+
+    private DeletionJobsDb() {
+        // prevent initialization
+    }
+
+    public static DeletionJobsDb inst() {
+        return instance;
+    }
+
+    /**
+     * Gets the job deleting a course, or a feedback session if {@code feedbackSessionName} is given.
+     *
+     * @return null if no such job exists
+     */
+    public DeletionJobAttributes getDeletionJob(String courseId, @Nullable String feedbackSessionName) {
+        assert courseId != null;
+
+        return makeAttributesOrNull(load().id(DeletionJob.generateId(courseId, feedbackSessionName)).now());
+    }
+
+    /**
+     * Checks whether there are jobs deleting a course or any of its feedback sessions.
+     */
+    public boolean hasDeletionJobsForCourse(String courseId) {
+        assert courseId != null;
+
+        return exists(load().filter("courseId =", courseId));
+    }
+
+    /**
+     * Gets the jobs which have not been updated since {@code time}.
+     */
+    public List<DeletionJobAttributes> getDeletionJobsNotUpdatedSince(Instant time) {
+        assert time != null;
+
+        // there are only as many jobs as the courses and sessions still being deleted,
+        // so the jobs are filtered here instead of indexing the time they are updated
+        return makeAttributes(load().list()).stream()
+                .filter(job -> job.getUpdatedAt().isBefore(time))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Deletes the job deleting a course, or a feedback session if {@code feedbackSessionName} is given.
+     */
+    public void deleteDeletionJob(String courseId, @Nullable String feedbackSessionName) {
+        assert courseId != null;
+
+        deleteEntity(Key.create(DeletionJob.class, DeletionJob.generateId(courseId, feedbackSessionName)));
+    }
+
+    @Override
+    LoadType<DeletionJob> load() {
+        return ofy().load().type(DeletionJob.class);
+    }
+
+    @Override
+    boolean hasExistingEntities(DeletionJobAttributes entityToCreate) {
+        Key<DeletionJob> keyToFind = Key.create(DeletionJob.class,
+                DeletionJob.generateId(entityToCreate.getCourseId(), entityToCreate.getFeedbackSessionName()));
+        return exists(load().filterKey(keyToFind));
+    }
+
+    @Override
+    DeletionJobAttributes makeAttributes(DeletionJob entity) {
+        assert entity != null;
+
+        return DeletionJobAttributes.valueOf(entity);
+    }
+
+}
@@ -0,0 +1,33 @@
+package teammates.storage.api;
+
+/**
+ * Entity cache service which does not cache anything.
+ */
+public class EmptyEntityCacheService implements EntityCacheService {
+
+    @Override
+    public Object get(String key) {
+        return null;
+    }
+
+    @Override
+    public void put(String key, Object value) {
+        // not cached
+    }
+
+    @Override
+    public long getVersion(String namespace) {
+        return 0;
+    }
+
+    @Override
+    public void incrementVersion(String namespace) {
+        // nothing to invalidate
+    }
+
+    @Override
+    public void clear() {
+        // nothing to clear
+    }
+
+}
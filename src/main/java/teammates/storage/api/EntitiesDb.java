@@ -8,16 +8,25 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
+import javax.annotation.Nullable;
+
+import com.google.cloud.datastore.Cursor;
+import com.google.cloud.datastore.QueryResults;
 import com.google.common.base.Objects;
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.Query;
 
+import teammates.common.datatransfer.ResultsPage;
 import teammates.common.datatransfer.attributes.EntityAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestCache;
 import teammates.storage.entity.BaseEntity;
 
 /**
@@ -44,6 +53,12 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
     static final String OPTIMIZED_SAVING_POLICY_APPLIED =
             "Saving request is not issued because entity %s does not change by the update (%s)";
 
+    /**
+     * The number of entities deleted at a time when deleting entities in batches,
+     * which is the maximum number of entities the database allows to be written in a single commit.
+     */
+    static final int DELETION_BATCH_SIZE = 500;
+
     static final Logger log = Logger.getLogger();
 
     /**
@@ -75,7 +90,8 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
         E entity = convertToEntityForSaving(entityToAdd);
 
         ofy().save().entity(entity).now();
-        log.info("Entity created: " + JsonUtils.toJson(entityToAdd));
+        invalidateCaches();
+        log.info(() -> "Entity created: " + JsonUtils.toCompactJson(entityToAdd));
 
         return makeAttributes(entity);
     }
@@ -131,9 +147,10 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
         }
 
         for (A attributes : entitiesToAdd) {
-            log.info("Entity created: " + JsonUtils.toJson(attributes));
+            log.info(() -> "Entity created: " + JsonUtils.toCompactJson(attributes));
         }
         ofy().save().entities(entities).now();
+        invalidateCaches();
 
         return makeAttributes(entities);
     }
@@ -151,9 +168,10 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
     void saveEntity(E entityToSave) {
         assert entityToSave != null;
 
-        log.info("Entity saved: " + JsonUtils.toJson(entityToSave));
+        log.info(() -> "Entity saved: " + JsonUtils.toCompactJson(entityToSave));
 
         ofy().save().entity(entityToSave).now();
+        invalidateCaches();
     }
 
     /**
@@ -161,10 +179,11 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
      */
     void saveEntities(Collection<E> entitiesToSave) {
         for (E entityToSave : entitiesToSave) {
-            log.info("Entity saved: " + JsonUtils.toJson(entityToSave));
+            log.info(() -> "Entity saved: " + JsonUtils.toCompactJson(entityToSave));
         }
 
         ofy().save().entities(entitiesToSave).now();
+        invalidateCaches();
     }
 
     /**
@@ -183,14 +202,123 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
         assert !keys.contains(null);
 
         for (Key<E> key : keys) {
-            log.info(String.format("Delete entity %s of key (id: %d, name: %s)",
+            log.info(() -> String.format("Delete entity %s of key (id: %d, name: %s)",
                     key.getKind(), key.getRaw().getId(), key.getName()));
         }
         ofy().delete().keys(keys).now();
+        invalidateCaches();
+    }
+
+    /**
+     * Deletes all the entities matching {@code query} in batches of {@link #DELETION_BATCH_SIZE},
+     * so that the keys of the entities are never all held in memory at once.
+     */
+    void deleteEntities(Query<E> query) {
+        try {
+            ResultsPage<Integer> batch = deleteEntitiesBatch(query, null, DELETION_BATCH_SIZE);
+            while (batch.hasNextPage()) {
+                batch = deleteEntitiesBatch(query, batch.getNextPageToken(), DELETION_BATCH_SIZE);
+            }
+        } catch (InvalidParametersException e) {
+            assert false : "Unreachable branch";
+        }
+    }
+
+    /**
+     * Deletes a batch of the entities matching {@code query}, ordered by their keys.
+     *
+     * <p>Only the keys of the batch are loaded, and the batch ends with a query cursor to continue from,
+     * so that the entities matching a query can be deleted over many calls, e.g. across many requests.
+     * A batch which ends exactly at the last entity matching the query still comes with a cursor,
+     * whose batch is then empty.
+     *
+     * @param cursor the cursor returned with the previous batch, or null to start from the first entity
+     * @param limit the maximum number of entities to delete
+     * @return the number of entities deleted, with the cursor to continue deleting from as the token of the next page
+     * @throws InvalidParametersException if {@code cursor} is not a valid cursor
+     */
+    ResultsPage<Integer> deleteEntitiesBatch(Query<E> query, @Nullable String cursor, int limit)
+            throws InvalidParametersException {
+        assert limit > 0;
+
+        Query<E> batchQuery = query.orderKey(false).limit(limit);
+        if (cursor != null) {
+            try {
+                batchQuery = batchQuery.startAt(Cursor.fromUrlSafe(cursor));
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                throw new InvalidParametersException("Invalid deletion cursor: " + cursor);
+            }
+        }
+
+        List<Key<E>> keys = new ArrayList<>();
+        QueryResults<Key<E>> iterator = batchQuery.keys().iterator();
+        while (iterator.hasNext()) {
+            keys.add(iterator.next());
+        }
+        if (!keys.isEmpty()) {
+            deleteEntity(keys);
+        }
+        String nextCursor = keys.size() < limit ? null : iterator.getCursorAfter().toUrlSafe();
+
+        return new ResultsPage<>(keys.size(), nextCursor);
     }
 
     abstract LoadType<E> load();
 
+    /**
+     * Checks whether any entity matches {@code query}.
+     *
+     * <p>At most the key of a single entity is loaded, regardless of the number of entities matching the query.
+     */
+    boolean exists(Query<E> query) {
+        return !query.limit(1).keys().list().isEmpty();
+    }
+
+    /**
+     * Loads an entity uniquely identified by {@code lookupKey} (e.g. its entity key or a unique constraint),
+     * reusing the entity if it has already been loaded in the current request.
+     *
+     * <p>Entities cached this way are invalidated whenever any entity of the same kind is written.
+     *
+     * @see RequestCache
+     */
+    E loadCachedInRequest(Object lookupKey, Supplier<E> loader) {
+        return RequestCache.get(getClass(), lookupKey, loader);
+    }
+
+    /**
+     * Gets the attributes of an entity uniquely identified by {@code lookupKey}, sharing them across requests.
+     *
+     * <p>Attributes cached this way are invalidated whenever any entity of the same kind is written.
+     * As the attributes are shared, each caller gets its own copy made by {@code copier}.
+     *
+     * <p>Writes through other server instances are only seen once the cached attributes expire,
+     * so this must not be used for entities which grant privileges, e.g. accounts and instructors.
+     *
+     * @see EntityCache
+     */
+    A getCachedAcrossRequests(String lookupKey, Supplier<A> loader, UnaryOperator<A> copier) {
+        A attributes = getValueCachedAcrossRequests(lookupKey, loader);
+        return attributes == null ? null : copier.apply(attributes);
+    }
+
+    /**
+     * Gets a value derived from the entities (e.g. whether any entity matches a query), sharing it across requests.
+     *
+     * <p>Values cached this way are invalidated whenever any entity of the same kind is written.
+     * As the values are shared, they must not be modified by the callers.
+     *
+     * @see EntityCache
+     */
+    <T> T getValueCachedAcrossRequests(String lookupKey, Supplier<T> loader) {
+        return EntityCache.inst().get(getClass().getSimpleName(), lookupKey, loader);
+    }
+
+    private void invalidateCaches() {
+        RequestCache.invalidate(getClass());
+        EntityCache.inst().invalidate(getClass().getSimpleName());
+    }
+
     /**
      * Converts from entity to attributes.
      */
@@ -233,4 +361,37 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
         }
     }
 
+    /**
+     * Gets a page of the entities matching {@code query}, ordered by their keys.
+     *
+     * <p>The token of the page returned is a query cursor, which continues the query from the end of the page.
+     * A page which ends exactly at the last entity matching the query still comes with a token,
+     * whose page is then empty.
+     *
+     * @param cursor the token of the previous page, or null to get the first page
+     * @param limit the maximum number of entities in the page
+     * @throws InvalidParametersException if {@code cursor} is not a valid cursor
+     */
+    ResultsPage<List<A>> getPage(Query<E> query, @Nullable String cursor, int limit) throws InvalidParametersException {
+        assert limit > 0;
+
+        Query<E> pageQuery = query.orderKey(false).limit(limit);
+        if (cursor != null) {
+            try {
+                pageQuery = pageQuery.startAt(Cursor.fromUrlSafe(cursor));
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                throw new InvalidParametersException("Invalid page token: " + cursor);
+            }
+        }
+
+        List<E> entities = new ArrayList<>();
+        QueryResults<E> iterator = pageQuery.iterator();
+        while (iterator.hasNext()) {
+            entities.add(iterator.next());
+        }
+        String nextCursor = entities.size() < limit ? null : iterator.getCursorAfter().toUrlSafe();
+
+        return new ResultsPage<>(makeAttributes(entities), nextCursor);
+    }
+
 }
@@ -0,0 +1,145 @@
+package teammates.storage.api;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import teammates.common.util.Config;
+import teammates.common.util.Logger;
+
+/**
+ * Caches frequently read and rarely changed entities across requests.
+ *
+ * <p>Entries are grouped by the database class which loads them, and all entries of a group are invalidated
+ * whenever any entity of that group is written. As writes made through other server instances may not
+ * invalidate the entries, they are also expired after a short period of time.
+ *
+ * <p>The number of cache hits and misses of each group is recorded, and logged after every
+ * {@value #STATISTICS_LOGGING_INTERVAL} lookups in the group, so that the effectiveness of the cache can be observed.
+ *
+ * @see EntityCacheService
+ */
+public final class EntityCache {
+
+    private static final long MAX_CACHED_ENTRIES = 10_000;
+    private static final Duration ENTRY_LIFETIME = Duration.ofMinutes(1);
+    private static final long STATISTICS_LOGGING_INTERVAL = 1000;
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final EntityCache instance = new EntityCache(createService());
+
+    private final EntityCacheService service;
+    private final Map<String, AtomicLong> hitCounts = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> missCounts = new ConcurrentHashMap<>();
+
+    EntityCache(EntityCacheService service) {
+        this.service = service;
+    }
+
+    public static EntityCache inst() {
+        return instance;
+    }
+
+    private static EntityCacheService createService() {
+        if ("local".equalsIgnoreCase(Config.ENTITY_CACHE_SERVICE)) {
+            return new LocalEntityCacheService(MAX_CACHED_ENTRIES, ENTRY_LIFETIME);
+        }
+        return new EmptyEntityCacheService();
+    }
+
+    /**
+     * Gets the value cached under {@code key} in {@code namespace}, using {@code loader} to load it if it is not cached.
+     *
+     * <p>Null values are cached as well.
+     */
+    <T> T get(String namespace, String key, Supplier<T> loader) {
+        return get(namespace, key, loader, value -> true);
+    }
+
+    /**
+     * Gets the value cached under {@code key} in {@code namespace}, using {@code loader} to load it if it is not cached.
+     *
+     * <p>A value loaded is cached only if it is accepted by {@code shouldCache}, e.g. for values which are
+     * maintained through {@link #put(String, String, Object)} when they change in one direction only.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T get(String namespace, String key, Supplier<T> loader, Predicate<T> shouldCache) {
+        // the version is read before loading, so that values loaded concurrently with a write are cached
+        // under the outdated version and never read again
+        String versionedKey = getVersionedKey(namespace, key);
+        Object cached = service.get(versionedKey);
+        if (cached != null) {
+            recordLookup(hitCounts, namespace);
+            return ((Optional<T>) cached).orElse(null);
+        }
+
+        recordLookup(missCounts, namespace);
+        T value = loader.get();
+        if (shouldCache.test(value)) {
+            service.put(versionedKey, Optional.ofNullable(value));
+        }
+        return value;
+    }
+
+    /**
+     * Caches {@code value} under {@code key} in {@code namespace}, e.g. to keep a value up to date
+     * after a write instead of invalidating the whole namespace.
+     */
+    <T> void put(String namespace, String key, T value) {
+        service.put(getVersionedKey(namespace, key), Optional.ofNullable(value));
+    }
+
+    private String getVersionedKey(String namespace, String key) {
+        return namespace + "#" + service.getVersion(namespace) + "#" + key;
+    }
+
+    /**
+     * Invalidates all values cached in {@code namespace}.
+     */
+    void invalidate(String namespace) {
+        service.incrementVersion(namespace);
+    }
+
+    /**
+     * Invalidates all cached values.
+     *
+     * <p>This is needed only when the database is modified without going through the storage layer.
+     */
+    public void invalidateAll() {
+        service.clear();
+    }
+
+    /**
+     * Gets the number of lookups in {@code namespace} which are served from the cache.
+     */
+    public long getHitCount(String namespace) {
+        return getCounter(hitCounts, namespace).get();
+    }
+
+    /**
+     * Gets the number of lookups in {@code namespace} which are not served from the cache.
+     */
+    public long getMissCount(String namespace) {
+        return getCounter(missCounts, namespace).get();
+    }
+
+    private void recordLookup(Map<String, AtomicLong> counts, String namespace) {
+        getCounter(counts, namespace).incrementAndGet();
+        long hitCount = getHitCount(namespace);
+        long missCount = getMissCount(namespace);
+        if ((hitCount + missCount) % STATISTICS_LOGGING_INTERVAL == 0) {
+            log.info(() -> String.format("Entity cache of %s: %d hits and %d misses (%.1f%% hit rate)",
+                    namespace, hitCount, missCount, 100.0 * hitCount / (hitCount + missCount)));
+        }
+    }
+
+    private static AtomicLong getCounter(Map<String, AtomicLong> counts, String namespace) {
+        return counts.computeIfAbsent(namespace, k -> new AtomicLong());
+    }
+
+}
@@ -0,0 +1,42 @@
+package teammates.storage.api;
+
+import javax.annotation.Nullable;
+
+/**
+ * An interface used for caching entities across requests, e.g. in the memory of the server instance
+ * or in an external key-value store.
+ *
+ * <p>Entries are grouped into namespaces, each having a version number which is incremented to invalidate
+ * all entries of the namespace at once; it is up to the callers to include the version in the keys.
+ */
+public interface EntityCacheService {
+
+    /**
+     * Gets the value cached under {@code key}.
+     *
+     * @return null if there is no such value
+     */
+    @Nullable
+    Object get(String key);
+
+    /**
+     * Caches {@code value} under {@code key}.
+     */
+    void put(String key, Object value);
+
+    /**
+     * Gets the current version of {@code namespace}.
+     */
+    long getVersion(String namespace);
+
+    /**
+     * Increments the version of {@code namespace}.
+     */
+    void incrementVersion(String namespace);
+
+    /**
+     * Removes all cached values.
+     */
+    void clear();
+
+}
@@ -4,11 +4,14 @@ import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.List;
 
+import javax.annotation.Nullable;
+
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.ResultsPage;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
@@ -38,7 +41,9 @@ public final class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, Feed
     public FeedbackQuestionAttributes getFeedbackQuestion(String feedbackQuestionId) {
         assert feedbackQuestionId != null;
 
-        return makeAttributesOrNull(getFeedbackQuestionEntity(feedbackQuestionId));
+        return getCachedAcrossRequests(feedbackQuestionId,
+                () -> makeAttributesOrNull(getFeedbackQuestionEntity(feedbackQuestionId)),
+                FeedbackQuestionAttributes::getCopy);
     }
 
     /**
@@ -163,6 +168,22 @@ public final class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, Feed
     public void deleteFeedbackQuestions(AttributesDeletionQuery query) {
         assert query != null;
 
+        deleteEntities(getEntitiesToDelete(query));
+    }
+
+    /**
+     * Deletes a batch of questions using {@link AttributesDeletionQuery}.
+     *
+     * @see EntitiesDb#deleteEntitiesBatch(Query, String, int)
+     */
+    public ResultsPage<Integer> deleteFeedbackQuestionsBatch(
+            AttributesDeletionQuery query, @Nullable String cursor, int limit) throws InvalidParametersException {
+        assert query != null;
+
+        return deleteEntitiesBatch(getEntitiesToDelete(query), cursor, limit);
+    }
+
+    private Query<FeedbackQuestion> getEntitiesToDelete(AttributesDeletionQuery query) {
         Query<FeedbackQuestion> entitiesToDelete = load().project();
         if (query.isCourseIdPresent()) {
             entitiesToDelete = entitiesToDelete.filter("courseId =", query.getCourseId());
@@ -171,7 +192,7 @@ public final class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, Feed
             entitiesToDelete = entitiesToDelete.filter("feedbackSessionName =", query.getFeedbackSessionName());
         }
 
-        deleteEntity(entitiesToDelete.keys().list());
+        return entitiesToDelete;
     }
 
     /**
@@ -232,13 +253,10 @@ public final class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, Feed
 
     @Override
     boolean hasExistingEntities(FeedbackQuestionAttributes entityToCreate) {
-        return !load()
+        return exists(load()
                 .filter("feedbackSessionName =", entityToCreate.getFeedbackSessionName())
                 .filter("courseId =", entityToCreate.getCourseId())
-                .filter("questionNumber =", entityToCreate.getQuestionNumber())
-                .keys()
-                .list()
-                .isEmpty();
+                .filter("questionNumber =", entityToCreate.getQuestionNumber()));
     }
 
     @Override
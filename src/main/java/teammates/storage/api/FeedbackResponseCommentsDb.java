@@ -3,17 +3,22 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import javax.annotation.Nullable;
+
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.ResultsPage;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
@@ -239,6 +244,52 @@ public final class FeedbackResponseCommentsDb
                  + " for feedback response comments in the course: " + courseId);
     }
 
+    /**
+     * Updates the sections of the comments of responses in a course to match the sections of the responses,
+     * with a single batch write.
+     *
+     * <p>The comments of the course are read with a single query, as they are far fewer than the responses.
+     *
+     * @return the updated comments
+     */
+    public List<FeedbackResponseCommentAttributes> updateSectionsOfFeedbackResponseComments(
+            String courseId, Collection<FeedbackResponseAttributes> responses) {
+        assert courseId != null;
+        assert responses != null;
+
+        if (responses.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<String, FeedbackResponseAttributes> responsesById = new HashMap<>();
+        for (FeedbackResponseAttributes response : responses) {
+            responsesById.put(response.getId(), response);
+        }
+
+        List<FeedbackResponseComment> commentsToSave = new ArrayList<>();
+        for (FeedbackResponseComment comment : load().filter("courseId =", courseId).list()) {
+            FeedbackResponseAttributes response = responsesById.get(comment.getFeedbackResponseId());
+            if (response == null) {
+                continue;
+            }
+            boolean hasSameSections =
+                    this.<String>hasSameValue(comment.getGiverSection(), response.getGiverSection())
+                    && this.<String>hasSameValue(comment.getReceiverSection(), response.getRecipientSection());
+            if (hasSameSections) {
+                continue;
+            }
+            comment.setGiverSection(response.getGiverSection());
+            comment.setReceiverSection(response.getRecipientSection());
+            commentsToSave.add(comment);
+        }
+
+        if (!commentsToSave.isEmpty()) {
+            saveEntities(commentsToSave);
+        }
+
+        return makeAttributes(commentsToSave);
+    }
+
     /**
      * Deletes a comment.
      */
@@ -252,6 +303,22 @@ public final class FeedbackResponseCommentsDb
     public void deleteFeedbackResponseComments(AttributesDeletionQuery query) {
         assert query != null;
 
+        deleteEntities(getEntitiesToDelete(query));
+    }
+
+    /**
+     * Deletes a batch of comments using {@link AttributesDeletionQuery}.
+     *
+     * @see EntitiesDb#deleteEntitiesBatch(Query, String, int)
+     */
+    public ResultsPage<Integer> deleteFeedbackResponseCommentsBatch(
+            AttributesDeletionQuery query, @Nullable String cursor, int limit) throws InvalidParametersException {
+        assert query != null;
+
+        return deleteEntitiesBatch(getEntitiesToDelete(query), cursor, limit);
+    }
+
+    private Query<FeedbackResponseComment> getEntitiesToDelete(AttributesDeletionQuery query) {
         Query<FeedbackResponseComment> entitiesToDelete = load().project();
         if (query.isCourseIdPresent()) {
             entitiesToDelete = entitiesToDelete.filter("courseId =", query.getCourseId());
@@ -266,7 +333,7 @@ public final class FeedbackResponseCommentsDb
             entitiesToDelete = entitiesToDelete.filter("feedbackResponseId =", query.getResponseId());
         }
 
-        deleteEntity(entitiesToDelete.keys().list());
+        return entitiesToDelete;
     }
 
     private FeedbackResponseComment getFeedbackResponseCommentEntity(long feedbackResponseCommentId) {
@@ -362,23 +429,23 @@ public final class FeedbackResponseCommentsDb
             String courseId, String feedbackSessionName, String section) {
         Map<Long, FeedbackResponseComment> comments = new HashMap<>();
 
-        List<FeedbackResponseComment> firstQueryResponseComments = load()
+        ConcurrentReads.PendingRead<List<FeedbackResponseComment>> firstQuery = ConcurrentReads.start(() -> load()
                 .filter("courseId =", courseId)
                 .filter("feedbackSessionName =", feedbackSessionName)
                 .filter("giverSection =", section)
-                .list();
-
-        for (FeedbackResponseComment comment : firstQueryResponseComments) {
-            comments.put(comment.getFeedbackResponseCommentId(), comment);
-        }
+                .list());
 
-        List<FeedbackResponseComment> secondQueryResponseComments = load()
+        ConcurrentReads.PendingRead<List<FeedbackResponseComment>> secondQuery = ConcurrentReads.start(() -> load()
                 .filter("courseId =", courseId)
                 .filter("feedbackSessionName =", feedbackSessionName)
                 .filter("receiverSection =", section)
-                .list();
+                .list());
+
+        for (FeedbackResponseComment comment : ConcurrentReads.await(firstQuery)) {
+            comments.put(comment.getFeedbackResponseCommentId(), comment);
+        }
 
-        for (FeedbackResponseComment comment : secondQueryResponseComments) {
+        for (FeedbackResponseComment comment : ConcurrentReads.await(secondQuery)) {
             comments.put(comment.getFeedbackResponseCommentId(), comment);
         }
 
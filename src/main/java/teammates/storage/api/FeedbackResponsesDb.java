@@ -6,15 +6,19 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.ResultsPage;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -29,6 +33,16 @@ import teammates.storage.entity.FeedbackResponse;
  */
 public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackResponseAttributes> {
 
+    /**
+     * The namespace of the flags marking the courses known to have responses.
+     *
+     * <p>Unlike the values invalidated whenever a response is written, a flag is set when a response of the course
+     * is created, and the flags are invalidated only when responses are deleted, as responses are created far
+     * more often than deleted. Courses without responses are never flagged, so that a response created through
+     * another server instance is never missed.
+     */
+    private static final String COURSES_WITH_RESPONSES_NAMESPACE = "FeedbackResponsesDb-coursesWithResponses";
+
     private static final FeedbackResponsesDb instance = new FeedbackResponsesDb();
 
     private FeedbackResponsesDb() {
@@ -111,17 +125,27 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
         return makeAttributes(getFeedbackResponseEntitiesForQuestion(feedbackQuestionId));
     }
 
+    /**
+     * Gets a page of the feedback responses for a question, ordered by their keys.
+     *
+     * @param cursor the token of the previous page, or null to get the first page
+     * @throws InvalidParametersException if {@code cursor} is not a valid token
+     * @see EntitiesDb#getPage(Query, String, int)
+     */
+    public ResultsPage<List<FeedbackResponseAttributes>> getFeedbackResponsesForQuestionPage(
+            String feedbackQuestionId, @Nullable String cursor, int limit) throws InvalidParametersException {
+        assert feedbackQuestionId != null;
+
+        return getPage(load().filter("feedbackQuestionId =", feedbackQuestionId), cursor, limit);
+    }
+
     /**
      * Checks whether there are responses for a question.
      */
     public boolean areThereResponsesForQuestion(String feedbackQuestionId) {
         assert feedbackQuestionId != null;
 
-        return !load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .keys()
-                .list()
-                .isEmpty();
+        return exists(load().filter("feedbackQuestionId =", feedbackQuestionId));
     }
 
     /**
@@ -158,6 +182,24 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
         return makeAttributes(getFeedbackResponseEntitiesFromGiverForQuestion(feedbackQuestionId, giverEmail));
     }
 
+    /**
+     * Gets a page of the responses given by a user for a question, ordered by their keys.
+     *
+     * @param cursor the token of the previous page, or null to get the first page
+     * @throws InvalidParametersException if {@code cursor} is not a valid token
+     * @see EntitiesDb#getPage(Query, String, int)
+     */
+    public ResultsPage<List<FeedbackResponseAttributes>> getFeedbackResponsesFromGiverForQuestionPage(
+            String feedbackQuestionId, String giverEmail, @Nullable String cursor, int limit)
+            throws InvalidParametersException {
+        assert feedbackQuestionId != null;
+        assert giverEmail != null;
+
+        return getPage(load()
+                .filter("feedbackQuestionId =", feedbackQuestionId)
+                .filter("giverEmail =", giverEmail), cursor, limit);
+    }
+
     /**
      * Gets all responses received by a user for a question.
      */
@@ -279,6 +321,44 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
         }
     }
 
+    /**
+     * Updates the sections of all responses given by or to users in a course with a single batch write.
+     *
+     * <p>Responses whose sections are unchanged are not saved again.
+     *
+     * @param newSectionByUserEmail the new section of each user whose section is changed
+     * @return the updated responses
+     */
+    public List<FeedbackResponseAttributes> updateSectionsOfFeedbackResponses(
+            String courseId, Map<String, String> newSectionByUserEmail) {
+        assert courseId != null;
+        assert newSectionByUserEmail != null;
+
+        Map<String, FeedbackResponse> responsesToSave = new LinkedHashMap<>();
+        newSectionByUserEmail.forEach((userEmail, newSection) -> {
+            for (FeedbackResponse response : getFeedbackResponseEntitiesFromGiverForCourse(courseId, userEmail)) {
+                response = responsesToSave.getOrDefault(response.getId(), response);
+                if (!this.<String>hasSameValue(response.getGiverSection(), newSection)) {
+                    response.setGiverSection(newSection);
+                    responsesToSave.put(response.getId(), response);
+                }
+            }
+            for (FeedbackResponse response : getFeedbackResponseEntitiesForReceiverForCourse(courseId, userEmail)) {
+                response = responsesToSave.getOrDefault(response.getId(), response);
+                if (!this.<String>hasSameValue(response.getRecipientSection(), newSection)) {
+                    response.setRecipientSection(newSection);
+                    responsesToSave.put(response.getId(), response);
+                }
+            }
+        });
+
+        if (!responsesToSave.isEmpty()) {
+            saveEntities(responsesToSave.values());
+        }
+
+        return makeAttributes(responsesToSave.values());
+    }
+
     /**
      * Deletes a feedback response.
      */
@@ -294,6 +374,22 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
     public void deleteFeedbackResponses(AttributesDeletionQuery query) {
         assert query != null;
 
+        deleteEntities(getEntitiesToDelete(query));
+    }
+
+    /**
+     * Deletes a batch of responses using {@link AttributesDeletionQuery}.
+     *
+     * @see EntitiesDb#deleteEntitiesBatch(Query, String, int)
+     */
+    public ResultsPage<Integer> deleteFeedbackResponsesBatch(
+            AttributesDeletionQuery query, @Nullable String cursor, int limit) throws InvalidParametersException {
+        assert query != null;
+
+        return deleteEntitiesBatch(getEntitiesToDelete(query), cursor, limit);
+    }
+
+    private Query<FeedbackResponse> getEntitiesToDelete(AttributesDeletionQuery query) {
         Query<FeedbackResponse> entitiesToDelete = load().project();
         if (query.isCourseIdPresent()) {
             entitiesToDelete = entitiesToDelete.filter("courseId =", query.getCourseId());
@@ -305,7 +401,7 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
             entitiesToDelete = entitiesToDelete.filter("feedbackQuestionId =", query.getQuestionId());
         }
 
-        deleteEntity(entitiesToDelete.keys().list());
+        return entitiesToDelete;
     }
 
     /**
@@ -313,7 +409,23 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
      */
     public boolean hasFeedbackResponseEntitiesForCourse(String courseId) {
         assert courseId != null;
-        return !load().filter("courseId =", courseId).keys().list().isEmpty();
+        return EntityCache.inst().get(COURSES_WITH_RESPONSES_NAMESPACE, courseId,
+                () -> exists(load().filter("courseId =", courseId)), hasResponses -> hasResponses);
+    }
+
+    @Override
+    public FeedbackResponseAttributes createEntity(FeedbackResponseAttributes entityToCreate)
+            throws InvalidParametersException, EntityAlreadyExistsException {
+        FeedbackResponseAttributes createdResponse = super.createEntity(entityToCreate);
+        EntityCache.inst().put(COURSES_WITH_RESPONSES_NAMESPACE, createdResponse.getCourseId(), true);
+        return createdResponse;
+    }
+
+    @Override
+    void deleteEntity(List<Key<FeedbackResponse>> keys) {
+        super.deleteEntity(keys);
+        // the responses deleted may be the last ones of their courses
+        EntityCache.inst().invalidate(COURSES_WITH_RESPONSES_NAMESPACE);
     }
 
     private FeedbackResponse getFeedbackResponseEntity(String feedbackResponseId) {
@@ -351,20 +463,22 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
 
     private Collection<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSection(
             String feedbackSessionName, String courseId, String section) {
-        List<FeedbackResponse> allResponse = new ArrayList<>();
-
-        allResponse.addAll(load()
+        ConcurrentReads.PendingRead<List<FeedbackResponse>> responsesFromSection = ConcurrentReads.start(() -> load()
                 .filter("feedbackSessionName =", feedbackSessionName)
                 .filter("courseId =", courseId)
                 .filter("giverSection =", section)
                 .list());
 
-        allResponse.addAll(load()
+        ConcurrentReads.PendingRead<List<FeedbackResponse>> responsesToSection = ConcurrentReads.start(() -> load()
                 .filter("feedbackSessionName =", feedbackSessionName)
                 .filter("courseId =", courseId)
                 .filter("receiverSection =", section)
                 .list());
 
+        List<FeedbackResponse> allResponse = new ArrayList<>();
+        allResponse.addAll(ConcurrentReads.await(responsesFromSection));
+        allResponse.addAll(ConcurrentReads.await(responsesToSection));
+
         return removeDuplicates(allResponse);
     }
 
@@ -415,13 +529,10 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
 
     @Override
     boolean hasExistingEntities(FeedbackResponseAttributes entityToCreate) {
-        return !load()
+        return exists(load()
                 .filterKey(Key.create(FeedbackResponse.class,
                         FeedbackResponse.generateId(entityToCreate.getFeedbackQuestionId(),
-                                entityToCreate.getGiver(), entityToCreate.getRecipient())))
-                .keys()
-                .list()
-                .isEmpty();
+                                entityToCreate.getGiver(), entityToCreate.getRecipient()))));
     }
 
     @Override
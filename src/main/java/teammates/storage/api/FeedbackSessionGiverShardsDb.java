@@ -0,0 +1,183 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.ResultsPage;
+import teammates.common.datatransfer.attributes.FeedbackSessionGiverShardAttributes;
+import teammates.common.exception.InvalidParametersException;
+import teammates.storage.entity.FeedbackSessionGiverShard;
+
+/**
+ * Handles CRUD operations for the shards of the sets of givers who have submitted responses in feedback sessions.
+ *
+ * <p>Shards are always written in transactions, so that concurrent updates to the same shard are serialized,
+ * with Objectify retrying a transaction whenever it conflicts with another one.
+ *
+ * @see FeedbackSessionGiverShard
+ * @see FeedbackSessionGiverShardAttributes
+ */
+public final class FeedbackSessionGiverShardsDb
+        extends EntitiesDb<FeedbackSessionGiverShard, FeedbackSessionGiverShardAttributes> {
+
+    private static final FeedbackSessionGiverShardsDb instance = new FeedbackSessionGiverShardsDb();
+
+    private FeedbackSessionGiverShardsDb() {
+        // prevent initialization
+    }
+
+    public static FeedbackSessionGiverShardsDb inst() {
+        return instance;
+    }
+
+    /**
+     * Gets the existing shards of a feedback session, loading all of them in a single batch.
+     */
+    public List<FeedbackSessionGiverShardAttributes> getFeedbackSessionGiverShards(
+            String courseId, String feedbackSessionName) {
+        assert courseId != null;
+        assert feedbackSessionName != null;
+
+        List<Key<FeedbackSessionGiverShard>> keys = new ArrayList<>();
+        for (int i = 0; i < FeedbackSessionGiverShardAttributes.NUMBER_OF_SHARDS; i++) {
+            keys.add(Key.create(FeedbackSessionGiverShard.class,
+                    FeedbackSessionGiverShard.generateId(courseId, feedbackSessionName, i)));
+        }
+
+        return makeAttributes(ofy().load().keys(keys).values());
+    }
+
+    /**
+     * Creates a shard in a transaction if it does not exist yet.
+     *
+     * @return the shard created, or the existing one if it already exists
+     */
+    public FeedbackSessionGiverShardAttributes createFeedbackSessionGiverShardIfAbsent(
+            FeedbackSessionGiverShardAttributes shardToCreate) {
+        assert shardToCreate != null;
+
+        String id = FeedbackSessionGiverShard.generateId(shardToCreate.getCourseId(),
+                shardToCreate.getFeedbackSessionName(), shardToCreate.getShardIndex());
+        return ofy().transact(() -> {
+            FeedbackSessionGiverShard existingShard = load().id(id).now();
+            if (existingShard != null) {
+                return makeAttributes(existingShard);
+            }
+
+            FeedbackSessionGiverShard newShard = shardToCreate.toEntity();
+            saveEntity(newShard);
+            return makeAttributes(newShard);
+        });
+    }
+
+    /**
+     * Updates a shard in a transaction by applying {@code updater} to it.
+     *
+     * <p>The shard is saved only if {@code updater} returns true, i.e. the shard is changed.
+     * {@code updater} is first applied to a copy of the shard read outside of any transaction,
+     * and the transaction is only run if that copy is changed, as most updates do not change the shard
+     * (e.g. adding a giver who has already submitted another response).
+     * As {@code updater} may be applied several times, it must be free of side effects
+     * other than on the shard given to it.
+     *
+     * @return the updated shard, or null if the shard does not exist
+     */
+    public FeedbackSessionGiverShardAttributes updateFeedbackSessionGiverShard(String courseId,
+            String feedbackSessionName, int shardIndex, Predicate<FeedbackSessionGiverShardAttributes> updater) {
+        assert courseId != null;
+        assert feedbackSessionName != null;
+        assert updater != null;
+
+        String id = FeedbackSessionGiverShard.generateId(courseId, feedbackSessionName, shardIndex);
+        FeedbackSessionGiverShard currentShard = load().id(id).now();
+        if (currentShard == null) {
+            return null;
+        }
+        FeedbackSessionGiverShardAttributes currentAttributes = makeAttributes(currentShard);
+        if (!updater.test(currentAttributes)) {
+            return currentAttributes;
+        }
+
+        return ofy().transact(() -> {
+            FeedbackSessionGiverShard shard = load().id(id).now();
+            if (shard == null) {
+                return null;
+            }
+
+            FeedbackSessionGiverShardAttributes newAttributes = makeAttributes(shard);
+            if (!updater.test(newAttributes)) {
+                return newAttributes;
+            }
+
+            FeedbackSessionGiverShard updatedShard = newAttributes.toEntity();
+            saveEntity(updatedShard);
+            return makeAttributes(updatedShard);
+        });
+    }
+
+    /**
+     * Deletes shards using {@link AttributesDeletionQuery}.
+     *
+     * <p>Only deletion by course or by session is supported.
+     */
+    public void deleteFeedbackSessionGiverShards(AttributesDeletionQuery query) {
+        assert query != null;
+        assert query.isCourseIdPresent();
+
+        deleteEntities(getEntitiesToDelete(query));
+    }
+
+    /**
+     * Deletes a batch of shards using {@link AttributesDeletionQuery}.
+     *
+     * @see EntitiesDb#deleteEntitiesBatch(Query, String, int)
+     */
+    public ResultsPage<Integer> deleteFeedbackSessionGiverShardsBatch(
+            AttributesDeletionQuery query, @Nullable String cursor, int limit) throws InvalidParametersException {
+        assert query != null;
+        assert query.isCourseIdPresent();
+
+        return deleteEntitiesBatch(getEntitiesToDelete(query), cursor, limit);
+    }
+
+    private Query<FeedbackSessionGiverShard> getEntitiesToDelete(AttributesDeletionQuery query) {
+        Query<FeedbackSessionGiverShard> entitiesToDelete = load().project()
+                .filter("courseId =", query.getCourseId());
+        if (query.isFeedbackSessionNamePresent()) {
+            entitiesToDelete = entitiesToDelete.filter("feedbackSessionName =", query.getFeedbackSessionName());
+        }
+
+        return entitiesToDelete;
+    }
+
+    @Override
+    LoadType<FeedbackSessionGiverShard> load() {
+        return ofy().load().type(FeedbackSessionGiverShard.class);
+    }
+
+    @Override
+    boolean hasExistingEntities(FeedbackSessionGiverShardAttributes entityToCreate) {
+        Key<FeedbackSessionGiverShard> key = Key.create(FeedbackSessionGiverShard.class,
+                FeedbackSessionGiverShard.generateId(entityToCreate.getCourseId(),
+                        entityToCreate.getFeedbackSessionName(), entityToCreate.getShardIndex()));
+        return exists(load().filterKey(key));
+    }
+
+    @Override
+    FeedbackSessionGiverShardAttributes makeAttributes(FeedbackSessionGiverShard entity) {
+        assert entity != null;
+
+        return FeedbackSessionGiverShardAttributes.valueOf(entity);
+    }
+
+}
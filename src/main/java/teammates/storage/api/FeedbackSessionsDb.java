@@ -3,6 +3,7 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -80,8 +81,7 @@ public final class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, Feedba
         assert feedbackSessionName != null;
         assert courseId != null;
 
-        FeedbackSessionAttributes feedbackSession =
-                makeAttributesOrNull(getFeedbackSessionEntity(feedbackSessionName, courseId));
+        FeedbackSessionAttributes feedbackSession = getCachedFeedbackSession(feedbackSessionName, courseId);
 
         if (feedbackSession != null && feedbackSession.isSessionDeleted()) {
             log.info("Trying to access soft-deleted session: " + feedbackSessionName + "/" + courseId);
@@ -99,8 +99,7 @@ public final class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, Feedba
         assert feedbackSessionName != null;
         assert courseId != null;
 
-        FeedbackSessionAttributes feedbackSession =
-                makeAttributesOrNull(getFeedbackSessionEntity(feedbackSessionName, courseId));
+        FeedbackSessionAttributes feedbackSession = getCachedFeedbackSession(feedbackSessionName, courseId);
 
         if (feedbackSession != null && !feedbackSession.isSessionDeleted()) {
             log.info(feedbackSessionName + "/" + courseId + " is not soft-deleted!");
@@ -121,6 +120,19 @@ public final class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, Feedba
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Gets a list of all sessions for the given courses except those are soft-deleted.
+     *
+     * <p>The sessions of each course are queried concurrently, and are returned in the order of the courses given.
+     */
+    public List<FeedbackSessionAttributes> getFeedbackSessionsForCourses(List<String> courseIds) {
+        assert courseIds != null;
+
+        return makeAttributes(getFeedbackSessionEntitiesForCourses(courseIds)).stream()
+                .filter(session -> !session.isSessionDeleted())
+                .collect(Collectors.toList());
+    }
+
     /**
      * Gets a list of all sessions starting from some date for the given course except those are soft-deleted.
      */
@@ -141,6 +153,19 @@ public final class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, Feedba
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Gets a list of sessions for the given courses that are soft-deleted.
+     *
+     * <p>The sessions of each course are queried concurrently, and are returned in the order of the courses given.
+     */
+    public List<FeedbackSessionAttributes> getSoftDeletedFeedbackSessionsForCourses(List<String> courseIds) {
+        assert courseIds != null;
+
+        return makeAttributes(getFeedbackSessionEntitiesForCourses(courseIds)).stream()
+                .filter(FeedbackSessionAttributes::isSessionDeleted)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Gets a list of undeleted feedback sessions which start within the last 2 hours
      * and possibly need an open email to be sent.
@@ -330,13 +355,28 @@ public final class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, Feedba
             entitiesToDelete = entitiesToDelete.filter("courseId =", query.getCourseId());
         }
 
-        deleteEntity(entitiesToDelete.keys().list());
+        deleteEntities(entitiesToDelete);
     }
 
     private List<FeedbackSession> getFeedbackSessionEntitiesForCourse(String courseId) {
         return load().filter("courseId =", courseId).list();
     }
 
+    private List<FeedbackSession> getFeedbackSessionEntitiesForCourses(List<String> courseIds) {
+        // the datastore runs an IN filter as one query per value anyway, so the queries are run concurrently instead
+        List<ConcurrentReads.PendingRead<List<FeedbackSession>>> sessionsOfCourses = new ArrayList<>();
+        for (String courseId : courseIds) {
+            sessionsOfCourses.add(ConcurrentReads.start(
+                    () -> new ArrayList<>(getFeedbackSessionEntitiesForCourse(courseId))));
+        }
+
+        List<FeedbackSession> sessions = new ArrayList<>();
+        for (ConcurrentReads.PendingRead<List<FeedbackSession>> sessionsOfCourse : sessionsOfCourses) {
+            sessions.addAll(ConcurrentReads.await(sessionsOfCourse));
+        }
+        return sessions;
+    }
+
     private List<FeedbackSession> getFeedbackSessionEntitiesForCourseStartingAfter(String courseId, Instant after) {
         return load()
                 .filter("courseId =", courseId)
@@ -382,8 +422,15 @@ public final class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, Feedba
                 .list();
     }
 
+    private FeedbackSessionAttributes getCachedFeedbackSession(String feedbackSessionName, String courseId) {
+        return getCachedAcrossRequests(FeedbackSession.generateId(feedbackSessionName, courseId),
+                () -> makeAttributesOrNull(getFeedbackSessionEntity(feedbackSessionName, courseId)),
+                FeedbackSessionAttributes::getCopy);
+    }
+
     private FeedbackSession getFeedbackSessionEntity(String feedbackSessionName, String courseId) {
-        return load().id(FeedbackSession.generateId(feedbackSessionName, courseId)).now();
+        String id = FeedbackSession.generateId(feedbackSessionName, courseId);
+        return loadCachedInRequest(Key.create(FeedbackSession.class, id), () -> load().id(id).now());
     }
 
     @Override
@@ -393,12 +440,9 @@ public final class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, Feedba
 
     @Override
     boolean hasExistingEntities(FeedbackSessionAttributes entityToCreate) {
-        return !load()
+        return exists(load()
                 .filterKey(Key.create(FeedbackSession.class,
-                        FeedbackSession.generateId(entityToCreate.getFeedbackSessionName(), entityToCreate.getCourseId())))
-                .keys()
-                .list()
-                .isEmpty();
+                        FeedbackSession.generateId(entityToCreate.getFeedbackSessionName(), entityToCreate.getCourseId()))));
     }
 
     @Override
@@ -3,6 +3,8 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -51,6 +53,13 @@ public final class InstructorsDb extends EntitiesDb<Instructor, InstructorAttrib
         getSearchManager().putDocument(instructor);
     }
 
+    /**
+     * Creates or updates search documents for the given instructors with a single request.
+     */
+    public void putDocuments(List<InstructorAttributes> instructors) throws SearchServiceException {
+        getSearchManager().putDocuments(instructors);
+    }
+
     /**
      * Removes search document for the given instructor by using {@code instructorUniqueId}.
      */
@@ -116,6 +125,26 @@ public final class InstructorsDb extends EntitiesDb<Instructor, InstructorAttrib
         return makeAttributesOrNull(getInstructorEntityById(courseId, email));
     }
 
+    /**
+     * Gets the instructors of a course with any of the given emails in a single batch lookup.
+     *
+     * <p>Emails which do not belong to any instructor of the course are ignored.
+     */
+    public List<InstructorAttributes> getInstructorsForEmails(String courseId, Collection<String> emails) {
+        assert courseId != null;
+        assert emails != null;
+
+        if (emails.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<String> ids = emails.stream()
+                .map(email -> Instructor.generateId(email, courseId))
+                .distinct()
+                .collect(Collectors.toList());
+        return makeAttributes(load().ids(ids).values());
+    }
+
     /**
      * Gets an instructor by unique constraint courseId-googleId.
      */
@@ -313,21 +342,22 @@ public final class InstructorsDb extends EntitiesDb<Instructor, InstructorAttrib
     }
 
     private Instructor getInstructorEntityForGoogleId(String courseId, String googleId) {
-        return load()
+        return loadCachedInRequest(Arrays.asList("courseId-googleId", courseId, googleId), () -> load()
                 .filter("courseId =", courseId)
                 .filter("googleId =", googleId)
-                .first().now();
+                .first().now());
     }
 
     private Instructor getInstructorEntityForEmail(String courseId, String email) {
-        return load()
+        return loadCachedInRequest(Arrays.asList("courseId-email", courseId, email), () -> load()
                 .filter("courseId =", courseId)
                 .filter("email =", email)
-                .first().now();
+                .first().now());
     }
 
     private Instructor getInstructorEntityById(String courseId, String email) {
-        return load().id(Instructor.generateId(email, courseId)).now();
+        String id = Instructor.generateId(email, courseId);
+        return loadCachedInRequest(Key.create(Instructor.class, id), () -> load().id(id).now());
     }
 
     private List<Instructor> getInstructorEntitiesThatAreDisplayedInCourse(String courseId) {
@@ -383,12 +413,9 @@ public final class InstructorsDb extends EntitiesDb<Instructor, InstructorAttrib
     @Override
     boolean hasExistingEntities(InstructorAttributes entityToCreate) {
         // cannot use direct key query as email of an instructor can be changed
-        return !load()
+        return exists(load()
                 .filter("courseId =", entityToCreate.getCourseId())
-                .filter("email =", entityToCreate.getEmail())
-                .keys()
-                .list()
-                .isEmpty();
+                .filter("email =", entityToCreate.getEmail()));
     }
 
     @Override
@@ -0,0 +1,55 @@
+package teammates.storage.api;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Entity cache service which keeps a bounded number of entries in the memory of the server instance.
+ *
+ * <p>Changes made by other server instances are not visible to this cache,
+ * hence entries are also expired after a fixed period of time.
+ */
+public class LocalEntityCacheService implements EntityCacheService {
+
+    private final Cache<String, Object> cache;
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+
+    public LocalEntityCacheService(long maximumSize, Duration entryLifetime) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(entryLifetime)
+                .build();
+    }
+
+    @Override
+    public Object get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    @Override
+    public void put(String key, Object value) {
+        cache.put(key, value);
+    }
+
+    @Override
+    public long getVersion(String namespace) {
+        return versions.getOrDefault(namespace, 0L);
+    }
+
+    @Override
+    public void incrementVersion(String namespace) {
+        versions.merge(namespace, 1L, Long::sum);
+    }
+
+    @Override
+    public void clear() {
+        // versions are kept so that values loaded concurrently with the clearing are not used
+        versions.replaceAll((namespace, version) -> version + 1);
+        cache.invalidateAll();
+    }
+
+}
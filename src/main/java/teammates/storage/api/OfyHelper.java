@@ -13,10 +13,12 @@ import teammates.storage.entity.AccountRequest;
 import teammates.storage.entity.BaseEntity;
 import teammates.storage.entity.Course;
 import teammates.storage.entity.CourseStudent;
+import teammates.storage.entity.DeletionJob;
 import teammates.storage.entity.FeedbackQuestion;
 import teammates.storage.entity.FeedbackResponse;
 import teammates.storage.entity.FeedbackResponseComment;
 import teammates.storage.entity.FeedbackSession;
+import teammates.storage.entity.FeedbackSessionGiverShard;
 import teammates.storage.entity.Instructor;
 import teammates.storage.entity.StudentProfile;
 
@@ -47,6 +49,8 @@ public class OfyHelper implements ServletContextListener {
         ObjectifyService.register(Instructor.class);
         ObjectifyService.register(StudentProfile.class);
         ObjectifyService.register(AccountRequest.class);
+        ObjectifyService.register(FeedbackSessionGiverShard.class);
+        ObjectifyService.register(DeletionJob.class);
         // enable the ability to use java.time.Instant to issue query
         ObjectifyService.factory().getTranslators().add(new BaseEntity.InstantTranslatorFactory());
     }
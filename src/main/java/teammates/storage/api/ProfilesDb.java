@@ -124,7 +124,7 @@ public final class ProfilesDb extends EntitiesDb<StudentProfile, StudentProfileA
     boolean hasExistingEntities(StudentProfileAttributes entityToCreate) {
         Key<Account> parentKey = Key.create(Account.class, entityToCreate.getGoogleId());
         Key<StudentProfile> childKey = Key.create(parentKey, StudentProfile.class, entityToCreate.getGoogleId());
-        return !load().filterKey(childKey).keys().list().isEmpty();
+        return exists(load().filterKey(childKey));
     }
 
     @Override
@@ -3,8 +3,11 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.googlecode.objectify.Key;
@@ -56,6 +59,13 @@ public final class StudentsDb extends EntitiesDb<CourseStudent, StudentAttribute
         getSearchManager().putDocument(student);
     }
 
+    /**
+     * Creates or updates search documents for the given students with a single request.
+     */
+    public void putDocuments(List<StudentAttributes> students) throws SearchServiceException {
+        getSearchManager().putDocuments(students);
+    }
+
     /**
      * Searches for students.
      *
@@ -123,6 +133,26 @@ public final class StudentsDb extends EntitiesDb<CourseStudent, StudentAttribute
         return makeAttributesOrNull(getCourseStudentEntityForEmail(courseId, email));
     }
 
+    /**
+     * Gets the students of a course with any of the given emails in a single batch lookup.
+     *
+     * <p>Emails which do not belong to any student of the course are ignored.
+     */
+    public List<StudentAttributes> getStudentsForEmails(String courseId, Collection<String> emails) {
+        assert courseId != null;
+        assert emails != null;
+
+        if (emails.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<String> ids = emails.stream()
+                .map(email -> CourseStudent.generateId(email, courseId))
+                .distinct()
+                .collect(Collectors.toList());
+        return makeAttributes(load().ids(ids).values());
+    }
+
     /**
      * Gets list of students by email.
      */
@@ -140,10 +170,10 @@ public final class StudentsDb extends EntitiesDb<CourseStudent, StudentAttribute
         assert googleId != null;
         assert courseId != null;
 
-        CourseStudent student = load()
+        CourseStudent student = loadCachedInRequest(Arrays.asList("courseId-googleId", courseId, googleId), () -> load()
                 .filter("courseId =", courseId)
                 .filter("googleId =", googleId)
-                .first().now();
+                .first().now());
 
         return makeAttributesOrNull(student);
     }
@@ -157,6 +187,16 @@ public final class StudentsDb extends EntitiesDb<CourseStudent, StudentAttribute
         return makeAttributesOrNull(getCourseStudentEntityForRegistrationKey(registrationKey.trim()));
     }
 
+    /**
+     * Returns true if there is any student associated with a googleId.
+     */
+    public boolean hasStudentsForGoogleId(String googleId) {
+        assert googleId != null;
+
+        // looked up on every request to resolve the roles of the user, which must not be cached across requests
+        return exists(getCourseStudentsForGoogleIdQuery(googleId));
+    }
+
     /**
      * Gets all students associated with a googleId.
      */
@@ -166,6 +206,17 @@ public final class StudentsDb extends EntitiesDb<CourseStudent, StudentAttribute
         return makeAttributes(getCourseStudentEntitiesForGoogleId(googleId));
     }
 
+    /**
+     * Gets the number of students of a course.
+     */
+    public int getNumberOfStudentsForCourse(String courseId) {
+        assert courseId != null;
+
+        // counted with a keys-only query, and looked up for every session on the instructor home page
+        return getValueCachedAcrossRequests("numberOfStudents-courseId%" + courseId,
+                () -> load().filter("courseId =", courseId).count());
+    }
+
     /**
      * Gets all students of a course.
      */
@@ -292,6 +343,61 @@ public final class StudentsDb extends EntitiesDb<CourseStudent, StudentAttribute
         }
     }
 
+    /**
+     * Creates or updates the enrollment details of students of a course with a single batch write.
+     *
+     * <p>Students who are not in the course are created. For students who are already in the course,
+     * the name, comments, team and section are updated; students with no change are not saved again.
+     *
+     * <p>The students must be valid. The documents of the students WILL NOT be updated.
+     *
+     * @return the created or updated students, in the same order as given, leaving out the new students
+     *         for whom a unique registration key cannot be generated
+     */
+    public List<StudentAttributes> putStudentsForEnrollment(String courseId, List<StudentAttributes> students) {
+        assert courseId != null;
+        assert students != null;
+
+        List<String> ids = students.stream()
+                .map(student -> CourseStudent.generateId(student.getEmail(), courseId))
+                .collect(Collectors.toList());
+        Map<String, CourseStudent> existingStudents = load().ids(ids);
+
+        List<CourseStudent> enrolledStudents = new ArrayList<>();
+        List<CourseStudent> studentsToSave = new ArrayList<>();
+        for (int i = 0; i < students.size(); i++) {
+            StudentAttributes student = students.get(i);
+            assert courseId.equals(student.getCourse());
+            assert student.isValid();
+
+            CourseStudent entity = existingStudents.get(ids.get(i));
+            if (entity == null) {
+                try {
+                    entity = convertToEntityForSaving(student);
+                } catch (EntityAlreadyExistsException e) {
+                    continue;
+                }
+                studentsToSave.add(entity);
+            } else if (!this.<String>hasSameValue(entity.getName(), student.getName())
+                    || !this.<String>hasSameValue(entity.getComments(), student.getComments())
+                    || !this.<String>hasSameValue(entity.getTeamName(), student.getTeam())
+                    || !this.<String>hasSameValue(entity.getSectionName(), student.getSection())) {
+                entity.setName(student.getName());
+                entity.setComments(student.getComments());
+                entity.setTeamName(student.getTeam());
+                entity.setSectionName(student.getSection());
+                studentsToSave.add(entity);
+            }
+            enrolledStudents.add(entity);
+        }
+
+        if (!studentsToSave.isEmpty()) {
+            saveEntities(studentsToSave);
+        }
+
+        return makeAttributes(enrolledStudents);
+    }
+
     /**
      * Deletes a student in a course with email.
      *
@@ -324,7 +430,8 @@ public final class StudentsDb extends EntitiesDb<CourseStudent, StudentAttribute
     }
 
     private CourseStudent getCourseStudentEntityForEmail(String courseId, String email) {
-        return load().id(CourseStudent.generateId(email, courseId)).now();
+        String id = CourseStudent.generateId(email, courseId);
+        return loadCachedInRequest(Key.create(CourseStudent.class, id), () -> load().id(id).now());
     }
 
     private List<CourseStudent> getAllCourseStudentEntitiesForEmail(String email) {
@@ -401,12 +508,9 @@ public final class StudentsDb extends EntitiesDb<CourseStudent, StudentAttribute
 
     @Override
     boolean hasExistingEntities(StudentAttributes entityToCreate) {
-        return !load()
+        return exists(load()
                 .filterKey(Key.create(CourseStudent.class,
-                        CourseStudent.generateId(entityToCreate.getEmail(), entityToCreate.getCourse())))
-                .keys()
-                .list()
-                .isEmpty();
+                        CourseStudent.generateId(entityToCreate.getEmail(), entityToCreate.getCourse()))));
     }
 
     @Override
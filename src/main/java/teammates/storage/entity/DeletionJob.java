@@ -0,0 +1,112 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Translate;
+import com.googlecode.objectify.annotation.Unindex;
+
+/**
+ * Represents the progress of deleting the entities of a course or a feedback session in the background.
+ *
+ * <p>The job is checkpointed after each batch of entities deleted, so that it can be resumed from where it stopped.
+ */
+@Entity
+@Index
+public class DeletionJob extends BaseEntity {
+
+    /**
+     * The unique id of the entity.
+     *
+     * @see #generateId(String, String)
+     */
+    @Id
+    private String id;
+
+    private String courseId;
+
+    /**
+     * The name of the feedback session to delete, or null if the whole course is to be deleted.
+     */
+    private String feedbackSessionName;
+
+    @Unindex
+    private String stage;
+
+    @Unindex
+    private String cursor;
+
+    @Unindex
+    private long numberOfEntitiesDeleted;
+
+    @Unindex
+    @Translate(InstantTranslatorFactory.class)
+    private Instant createdAt;
+
+    @Unindex
+    @Translate(InstantTranslatorFactory.class)
+    private Instant updatedAt;
+
+    @SuppressWarnings("unused")
+    private DeletionJob() {
+        // required by Objectify
+    }
+
+    public DeletionJob(String courseId, String feedbackSessionName, String stage, String cursor,
+            long numberOfEntitiesDeleted, Instant createdAt) {
+        this.id = generateId(courseId, feedbackSessionName);
+        this.courseId = courseId;
+        this.feedbackSessionName = feedbackSessionName;
+        this.stage = stage;
+        this.cursor = cursor;
+        this.numberOfEntitiesDeleted = numberOfEntitiesDeleted;
+        this.createdAt = createdAt == null ? Instant.now() : createdAt;
+        this.setUpdatedAt(Instant.now());
+    }
+
+    /**
+     * Generates an unique ID for the job.
+     */
+    public static String generateId(String courseId, String feedbackSessionName) {
+        return feedbackSessionName == null ? courseId : courseId + '%' + feedbackSessionName;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getStage() {
+        return stage;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public long getNumberOfEntitiesDeleted() {
+        return numberOfEntitiesDeleted;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+}
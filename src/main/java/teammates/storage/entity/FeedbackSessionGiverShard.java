@@ -0,0 +1,94 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Translate;
+import com.googlecode.objectify.annotation.Unindex;
+
+/**
+ * Represents a shard of the set of givers who have submitted responses in a feedback session.
+ *
+ * <p>The givers of a session are spread over a fixed number of shards,
+ * so that concurrent submissions by different givers rarely update the same entity.
+ */
+@Entity
+@Index
+public class FeedbackSessionGiverShard extends BaseEntity {
+
+    /**
+     * The unique id of the entity.
+     *
+     * @see #generateId(String, String, int)
+     */
+    @Id
+    private String id;
+
+    private String courseId;
+
+    private String feedbackSessionName;
+
+    @Unindex
+    private int shardIndex;
+
+    @Unindex
+    private Set<String> givers = new HashSet<>();
+
+    @Unindex
+    @Translate(InstantTranslatorFactory.class)
+    private Instant updatedAt;
+
+    @SuppressWarnings("unused")
+    private FeedbackSessionGiverShard() {
+        // required by Objectify
+    }
+
+    public FeedbackSessionGiverShard(String courseId, String feedbackSessionName, int shardIndex, Set<String> givers) {
+        this.id = generateId(courseId, feedbackSessionName, shardIndex);
+        this.courseId = courseId;
+        this.feedbackSessionName = feedbackSessionName;
+        this.shardIndex = shardIndex;
+        this.givers = givers;
+        this.setUpdatedAt(Instant.now());
+    }
+
+    /**
+     * Generates an unique ID for the shard.
+     */
+    public static String generateId(String courseId, String feedbackSessionName, int shardIndex) {
+        return courseId + '%' + feedbackSessionName + '%' + shardIndex;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public int getShardIndex() {
+        return shardIndex;
+    }
+
+    public Set<String> getGivers() {
+        return givers;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+}
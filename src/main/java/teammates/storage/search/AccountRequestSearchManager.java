@@ -2,9 +2,8 @@ package teammates.storage.search;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
 
-import org.apache.solr.client.solrj.SolrQuery;
-import org.apache.solr.client.solrj.response.QueryResponse;
 import org.apache.solr.common.SolrDocument;
 
 import teammates.common.datatransfer.attributes.AccountRequestAttributes;
@@ -33,10 +32,14 @@ public class AccountRequestSearchManager extends SearchManager<AccountRequestAtt
     }
 
     @Override
-    AccountRequestAttributes getAttributeFromDocument(SolrDocument document) {
-        String email = (String) document.getFirstValue("email");
-        String institute = (String) document.getFirstValue("institute");
-        return accountRequestsDb.getAccountRequest(email, institute);
+    List<AccountRequestAttributes> getAttributesFromDocuments(List<SolrDocument> documents) {
+        return documents.stream()
+                .map(document -> {
+                    String email = (String) document.getFirstValue("email");
+                    String institute = (String) document.getFirstValue("institute");
+                    return accountRequestsDb.getAccountRequest(email, institute);
+                })
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -49,10 +52,7 @@ public class AccountRequestSearchManager extends SearchManager<AccountRequestAtt
      * Searches for account requests.
      */
     public List<AccountRequestAttributes> searchAccountRequests(String queryString) throws SearchServiceException {
-        SolrQuery query = getBasicQuery(queryString);
-
-        QueryResponse response = performQuery(query);
-        return convertDocumentToAttributes(response.getResults());
+        return convertDocumentToAttributes(performQuery(queryString));
     }
 
 }
@@ -1,10 +1,11 @@
 package teammates.storage.search;
 
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
-import org.apache.solr.client.solrj.SolrQuery;
-import org.apache.solr.client.solrj.response.QueryResponse;
 import org.apache.solr.common.SolrDocument;
 
 import teammates.common.datatransfer.attributes.CourseAttributes;
@@ -37,10 +38,16 @@ public class InstructorSearchManager extends SearchManager<InstructorAttributes>
     }
 
     @Override
-    InstructorAttributes getAttributeFromDocument(SolrDocument document) {
-        String courseId = (String) document.getFirstValue("courseId");
-        String email = (String) document.getFirstValue("email");
-        return instructorsDb.getInstructorById(courseId, email);
+    List<InstructorAttributes> getAttributesFromDocuments(List<SolrDocument> documents) {
+        Map<String, InstructorAttributes> instructorsById = new HashMap<>();
+        getEmailsByCourseId(documents).forEach((courseId, emails) -> {
+            for (InstructorAttributes instructor : instructorsDb.getInstructorsForEmails(courseId, emails)) {
+                instructorsById.put(instructor.getEmail() + "%" + instructor.getCourseId(), instructor);
+            }
+        });
+        return documents.stream()
+                .map(document -> instructorsById.get((String) document.getFirstValue("id")))
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -55,10 +62,7 @@ public class InstructorSearchManager extends SearchManager<InstructorAttributes>
      * Searches for instructors.
      */
     public List<InstructorAttributes> searchInstructors(String queryString) throws SearchServiceException {
-        SolrQuery query = getBasicQuery(queryString);
-
-        QueryResponse response = performQuery(query);
-        return convertDocumentToAttributes(response.getResults());
+        return convertDocumentToAttributes(performQuery(queryString));
     }
 
 }
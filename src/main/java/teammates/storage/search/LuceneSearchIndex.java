@@ -0,0 +1,180 @@
+package teammates.storage.search;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.QueryBuilder;
+
+/**
+ * Full-text search index kept in a local directory of the server instance, used in place of a remote search service.
+ *
+ * <p>Documents are represented in the same way as for the remote search service: the {@code _text_} field is
+ * tokenized for full-text search, while all other fields are stored as-is and can be used for exact filtering.
+ *
+ * <p>The index of a directory is shared by all users in the same JVM, as only one writer can be opened per directory.
+ * As the index is local to the server instance, it is only suitable for a deployment with a single instance,
+ * e.g. the dev server: each instance would only see the documents it indexed itself,
+ * and instances sharing a directory would fail to obtain its write lock.
+ */
+final class LuceneSearchIndex {
+
+    private static final String ID_FIELD = "id";
+    private static final String TEXT_FIELD = "_text_";
+
+    private static final Map<Path, LuceneSearchIndex> INDEXES = new HashMap<>();
+
+    /**
+     * Matches text in double quotes, or a word not in double quotes.
+     */
+    private static final Pattern QUERY_PART_PATTERN = Pattern.compile("\"([^\"]*)\"|(\\S+)");
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    private LuceneSearchIndex(Path directory) throws IOException {
+        this.writer = new IndexWriter(FSDirectory.open(directory), new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    /**
+     * Gets the index kept in {@code directory}, creating it if it does not exist.
+     */
+    static synchronized LuceneSearchIndex forDirectory(Path directory) throws IOException {
+        Path normalizedDirectory = directory.toAbsolutePath().normalize();
+        LuceneSearchIndex index = INDEXES.get(normalizedDirectory);
+        if (index == null) {
+            index = new LuceneSearchIndex(normalizedDirectory);
+            INDEXES.put(normalizedDirectory, index);
+        }
+        return index;
+    }
+
+    /**
+     * Creates or replaces the documents with the given fields, identified by their {@code id} field.
+     */
+    void putDocuments(List<Map<String, Object>> documents) throws IOException {
+        for (Map<String, Object> fields : documents) {
+            Document document = new Document();
+            fields.forEach((name, value) -> {
+                String stringValue = value == null ? "" : value.toString();
+                if (TEXT_FIELD.equals(name)) {
+                    document.add(new TextField(name, stringValue, Field.Store.NO));
+                } else {
+                    document.add(new StringField(name, stringValue, Field.Store.YES));
+                }
+            });
+            writer.updateDocument(new Term(ID_FIELD, (String) fields.get(ID_FIELD)), document);
+        }
+        commit();
+    }
+
+    /**
+     * Deletes the documents with the given IDs.
+     */
+    void deleteDocuments(List<String> ids) throws IOException {
+        Term[] terms = ids.stream().map(id -> new Term(ID_FIELD, id)).toArray(Term[]::new);
+        writer.deleteDocuments(terms);
+        commit();
+    }
+
+    /**
+     * Deletes all documents.
+     */
+    void deleteAllDocuments() throws IOException {
+        writer.deleteAll();
+        commit();
+    }
+
+    /**
+     * Searches for documents matching any of the words in {@code queryString},
+     * with text in double quotes matched as a phrase.
+     *
+     * <p>The query string is taken as plain text rather than parsed in a query syntax,
+     * so that user input such as unbalanced brackets or operators cannot make the query invalid.
+     *
+     * @param filterField if not null, only documents with one of {@code filterValues} in this field are matched
+     * @return the stored fields of at most {@code limit} documents, most relevant first
+     * @throws IllegalArgumentException if the query string has no words to search for
+     */
+    List<Map<String, Object>> search(String queryString, String filterField, Collection<String> filterValues, int limit)
+            throws IOException {
+        Query query = buildTextQuery(queryString);
+        if (filterField != null) {
+            List<BytesRef> terms = filterValues.stream().map(BytesRef::new).collect(Collectors.toList());
+            query = new BooleanQuery.Builder()
+                    .add(query, BooleanClause.Occur.MUST)
+                    .add(new TermInSetQuery(filterField, terms), BooleanClause.Occur.FILTER)
+                    .build();
+        }
+
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            List<Map<String, Object>> results = new ArrayList<>();
+            for (ScoreDoc scoreDoc : searcher.search(query, limit).scoreDocs) {
+                Map<String, Object> fields = new HashMap<>();
+                for (IndexableField field : searcher.doc(scoreDoc.doc).getFields()) {
+                    fields.put(field.name(), field.stringValue());
+                }
+                results.add(fields);
+            }
+            return results;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    private Query buildTextQuery(String queryString) {
+        QueryBuilder queryBuilder = new QueryBuilder(analyzer);
+        BooleanQuery.Builder textQuery = new BooleanQuery.Builder();
+        boolean hasClauses = false;
+        Matcher matcher = QUERY_PART_PATTERN.matcher(queryString);
+        while (matcher.find()) {
+            Query partQuery = matcher.group(1) == null
+                    ? queryBuilder.createBooleanQuery(TEXT_FIELD, matcher.group(2))
+                    : queryBuilder.createPhraseQuery(TEXT_FIELD, matcher.group(1));
+            // null if the text has no words, e.g. it only consists of punctuation
+            if (partQuery != null) {
+                textQuery.add(partQuery, BooleanClause.Occur.SHOULD);
+                hasClauses = true;
+            }
+        }
+        if (!hasClauses) {
+            throw new IllegalArgumentException("No words to search for in query: " + queryString);
+        }
+        return textQuery.build();
+    }
+
+    private void commit() throws IOException {
+        writer.commit();
+        searcherManager.maybeRefreshBlocking();
+    }
+
+}
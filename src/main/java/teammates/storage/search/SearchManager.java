@@ -2,17 +2,23 @@ package teammates.storage.search;
 
 import java.io.IOException;
 import java.net.SocketTimeoutException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang.StringUtils;
 import org.apache.http.HttpStatus;
 import org.apache.solr.client.solrj.SolrQuery;
 import org.apache.solr.client.solrj.SolrServerException;
 import org.apache.solr.client.solrj.impl.HttpSolrClient;
-import org.apache.solr.client.solrj.response.QueryResponse;
 import org.apache.solr.common.SolrDocument;
 import org.apache.solr.common.SolrInputDocument;
 
@@ -33,54 +39,97 @@ abstract class SearchManager<T extends EntityAttributes<?>> {
     private static final Logger log = Logger.getLogger();
 
     private static final String ERROR_DELETE_DOCUMENT =
-            "Failed to delete document(s) %s in Solr. Root cause: %s ";
+            "Failed to delete document(s) %s in search service. Root cause: %s ";
     private static final String ERROR_SEARCH_DOCUMENT =
-            "Failed to search for document(s) %s from Solr. Root cause: %s ";
+            "Failed to search for document(s) %s from search service. Root cause: %s ";
     private static final String ERROR_SEARCH_NOT_IMPLEMENTED =
             "Search service is not implemented";
     private static final String ERROR_PUT_DOCUMENT =
-            "Failed to put document %s into Solr. Root cause: %s ";
+            "Failed to put document(s) %s into search service. Root cause: %s ";
     private static final String ERROR_RESET_COLLECTION =
             "Failed to reset collections. Root cause: %s ";
 
     private static final int START_INDEX = 0;
     private static final int NUM_OF_RESULTS = Const.SEARCH_QUERY_SIZE_LIMIT;
 
+    /**
+     * Maximum time before added or deleted documents are committed, allowing changes made
+     * around the same time to share a single commit instead of committing after every change.
+     */
+    private static final int COMMIT_WITHIN_MILLIS = 1000;
+
+    /**
+     * Prefix of the search service host which denotes a local search index kept in the directory following the prefix,
+     * instead of a remote search service.
+     */
+    private static final String LOCAL_SEARCH_SERVICE_PREFIX = "local:";
+
     private final HttpSolrClient client;
+    private final Path localIndexDirectory;
     private final boolean isResetAllowed;
+    private final boolean isImmediateCommitRequired;
 
     SearchManager(String searchServiceHost, boolean isResetAllowed) {
         this.isResetAllowed = Config.isDevServer() && isResetAllowed;
+        // changes are made searchable right away in the dev server, e.g. for tests
+        this.isImmediateCommitRequired = Config.isDevServer();
 
         if (StringHelper.isEmpty(searchServiceHost)) {
             this.client = null;
+            this.localIndexDirectory = null;
+        } else if (searchServiceHost.startsWith(LOCAL_SEARCH_SERVICE_PREFIX)) {
+            this.client = null;
+            this.localIndexDirectory = Paths.get(searchServiceHost.substring(LOCAL_SEARCH_SERVICE_PREFIX.length()));
         } else {
             this.client = new HttpSolrClient.Builder(searchServiceHost)
                     .withConnectionTimeout(2000) // timeout for connecting to Solr server
                     .withSocketTimeout(5000) // timeout for reading data
                     .build();
+            this.localIndexDirectory = null;
         }
     }
 
-    SolrQuery getBasicQuery(String queryString) {
-        SolrQuery query = new SolrQuery();
-
-        String cleanQueryString = cleanSpecialChars(queryString);
-        query.setQuery(cleanQueryString);
+    private boolean isSearchServiceAvailable() {
+        return client != null || localIndexDirectory != null;
+    }
 
-        query.setStart(START_INDEX);
-        query.setRows(NUM_OF_RESULTS);
+    private LuceneSearchIndex getLocalIndex() throws IOException {
+        return LuceneSearchIndex.forDirectory(localIndexDirectory.resolve(getCollectionName()));
+    }
 
-        return query;
+    /**
+     * Searches for documents matching the query string.
+     */
+    List<SolrDocument> performQuery(String queryString) throws SearchServiceException {
+        return performQuery(queryString, null, null);
     }
 
-    QueryResponse performQuery(SolrQuery query) throws SearchServiceException {
-        if (client == null) {
+    /**
+     * Searches for documents matching the query string, with {@code filterField} having any of {@code filterValues}.
+     */
+    List<SolrDocument> performQuery(String queryString, String filterField, Collection<String> filterValues)
+            throws SearchServiceException {
+        if (!isSearchServiceAvailable()) {
             throw new SearchServiceException("Full-text search is not available.", HttpStatus.SC_NOT_IMPLEMENTED);
         }
 
+        if (localIndexDirectory != null) {
+            // the local index takes the query string as plain text, hence no special characters to escape
+            return performLocalQuery(quoteIfEmailLike(stripHtmlTags(queryString)), filterField, filterValues);
+        }
+
+        String cleanQueryString = cleanSpecialChars(queryString);
+
+        SolrQuery query = new SolrQuery();
+        query.setQuery(cleanQueryString);
+        query.setStart(START_INDEX);
+        query.setRows(NUM_OF_RESULTS);
+        if (filterField != null) {
+            query.addFilterQuery(filterField + ":(\"" + String.join("\" OR \"", filterValues) + "\")");
+        }
+
         try {
-            return client.query(getCollectionName(), query);
+            return client.query(getCollectionName(), query).getResults();
         } catch (SolrServerException e) {
             Throwable rootCause = e.getRootCause();
             log.severe(String.format(ERROR_SEARCH_DOCUMENT, query.getQuery(), rootCause), e);
@@ -98,6 +147,21 @@ abstract class SearchManager<T extends EntityAttributes<?>> {
         }
     }
 
+    private List<SolrDocument> performLocalQuery(String queryString, String filterField, Collection<String> filterValues)
+            throws SearchServiceException {
+        try {
+            return getLocalIndex().search(queryString, filterField, filterValues, NUM_OF_RESULTS).stream()
+                    .map(SolrDocument::new)
+                    .collect(Collectors.toList());
+        } catch (IllegalArgumentException e) {
+            throw new SearchServiceException("Please enter one or more words to search for.", e, HttpStatus.SC_BAD_REQUEST);
+        } catch (IOException e) {
+            log.severe(String.format(ERROR_SEARCH_DOCUMENT, queryString, e), e);
+            throw new SearchServiceException("An error has occurred while performing search. "
+                    + "Please try again later.", e, HttpStatus.SC_BAD_GATEWAY);
+        }
+    }
+
     abstract String getCollectionName();
 
     abstract SearchDocument<T> createDocument(T attribute);
@@ -106,36 +170,71 @@ abstract class SearchManager<T extends EntityAttributes<?>> {
      * Creates or updates search document for the given entity.
      */
     public void putDocument(T attributes) throws SearchServiceException {
-        if (client == null) {
+        putDocuments(Collections.singletonList(attributes));
+    }
+
+    /**
+     * Creates or updates search documents for the given entities with a single request.
+     *
+     * <p>Null entities are skipped.
+     */
+    public void putDocuments(List<T> attributesList) throws SearchServiceException {
+        if (!isSearchServiceAvailable()) {
             log.warning(ERROR_SEARCH_NOT_IMPLEMENTED);
             return;
         }
 
-        if (attributes == null) {
+        List<Map<String, Object>> searchableFieldsList = new ArrayList<>();
+        for (T attributes : attributesList) {
+            if (attributes != null) {
+                searchableFieldsList.add(createDocument(attributes).getSearchableFields());
+            }
+        }
+
+        if (searchableFieldsList.isEmpty()) {
+            return;
+        }
+
+        if (localIndexDirectory != null) {
+            try {
+                getLocalIndex().putDocuments(searchableFieldsList);
+            } catch (IOException e) {
+                log.severe(String.format(ERROR_PUT_DOCUMENT, searchableFieldsList, e), e);
+                throw new SearchServiceException(e, HttpStatus.SC_BAD_GATEWAY);
+            }
             return;
         }
 
-        Map<String, Object> searchableFields = createDocument(attributes).getSearchableFields();
-        SolrInputDocument document = new SolrInputDocument();
-        searchableFields.forEach((key, value) -> document.addField(key, value));
+        List<SolrInputDocument> documents = new ArrayList<>();
+        for (Map<String, Object> searchableFields : searchableFieldsList) {
+            SolrInputDocument document = new SolrInputDocument();
+            searchableFields.forEach((key, value) -> document.addField(key, value));
+            documents.add(document);
+        }
 
         try {
-            client.add(getCollectionName(), Collections.singleton(document));
-            client.commit(getCollectionName());
+            client.add(getCollectionName(), documents, COMMIT_WITHIN_MILLIS);
+            commitIfRequired();
         } catch (SolrServerException e) {
-            log.severe(String.format(ERROR_PUT_DOCUMENT, document, e.getRootCause()), e);
+            log.severe(String.format(ERROR_PUT_DOCUMENT, documents, e.getRootCause()), e);
             throw new SearchServiceException(e, HttpStatus.SC_BAD_GATEWAY);
         } catch (IOException e) {
-            log.severe(String.format(ERROR_PUT_DOCUMENT, document, e.getCause()), e);
+            log.severe(String.format(ERROR_PUT_DOCUMENT, documents, e.getCause()), e);
             throw new SearchServiceException(e, HttpStatus.SC_BAD_GATEWAY);
         }
     }
 
+    private void commitIfRequired() throws SolrServerException, IOException {
+        if (isImmediateCommitRequired) {
+            client.commit(getCollectionName());
+        }
+    }
+
     /**
      * Removes search documents based on the given keys.
      */
     public void deleteDocuments(List<String> keys) {
-        if (client == null) {
+        if (!isSearchServiceAvailable()) {
             log.warning(ERROR_SEARCH_NOT_IMPLEMENTED);
             return;
         }
@@ -144,9 +243,18 @@ abstract class SearchManager<T extends EntityAttributes<?>> {
             return;
         }
 
+        if (localIndexDirectory != null) {
+            try {
+                getLocalIndex().deleteDocuments(keys);
+            } catch (IOException e) {
+                log.severe(String.format(ERROR_DELETE_DOCUMENT, keys, e), e);
+            }
+            return;
+        }
+
         try {
-            client.deleteById(getCollectionName(), keys);
-            client.commit(getCollectionName());
+            client.deleteById(getCollectionName(), keys, COMMIT_WITHIN_MILLIS);
+            commitIfRequired();
         } catch (SolrServerException e) {
             log.severe(String.format(ERROR_DELETE_DOCUMENT, keys, e.getRootCause()), e);
         } catch (IOException e) {
@@ -158,7 +266,16 @@ abstract class SearchManager<T extends EntityAttributes<?>> {
      * Resets the data for all collections if, and only if called during component tests.
      */
     public void resetCollections() {
-        if (client == null || !isResetAllowed) {
+        if (!isSearchServiceAvailable() || !isResetAllowed) {
+            return;
+        }
+
+        if (localIndexDirectory != null) {
+            try {
+                getLocalIndex().deleteAllDocuments();
+            } catch (IOException e) {
+                log.severe(String.format(ERROR_RESET_COLLECTION, e), e);
+            }
             return;
         }
 
@@ -172,11 +289,23 @@ abstract class SearchManager<T extends EntityAttributes<?>> {
         }
     }
 
-    private String cleanSpecialChars(String queryString) {
-        String htmlTagStripPattern = "<[^>]*>";
+    private String stripHtmlTags(String queryString) {
+        return queryString.replaceAll("<[^>]*>", "");
+    }
+
+    /**
+     * Puts the query string in double quotes for an exact match if it is email-like and not quoted already.
+     */
+    private String quoteIfEmailLike(String queryString) {
+        if (queryString.contains("@") && !queryString.contains("\"")) {
+            return "\"" + queryString + "\"";
+        }
+        return queryString;
+    }
 
+    private String cleanSpecialChars(String queryString) {
         // Solr special characters: + - && || ! ( ) { } [ ] ^ " ~ * ? : \ /
-        String res = queryString.replaceAll(htmlTagStripPattern, "")
+        String res = stripHtmlTags(queryString)
                 .replace("\\", "\\\\")
                 .replace("+", "\\+")
                 .replace("-", "\\-")
@@ -209,19 +338,39 @@ abstract class SearchManager<T extends EntityAttributes<?>> {
         }
     }
 
-    abstract T getAttributeFromDocument(SolrDocument document);
+    /**
+     * Gets the attributes of the entities represented by the documents.
+     *
+     * @return the attributes in the same order as the documents, with null for entities which no longer exist
+     */
+    abstract List<T> getAttributesFromDocuments(List<SolrDocument> documents);
 
     abstract void sortResult(List<T> result);
 
+    /**
+     * Groups the emails of the documents by their course ID.
+     */
+    static Map<String, Set<String>> getEmailsByCourseId(List<SolrDocument> documents) {
+        Map<String, Set<String>> emailsByCourseId = new HashMap<>();
+        for (SolrDocument document : documents) {
+            String courseId = (String) document.getFirstValue("courseId");
+            String email = (String) document.getFirstValue("email");
+            emailsByCourseId.computeIfAbsent(courseId, k -> new HashSet<>()).add(email);
+        }
+        return emailsByCourseId;
+    }
+
     List<T> convertDocumentToAttributes(List<SolrDocument> documents) {
         if (documents == null) {
             return new ArrayList<>();
         }
 
         List<T> result = new ArrayList<>();
+        List<T> attributes = getAttributesFromDocuments(documents);
 
-        for (SolrDocument document : documents) {
-            T attribute = getAttributeFromDocument(document);
+        for (int i = 0; i < documents.size(); i++) {
+            SolrDocument document = documents.get(i);
+            T attribute = attributes.get(i);
             if (attribute == null) {
                 // search engine out of sync as SearchManager may fail to delete documents
                 // the chance is low and it is generally not a big problem
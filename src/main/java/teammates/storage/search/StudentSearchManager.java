@@ -2,13 +2,12 @@ package teammates.storage.search;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
-import org.apache.solr.client.solrj.SolrQuery;
-import org.apache.solr.client.solrj.response.QueryResponse;
 import org.apache.solr.common.SolrDocument;
-import org.apache.solr.common.SolrDocumentList;
 
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -41,10 +40,16 @@ public class StudentSearchManager extends SearchManager<StudentAttributes> {
     }
 
     @Override
-    StudentAttributes getAttributeFromDocument(SolrDocument document) {
-        String courseId = (String) document.getFirstValue("courseId");
-        String email = (String) document.getFirstValue("email");
-        return studentsDb.getStudentForEmail(courseId, email);
+    List<StudentAttributes> getAttributesFromDocuments(List<SolrDocument> documents) {
+        Map<String, StudentAttributes> studentsById = new HashMap<>();
+        getEmailsByCourseId(documents).forEach((courseId, emails) -> {
+            for (StudentAttributes student : studentsDb.getStudentsForEmails(courseId, emails)) {
+                studentsById.put(student.getId(), student);
+            }
+        });
+        return documents.stream()
+                .map(document -> studentsById.get((String) document.getFirstValue("id")))
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -63,11 +68,11 @@ public class StudentSearchManager extends SearchManager<StudentAttributes> {
      */
     public List<StudentAttributes> searchStudents(String queryString, List<InstructorAttributes> instructors)
             throws SearchServiceException {
-        SolrQuery query = getBasicQuery(queryString);
-
         List<String> courseIdsWithViewStudentPrivilege;
+        List<SolrDocument> documents;
         if (instructors == null) {
             courseIdsWithViewStudentPrivilege = new ArrayList<>();
+            documents = performQuery(queryString);
         } else {
             courseIdsWithViewStudentPrivilege = instructors.stream()
                     .filter(i -> i.getPrivileges().getCourseLevelPrivileges().isCanViewStudentInSections())
@@ -76,13 +81,9 @@ public class StudentSearchManager extends SearchManager<StudentAttributes> {
             if (courseIdsWithViewStudentPrivilege.isEmpty()) {
                 return new ArrayList<>();
             }
-            String courseIdFq = String.join("\" OR \"", courseIdsWithViewStudentPrivilege);
-            query.addFilterQuery("courseId:(\"" + courseIdFq + "\")");
+            documents = performQuery(queryString, "courseId", courseIdsWithViewStudentPrivilege);
         }
 
-        QueryResponse response = performQuery(query);
-        SolrDocumentList documents = response.getResults();
-
         // Sanity check such that the course ID of the students match exactly.
         // In ideal case, this check is not expected to do anything,
         // i.e. the resulting list should be the same as the incoming list.
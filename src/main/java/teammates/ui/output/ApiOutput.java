@@ -1,7 +1,13 @@
 package teammates.ui.output;
 
+import java.io.IOException;
+
 import javax.annotation.Nullable;
 
+import com.google.gson.stream.JsonWriter;
+
+import teammates.common.util.JsonUtils;
+
 /**
  * Generic output format for all API requests.
  */
@@ -18,4 +24,13 @@ public class ApiOutput {
         this.requestId = requestId;
     }
 
+    /**
+     * Writes the output as JSON into the writer.
+     *
+     * <p>Outputs which can be large may override this to write their content incrementally.
+     */
+    public void writeJson(JsonWriter writer) throws IOException {
+        JsonUtils.toCompactJson(this, getClass(), writer);
+    }
+
 }
@@ -0,0 +1,53 @@
+package teammates.ui.output;
+
+import javax.annotation.Nullable;
+
+import teammates.common.datatransfer.attributes.DeletionJobAttributes;
+
+/**
+ * The API output for the progress of a job deleting a course or a feedback session in the background.
+ */
+public class DeletionJobData extends ApiOutput {
+    private final String courseId;
+    @Nullable
+    private final String feedbackSessionName;
+    private final String stage;
+    private final long numberOfEntitiesDeleted;
+    private final long creationTimestamp;
+    private final long lastUpdatedTimestamp;
+
+    public DeletionJobData(DeletionJobAttributes deletionJobAttributes) {
+        this.courseId = deletionJobAttributes.getCourseId();
+        this.feedbackSessionName = deletionJobAttributes.getFeedbackSessionName();
+        this.stage = deletionJobAttributes.getStage().name();
+        this.numberOfEntitiesDeleted = deletionJobAttributes.getNumberOfEntitiesDeleted();
+        this.creationTimestamp = deletionJobAttributes.getCreatedAt().toEpochMilli();
+        this.lastUpdatedTimestamp = deletionJobAttributes.getUpdatedAt().toEpochMilli();
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    @Nullable
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getStage() {
+        return stage;
+    }
+
+    public long getNumberOfEntitiesDeleted() {
+        return numberOfEntitiesDeleted;
+    }
+
+    public long getCreationTimestamp() {
+        return creationTimestamp;
+    }
+
+    public long getLastUpdatedTimestamp() {
+        return lastUpdatedTimestamp;
+    }
+
+}
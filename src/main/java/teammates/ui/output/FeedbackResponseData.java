@@ -26,7 +26,7 @@ public class FeedbackResponseData extends ApiOutput {
         this.feedbackResponseId = StringHelper.encrypt(feedbackResponseAttributes.getId());
         this.giverIdentifier = feedbackResponseAttributes.getGiver();
         this.recipientIdentifier = feedbackResponseAttributes.getRecipient();
-        this.responseDetails = feedbackResponseAttributes.getResponseDetailsCopy();
+        this.responseDetails = feedbackResponseAttributes.getResponseDetails();
     }
 
     public String getFeedbackResponseId() {
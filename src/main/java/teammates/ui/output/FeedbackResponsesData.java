@@ -4,6 +4,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 
 /**
@@ -13,6 +15,9 @@ public class FeedbackResponsesData extends ApiOutput {
 
     private List<FeedbackResponseData> responses;
 
+    @Nullable
+    private String nextPageToken;
+
     public FeedbackResponsesData(List<FeedbackResponseAttributes> responses) {
         this.responses = responses.stream().map(FeedbackResponseData::new).collect(Collectors.toList());
     }
@@ -28,4 +33,13 @@ public class FeedbackResponsesData extends ApiOutput {
     public List<FeedbackResponseData> getResponses() {
         return responses;
     }
+
+    public void setNextPageToken(@Nullable String nextPageToken) {
+        this.nextPageToken = nextPageToken;
+    }
+
+    @Nullable
+    public String getNextPageToken() {
+        return nextPageToken;
+    }
 }
@@ -0,0 +1,31 @@
+package teammates.ui.output;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+
+/**
+ * The API output for the dashboard of an instructor, i.e. the active courses of the instructor
+ * and the feedback sessions of those courses.
+ */
+public class InstructorDashboardData extends ApiOutput {
+    private final List<CourseData> courses;
+    private final List<FeedbackSessionData> feedbackSessions;
+
+    public InstructorDashboardData(List<CourseAttributes> courseAttributesList,
+            List<FeedbackSessionAttributes> feedbackSessionAttributesList) {
+        this.courses = courseAttributesList.stream().map(CourseData::new).collect(Collectors.toList());
+        this.feedbackSessions =
+                feedbackSessionAttributesList.stream().map(FeedbackSessionData::new).collect(Collectors.toList());
+    }
+
+    public List<CourseData> getCourses() {
+        return courses;
+    }
+
+    public List<FeedbackSessionData> getFeedbackSessions() {
+        return feedbackSessions;
+    }
+}
@@ -1,5 +1,6 @@
 package teammates.ui.output;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -10,8 +11,11 @@ import java.util.Queue;
 
 import javax.annotation.Nullable;
 
+import com.google.gson.stream.JsonWriter;
+
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.ResultsPage;
 import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -21,6 +25,7 @@ import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 import teammates.common.util.StringHelper;
 
 /**
@@ -32,8 +37,27 @@ public class SessionResultsData extends ApiOutput {
 
     final List<QuestionOutput> questions = new ArrayList<>();
 
+    /**
+     * The token to get the next page of the results with.
+     * Only present if the results are paged and there are more pages.
+     */
+    @Nullable
+    private String nextPageToken;
+
+    /**
+     * The bundle to build the instructor output from when the output is written.
+     * Only present if the output is built lazily for streaming.
+     */
+    @Nullable
+    private final transient SessionResultsBundle bundleForInstructor;
+
     SessionResultsData() {
         // use factory method instead
+        this.bundleForInstructor = null;
+    }
+
+    private SessionResultsData(SessionResultsBundle bundleForInstructor) {
+        this.bundleForInstructor = bundleForInstructor;
     }
 
     /**
@@ -47,15 +71,13 @@ public class SessionResultsData extends ApiOutput {
 
         questionsWithResponses.forEach((questionId, responses) -> {
             FeedbackQuestionAttributes question = bundle.getQuestionsMap().get(questionId);
-            FeedbackQuestionDetails questionDetails = question.getQuestionDetailsCopy();
-            QuestionOutput qnOutput = new QuestionOutput(question,
-                    questionDetails.getQuestionResultStatisticsJson(question, null, bundle));
+            QuestionOutput qnOutput = buildQuestionForInstructor(question, bundle);
             // put normal responses
             List<ResponseOutput> allResponses = buildResponsesForInstructor(responses, bundle, false);
             qnOutput.allResponses.addAll(allResponses);
 
             // put missing responses
-            List<FeedbackResponseAttributes> missingResponses = bundle.getQuestionMissingResponseMap().get(questionId);
+            List<FeedbackResponseAttributes> missingResponses = bundle.getQuestionMissingResponses(questionId);
             qnOutput.allResponses.addAll(buildResponsesForInstructor(missingResponses, bundle, true));
 
             sessionResultsData.questions.add(qnOutput);
@@ -64,6 +86,45 @@ public class SessionResultsData extends ApiOutput {
         return sessionResultsData;
     }
 
+    /**
+     * Factory method to construct API output for instructor which is streamed when written.
+     *
+     * <p>Questions and responses are only built one at a time when the output is written as JSON,
+     * so that the output of sessions with many responses does not have to be held in memory as a whole.
+     *
+     * @see #writeJson(JsonWriter)
+     */
+    public static SessionResultsData initForInstructorStreaming(SessionResultsBundle bundle) {
+        return new SessionResultsData(bundle);
+    }
+
+    /**
+     * Factory method to construct API output for a page of the results for instructor.
+     *
+     * <p>The statistics of the questions are left out, as they would only cover the responses in the page.
+     */
+    public static SessionResultsData initForInstructorPage(ResultsPage<SessionResultsBundle> page) {
+        SessionResultsBundle bundle = page.getResults();
+        SessionResultsData sessionResultsData = new SessionResultsData();
+        sessionResultsData.nextPageToken = page.getNextPageToken();
+
+        bundle.getQuestionResponseMap().forEach((questionId, responses) -> {
+            FeedbackQuestionAttributes question = bundle.getQuestionsMap().get(questionId);
+            QuestionOutput qnOutput = new QuestionOutput(question, "");
+            qnOutput.allResponses.addAll(buildResponsesForInstructor(responses, bundle, false));
+
+            sessionResultsData.questions.add(qnOutput);
+        });
+
+        return sessionResultsData;
+    }
+
+    private static QuestionOutput buildQuestionForInstructor(
+            FeedbackQuestionAttributes question, SessionResultsBundle bundle) {
+        FeedbackQuestionDetails questionDetails = question.getQuestionDetails();
+        return new QuestionOutput(question, questionDetails.getQuestionResultStatisticsJson(question, null, bundle));
+    }
+
     /**
      * Factory method to construct API output for student.
      */
@@ -75,7 +136,7 @@ public class SessionResultsData extends ApiOutput {
 
         questionsWithResponses.forEach((questionId, responses) -> {
             FeedbackQuestionAttributes question = bundle.getQuestionsMap().get(questionId);
-            FeedbackQuestionDetails questionDetails = question.getQuestionDetailsCopy();
+            FeedbackQuestionDetails questionDetails = question.getQuestionDetails();
             QuestionOutput qnOutput = new QuestionOutput(question,
                     questionDetails.getQuestionResultStatisticsJson(question, student.getEmail(), bundle));
             Map<String, List<ResponseOutput>> otherResponsesMap = new HashMap<>();
@@ -181,7 +242,7 @@ public class SessionResultsData extends ApiOutput {
                 .withRecipientTeam(recipientTeam)
                 .withRecipientEmail(null)
                 .withRecipientSection(response.getRecipientSection())
-                .withResponseDetails(response.getResponseDetailsCopy())
+                .withResponseDetails(response.getResponseDetails())
                 .withParticipantComment(comments.poll())
                 .withInstructorComments(new ArrayList<>(comments))
                 .build();
@@ -271,7 +332,7 @@ public class SessionResultsData extends ApiOutput {
                 .withRecipientTeam(recipientTeam)
                 .withRecipientEmail(recipientEmail)
                 .withRecipientSection(recipientSection)
-                .withResponseDetails(response.getResponseDetailsCopy())
+                .withResponseDetails(response.getResponseDetails())
                 .withParticipantComment(comments.poll())
                 .withInstructorComments(new ArrayList<>(comments))
                 .build();
@@ -360,10 +421,82 @@ public class SessionResultsData extends ApiOutput {
         return outputs;
     }
 
+    /**
+     * Gets the questions of the output.
+     *
+     * <p>If the output is built lazily for streaming, the whole output will be built on every call.
+     */
     public List<QuestionOutput> getQuestions() {
+        if (bundleForInstructor != null) {
+            return initForInstructor(bundleForInstructor).questions;
+        }
         return questions;
     }
 
+    @Nullable
+    public String getNextPageToken() {
+        return nextPageToken;
+    }
+
+    @Override
+    public void writeJson(JsonWriter writer) throws IOException {
+        if (bundleForInstructor == null) {
+            super.writeJson(writer);
+            return;
+        }
+
+        writer.beginObject();
+        writer.name("questions");
+        writer.beginArray();
+        for (Map.Entry<String, List<FeedbackResponseAttributes>> questionWithResponses
+                : bundleForInstructor.getQuestionResponseMap().entrySet()) {
+            String questionId = questionWithResponses.getKey();
+            FeedbackQuestionAttributes question = bundleForInstructor.getQuestionsMap().get(questionId);
+            List<FeedbackResponseAttributes> missingResponses =
+                    bundleForInstructor.getQuestionMissingResponses(questionId);
+            writeQuestionForInstructor(writer, question, questionWithResponses.getValue(), missingResponses);
+        }
+        writer.endArray();
+        if (getRequestId() != null) {
+            writer.name("requestId").value(getRequestId());
+        }
+        writer.endObject();
+    }
+
+    /**
+     * Writes a question in the same format as {@link QuestionOutput}, building its responses one at a time.
+     */
+    private void writeQuestionForInstructor(JsonWriter writer, FeedbackQuestionAttributes question,
+            List<FeedbackResponseAttributes> responses, List<FeedbackResponseAttributes> missingResponses)
+            throws IOException {
+        QuestionOutput qnOutput = buildQuestionForInstructor(question, bundleForInstructor);
+
+        writer.beginObject();
+        writer.name("feedbackQuestion");
+        JsonUtils.toCompactJson(qnOutput.feedbackQuestion, FeedbackQuestionData.class, writer);
+        if (qnOutput.questionStatistics != null) {
+            writer.name("questionStatistics").value(qnOutput.questionStatistics);
+        }
+
+        writer.name("allResponses");
+        writer.beginArray();
+        for (FeedbackResponseAttributes response : responses) {
+            JsonUtils.toCompactJson(buildSingleResponseForInstructor(response, bundleForInstructor, false),
+                    ResponseOutput.class, writer);
+        }
+        for (FeedbackResponseAttributes response : missingResponses) {
+            JsonUtils.toCompactJson(buildSingleResponseForInstructor(response, bundleForInstructor, true),
+                    ResponseOutput.class, writer);
+        }
+        writer.endArray();
+
+        // fields for student view only, which are always empty for instructor
+        writer.name("responsesToSelf").beginArray().endArray();
+        writer.name("responsesFromSelf").beginArray().endArray();
+        writer.name("otherResponses").beginArray().endArray();
+        writer.endObject();
+    }
+
     /**
      * API output format for questions in session results.
      */
@@ -0,0 +1,63 @@
+package teammates.ui.output;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+
+/**
+ * API output format for the statistics of session results, without the individual responses.
+ */
+public class SessionResultsStatisticsData extends ApiOutput {
+
+    private final List<QuestionStatisticsOutput> questions = new ArrayList<>();
+
+    public SessionResultsStatisticsData(SessionResultsBundle bundle) {
+        bundle.getQuestionResponseMap().keySet().forEach(questionId -> {
+            FeedbackQuestionAttributes question = bundle.getQuestionsMap().get(questionId);
+            String statistics = question.getQuestionDetails().getQuestionSummaryStatisticsJson(question, bundle);
+            questions.add(new QuestionStatisticsOutput(question, statistics));
+        });
+    }
+
+    public List<QuestionStatisticsOutput> getQuestions() {
+        return questions;
+    }
+
+    /**
+     * API output format for the statistics of a question.
+     */
+    public static class QuestionStatisticsOutput {
+
+        private final String feedbackQuestionId;
+        private final int questionNumber;
+        private final FeedbackQuestionType questionType;
+        private final String questionStatistics;
+
+        private QuestionStatisticsOutput(FeedbackQuestionAttributes question, String questionStatistics) {
+            this.feedbackQuestionId = question.getId();
+            this.questionNumber = question.getQuestionNumber();
+            this.questionType = question.getQuestionType();
+            this.questionStatistics = questionStatistics;
+        }
+
+        public String getFeedbackQuestionId() {
+            return feedbackQuestionId;
+        }
+
+        public int getQuestionNumber() {
+            return questionNumber;
+        }
+
+        public FeedbackQuestionType getQuestionType() {
+            return questionType;
+        }
+
+        public String getQuestionStatistics() {
+            return questionStatistics;
+        }
+    }
+
+}
@@ -0,0 +1,35 @@
+package teammates.ui.request;
+
+import java.util.List;
+
+import teammates.common.util.EmailWrapper;
+
+/**
+ * The request of sending a batch of emails.
+ */
+public class SendEmailsRequest extends BasicRequest {
+    private final List<EmailWrapper> emails;
+
+    public SendEmailsRequest(List<EmailWrapper> emails) {
+        this.emails = emails;
+    }
+
+    public List<EmailWrapper> getEmails() {
+        return emails;
+    }
+
+    @Override
+    public void validate() throws InvalidHttpRequestBodyException {
+        assertTrue(emails != null, "List of emails cannot be null");
+        assertTrue(!emails.isEmpty(), "List of emails cannot be empty");
+        for (EmailWrapper email : emails) {
+            assertTrue(email != null, "Email cannot be null");
+            assertTrue(email.getContent() != null, "Email content cannot be null");
+            assertTrue(email.getRecipient() != null, "Email recipient's address cannot be null");
+            assertTrue(email.getSenderEmail() != null, "Email sender's address cannot be null");
+            assertTrue(email.getReplyTo() != null, "Email reply-to address cannot be null");
+            assertTrue(email.getSubject() != null, "Email subject cannot be null");
+        }
+    }
+
+}
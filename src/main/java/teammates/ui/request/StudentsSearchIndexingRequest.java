@@ -0,0 +1,40 @@
+package teammates.ui.request;
+
+import java.time.Instant;
+
+/**
+ * The request of specifying students of a course to be indexed for search.
+ */
+public class StudentsSearchIndexingRequest extends BasicRequest {
+
+    private final String courseId;
+    private final String[] studentEmails;
+    private final Instant scheduledTime;
+
+    public StudentsSearchIndexingRequest(String courseId, String[] studentEmails, Instant scheduledTime) {
+        this.courseId = courseId;
+        this.studentEmails = studentEmails;
+        this.scheduledTime = scheduledTime;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String[] getStudentEmails() {
+        return studentEmails;
+    }
+
+    public Instant getScheduledTime() {
+        return scheduledTime;
+    }
+
+    @Override
+    public void validate() throws InvalidHttpRequestBodyException {
+        assertTrue(courseId != null, "Course ID cannot be null");
+        assertTrue(studentEmails != null, "List of students to index cannot be null");
+        assertTrue(studentEmails.length != 0, "List of students to index cannot be empty");
+        assertTrue(scheduledTime != null, "Scheduled time cannot be null");
+    }
+
+}
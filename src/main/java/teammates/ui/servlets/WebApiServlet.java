@@ -14,6 +14,7 @@ import com.google.cloud.datastore.DatastoreException;
 import teammates.common.datatransfer.logs.RequestLogUser;
 import teammates.common.exception.DeadlineExceededException;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestCache;
 import teammates.ui.request.InvalidHttpRequestBodyException;
 import teammates.ui.webapi.Action;
 import teammates.ui.webapi.ActionFactory;
@@ -57,6 +58,7 @@ public class WebApiServlet extends HttpServlet {
     private void invokeServlet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
         int statusCode = 0;
         Action action = null;
+        RequestCache.start();
         try {
             action = ActionFactory.getAction(req, req.getMethod());
             action.init(req);
@@ -98,6 +100,8 @@ public class WebApiServlet extends HttpServlet {
             throwError(resp, statusCode,
                     "The server encountered an error when processing your request.");
         } finally {
+            RequestCache.clear();
+
             RequestLogUser userInfo = new RequestLogUser();
             String requestBody = null;
             String actionClass = null;
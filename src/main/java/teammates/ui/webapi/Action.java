@@ -205,6 +205,29 @@ public abstract class Action {
         }
     }
 
+    /**
+     * Returns the page size requested in the HTTP request, or null if the results are not requested in pages.
+     */
+    Integer getPageSizeRequestParamValue() {
+        String value = getRequestParamValue(Const.ParamsNames.PAGE_SIZE);
+        if (value == null) {
+            return null;
+        }
+        int pageSize;
+        try {
+            pageSize = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidHttpParameterException(
+                    "Expected integer value for " + Const.ParamsNames.PAGE_SIZE + " parameter, but found: [" + value + "]",
+                    e);
+        }
+        if (pageSize <= 0 || pageSize > Const.RESULTS_PAGE_SIZE_LIMIT) {
+            throw new InvalidHttpParameterException(
+                    "Page size must be between 1 and " + Const.RESULTS_PAGE_SIZE_LIMIT + ", but found: [" + value + "]");
+        }
+        return pageSize;
+    }
+
     /**
      * Returns the request body payload.
      */
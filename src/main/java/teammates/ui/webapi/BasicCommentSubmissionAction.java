@@ -18,7 +18,7 @@ abstract class BasicCommentSubmissionAction extends BasicFeedbackSubmissionActio
      * Validates the questionType of the corresponding question.
      */
     void validQuestionForCommentInSubmission(FeedbackQuestionAttributes feedbackQuestion) {
-        if (!feedbackQuestion.getQuestionDetailsCopy().isFeedbackParticipantCommentsOnResponsesAllowed()) {
+        if (!feedbackQuestion.getQuestionDetails().isFeedbackParticipantCommentsOnResponsesAllowed()) {
             throw new InvalidHttpParameterException("Invalid question type for comment in submission");
         }
     }
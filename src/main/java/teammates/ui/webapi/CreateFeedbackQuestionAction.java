@@ -53,12 +53,12 @@ class CreateFeedbackQuestionAction extends Action {
                 .build();
 
         // validate questions (giver & recipient)
-        String err = attributes.getQuestionDetailsCopy().validateGiverRecipientVisibility(attributes);
+        String err = attributes.getQuestionDetails().validateGiverRecipientVisibility(attributes);
         if (!err.isEmpty()) {
             throw new InvalidHttpRequestBodyException(err);
         }
         // validate questions (question details)
-        FeedbackQuestionDetails questionDetails = attributes.getQuestionDetailsCopy();
+        FeedbackQuestionDetails questionDetails = attributes.getQuestionDetails();
         List<String> questionDetailsErrors = questionDetails.validateQuestionDetails();
         if (!questionDetailsErrors.isEmpty()) {
             throw new InvalidHttpRequestBodyException(questionDetailsErrors.toString());
@@ -88,7 +88,7 @@ class CreateFeedbackResponseCommentAction extends BasicCommentSubmissionAction {
                     Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS);
             gateKeeper.verifyAccessible(instructor, session, response.getRecipientSection(),
                     Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS);
-            if (!question.getQuestionDetailsCopy().isInstructorCommentsOnResponsesAllowed()) {
+            if (!question.getQuestionDetails().isInstructorCommentsOnResponsesAllowed()) {
                 throw new InvalidHttpParameterException("Invalid question type for instructor comment");
             }
             break;
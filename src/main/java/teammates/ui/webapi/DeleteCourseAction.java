@@ -1,6 +1,11 @@
 package teammates.ui.webapi;
 
+import org.apache.http.HttpStatus;
+
+import teammates.common.datatransfer.attributes.DeletionJobAttributes;
+import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
+import teammates.common.util.Logger;
 import teammates.ui.output.MessageOutput;
 
 /**
@@ -8,6 +13,8 @@ import teammates.ui.output.MessageOutput;
  */
 class DeleteCourseAction extends Action {
 
+    private static final Logger log = Logger.getLogger();
+
     @Override
     AuthType getMinAuthLevel() {
         return AuthType.LOGGED_IN;
@@ -28,7 +35,23 @@ class DeleteCourseAction extends Action {
     public JsonResult execute() {
         String idOfCourseToDelete = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
 
-        logic.deleteCourseCascade(idOfCourseToDelete);
+        // the entities under the course are deleted in the background, as there can be too many to delete in a request
+        DeletionJobAttributes job;
+        try {
+            job = logic.startCourseDeletion(idOfCourseToDelete);
+        } catch (InvalidParametersException e) {
+            throw new InvalidHttpParameterException(e);
+        }
+        if (job != null) {
+            try {
+                taskQueuer.scheduleDeletion(idOfCourseToDelete, null);
+            } catch (RuntimeException e) {
+                // the job is resumed by the cron job for stalled deletions
+                log.severe("Cannot schedule the deletion of course " + idOfCourseToDelete, e);
+                return new JsonResult("The course is deleted, but some of its data will only be removed later.",
+                        HttpStatus.SC_ACCEPTED);
+            }
+        }
 
         return new JsonResult(new MessageOutput("OK"));
     }
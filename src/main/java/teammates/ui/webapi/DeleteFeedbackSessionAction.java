@@ -1,13 +1,20 @@
 package teammates.ui.webapi;
 
+import org.apache.http.HttpStatus;
+
+import teammates.common.datatransfer.attributes.DeletionJobAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
+import teammates.common.util.Logger;
 
 /**
  * Delete a feedback session.
  */
 class DeleteFeedbackSessionAction extends Action {
 
+    private static final Logger log = Logger.getLogger();
+
     @Override
     AuthType getMinAuthLevel() {
         return AuthType.LOGGED_IN;
@@ -29,7 +36,24 @@ class DeleteFeedbackSessionAction extends Action {
         String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
         String feedbackSessionName = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
 
-        logic.deleteFeedbackSessionCascade(feedbackSessionName, courseId);
+        // the entities under the session are deleted in the background, as there can be too many to delete in a request
+        DeletionJobAttributes job;
+        try {
+            job = logic.startFeedbackSessionDeletion(feedbackSessionName, courseId);
+        } catch (InvalidParametersException e) {
+            throw new InvalidHttpParameterException(e);
+        }
+        if (job != null) {
+            try {
+                taskQueuer.scheduleDeletion(courseId, feedbackSessionName);
+            } catch (RuntimeException e) {
+                // the job is resumed by the cron job for stalled deletions
+                log.severe("Cannot schedule the deletion of feedback session " + feedbackSessionName
+                        + " in course " + courseId, e);
+                return new JsonResult("The feedback session is deleted, but some of its data will only be removed later.",
+                        HttpStatus.SC_ACCEPTED);
+            }
+        }
 
         return new JsonResult("The feedback session is deleted.");
     }
@@ -0,0 +1,31 @@
+package teammates.ui.webapi;
+
+import teammates.common.datatransfer.attributes.DeletionJobAttributes;
+import teammates.common.util.Const.ParamsNames;
+
+/**
+ * Task queue worker action: runs the next batches of the job deleting a course or a feedback session.
+ *
+ * <p>The task schedules itself again until the job is completed, so that no single task runs for too long.
+ */
+class DeletionWorkerAction extends AdminOnlyAction {
+
+    /**
+     * The maximum number of batches run by a single task.
+     */
+    static final int MAX_NUMBER_OF_BATCHES_PER_TASK = 20;
+
+    @Override
+    public JsonResult execute() {
+        String courseId = getNonNullRequestParamValue(ParamsNames.COURSE_ID);
+        String feedbackSessionName = getRequestParamValue(ParamsNames.FEEDBACK_SESSION_NAME);
+
+        DeletionJobAttributes job = logic.runDeletionJob(courseId, feedbackSessionName, MAX_NUMBER_OF_BATCHES_PER_TASK);
+        if (job != null) {
+            taskQueuer.scheduleDeletion(courseId, feedbackSessionName);
+        }
+
+        return new JsonResult("Successful");
+    }
+
+}
@@ -0,0 +1,25 @@
+package teammates.ui.webapi;
+
+import teammates.common.datatransfer.attributes.DeletionJobAttributes;
+import teammates.common.util.Const;
+import teammates.ui.output.DeletionJobData;
+
+/**
+ * Gets the progress of the job deleting a course, or one of its feedback sessions if the session name is given.
+ */
+class GetDeletionJobAction extends AdminOnlyAction {
+
+    @Override
+    public JsonResult execute() {
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        String feedbackSessionName = getRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
+
+        DeletionJobAttributes job = logic.getDeletionJob(courseId, feedbackSessionName);
+        if (job == null) {
+            throw new EntityNotFoundException("No deletion in progress for the course or session.");
+        }
+
+        return new JsonResult(new DeletionJobData(job));
+    }
+
+}
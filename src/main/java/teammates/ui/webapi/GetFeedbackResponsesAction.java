@@ -3,6 +3,7 @@ package teammates.ui.webapi;
 import java.util.LinkedList;
 import java.util.List;
 
+import teammates.common.datatransfer.ResultsPage;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
@@ -10,6 +11,7 @@ import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.ui.output.FeedbackResponseCommentData;
 import teammates.ui.output.FeedbackResponseData;
@@ -62,19 +64,37 @@ class GetFeedbackResponsesAction extends BasicFeedbackSubmissionAction {
         Intent intent = Intent.valueOf(getNonNullRequestParamValue(Const.ParamsNames.INTENT));
         FeedbackQuestionAttributes questionAttributes = logic.getFeedbackQuestion(feedbackQuestionId);
 
-        List<FeedbackResponseAttributes> responses;
-        switch (intent) {
-        case STUDENT_SUBMISSION:
-            StudentAttributes studentAttributes = getStudentOfCourseFromRequest(questionAttributes.getCourseId());
-            responses = logic.getFeedbackResponsesFromStudentOrTeamForQuestion(questionAttributes, studentAttributes);
-            break;
-        case INSTRUCTOR_SUBMISSION:
-            InstructorAttributes instructorAttributes = getInstructorOfCourseFromRequest(questionAttributes.getCourseId());
-            responses = logic.getFeedbackResponsesFromInstructorForQuestion(questionAttributes, instructorAttributes);
-            break;
-        default:
-            throw new InvalidHttpParameterException("Unknown intent " + intent);
+        // the responses are requested page by page if a page size is given
+        Integer pageSize = getPageSizeRequestParamValue();
+        String pageToken = getRequestParamValue(Const.ParamsNames.PAGE_TOKEN);
+
+        ResultsPage<List<FeedbackResponseAttributes>> responsesPage;
+        try {
+            switch (intent) {
+            case STUDENT_SUBMISSION:
+                StudentAttributes studentAttributes = getStudentOfCourseFromRequest(questionAttributes.getCourseId());
+                responsesPage = pageSize == null
+                        ? new ResultsPage<>(logic.getFeedbackResponsesFromStudentOrTeamForQuestion(
+                                questionAttributes, studentAttributes), null)
+                        : logic.getFeedbackResponsesFromStudentOrTeamForQuestionPage(
+                                questionAttributes, studentAttributes, pageToken, pageSize);
+                break;
+            case INSTRUCTOR_SUBMISSION:
+                InstructorAttributes instructorAttributes =
+                        getInstructorOfCourseFromRequest(questionAttributes.getCourseId());
+                responsesPage = pageSize == null
+                        ? new ResultsPage<>(logic.getFeedbackResponsesFromInstructorForQuestion(
+                                questionAttributes, instructorAttributes), null)
+                        : logic.getFeedbackResponsesFromInstructorForQuestionPage(
+                                questionAttributes, instructorAttributes, pageToken, pageSize);
+                break;
+            default:
+                throw new InvalidHttpParameterException("Unknown intent " + intent);
+            }
+        } catch (InvalidParametersException e) {
+            throw new InvalidHttpParameterException(e);
         }
+        List<FeedbackResponseAttributes> responses = responsesPage.getResults();
 
         List<FeedbackResponseData> responsesData = new LinkedList<>();
         responses.forEach(response -> {
@@ -94,6 +114,7 @@ class GetFeedbackResponsesAction extends BasicFeedbackSubmissionAction {
         if (!responsesData.isEmpty()) {
             result.setResponses(responsesData);
         }
+        result.setNextPageToken(responsesPage.getNextPageToken());
 
         return new JsonResult(result);
     }
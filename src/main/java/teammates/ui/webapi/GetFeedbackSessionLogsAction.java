@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.FeedbackSessionLogEntry;
@@ -85,11 +86,16 @@ public class GetFeedbackSessionLogsAction extends Action {
 
         List<FeedbackSessionLogEntry> fsLogEntries =
                 logsProcessor.getFeedbackSessionLogs(courseId, email, startTime, endTime, feedbackSessionName);
-        Map<String, StudentAttributes> studentsMap = new HashMap<>();
         Map<String, FeedbackSessionAttributes> sessionsMap = new HashMap<>();
         List<FeedbackSessionAttributes> feedbackSessions = logic.getFeedbackSessionsForCourse(courseId);
         feedbackSessions.forEach(fs -> sessionsMap.put(fs.getFeedbackSessionName(), fs));
 
+        Set<String> studentEmails = fsLogEntries.stream()
+                .map(FeedbackSessionLogEntry::getStudentEmail)
+                .collect(Collectors.toSet());
+        Map<String, StudentAttributes> studentsMap = logic.getStudentsForEmails(courseId, studentEmails).stream()
+                .collect(Collectors.toMap(StudentAttributes::getEmail, student -> student));
+
         fsLogEntries = fsLogEntries.stream().filter(logEntry -> {
             String fslType = logEntry.getFeedbackSessionLogType();
             FeedbackSessionLogType convertedFslType = FeedbackSessionLogType.valueOfLabel(fslType);
@@ -99,12 +105,8 @@ public class GetFeedbackSessionLogsAction extends Action {
             }
 
             if (!studentsMap.containsKey(logEntry.getStudentEmail())) {
-                StudentAttributes student = logic.getStudentForEmail(courseId, logEntry.getStudentEmail());
-                if (student == null) {
-                    // If the student email retrieved from the log is invalid, ignore the log
-                    return false;
-                }
-                studentsMap.put(logEntry.getStudentEmail(), student);
+                // If the student email retrieved from the log is invalid, ignore the log
+                return false;
             }
             // If the feedback session retrieved from the log is invalid, ignore the log
             return sessionsMap.containsKey(logEntry.getFeedbackSessionName());
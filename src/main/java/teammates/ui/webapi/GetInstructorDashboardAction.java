@@ -0,0 +1,63 @@
+package teammates.ui.webapi;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.ui.output.InstructorDashboardData;
+
+/**
+ * Gets the active courses of the instructor and the feedback sessions of those courses,
+ * together with the privileges of the instructor for each of them.
+ *
+ * <p>This serves the instructor home page with a single request; the courses are loaded with a single batch read,
+ * and the sessions of the courses are queried concurrently.
+ */
+class GetInstructorDashboardAction extends Action {
+
+    @Override
+    AuthType getMinAuthLevel() {
+        return AuthType.LOGGED_IN;
+    }
+
+    @Override
+    void checkSpecificAccessControl() throws UnauthorizedAccessException {
+        if (!userInfo.isInstructor) {
+            throw new UnauthorizedAccessException("User " + userInfo.getId()
+                    + " does not have instructor privileges");
+        }
+    }
+
+    @Override
+    public JsonResult execute() {
+        List<InstructorAttributes> instructors = logic.getInstructorsForGoogleId(userInfo.getId(), true);
+
+        List<CourseAttributes> courses = logic.getCoursesForInstructor(instructors);
+        CourseAttributes.sortById(courses);
+
+        List<String> courseIds = courses.stream()
+                .map(CourseAttributes::getId)
+                .collect(Collectors.toList());
+        List<FeedbackSessionAttributes> sessions = logic.getFeedbackSessionsForCourses(courseIds);
+
+        Map<String, InstructorAttributes> courseIdToInstructor = new HashMap<>();
+        instructors.forEach(instructor -> courseIdToInstructor.put(instructor.getCourseId(), instructor));
+
+        InstructorDashboardData dashboardData = new InstructorDashboardData(courses, sessions);
+        dashboardData.getCourses().forEach(courseData -> {
+            InstructorAttributes instructor = courseIdToInstructor.get(courseData.getCourseId());
+            courseData.setPrivileges(constructInstructorPrivileges(instructor, null));
+        });
+        dashboardData.getFeedbackSessions().forEach(sessionData -> {
+            InstructorAttributes instructor = courseIdToInstructor.get(sessionData.getCourseId());
+            sessionData.setPrivileges(
+                    constructInstructorPrivileges(instructor, sessionData.getFeedbackSessionName()));
+        });
+        return new JsonResult(dashboardData);
+    }
+
+}
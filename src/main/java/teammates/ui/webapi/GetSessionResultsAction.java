@@ -1,9 +1,11 @@
 package teammates.ui.webapi;
 
+import teammates.common.datatransfer.ResultsPage;
 import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.ui.output.SessionResultsData;
 import teammates.ui.request.Intent;
@@ -88,10 +90,25 @@ class GetSessionResultsAction extends Action {
         case FULL_DETAIL:
             instructor = logic.getInstructorForGoogleId(courseId, userInfo.id);
 
+            Integer pageSize = getPageSizeRequestParamValue();
+            if (pageSize != null) {
+                // the results are requested page by page, so that large sessions can be loaded progressively
+                String pageToken = getRequestParamValue(Const.ParamsNames.PAGE_TOKEN);
+                ResultsPage<SessionResultsBundle> page;
+                try {
+                    page = logic.getSessionResultsPageForCourse(feedbackSessionName, courseId, instructor.getEmail(),
+                            questionId, selectedSection, pageToken, pageSize);
+                } catch (InvalidParametersException e) {
+                    throw new InvalidHttpParameterException(e);
+                }
+                return new JsonResult(SessionResultsData.initForInstructorPage(page));
+            }
+
             bundle = logic.getSessionResultsForCourse(feedbackSessionName, courseId, instructor.getEmail(),
                     questionId, selectedSection);
 
-            return new JsonResult(SessionResultsData.initForInstructor(bundle));
+            // the full results of a session can be large, hence they are streamed instead of built in memory
+            return new JsonResult(SessionResultsData.initForInstructorStreaming(bundle));
         case INSTRUCTOR_RESULT:
             // Section name filter is not applicable here
             instructor = getInstructor(courseId);
@@ -0,0 +1,45 @@
+package teammates.ui.webapi;
+
+import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.util.Const;
+import teammates.ui.output.SessionResultsStatisticsData;
+
+/**
+ * Gets the statistics of feedback session results without the individual responses.
+ */
+class GetSessionResultsStatisticsAction extends Action {
+
+    @Override
+    AuthType getMinAuthLevel() {
+        return AuthType.LOGGED_IN;
+    }
+
+    @Override
+    void checkSpecificAccessControl() throws UnauthorizedAccessException {
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        String feedbackSessionName = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
+
+        FeedbackSessionAttributes fs = getNonNullFeedbackSession(feedbackSessionName, courseId);
+        InstructorAttributes instructor = logic.getInstructorForGoogleId(courseId, userInfo.getId());
+        gateKeeper.verifyAccessible(instructor, fs);
+    }
+
+    @Override
+    public JsonResult execute() {
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        String feedbackSessionName = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
+
+        // Allow additional filter by question ID and section name, as for the full results
+        String questionId = getRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_ID);
+        String selectedSection = getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_GROUPBYSECTION);
+
+        InstructorAttributes instructor = logic.getInstructorForGoogleId(courseId, userInfo.getId());
+        SessionResultsBundle bundle = logic.getSessionResultsForCourse(feedbackSessionName, courseId,
+                instructor.getEmail(), questionId, selectedSection);
+
+        return new JsonResult(new SessionResultsStatisticsData(bundle));
+    }
+
+}
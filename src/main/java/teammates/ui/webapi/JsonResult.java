@@ -10,8 +10,9 @@ import javax.servlet.http.HttpServletResponse;
 
 import org.apache.http.HttpStatus;
 
+import com.google.gson.stream.JsonWriter;
+
 import teammates.common.util.Config;
-import teammates.common.util.JsonUtils;
 import teammates.common.util.RequestTracer;
 import teammates.ui.output.ApiOutput;
 import teammates.ui.output.MessageOutput;
@@ -61,7 +62,9 @@ public class JsonResult extends ActionResult {
         resp.setStatus(getStatusCode());
         resp.setContentType("application/json");
         PrintWriter pw = resp.getWriter();
-        JsonUtils.toCompactJson(output, pw);
+        JsonWriter writer = new JsonWriter(pw);
+        output.writeJson(writer);
+        writer.flush();
     }
 
     List<Cookie> getCookies() {
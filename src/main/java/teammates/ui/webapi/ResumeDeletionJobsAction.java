@@ -0,0 +1,38 @@
+package teammates.ui.webapi;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.DeletionJobAttributes;
+import teammates.common.util.Logger;
+import teammates.common.util.RequestTracer;
+
+/**
+ * Cron job: schedules the jobs deleting courses and feedback sessions which have stalled to be resumed.
+ *
+ * <p>A job stalls if the chain of tasks running it is broken, e.g. a task cannot be added to the task queue.
+ */
+class ResumeDeletionJobsAction extends AdminOnlyAction {
+
+    /**
+     * The duration after which a job which has not made progress is considered stalled.
+     *
+     * <p>This is well above the time taken by a task and its retries, so that a job is not run by two chains of tasks.
+     */
+    static final Duration STALLED_JOB_TIMEOUT = Duration.ofMinutes(30);
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public JsonResult execute() {
+        List<DeletionJobAttributes> jobs = logic.getDeletionJobsNotUpdatedSince(Instant.now().minus(STALLED_JOB_TIMEOUT));
+        for (DeletionJobAttributes job : jobs) {
+            RequestTracer.checkRemainingTime();
+            log.warning("Resuming stalled deletion: " + job);
+            taskQueuer.scheduleDeletion(job.getCourseId(), job.getFeedbackSessionName());
+        }
+        return new JsonResult("Successful");
+    }
+
+}
@@ -9,6 +9,9 @@ import teammates.ui.request.SendEmailRequest;
 
 /**
  * Task queue worker action: sends queued email.
+ *
+ * <p>Emails are now queued in batches to be sent by {@link SendEmailsWorkerAction};
+ * this action remains for the emails which were queued one at a time.
  */
 class SendEmailWorkerAction extends AdminOnlyAction {
 
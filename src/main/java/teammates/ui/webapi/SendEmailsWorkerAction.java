@@ -0,0 +1,42 @@
+package teammates.ui.webapi;
+
+import java.util.List;
+
+import org.apache.http.HttpStatus;
+
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.Logger;
+import teammates.ui.request.InvalidHttpRequestBodyException;
+import teammates.ui.request.SendEmailsRequest;
+
+/**
+ * Task queue worker action: sends a batch of queued emails.
+ *
+ * <p>The task is retried only if none of the emails could be sent.
+ * If only some of the emails could not be sent, they are added in a new task instead,
+ * so that the emails which have been sent are not sent again.
+ */
+class SendEmailsWorkerAction extends AdminOnlyAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public JsonResult execute() throws InvalidHttpRequestBodyException {
+        SendEmailsRequest emailsRequest = getAndValidateRequestBody(SendEmailsRequest.class);
+        List<EmailWrapper> emails = emailsRequest.getEmails();
+        List<EmailWrapper> failedEmails = emailSender.sendEmails(emails);
+        if (failedEmails.isEmpty()) {
+            return new JsonResult("Successful");
+        }
+        if (failedEmails.size() == emails.size()) {
+            // Set an arbitrary retry code outside of the range 200-299 so Cloud Tasks will automatically retry upon failure
+            return new JsonResult("Failure", HttpStatus.SC_BAD_GATEWAY);
+        }
+
+        log.warning(String.format("%d out of %d emails failed to send and are added in a new task",
+                failedEmails.size(), emails.size()));
+        taskQueuer.scheduleEmailsForSending(failedEmails);
+        return new JsonResult("Partially successful");
+    }
+
+}
@@ -0,0 +1,50 @@
+package teammates.ui.webapi;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.http.HttpStatus;
+
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.logs.SearchIndexingLogDetails;
+import teammates.common.exception.SearchServiceException;
+import teammates.common.util.Logger;
+import teammates.ui.request.InvalidHttpRequestBodyException;
+import teammates.ui.request.StudentsSearchIndexingRequest;
+
+/**
+ * Task queue worker action: performs search indexing for a batch of students of a course.
+ *
+ * <p>All students of the batch are indexed with a single request to the search service.
+ */
+class StudentsSearchIndexingWorkerAction extends AdminOnlyAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public ActionResult execute() throws InvalidHttpRequestBodyException {
+        StudentsSearchIndexingRequest indexingRequest = getAndValidateRequestBody(StudentsSearchIndexingRequest.class);
+        String courseId = indexingRequest.getCourseId();
+
+        List<StudentAttributes> students =
+                logic.getStudentsForEmails(courseId, Arrays.asList(indexingRequest.getStudentEmails()));
+        try {
+            logic.putStudentDocuments(students);
+        } catch (SearchServiceException e) {
+            // Set an arbitrary retry code outside of the range 200-299 to trigger automatic retry
+            return new JsonResult("Failure", HttpStatus.SC_BAD_GATEWAY);
+        }
+
+        long indexingLag = Duration.between(indexingRequest.getScheduledTime(), Instant.now()).toMillis();
+        SearchIndexingLogDetails details = new SearchIndexingLogDetails();
+        details.setCollectionName("students");
+        details.setNumberOfDocuments(students.size());
+        details.setIndexingLag(indexingLag);
+        log.event(String.format("Indexed %d student(s) of course %s in %d ms since scheduling",
+                students.size(), courseId, indexingLag), details);
+
+        return new JsonResult("Successful");
+    }
+}
@@ -179,7 +179,7 @@ class SubmitFeedbackResponsesAction extends BasicFeedbackSubmissionAction {
         }
 
         List<String> questionSpecificErrors =
-                feedbackQuestion.getQuestionDetailsCopy()
+                feedbackQuestion.getQuestionDetails()
                         .validateResponsesDetails(responseDetails, numRecipients);
 
         if (!questionSpecificErrors.isEmpty()) {
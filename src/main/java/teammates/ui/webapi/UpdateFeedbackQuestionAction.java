@@ -58,12 +58,12 @@ class UpdateFeedbackQuestionAction extends Action {
         oldQuestion.setShowRecipientNameTo(updateRequest.getShowRecipientNameTo());
 
         // validate questions (giver & recipient)
-        String err = oldQuestion.getQuestionDetailsCopy().validateGiverRecipientVisibility(oldQuestion);
+        String err = oldQuestion.getQuestionDetails().validateGiverRecipientVisibility(oldQuestion);
         if (!err.isEmpty()) {
             throw new InvalidHttpRequestBodyException(err);
         }
         // validate questions (question details)
-        FeedbackQuestionDetails questionDetails = oldQuestion.getQuestionDetailsCopy();
+        FeedbackQuestionDetails questionDetails = oldQuestion.getQuestionDetails();
         List<String> questionDetailsErrors = questionDetails.validateQuestionDetails();
 
         if (!questionDetailsErrors.isEmpty()) {
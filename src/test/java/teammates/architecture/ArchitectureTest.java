@@ -491,6 +491,13 @@ public class ArchitectureTest {
                 .check(ALL_CLASSES);
     }
 
+    @Test
+    public void testArchitecture_externalApi_luceneApiCanOnlyBeAccessedByLuceneSearchIndex() {
+        noClasses().that().doNotHaveSimpleName("LuceneSearchIndex")
+                .should().accessClassesThat().resideInAPackage("org.apache.lucene..")
+                .check(ALL_CLASSES);
+    }
+
     @Test
     public void testArchitecture_externalApi_cloudStorageApiCanOnlyBeAccessedByGcsService() {
         noClasses().that().doNotHaveSimpleName("GoogleCloudStorageService")
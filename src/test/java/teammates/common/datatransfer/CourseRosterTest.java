@@ -116,6 +116,47 @@ public class CourseRosterTest extends BaseTestCase {
         assertEquals("s3@gmail.com", roster.getTeamToMembersTable().get("team 2").iterator().next().getEmail());
     }
 
+    @Test
+    public void testGetStudentsInSection_typicalCase_shouldReturnStudentsInSection() {
+        List<StudentAttributes> students = createStudentList(
+                "s1", "s1@gmail.com",
+                "s2", "s2@gmail.com");
+        CourseRoster roster = new CourseRoster(students, null);
+
+        assertEquals(1, roster.getStudentsInSection("s1's Section").size());
+        assertEquals("s1@gmail.com", roster.getStudentsInSection("s1's Section").get(0).getEmail());
+        assertTrue(roster.getStudentsInSection("non-existent section").isEmpty());
+    }
+
+    @Test
+    public void testGetStudents_duplicateEmails_shouldKeepLastStudentOnly() {
+        List<StudentAttributes> students = createStudentList(
+                "team 1", "s1@gmail.com",
+                "team 2", "s2@gmail.com",
+                "team 3", "s1@gmail.com");
+        CourseRoster roster = new CourseRoster(students, null);
+
+        assertEquals(2, roster.getStudents().size());
+        assertEquals("team 3", roster.getStudentForEmail("s1@gmail.com").getTeam());
+        assertTrue(roster.isStudentInTeam("s1@gmail.com", "team 3"));
+        assertFalse(roster.isStudentInTeam("s1@gmail.com", "team 1"));
+        assertEquals("team 3", roster.getInfoForIdentifier("s1@gmail.com").getTeamName());
+    }
+
+    @Test
+    public void testGetStudents_modifyReturnedCollections_shouldThrowException() {
+        CourseRoster roster = new CourseRoster(
+                createStudentList("team 1", "s1@gmail.com"),
+                createInstructorList("John", "ins1@email.com"));
+
+        assertThrows(UnsupportedOperationException.class, () -> roster.getStudents().clear());
+        assertThrows(UnsupportedOperationException.class, () -> roster.getInstructors().clear());
+        assertThrows(UnsupportedOperationException.class, () -> roster.getTeamToMembersTable().clear());
+        assertThrows(UnsupportedOperationException.class, () -> roster.getTeamToMembersTable().get("team 1").clear());
+        assertThrows(UnsupportedOperationException.class,
+                () -> roster.getStudentsInSection("team 1's Section").clear());
+    }
+
     @Test
     public void testGetInfoForIdentifier_studentCase_shouldShowCorrectInfo() {
         CourseRoster roster = new CourseRoster(
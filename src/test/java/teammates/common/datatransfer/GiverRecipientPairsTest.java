@@ -0,0 +1,60 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link GiverRecipientPairs}.
+ */
+public class GiverRecipientPairsTest extends BaseTestCase {
+
+    @Test
+    public void testAddAllAndRemove() {
+        GiverRecipientPairs pairs = new GiverRecipientPairs();
+
+        ______TS("pairs added");
+
+        pairs.addAll("giver1", Arrays.asList("recipient1", "recipient2"));
+        pairs.addAll("giver2", Arrays.asList("recipient2", "recipient3"));
+        pairs.addAll("giver3", Collections.emptyList());
+
+        assertEquals(3, pairs.getNumberOfGivers());
+        assertEquals(4, pairs.size());
+        assertTrue(pairs.contains("giver1", "recipient2"));
+        assertFalse(pairs.contains("giver1", "recipient3"));
+        assertFalse(pairs.contains("non-existent giver", "recipient1"));
+        assertEquals(Arrays.asList("recipient2", "recipient3"), new ArrayList<>(pairs.getRecipientsOf("giver2")));
+        assertTrue(pairs.getRecipientsOf("giver3").isEmpty());
+
+        ______TS("existing and non-existent pairs removed");
+
+        pairs.remove("giver1", "recipient2");
+        pairs.remove("giver2", "recipient1");
+        pairs.remove("non-existent giver", "recipient1");
+
+        assertEquals(3, pairs.getNumberOfGivers());
+        assertEquals(3, pairs.size());
+        assertFalse(pairs.contains("giver1", "recipient2"));
+        assertTrue(pairs.contains("giver2", "recipient2"));
+    }
+
+    @Test
+    public void testForEach_shouldIterateByGiverThenRecipient() {
+        GiverRecipientPairs pairs = new GiverRecipientPairs();
+        pairs.addAll("giver1", Arrays.asList("recipient2", "recipient1"));
+        pairs.addAll("giver2", Arrays.asList("recipient1", "recipient2"));
+        pairs.remove("giver2", "recipient2");
+
+        List<String> iteratedPairs = new ArrayList<>();
+        pairs.forEach((giver, recipient) -> iteratedPairs.add(giver + "->" + recipient));
+
+        assertEquals(Arrays.asList("giver1->recipient2", "giver1->recipient1", "giver2->recipient1"), iteratedPairs);
+    }
+
+}
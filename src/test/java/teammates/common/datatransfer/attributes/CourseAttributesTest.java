@@ -177,6 +177,25 @@ public class CourseAttributesTest extends BaseTestCase {
         assertFalse(course.equals(3));
     }
 
+    @Test
+    public void testGetCopy() {
+        CourseAttributes course = generateValidCourseAttributesObject();
+        course.setDeletedAt(Instant.now());
+
+        CourseAttributes courseCopy = course.getCopy();
+
+        assertNotSame(course, courseCopy);
+        assertEquals(course.getId(), courseCopy.getId());
+        assertEquals(course.getName(), courseCopy.getName());
+        assertEquals(course.getTimeZone(), courseCopy.getTimeZone());
+        assertEquals(course.getInstitute(), courseCopy.getInstitute());
+        assertEquals(course.getCreatedAt(), courseCopy.getCreatedAt());
+        assertEquals(course.getDeletedAt(), courseCopy.getDeletedAt());
+
+        courseCopy.setName("Another Name");
+        assertEquals("valid-name", course.getName());
+    }
+
     @Test
     public void testHashCode() {
         CourseAttributes course = generateValidCourseAttributesObject();
@@ -0,0 +1,83 @@
+package teammates.common.datatransfer.attributes;
+
+import org.testng.annotations.Test;
+
+import teammates.storage.entity.DeletionJob;
+
+/**
+ * SUT: {@link DeletionJobAttributes}.
+ */
+public class DeletionJobAttributesTest extends BaseAttributesTest {
+
+    @Test
+    @Override
+    public void testToEntity() {
+        DeletionJobAttributes job = DeletionJobAttributes.forFeedbackSession("courseId", "sessionName");
+        job.recordBatch(3, "cursor");
+
+        DeletionJob entity = job.toEntity();
+
+        assertEquals(DeletionJob.generateId("courseId", "sessionName"), entity.getId());
+        assertEquals("courseId", entity.getCourseId());
+        assertEquals("sessionName", entity.getFeedbackSessionName());
+        assertEquals(DeletionJobAttributes.Stage.FEEDBACK_RESPONSE_COMMENTS.name(), entity.getStage());
+        assertEquals("cursor", entity.getCursor());
+        assertEquals(3, entity.getNumberOfEntitiesDeleted());
+
+        DeletionJobAttributes jobFromEntity = DeletionJobAttributes.valueOf(entity);
+
+        assertEquals(job.toString(), jobFromEntity.toString());
+        assertEquals("cursor", jobFromEntity.getCursor());
+        assertEquals(entity.getCreatedAt(), jobFromEntity.getCreatedAt());
+    }
+
+    @Test
+    public void testRecordBatch_stageCompleted_shouldMoveToNextStage() {
+        DeletionJobAttributes job = DeletionJobAttributes.forCourse("courseId");
+        assertTrue(job.isForCourse());
+
+        ______TS("batch with a cursor stays in the stage");
+
+        job.recordBatch(500, "cursor");
+
+        assertEquals(DeletionJobAttributes.Stage.FEEDBACK_RESPONSE_COMMENTS, job.getStage());
+        assertEquals("cursor", job.getCursor());
+
+        ______TS("batch without a cursor moves to the next stage");
+
+        job.recordBatch(10, null);
+
+        assertEquals(DeletionJobAttributes.Stage.FEEDBACK_RESPONSES, job.getStage());
+        assertNull(job.getCursor());
+        assertEquals(510, job.getNumberOfEntitiesDeleted());
+
+        ______TS("restarting a stage clears its cursor");
+
+        job.recordBatch(500, "cursor");
+        job.restartStage();
+
+        assertEquals(DeletionJobAttributes.Stage.FEEDBACK_RESPONSES, job.getStage());
+        assertNull(job.getCursor());
+
+        ______TS("job is completed after the last stage");
+
+        for (int i = DeletionJobAttributes.Stage.FEEDBACK_RESPONSES.ordinal();
+                i < DeletionJobAttributes.Stage.values().length; i++) {
+            assertFalse(job.isCompleted());
+            job.recordBatch(0, null);
+        }
+
+        assertTrue(job.isCompleted());
+        assertNull(job.getStage());
+    }
+
+    @Test
+    public void testGetInvalidityInfo() {
+        assertTrue(DeletionJobAttributes.forCourse("valid-course-id").isValid());
+        assertTrue(DeletionJobAttributes.forFeedbackSession("valid-course-id", "session name").isValid());
+
+        assertFalse(DeletionJobAttributes.forCourse("").isValid());
+        assertFalse(DeletionJobAttributes.forFeedbackSession("valid-course-id", "").isValid());
+    }
+
+}
@@ -0,0 +1,243 @@
+package teammates.common.datatransfer.questions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.JsonUtils;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link FeedbackQuestionStatistics},
+ * {@link FeedbackQuestionDetails#getQuestionSummaryStatisticsJson(FeedbackQuestionAttributes, SessionResultsBundle)}.
+ */
+public class FeedbackQuestionStatisticsTest extends BaseTestCase {
+
+    private static final String COURSE_ID = "course";
+    private static final String QUESTION_ID = "question";
+    private static final String STUDENT_1 = "student1@example.tmt";
+    private static final String STUDENT_2 = "student2@example.tmt";
+    private static final String STUDENT_3 = "student3@example.tmt";
+
+    @Test
+    public void testValueSummaryAccumulator() {
+        FeedbackQuestionStatistics.ValueSummaryAccumulator accumulator =
+                new FeedbackQuestionStatistics.ValueSummaryAccumulator();
+        accumulator.register("empty");
+        for (int i = 0; i < 100; i++) {
+            accumulator.add("key" + i % 20, i);
+        }
+
+        Map<String, FeedbackQuestionStatistics.ValueSummary> summaries = accumulator.toSummaries();
+
+        assertEquals(21, summaries.size());
+        assertEquals(Arrays.asList("empty", "key0", "key1"), new ArrayList<>(summaries.keySet()).subList(0, 3));
+        assertEquals(0, summaries.get("empty").getCount());
+        assertEquals(0, summaries.get("empty").getAverage(), 0);
+
+        FeedbackQuestionStatistics.ValueSummary summary = summaries.get("key19");
+        assertEquals(5, summary.getCount());
+        assertEquals(19 + 39 + 59 + 79 + 99, summary.getTotal(), 0);
+        assertEquals(59, summary.getAverage(), 0);
+        assertEquals(19, summary.getMin(), 0);
+        assertEquals(99, summary.getMax(), 0);
+    }
+
+    @Test
+    public void testGetQuestionSummaryStatisticsJson_mcqWithWeights_shouldCalculateWeightedStatistics() {
+        FeedbackMcqQuestionDetails mcqDetails = new FeedbackMcqQuestionDetails();
+        mcqDetails.setMcqChoices(Arrays.asList("A", "B", "C"));
+        mcqDetails.setOtherEnabled(true);
+        mcqDetails.setHasAssignedWeights(true);
+        mcqDetails.setMcqWeights(Arrays.asList(1.0, 2.0, 4.0));
+        mcqDetails.setMcqOtherWeight(3.0);
+        FeedbackQuestionAttributes question = createQuestion(mcqDetails);
+
+        SessionResultsBundle bundle = createBundle(question, Arrays.asList(
+                createResponse(STUDENT_1, STUDENT_2, createMcqResponseDetails("A", false)),
+                createResponse(STUDENT_2, STUDENT_1, createMcqResponseDetails("B", false)),
+                createResponse(STUDENT_3, STUDENT_1, createMcqResponseDetails("D", true))));
+
+        FeedbackQuestionStatistics statistics = getStatistics(question, bundle);
+
+        assertEquals(3, statistics.getNumberOfResponses());
+        assertEquals(Arrays.asList("A", "B", "C", "Other"), new ArrayList<>(statistics.getAnswerFrequency().keySet()));
+        assertEquals(1, (int) statistics.getAnswerFrequency().get("A"));
+        assertEquals(0, (int) statistics.getAnswerFrequency().get("C"));
+        assertEquals(1, (int) statistics.getAnswerFrequency().get("Other"));
+        assertEquals(100.0 / 3, statistics.getPercentagePerOption().get("B"), 0.001);
+        assertEquals(50, statistics.getWeightedPercentagePerOption().get("Other"), 0.001);
+
+        assertEquals(2, statistics.getOverall().getAverage(), 0.001);
+        assertEquals(2, statistics.getPerRecipient().get(STUDENT_1).getCount());
+        assertEquals(2.5, statistics.getPerRecipient().get(STUDENT_1).getAverage(), 0.001);
+        assertEquals(3, statistics.getPerTeam().get("Team 1").getCount());
+        assertEquals(2, statistics.getPerTeam().get("Team 1").getAverage(), 0.001);
+    }
+
+    @Test
+    public void testGetQuestionSummaryStatisticsJson_mcqWithoutWeights_shouldNotCalculateWeightedStatistics() {
+        FeedbackMcqQuestionDetails mcqDetails = new FeedbackMcqQuestionDetails();
+        mcqDetails.setMcqChoices(Arrays.asList("A", "B"));
+        FeedbackQuestionAttributes question = createQuestion(mcqDetails);
+
+        SessionResultsBundle bundle = createBundle(question, Arrays.asList(
+                createResponse(STUDENT_1, STUDENT_2, createMcqResponseDetails("A", false))));
+
+        FeedbackQuestionStatistics statistics = getStatistics(question, bundle);
+
+        assertEquals(100, statistics.getPercentagePerOption().get("A"), 0.001);
+        assertNull(statistics.getWeightedPercentagePerOption());
+        assertNull(statistics.getPerRecipient());
+    }
+
+    @Test
+    public void testGetQuestionSummaryStatisticsJson_rubric_shouldCalculateWeightedAverages() {
+        FeedbackRubricQuestionDetails rubricDetails = new FeedbackRubricQuestionDetails();
+        rubricDetails.setRubricChoices(Arrays.asList("Agree", "Disagree"));
+        rubricDetails.setRubricSubQuestions(Arrays.asList("a", "b"));
+        rubricDetails.setHasAssignedWeights(true);
+        rubricDetails.setRubricWeightsForEachCell(Arrays.asList(Arrays.asList(2.0, 1.0), Arrays.asList(4.0, 3.0)));
+        FeedbackQuestionAttributes question = createQuestion(rubricDetails);
+
+        SessionResultsBundle bundle = createBundle(question, Arrays.asList(
+                createResponse(STUDENT_1, STUDENT_3, createRubricResponseDetails(0, 1)),
+                createResponse(STUDENT_2, STUDENT_3, createRubricResponseDetails(1, -1))));
+
+        FeedbackQuestionStatistics statistics = getStatistics(question, bundle);
+
+        assertEquals(2, statistics.getNumberOfResponses());
+        assertEquals(1, statistics.getSubQuestionAnswerFrequency()[0][0]);
+        assertEquals(1, statistics.getSubQuestionAnswerFrequency()[0][1]);
+        assertEquals(1, statistics.getSubQuestionAnswerFrequency()[1][1]);
+        assertEquals(0, statistics.getSubQuestionAnswerFrequency()[1][0]);
+
+        assertEquals(1.5, statistics.getPerSubQuestion().get(0).getAverage(), 0.001);
+        assertEquals(1, statistics.getPerSubQuestion().get(1).getCount());
+        assertEquals(3, statistics.getPerSubQuestion().get(1).getAverage(), 0.001);
+
+        assertEquals(3, statistics.getPerRecipient().get(STUDENT_3).getCount());
+        assertEquals(2, statistics.getPerRecipient().get(STUDENT_3).getAverage(), 0.001);
+        assertEquals(6, statistics.getPerTeam().get("Team 2").getTotal(), 0.001);
+    }
+
+    @Test
+    public void testGetQuestionSummaryStatisticsJson_recipientNotVisible_shouldGroupByAnonymousNames() {
+        FeedbackQuestionAttributes question = createQuestion(new FeedbackNumericalScaleQuestionDetails());
+        FeedbackResponseAttributes response =
+                createResponse(STUDENT_1, STUDENT_2, createNumericalScaleResponseDetails(4));
+        FeedbackResponseAttributes hiddenResponse =
+                createResponse(STUDENT_3, STUDENT_1, createNumericalScaleResponseDetails(2));
+
+        Map<String, Boolean> visibilityTable = new HashMap<>();
+        visibilityTable.put(response.getId(), true);
+        visibilityTable.put(hiddenResponse.getId(), false);
+        SessionResultsBundle bundle = createBundle(question, Arrays.asList(response, hiddenResponse), visibilityTable);
+
+        FeedbackQuestionStatistics statistics = getStatistics(question, bundle);
+
+        assertEquals(3, statistics.getOverall().getAverage(), 0.001);
+        assertEquals(4, statistics.getPerRecipient().get(STUDENT_2).getAverage(), 0.001);
+        assertFalse(statistics.getPerRecipient().containsKey(STUDENT_1));
+        assertEquals(2, statistics.getPerRecipient()
+                .get(SessionResultsBundle.getAnonName(FeedbackParticipantType.STUDENTS, STUDENT_1)).getAverage(), 0.001);
+        assertEquals(1, statistics.getPerTeam().get("Team 1").getCount());
+        assertEquals(4, statistics.getPerTeam().get("Team 1").getAverage(), 0.001);
+        assertEquals(2, statistics.getPerTeam()
+                .get(SessionResultsBundle.getAnonName(FeedbackParticipantType.TEAMS, "Team 1")).getAverage(), 0.001);
+    }
+
+    @Test
+    public void testGetQuestionSummaryStatisticsJson_unsupportedQuestionType_shouldReturnEmptyString() {
+        FeedbackQuestionAttributes question = createQuestion(new FeedbackTextQuestionDetails());
+        SessionResultsBundle bundle = createBundle(question, new ArrayList<>());
+
+        assertEquals("", question.getQuestionDetails().getQuestionSummaryStatisticsJson(question, bundle));
+    }
+
+    private FeedbackQuestionStatistics getStatistics(FeedbackQuestionAttributes question, SessionResultsBundle bundle) {
+        String json = question.getQuestionDetails().getQuestionSummaryStatisticsJson(question, bundle);
+        return JsonUtils.fromJson(json, FeedbackQuestionStatistics.class);
+    }
+
+    private FeedbackQuestionAttributes createQuestion(FeedbackQuestionDetails questionDetails) {
+        FeedbackQuestionAttributes question = FeedbackQuestionAttributes.builder()
+                .withCourseId(COURSE_ID)
+                .withFeedbackSessionName("session")
+                .withQuestionNumber(1)
+                .withQuestionDetails(questionDetails)
+                .withGiverType(FeedbackParticipantType.STUDENTS)
+                .withRecipientType(FeedbackParticipantType.STUDENTS)
+                .build();
+        question.setId(QUESTION_ID);
+        return question;
+    }
+
+    private FeedbackResponseAttributes createResponse(String giver, String recipient,
+                                                      FeedbackResponseDetails responseDetails) {
+        return FeedbackResponseAttributes.builder(QUESTION_ID, giver, recipient)
+                .withCourseId(COURSE_ID)
+                .withFeedbackSessionName("session")
+                .withResponseDetails(responseDetails)
+                .build();
+    }
+
+    private SessionResultsBundle createBundle(FeedbackQuestionAttributes question,
+                                              List<FeedbackResponseAttributes> responses) {
+        Map<String, Boolean> visibilityTable = new HashMap<>();
+        responses.forEach(response -> visibilityTable.put(response.getId(), true));
+        return createBundle(question, responses, visibilityTable);
+    }
+
+    private SessionResultsBundle createBundle(FeedbackQuestionAttributes question,
+                                              List<FeedbackResponseAttributes> responses,
+                                              Map<String, Boolean> recipientVisibilityTable) {
+        Map<String, FeedbackQuestionAttributes> questionsMap = new HashMap<>();
+        questionsMap.put(QUESTION_ID, question);
+        List<StudentAttributes> students = Arrays.asList(
+                createStudent(STUDENT_1, "Team 1"), createStudent(STUDENT_2, "Team 1"), createStudent(STUDENT_3, "Team 2"));
+        return new SessionResultsBundle(questionsMap, responses, new ArrayList<>(), new HashMap<>(),
+                recipientVisibilityTable, new HashMap<>(), new HashMap<>(), new CourseRoster(students, new ArrayList<>()));
+    }
+
+    private StudentAttributes createStudent(String email, String team) {
+        return StudentAttributes.builder(COURSE_ID, email)
+                .withName(email)
+                .withTeamName(team)
+                .withSectionName("Section 1")
+                .build();
+    }
+
+    private FeedbackMcqResponseDetails createMcqResponseDetails(String answer, boolean isOther) {
+        FeedbackMcqResponseDetails details = new FeedbackMcqResponseDetails();
+        details.setAnswer(answer);
+        details.setOther(isOther);
+        if (isOther) {
+            details.setOtherFieldContent(answer);
+        }
+        return details;
+    }
+
+    private FeedbackRubricResponseDetails createRubricResponseDetails(Integer... answer) {
+        FeedbackRubricResponseDetails details = new FeedbackRubricResponseDetails();
+        details.setAnswer(Arrays.asList(answer));
+        return details;
+    }
+
+    private FeedbackNumericalScaleResponseDetails createNumericalScaleResponseDetails(double answer) {
+        FeedbackNumericalScaleResponseDetails details = new FeedbackNumericalScaleResponseDetails();
+        details.setAnswer(answer);
+        return details;
+    }
+
+}
@@ -1,12 +1,18 @@
 package teammates.common.util;
 
+import java.io.StringWriter;
+import java.time.Instant;
 import java.util.ArrayList;
 
 import org.testng.annotations.Test;
 
+import com.google.gson.stream.JsonWriter;
+
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackResponseDetails;
 import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
 import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
 import teammates.test.BaseTestCase;
@@ -103,4 +109,49 @@ public class JsonUtilsTest extends BaseTestCase {
                 + "\"recipientSection\":\"recipientSection\"}",
                 JsonUtils.toCompactJson(fra));
     }
+
+    @Test
+    public void testFeedbackDetailsAdaptors_withComposedDetails_shouldDeserializeToConcreteClass() {
+        FeedbackQuestionAttributes fqa = JsonUtils.fromJson("{\"feedbackSessionName\":\"testFeedbackSession\","
+                + "\"questionDetails\":{\"questionType\":\"TEXT\",\"questionText\":\"Question text.\"}}",
+                FeedbackQuestionAttributes.class);
+
+        assertTrue(fqa.getQuestionDetailsCopy() instanceof FeedbackTextQuestionDetails);
+        assertEquals("Question text.", fqa.getQuestionDetailsCopy().getQuestionText());
+
+        FeedbackResponseAttributes fra = JsonUtils.fromJson("{\"feedbackQuestionId\":\"questionId\","
+                + "\"responseDetails\":{\"answer\":\"My answer\",\"questionType\":\"TEXT\"}}",
+                FeedbackResponseAttributes.class);
+
+        assertTrue(fra.getResponseDetailsCopy() instanceof FeedbackTextResponseDetails);
+        assertEquals("My answer", fra.getResponseDetailsCopy().getAnswerString());
+    }
+
+    @Test
+    public void testAdaptors_withNullValues_shouldSerializeAndDeserializeNull() {
+        StringWriter stringWriter = new StringWriter();
+        JsonUtils.toCompactJson(null, FeedbackQuestionDetails.class, new JsonWriter(stringWriter));
+        assertEquals("null", stringWriter.toString());
+
+        assertNull(JsonUtils.fromJson("null", FeedbackResponseDetails.class));
+        assertNull(JsonUtils.fromJson("null", Instant.class));
+
+        FeedbackResponseAttributes fra = JsonUtils.fromJson("{\"feedbackQuestionId\":\"questionId\","
+                + "\"responseDetails\":null}", FeedbackResponseAttributes.class);
+        assertEquals("questionId", fra.getFeedbackQuestionId());
+    }
+
+    @Test
+    public void testDeepCopy() {
+        FeedbackTextQuestionDetails questionDetails = new FeedbackTextQuestionDetails("Question text.");
+
+        FeedbackTextQuestionDetails copy = JsonUtils.deepCopy(questionDetails, FeedbackTextQuestionDetails.class);
+
+        assertNotSame(questionDetails, copy);
+        assertEquals(questionDetails, copy);
+
+        copy.setQuestionText("Another question text.");
+        assertEquals("Question text.", questionDetails.getQuestionText());
+    }
+
 }
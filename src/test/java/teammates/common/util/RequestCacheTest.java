@@ -0,0 +1,75 @@
+package teammates.common.util;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link RequestCache}.
+ */
+public class RequestCacheTest extends BaseTestCase {
+
+    private int loadCount;
+
+    @BeforeMethod
+    public void resetCache() {
+        RequestCache.clear();
+        loadCount = 0;
+    }
+
+    @Test
+    public void testGet_cacheNotStarted_shouldAlwaysLoad() {
+        assertEquals("value", RequestCache.get("namespace", "key", this::load));
+        assertEquals("value", RequestCache.get("namespace", "key", this::load));
+        assertEquals(2, loadCount);
+    }
+
+    @Test
+    public void testGet_cacheStarted_shouldLoadOnce() {
+        RequestCache.start();
+
+        assertEquals("value", RequestCache.get("namespace", "key", this::load));
+        assertEquals("value", RequestCache.get("namespace", "key", this::load));
+        assertEquals(1, loadCount);
+
+        ______TS("null values are cached");
+
+        assertNull(RequestCache.get("namespace", "null key", () -> null));
+        assertNull(RequestCache.get("namespace", "null key", this::load));
+        assertEquals(1, loadCount);
+
+        ______TS("different namespaces do not share values");
+
+        assertEquals("value", RequestCache.get("other namespace", "key", this::load));
+        assertEquals(2, loadCount);
+
+        ______TS("cleared cache should not be used any more");
+
+        RequestCache.clear();
+        assertEquals("value", RequestCache.get("namespace", "key", this::load));
+        assertEquals("value", RequestCache.get("namespace", "key", this::load));
+        assertEquals(4, loadCount);
+    }
+
+    @Test
+    public void testInvalidate() {
+        RequestCache.start();
+
+        RequestCache.get("namespace", "key", this::load);
+        RequestCache.get("other namespace", "key", this::load);
+        assertEquals(2, loadCount);
+
+        RequestCache.invalidate("namespace");
+
+        RequestCache.get("namespace", "key", this::load);
+        RequestCache.get("other namespace", "key", this::load);
+        assertEquals(3, loadCount);
+    }
+
+    private String load() {
+        loadCount++;
+        return "value";
+    }
+
+}
@@ -37,6 +37,16 @@ public class StringHelperTest extends BaseTestCase {
         assertTrue(StringHelper.isMatching("\u00E0", "à"));
         assertTrue(StringHelper.isMatching("\u0061\u0300", "à"));
         assertFalse(StringHelper.isMatching("Héllo", "Hello"));
+
+        ______TS("ASCII and non-ASCII inputs matched against the same regex");
+
+        String regex = "[a-zé]+";
+        assertTrue(StringHelper.isMatching("hello", regex));
+        assertTrue(StringHelper.isMatching("h\u00E9llo", regex));
+        assertTrue(StringHelper.isMatching("he\u0301llo", regex));
+        assertFalse(StringHelper.isMatching("Hello", regex));
+        assertFalse(StringHelper.isMatching("H\u00E9llo", regex));
+        assertTrue(StringHelper.isMatching("hello", regex));
     }
 
     @Test
@@ -174,6 +184,9 @@ public class StringHelperTest extends BaseTestCase {
         str = "illegal!?Chars+1";
         assertEquals("illegal__Chars_1", StringHelper.replaceIllegalChars(str, regex, '_'));
         assertEquals("illegal..Chars.1", StringHelper.replaceIllegalChars(str, regex, '.'));
+
+        str = "Ch\u00E2rs";
+        assertEquals("Ch_rs", StringHelper.replaceIllegalChars(str, regex, '_'));
     }
 
     @Test
@@ -0,0 +1,88 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Templates.CompiledTemplate;
+import teammates.common.util.Templates.EmailTemplates;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link Templates}.
+ */
+public class TemplatesTest extends BaseTestCase {
+
+    @Test
+    public void testCompiledTemplate_populate() {
+        CompiledTemplate template = Templates.compile("Dear ${userName}, ${courseId} ${courseId}${missing} ${unclosed");
+
+        ______TS("variables populated, and variables without values left as they are");
+
+        assertEquals("Dear Alice, CS101 CS101${missing} ${unclosed",
+                template.populate("${userName}", "Alice", "${courseId}", "CS101"));
+
+        ______TS("values are not searched for variables");
+
+        assertEquals("Dear ${courseId}, CS101 CS101${missing} ${unclosed",
+                template.populate("${userName}", "${courseId}", "${courseId}", "CS101"));
+
+        ______TS("template without variables");
+
+        assertEquals("no variables", Templates.compile("no variables").populate("${userName}", "Alice"));
+        assertEquals("", Templates.compile("").populate());
+    }
+
+    @Test
+    public void testCompiledTemplate_populatePartially() {
+        CompiledTemplate template = Templates.compile("${a}-${b}-${c}-${a}");
+
+        CompiledTemplate partiallyPopulated = template.populatePartially("${a}", "1", "${c}", "${b}");
+
+        assertEquals("1-${b}-${b}-1", partiallyPopulated.populate());
+        assertEquals("1-2-${b}-1", partiallyPopulated.populate("${b}", "2"));
+        assertEquals("${a}-${b}-${c}-${a}", template.populate());
+    }
+
+    @Test
+    public void testCompiledTemplate_populateInto_shouldAppendToBuilder() {
+        CompiledTemplate template = Templates.compile("Hi ${userName}.");
+        StringBuilder builder = new StringBuilder();
+
+        List<String> populatedTemplates = new ArrayList<>();
+        for (String userName : new String[] { "Alice", "Bob" }) {
+            builder.setLength(0);
+            template.populateInto(builder, "${userName}", userName);
+            populatedTemplates.add(builder.toString());
+        }
+
+        assertEquals("Hi Alice.", populatedTemplates.get(0));
+        assertEquals("Hi Bob.", populatedTemplates.get(1));
+    }
+
+    @Test
+    public void testCompiledTemplate_shouldMatchPopulateTemplate() {
+        String[] keyValuePairs = {
+                "${userName}", "Alice",
+                "${courseName}", "Course &amp; Name",
+                "${courseId}", "CS101",
+                "${feedbackSessionName}", "Session 1",
+                "${deadline}", "Sun, 01 Jan 2023, 11:59 PM SGT",
+                "${instructorPreamble}", "",
+                "${sessionInstructions}", "<p>Instructions</p>",
+                "${submitUrl}", "http://localhost/submit",
+                "${reportUrl}", "http://localhost/report",
+                "${feedbackAction}", "submit, edit or view",
+                "${additionalContactInformation}", "<p>Contact</p>",
+                "${status}", "is now open",
+        };
+
+        for (String emailTemplate : new String[] { EmailTemplates.USER_FEEDBACK_SESSION,
+                EmailTemplates.USER_FEEDBACK_SESSION_PUBLISHED, EmailTemplates.USER_FEEDBACK_SESSION_UNPUBLISHED }) {
+            assertEquals(Templates.populateTemplate(emailTemplate, keyValuePairs),
+                    Templates.compile(emailTemplate).populate(keyValuePairs));
+        }
+    }
+
+}
@@ -0,0 +1,44 @@
+package teammates.common.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link TokenBucket}.
+ */
+public class TokenBucketTest extends BaseTestCase {
+
+    private long nowNanos;
+
+    @Test
+    public void testReserve() {
+        nowNanos = 0;
+        TokenBucket bucket = new TokenBucket(10, 5, () -> nowNanos);
+
+        ______TS("tokens within capacity: no waiting");
+
+        assertEquals(0, bucket.reserve(4));
+        assertEquals(0, bucket.reserve(6));
+
+        ______TS("bucket emptied: wait for tokens to be refilled");
+
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(400), bucket.reserve(2));
+        // the tokens owed are to be refilled first
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(600), bucket.reserve(1));
+
+        ______TS("tokens refilled over time");
+
+        nowNanos += TimeUnit.SECONDS.toNanos(1);
+        assertEquals(0, bucket.reserve(2));
+
+        ______TS("tokens refilled up to capacity only");
+
+        nowNanos += TimeUnit.SECONDS.toNanos(60);
+        assertEquals(0, bucket.reserve(10));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(200), bucket.reserve(1));
+    }
+
+}
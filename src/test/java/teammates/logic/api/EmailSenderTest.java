@@ -1,5 +1,9 @@
 package teammates.logic.api;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.jsoup.Jsoup;
@@ -10,13 +14,15 @@ import com.mailjet.client.resource.Email;
 import com.sendgrid.helpers.mail.Mail;
 import com.sun.jersey.multipart.FormDataMultiPart;
 
+import teammates.common.util.Const;
 import teammates.common.util.EmailWrapper;
 import teammates.logic.external.MailgunService;
 import teammates.logic.external.MailjetService;
 import teammates.logic.external.SendgridService;
 
 /**
- * SUT: {@link SendgridService},
+ * SUT: {@link EmailSender},
+ *      {@link SendgridService},
  *      {@link MailgunService},
  *      {@link MailjetService}.
  */
@@ -97,4 +103,46 @@ public class EmailSenderTest extends BaseLogicTest {
         assertEquals(wrapper.getContent(), email.get(Email.HTMLPART));
     }
 
+    @Test
+    public void testSendEmails_moreEmailsThanBatchSize_shouldSendInBatches() {
+        MockEmailSenderService service = new MockEmailSenderService(2);
+        EmailSender emailSender = new EmailSender(service);
+        List<EmailWrapper> emails = getEmailWrappers(
+                "recipient1@email.com", "recipient2@email.com", "recipient3@email.com",
+                "recipient4@email.com", "recipient5@email.com");
+
+        List<EmailWrapper> failedEmails = emailSender.sendEmails(emails);
+
+        assertTrue(failedEmails.isEmpty());
+        assertEquals(3, service.getSentBatches().size());
+        assertEquals(emails.subList(0, 2), service.getSentBatches().get(0));
+        assertEquals(emails.subList(2, 4), service.getSentBatches().get(1));
+        assertEquals(emails.subList(4, 5), service.getSentBatches().get(2));
+    }
+
+    @Test
+    public void testSendEmails_someEmailsFailedOrToTestAccounts_shouldReturnFailedEmails() {
+        MockEmailSenderService service = new MockEmailSenderService(10);
+        service.failEmailsTo("recipient2@email.com");
+        EmailSender emailSender = new EmailSender(service);
+        List<EmailWrapper> emails = getEmailWrappers(
+                "recipient1@email.com", "recipient2@email.com", "recipient3" + Const.TEST_EMAIL_DOMAIN);
+
+        List<EmailWrapper> failedEmails = emailSender.sendEmails(emails);
+
+        assertEquals(Collections.singletonList(emails.get(1)), failedEmails);
+        assertEquals(1, service.getSentBatches().size());
+        assertEquals(Collections.singletonList(emails.get(0)), service.getSentBatches().get(0));
+    }
+
+    private List<EmailWrapper> getEmailWrappers(String... recipients) {
+        List<EmailWrapper> wrappers = new ArrayList<>();
+        for (String recipient : recipients) {
+            EmailWrapper wrapper = getTypicalEmailWrapper();
+            wrapper.setRecipient(recipient);
+            wrappers.add(wrapper);
+        }
+        return wrappers;
+    }
+
 }
@@ -1,7 +1,10 @@
 package teammates.logic.api;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.http.HttpStatus;
 
@@ -17,6 +20,7 @@ import teammates.common.util.EmailWrapper;
 public class MockEmailSender extends EmailSender {
 
     private List<EmailWrapper> sentEmails = new ArrayList<>();
+    private Set<String> failingRecipients = new HashSet<>();
 
     @Override
     public EmailSendingStatus sendEmail(EmailWrapper email) {
@@ -24,6 +28,26 @@ public class MockEmailSender extends EmailSender {
         return new EmailSendingStatus(HttpStatus.SC_OK, null);
     }
 
+    @Override
+    public List<EmailWrapper> sendEmails(List<EmailWrapper> emails) {
+        List<EmailWrapper> failedEmails = new ArrayList<>();
+        for (EmailWrapper email : emails) {
+            if (failingRecipients.contains(email.getRecipient())) {
+                failedEmails.add(email);
+            } else {
+                sentEmails.add(email);
+            }
+        }
+        return failedEmails;
+    }
+
+    /**
+     * Makes the emails to the given recipients fail to be sent when sent in batches.
+     */
+    public void failSendingEmailsTo(String... recipients) {
+        failingRecipients.addAll(Arrays.asList(recipients));
+    }
+
     /**
      * Gets the emails sent.
      */
@@ -32,10 +56,11 @@ public class MockEmailSender extends EmailSender {
     }
 
     /**
-     * Clears the list of emails sent.
+     * Clears the list of emails sent, and the recipients to whom emails fail to be sent.
      */
     public void clearEmails() {
         sentEmails.clear();
+        failingRecipients.clear();
     }
 
 }
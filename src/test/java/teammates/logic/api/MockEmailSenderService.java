@@ -0,0 +1,84 @@
+package teammates.logic.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.http.HttpStatus;
+
+import teammates.common.util.EmailSendingStatus;
+import teammates.common.util.EmailWrapper;
+import teammates.logic.external.EmailSenderService;
+
+/**
+ * Allows mocking of the {@link EmailSenderService} used by {@link EmailSender} in production.
+ *
+ * <p>Instead of actually sending the emails, the emails are kept in memory with the batches they are sent in,
+ * and emails to the recipients specified to fail are rejected.
+ */
+public class MockEmailSenderService implements EmailSenderService {
+
+    private final int maxBatchSize;
+    private final List<List<EmailWrapper>> sentBatches = new ArrayList<>();
+    private final Set<String> failingRecipients = new HashSet<>();
+
+    public MockEmailSenderService(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public EmailWrapper parseToEmail(EmailWrapper wrapper) {
+        return wrapper;
+    }
+
+    @Override
+    public EmailSendingStatus sendEmail(EmailWrapper wrapper) {
+        return sendEmails(Collections.singletonList(wrapper)).get(0);
+    }
+
+    @Override
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> wrappers) {
+        assert wrappers.size() <= maxBatchSize;
+
+        List<EmailWrapper> sentBatch = new ArrayList<>();
+        List<EmailSendingStatus> statuses = new ArrayList<>();
+        for (EmailWrapper wrapper : wrappers) {
+            if (failingRecipients.contains(wrapper.getRecipient())) {
+                statuses.add(new EmailSendingStatus(HttpStatus.SC_BAD_REQUEST, "Recipient rejected"));
+            } else {
+                sentBatch.add(wrapper);
+                statuses.add(new EmailSendingStatus(HttpStatus.SC_OK, null));
+            }
+        }
+        sentBatches.add(sentBatch);
+        return statuses;
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @Override
+    public double getMaxEmailsPerSecond() {
+        // high enough for tests not to wait
+        return 1000;
+    }
+
+    /**
+     * Makes the emails to {@code recipient} fail to be sent.
+     */
+    public void failEmailsTo(String recipient) {
+        failingRecipients.add(recipient);
+    }
+
+    /**
+     * Gets the emails sent, in the batches they are sent in.
+     */
+    public List<List<EmailWrapper>> getSentBatches() {
+        return sentBatches;
+    }
+
+}
@@ -1,9 +1,12 @@
 package teammates.logic.api;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import teammates.common.util.TaskWrapper;
 
@@ -16,10 +19,14 @@ import teammates.common.util.TaskWrapper;
 public class MockTaskQueuer extends TaskQueuer {
 
     private List<TaskWrapper> tasksAdded = new ArrayList<>();
+    private Set<String> failingQueueNames = new HashSet<>();
 
     @Override
     void addDeferredTask(String queueName, String workerUrl, Map<String, String> paramMap, Object requestBody,
                          long countdownTime) {
+        if (failingQueueNames.contains(queueName)) {
+            throw new IllegalStateException("Cannot add task to queue " + queueName);
+        }
         // countdown time not tested
         TaskWrapper task = new TaskWrapper(queueName, workerUrl, paramMap, requestBody);
         tasksAdded.add(task);
@@ -46,11 +53,19 @@ public class MockTaskQueuer extends TaskQueuer {
         return numberOfTasksAdded;
     }
 
+    /**
+     * Makes adding tasks to the given queues fail, until the tasks are cleared.
+     */
+    public void failAddingTasksTo(String... queueNames) {
+        failingQueueNames.addAll(Arrays.asList(queueNames));
+    }
+
     /**
      * Clears the list of tasks added.
      */
     public void clearTasks() {
         tasksAdded.clear();
+        failingQueueNames.clear();
     }
 
 }
@@ -0,0 +1,87 @@
+package teammates.logic.api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.StringHelperExtension;
+import teammates.common.util.TaskWrapper;
+import teammates.test.BaseTestCase;
+import teammates.ui.request.SendEmailsRequest;
+
+/**
+ * SUT: {@link TaskQueuer}.
+ */
+public class TaskQueuerTest extends BaseTestCase {
+
+    private final MockTaskQueuer taskQueuer = new MockTaskQueuer();
+
+    @Test
+    public void testScheduleEmailsForSending() {
+        ______TS("no emails");
+
+        taskQueuer.scheduleEmailsForSending(new ArrayList<>());
+        assertTrue(taskQueuer.getTasksAdded().isEmpty());
+
+        ______TS("small emails are sent in a single task");
+
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            emails.add(createEmail(i, 100));
+        }
+        taskQueuer.scheduleEmailsForSending(emails);
+        verifyEmailBatches(Arrays.asList(50));
+        taskQueuer.clearTasks();
+
+        ______TS("large emails are split by the size of the task");
+
+        emails.clear();
+        for (int i = 0; i < 5; i++) {
+            emails.add(createEmail(i, TaskQueuer.SEND_EMAIL_TASK_MAX_BODY_SIZE * 2 / 5));
+        }
+        taskQueuer.scheduleEmailsForSending(emails);
+        verifyEmailBatches(Arrays.asList(2, 2, 1));
+        taskQueuer.clearTasks();
+
+        ______TS("email larger than the size of a task is sent in a task of its own");
+
+        emails.clear();
+        emails.add(createEmail(0, 100));
+        emails.add(createEmail(1, TaskQueuer.SEND_EMAIL_TASK_MAX_BODY_SIZE));
+        emails.add(createEmail(2, 100));
+        taskQueuer.scheduleEmailsForSending(emails);
+        verifyEmailBatches(Arrays.asList(1, 1, 1));
+        taskQueuer.clearTasks();
+    }
+
+    private void verifyEmailBatches(List<Integer> expectedBatchSizes) {
+        List<Integer> batchSizes = new ArrayList<>();
+        for (TaskWrapper task : taskQueuer.getTasksAdded()) {
+            assertEquals(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, task.getQueueName());
+            SendEmailsRequest request = (SendEmailsRequest) task.getRequestBody();
+            batchSizes.add(request.getEmails().size());
+            if (request.getEmails().size() > 1) {
+                int bodySize = JsonUtils.toCompactJson(request).getBytes(Const.ENCODING).length;
+                assertTrue(bodySize <= TaskQueuer.SEND_EMAIL_TASK_MAX_BODY_SIZE);
+            }
+        }
+        assertEquals(expectedBatchSizes, batchSizes);
+    }
+
+    private EmailWrapper createEmail(int index, int contentLength) {
+        EmailWrapper email = new EmailWrapper();
+        email.setSenderName("Sender Name");
+        email.setSenderEmail("sender@email.com");
+        email.setReplyTo("replyto@email.com");
+        email.setRecipient("recipient" + index + "@email.com");
+        email.setSubject("Test subject");
+        email.setContent(StringHelperExtension.generateStringOfLength(contentLength));
+        return email;
+    }
+
+}
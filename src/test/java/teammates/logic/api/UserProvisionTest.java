@@ -4,9 +4,12 @@ import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.UserInfo;
 import teammates.common.datatransfer.UserInfoCookie;
+import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.util.Config;
+import teammates.logic.core.AccountsLogic;
+import teammates.logic.core.StudentsLogic;
 
 /**
  * SUT: {@link UserProvision}.
@@ -57,4 +60,44 @@ public class UserProvisionTest extends BaseLogicTest {
         assertNull(userProvision.getCurrentUser(null));
     }
 
+    @Test
+    public void testGetCurrentUser_rolesChanged_shouldReflectChanges() throws Exception {
+        // the roles are cached across requests, so the cached roles must be invalidated whenever they change
+        try {
+            ______TS("student joins course");
+
+            StudentAttributes student = dataBundle.students.get("student1InUnregisteredCourse");
+            String registrationKey = StudentsLogic.inst().getStudentForEmail(student.getCourse(), student.getEmail())
+                    .getKey();
+            UserInfoCookie joiningUser = new UserInfoCookie("joiningStudent");
+            assertFalse(userProvision.getCurrentUser(joiningUser).isStudent);
+
+            AccountsLogic.inst().joinCourseForStudent(registrationKey, "joiningStudent");
+
+            assertTrue(userProvision.getCurrentUser(joiningUser).isStudent);
+
+            ______TS("instructor downgraded to student");
+
+            AccountAttributes instructorAccount = dataBundle.accounts.get("instructorWithoutCourses");
+            UserInfoCookie downgradedUser = new UserInfoCookie(instructorAccount.getGoogleId());
+            assertTrue(userProvision.getCurrentUser(downgradedUser).isInstructor);
+
+            AccountsLogic.inst().downgradeInstructorToStudentCascade(instructorAccount.getGoogleId());
+
+            assertFalse(userProvision.getCurrentUser(downgradedUser).isInstructor);
+
+            ______TS("account deleted");
+
+            InstructorAttributes instructor = dataBundle.instructors.get("instructor2OfCourse1");
+            UserInfoCookie deletedUser = new UserInfoCookie(instructor.getGoogleId());
+            assertTrue(userProvision.getCurrentUser(deletedUser).isInstructor);
+
+            AccountsLogic.inst().deleteAccountCascade(instructor.getGoogleId());
+
+            assertFalse(userProvision.getCurrentUser(deletedUser).isInstructor);
+        } finally {
+            prepareTestData();
+        }
+    }
+
 }
@@ -0,0 +1,171 @@
+package teammates.logic.core;
+
+import java.time.Instant;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.DeletionJobAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.exception.EntityAlreadyExistsException;
+
+/**
+ * SUT: {@link DeletionJobsLogic}.
+ */
+public class DeletionJobsLogicTest extends BaseLogicTest {
+
+    private final DeletionJobsLogic deletionJobsLogic = DeletionJobsLogic.inst();
+    private final CoursesLogic coursesLogic = CoursesLogic.inst();
+    private final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+    private final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    @Override
+    protected void prepareTestData() {
+        // test data is refreshed before each test case
+    }
+
+    @BeforeMethod
+    public void refreshTestData() {
+        dataBundle = getTypicalDataBundle();
+        removeAndRestoreTypicalDataBundle();
+    }
+
+    @Test
+    public void testRunDeletionJob_feedbackSession_shouldDeleteEntitiesOfSessionStageByStage() throws Exception {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        String courseId = session.getCourseId();
+        String sessionName = session.getFeedbackSessionName();
+        FeedbackQuestionAttributes question1 = fqLogic.getFeedbackQuestion(sessionName, courseId, 1);
+        assertFalse(frLogic.getFeedbackResponsesForQuestion(question1.getId()).isEmpty());
+        int numberOfQuestionsInOtherSession = fqLogic.getFeedbackQuestionsForSession("Second feedback session", courseId)
+                .size();
+        assertTrue(numberOfQuestionsInOtherSession > 0);
+
+        ______TS("session is deleted when the job is started");
+
+        DeletionJobAttributes job = fsLogic.startFeedbackSessionDeletion(sessionName, courseId);
+
+        assertFalse(job.isForCourse());
+        assertEquals(DeletionJobAttributes.Stage.FEEDBACK_RESPONSE_COMMENTS, job.getStage());
+        assertNull(fsLogic.getFeedbackSession(sessionName, courseId));
+        assertNotNull(fqLogic.getFeedbackQuestion(question1.getId()));
+
+        ______TS("session cannot be recreated while its entities are being deleted");
+
+        assertThrows(EntityAlreadyExistsException.class, () -> fsLogic.createFeedbackSession(session));
+
+        ______TS("progress is saved after each batch");
+
+        job = deletionJobsLogic.runDeletionJob(courseId, sessionName, 1);
+
+        assertEquals(DeletionJobAttributes.Stage.FEEDBACK_RESPONSES, job.getStage());
+        assertNull(job.getCursor());
+        DeletionJobAttributes savedJob = deletionJobsLogic.getDeletionJob(courseId, sessionName);
+        assertEquals(job.getStage(), savedJob.getStage());
+        assertEquals(job.getNumberOfEntitiesDeleted(), savedJob.getNumberOfEntitiesDeleted());
+        assertFalse(frLogic.getFeedbackResponsesForQuestion(question1.getId()).isEmpty());
+
+        ______TS("job is removed once all the entities of the session are deleted");
+
+        assertNull(deletionJobsLogic.runDeletionJob(courseId, sessionName, Integer.MAX_VALUE));
+
+        assertNull(deletionJobsLogic.getDeletionJob(courseId, sessionName));
+        assertNull(fqLogic.getFeedbackQuestion(question1.getId()));
+        assertTrue(frLogic.getFeedbackResponsesForQuestion(question1.getId()).isEmpty());
+        assertTrue(fqLogic.getFeedbackQuestionsForSession(sessionName, courseId).isEmpty());
+        // entities of other sessions remain
+        assertEquals(numberOfQuestionsInOtherSession,
+                fqLogic.getFeedbackQuestionsForSession("Second feedback session", courseId).size());
+
+        ______TS("session can be recreated once the job is completed");
+
+        fsLogic.createFeedbackSession(session);
+        assertNotNull(fsLogic.getFeedbackSession(sessionName, courseId));
+    }
+
+    @Test
+    public void testRunDeletionJob_course_shouldDeleteEntitiesOfCourse() throws Exception {
+        CourseAttributes course = dataBundle.courses.get("typicalCourse1");
+        String courseId = course.getId();
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        FeedbackQuestionAttributes question1 =
+                fqLogic.getFeedbackQuestion(session.getFeedbackSessionName(), courseId, 1);
+
+        ______TS("course, its students, instructors and sessions are deleted when the job is started");
+
+        DeletionJobAttributes job = coursesLogic.startCourseDeletion(courseId);
+
+        assertTrue(job.isForCourse());
+        assertNull(coursesLogic.getCourse(courseId));
+        assertTrue(studentsLogic.getStudentsForCourse(courseId).isEmpty());
+        assertTrue(fsLogic.getFeedbackSessionsForCourse(courseId).isEmpty());
+        assertNotNull(fqLogic.getFeedbackQuestion(question1.getId()));
+
+        ______TS("course cannot be recreated while its entities are being deleted");
+
+        assertThrows(EntityAlreadyExistsException.class, () -> coursesLogic.createCourse(course));
+
+        ______TS("job is removed once all the entities of the course are deleted");
+
+        assertNull(deletionJobsLogic.runDeletionJob(courseId, null, Integer.MAX_VALUE));
+
+        assertNull(deletionJobsLogic.getDeletionJob(courseId, null));
+        assertFalse(deletionJobsLogic.hasDeletionJobsForCourse(courseId));
+        assertNull(fqLogic.getFeedbackQuestion(question1.getId()));
+        assertTrue(frLogic.getFeedbackResponsesForQuestion(question1.getId()).isEmpty());
+
+        ______TS("course can be recreated once the job is completed");
+
+        coursesLogic.createCourse(course);
+        assertNotNull(coursesLogic.getCourse(courseId));
+    }
+
+    @Test
+    public void testGetDeletionJobsNotUpdatedSince() throws Exception {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        String courseId = session.getCourseId();
+        String sessionName = session.getFeedbackSessionName();
+        Instant beforeStart = Instant.now().minusSeconds(1);
+
+        fsLogic.startFeedbackSessionDeletion(sessionName, courseId);
+
+        ______TS("job which has made progress since the given time is excluded");
+
+        assertTrue(deletionJobsLogic.getDeletionJobsNotUpdatedSince(beforeStart).stream()
+                .noneMatch(job -> job.getCourseId().equals(courseId)));
+
+        ______TS("job which has not made progress since the given time is included");
+
+        Instant afterStart = Instant.now().plusSeconds(1);
+        assertTrue(deletionJobsLogic.getDeletionJobsNotUpdatedSince(afterStart).stream()
+                .anyMatch(job -> job.getCourseId().equals(courseId) && sessionName.equals(job.getFeedbackSessionName())));
+
+        ______TS("job is excluded once it is completed");
+
+        deletionJobsLogic.runDeletionJob(courseId, sessionName, Integer.MAX_VALUE);
+
+        assertTrue(deletionJobsLogic.getDeletionJobsNotUpdatedSince(Instant.now().plusSeconds(1)).stream()
+                .noneMatch(job -> job.getCourseId().equals(courseId)));
+    }
+
+    @Test
+    public void testStartDeletion_nonExistentCourseOrSession_shouldFailSilently() throws Exception {
+        assertNull(coursesLogic.startCourseDeletion("non-existent-course"));
+        assertNull(deletionJobsLogic.getDeletionJob("non-existent-course", null));
+
+        String courseId = dataBundle.courses.get("typicalCourse1").getId();
+        assertNull(fsLogic.startFeedbackSessionDeletion("non-existent-session", courseId));
+        assertNull(deletionJobsLogic.getDeletionJob(courseId, "non-existent-session"));
+    }
+
+    @Test
+    public void testRunDeletionJob_nonExistentJob_shouldReturnNull() {
+        assertNull(deletionJobsLogic.runDeletionJob("non-existent-course", null, 1));
+        assertNull(deletionJobsLogic.runDeletionJob("non-existent-course", "non-existent-session", 1));
+    }
+
+}
@@ -5,7 +5,6 @@ import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -13,6 +12,7 @@ import org.testng.annotations.Test;
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.GiverRecipientPairs;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -827,54 +827,54 @@ public class FeedbackQuestionsLogicTest extends BaseLogicTest {
     }
 
     @Test
-    public void testBuildCompleteGiverRecipientMap_studentQuestion_shouldBuildMapCorrectly() {
+    public void testBuildCompleteGiverRecipientPairs_studentQuestion_shouldBuildPairsCorrectly() {
         CourseRoster courseRoster = new CourseRoster(
                 studentsLogic.getStudentsForCourse("idOfTypicalCourse1"),
                 instructorsLogic.getInstructorsForCourse("idOfTypicalCourse1"));
         FeedbackQuestionAttributes qn1InSession1InCourse1 = getQuestionFromDatabase("qn1InSession1InCourse1");
 
-        Map<String, Set<String>> completeGiverRecipientMap =
-                fqLogic.buildCompleteGiverRecipientMap(qn1InSession1InCourse1, courseRoster);
-
-        assertEquals(5, completeGiverRecipientMap.size());
-        assertEquals(1, completeGiverRecipientMap.get("student1InCourse1@gmail.tmt").size());
-        assertTrue(completeGiverRecipientMap.get("student1InCourse1@gmail.tmt").contains("student1InCourse1@gmail.tmt"));
-        assertEquals(1, completeGiverRecipientMap.get("student2InCourse1@gmail.tmt").size());
-        assertTrue(completeGiverRecipientMap.get("student2InCourse1@gmail.tmt").contains("student2InCourse1@gmail.tmt"));
-        assertEquals(1, completeGiverRecipientMap.get("student3InCourse1@gmail.tmt").size());
-        assertTrue(completeGiverRecipientMap.get("student3InCourse1@gmail.tmt").contains("student3InCourse1@gmail.tmt"));
-        assertEquals(1, completeGiverRecipientMap.get("student4InCourse1@gmail.tmt").size());
-        assertTrue(completeGiverRecipientMap.get("student4InCourse1@gmail.tmt").contains("student4InCourse1@gmail.tmt"));
-        assertEquals(1, completeGiverRecipientMap.get("student5InCourse1@gmail.tmt").size());
-        assertTrue(completeGiverRecipientMap.get("student5InCourse1@gmail.tmt").contains("student5InCourse1@gmail.tmt"));
+        GiverRecipientPairs completeGiverRecipientPairs =
+                fqLogic.buildCompleteGiverRecipientPairs(qn1InSession1InCourse1, courseRoster);
+
+        assertEquals(5, completeGiverRecipientPairs.getNumberOfGivers());
+        assertEquals(1, completeGiverRecipientPairs.getRecipientsOf("student1InCourse1@gmail.tmt").size());
+        assertTrue(completeGiverRecipientPairs.contains("student1InCourse1@gmail.tmt", "student1InCourse1@gmail.tmt"));
+        assertEquals(1, completeGiverRecipientPairs.getRecipientsOf("student2InCourse1@gmail.tmt").size());
+        assertTrue(completeGiverRecipientPairs.contains("student2InCourse1@gmail.tmt", "student2InCourse1@gmail.tmt"));
+        assertEquals(1, completeGiverRecipientPairs.getRecipientsOf("student3InCourse1@gmail.tmt").size());
+        assertTrue(completeGiverRecipientPairs.contains("student3InCourse1@gmail.tmt", "student3InCourse1@gmail.tmt"));
+        assertEquals(1, completeGiverRecipientPairs.getRecipientsOf("student4InCourse1@gmail.tmt").size());
+        assertTrue(completeGiverRecipientPairs.contains("student4InCourse1@gmail.tmt", "student4InCourse1@gmail.tmt"));
+        assertEquals(1, completeGiverRecipientPairs.getRecipientsOf("student5InCourse1@gmail.tmt").size());
+        assertTrue(completeGiverRecipientPairs.contains("student5InCourse1@gmail.tmt", "student5InCourse1@gmail.tmt"));
     }
 
     @Test
-    public void testBuildCompleteGiverRecipientMap_instructorQuestion_shouldBuildMapCorrectly() {
+    public void testBuildCompleteGiverRecipientPairs_instructorQuestion_shouldBuildPairsCorrectly() {
         CourseRoster courseRoster = new CourseRoster(
                 studentsLogic.getStudentsForCourse("idOfTypicalCourse1"),
                 instructorsLogic.getInstructorsForCourse("idOfTypicalCourse1"));
         FeedbackQuestionAttributes qn4InSession1InCourse1 = getQuestionFromDatabase("qn4InSession1InCourse1");
 
-        Map<String, Set<String>> completeGiverRecipientMap =
-                fqLogic.buildCompleteGiverRecipientMap(qn4InSession1InCourse1, courseRoster);
-
-        assertEquals(5, completeGiverRecipientMap.size());
-        assertEquals(1, completeGiverRecipientMap.get("instructor1@course1.tmt").size());
-        assertTrue(completeGiverRecipientMap.get("instructor1@course1.tmt").contains(Const.GENERAL_QUESTION));
-        assertEquals(1, completeGiverRecipientMap.get("instructor2@course1.tmt").size());
-        assertTrue(completeGiverRecipientMap.get("instructor2@course1.tmt").contains(Const.GENERAL_QUESTION));
-        assertEquals(1, completeGiverRecipientMap.get("instructor3@course1.tmt").size());
-        assertTrue(completeGiverRecipientMap.get("instructor3@course1.tmt").contains(Const.GENERAL_QUESTION));
-        assertEquals(1, completeGiverRecipientMap.get("helper@course1.tmt").size());
-        assertTrue(completeGiverRecipientMap.get("helper@course1.tmt").contains(Const.GENERAL_QUESTION));
-        assertEquals(1, completeGiverRecipientMap.get("instructorNotYetJoinedCourse1@email.tmt").size());
-        assertTrue(completeGiverRecipientMap.get("instructorNotYetJoinedCourse1@email.tmt")
-                .contains(Const.GENERAL_QUESTION));
+        GiverRecipientPairs completeGiverRecipientPairs =
+                fqLogic.buildCompleteGiverRecipientPairs(qn4InSession1InCourse1, courseRoster);
+
+        assertEquals(5, completeGiverRecipientPairs.getNumberOfGivers());
+        assertEquals(1, completeGiverRecipientPairs.getRecipientsOf("instructor1@course1.tmt").size());
+        assertTrue(completeGiverRecipientPairs.contains("instructor1@course1.tmt", Const.GENERAL_QUESTION));
+        assertEquals(1, completeGiverRecipientPairs.getRecipientsOf("instructor2@course1.tmt").size());
+        assertTrue(completeGiverRecipientPairs.contains("instructor2@course1.tmt", Const.GENERAL_QUESTION));
+        assertEquals(1, completeGiverRecipientPairs.getRecipientsOf("instructor3@course1.tmt").size());
+        assertTrue(completeGiverRecipientPairs.contains("instructor3@course1.tmt", Const.GENERAL_QUESTION));
+        assertEquals(1, completeGiverRecipientPairs.getRecipientsOf("helper@course1.tmt").size());
+        assertTrue(completeGiverRecipientPairs.contains("helper@course1.tmt", Const.GENERAL_QUESTION));
+        assertEquals(1, completeGiverRecipientPairs.getRecipientsOf("instructorNotYetJoinedCourse1@email.tmt").size());
+        assertTrue(completeGiverRecipientPairs.contains(
+                "instructorNotYetJoinedCourse1@email.tmt", Const.GENERAL_QUESTION));
     }
 
     @Test
-    public void testBuildCompleteGiverRecipientMap_selfQuestion_shouldBuildMapCorrectly() {
+    public void testBuildCompleteGiverRecipientPairs_selfQuestion_shouldBuildPairsCorrectly() {
         CourseRoster courseRoster = new CourseRoster(
                 studentsLogic.getStudentsForCourse("idOfTypicalCourse1"),
                 instructorsLogic.getInstructorsForCourse("idOfTypicalCourse1"));
@@ -882,29 +882,29 @@ public class FeedbackQuestionsLogicTest extends BaseLogicTest {
         FeedbackSessionAttributes session1 = fsLogic.getFeedbackSession(
                 qn3InSession1InCourse1.getFeedbackSessionName(), qn3InSession1InCourse1.getCourseId());
 
-        Map<String, Set<String>> completeGiverRecipientMap =
-                fqLogic.buildCompleteGiverRecipientMap(qn3InSession1InCourse1, courseRoster);
+        GiverRecipientPairs completeGiverRecipientPairs =
+                fqLogic.buildCompleteGiverRecipientPairs(qn3InSession1InCourse1, courseRoster);
 
-        assertEquals(1, completeGiverRecipientMap.size());
-        assertEquals(1, completeGiverRecipientMap.get(session1.getCreatorEmail()).size());
-        assertTrue(completeGiverRecipientMap.get(session1.getCreatorEmail()).contains(Const.GENERAL_QUESTION));
+        assertEquals(1, completeGiverRecipientPairs.getNumberOfGivers());
+        assertEquals(1, completeGiverRecipientPairs.getRecipientsOf(session1.getCreatorEmail()).size());
+        assertTrue(completeGiverRecipientPairs.contains(session1.getCreatorEmail(), Const.GENERAL_QUESTION));
     }
 
     @Test
-    public void testBuildCompleteGiverRecipientMap_teamQuestion_shouldBuildMapCorrectly() {
+    public void testBuildCompleteGiverRecipientPairs_teamQuestion_shouldBuildPairsCorrectly() {
         CourseRoster courseRoster = new CourseRoster(
                 studentsLogic.getStudentsForCourse("idOfTypicalCourse1"),
                 instructorsLogic.getInstructorsForCourse("idOfTypicalCourse1"));
         FeedbackQuestionAttributes teamFeedbackQuestion = getQuestionFromDatabase("team.feedback");
 
-        Map<String, Set<String>> completeGiverRecipientMap =
-                fqLogic.buildCompleteGiverRecipientMap(teamFeedbackQuestion, courseRoster);
+        GiverRecipientPairs completeGiverRecipientPairs =
+                fqLogic.buildCompleteGiverRecipientPairs(teamFeedbackQuestion, courseRoster);
 
-        assertEquals(2, completeGiverRecipientMap.size());
-        assertEquals(1, completeGiverRecipientMap.get("Team 1.1</td></div>'\"").size());
-        assertTrue(completeGiverRecipientMap.get("Team 1.1</td></div>'\"").contains("Team 1.2"));
-        assertEquals(1, completeGiverRecipientMap.get("Team 1.2").size());
-        assertTrue(completeGiverRecipientMap.get("Team 1.2").contains("Team 1.1</td></div>'\""));
+        assertEquals(2, completeGiverRecipientPairs.getNumberOfGivers());
+        assertEquals(1, completeGiverRecipientPairs.getRecipientsOf("Team 1.1</td></div>'\"").size());
+        assertTrue(completeGiverRecipientPairs.contains("Team 1.1</td></div>'\"", "Team 1.2"));
+        assertEquals(1, completeGiverRecipientPairs.getRecipientsOf("Team 1.2").size());
+        assertTrue(completeGiverRecipientPairs.contains("Team 1.2", "Team 1.1</td></div>'\""));
     }
 
     private void testHasFeedbackQuestionsForInstructor() {
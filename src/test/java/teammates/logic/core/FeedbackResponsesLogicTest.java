@@ -14,6 +14,7 @@ import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.ResultsPage;
 import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -25,6 +26,7 @@ import teammates.common.datatransfer.questions.FeedbackResponseDetails;
 import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
 import teammates.test.AssertHelper;
 
 /**
@@ -961,6 +963,86 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         assertEquals(3, responseForQuestion.size());
     }
 
+    @Test
+    public void testGetSessionResultsPageForCourse_allPages_shouldHaveAllResponsesOfBundle() throws Exception {
+        DataBundle responseBundle = loadDataBundle("/FeedbackSessionResultsTest.json");
+        removeAndRestoreDataBundle(responseBundle);
+
+        FeedbackSessionAttributes session = responseBundle.feedbackSessions.get("standard.session");
+        InstructorAttributes instructor = responseBundle.instructors.get("instructor1OfCourse1");
+
+        SessionResultsBundle fullBundle = frLogic.getSessionResultsForCourse(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.getEmail(), null, null);
+        Set<String> expectedResponseIds = new HashSet<>();
+        fullBundle.getQuestionResponseMap().values()
+                .forEach(responses -> responses.forEach(response -> expectedResponseIds.add(response.getId())));
+
+        ______TS("all responses in bundle read page by page");
+
+        Set<String> responseIds = new HashSet<>();
+        String pageToken = null;
+        do {
+            ResultsPage<SessionResultsBundle> page = frLogic.getSessionResultsPageForCourse(
+                    session.getFeedbackSessionName(), session.getCourseId(), instructor.getEmail(),
+                    null, null, pageToken, 3);
+            SessionResultsBundle bundle = page.getResults();
+
+            int numberOfResponsesInPage = 0;
+            for (List<FeedbackResponseAttributes> responses : bundle.getQuestionResponseMap().values()) {
+                numberOfResponsesInPage += responses.size();
+                responses.forEach(response -> assertTrue(responseIds.add(response.getId())));
+            }
+            assertTrue(numberOfResponsesInPage <= 3);
+            bundle.getQuestionMissingResponseMap().values().forEach(responses -> assertTrue(responses.isEmpty()));
+
+            pageToken = page.getNextPageToken();
+        } while (pageToken != null);
+
+        assertEquals(expectedResponseIds, responseIds);
+
+        ______TS("invalid page token");
+
+        assertThrows(InvalidParametersException.class,
+                () -> frLogic.getSessionResultsPageForCourse(
+                        session.getFeedbackSessionName(), session.getCourseId(), instructor.getEmail(),
+                        null, null, "non-existent-question-id", 3));
+    }
+
+    @Test
+    public void testGetSessionResultsPageForCourse_questionWithoutResponses_shouldBeLeftOutOfPages() throws Exception {
+        DataBundle responseBundle = loadDataBundle("/FeedbackSessionResultsTest.json");
+        removeAndRestoreDataBundle(responseBundle);
+
+        FeedbackSessionAttributes session = responseBundle.feedbackSessions.get("standard.session");
+        InstructorAttributes instructor = responseBundle.instructors.get("instructor1OfCourse1");
+        FeedbackQuestionAttributes emptyQuestion =
+                fqLogic.getFeedbackQuestion(session.getFeedbackSessionName(), session.getCourseId(), 6);
+        frLogic.deleteFeedbackResponsesForQuestionCascade(emptyQuestion.getId());
+        assertFalse(frLogic.areThereResponsesForQuestion(emptyQuestion.getId()));
+
+        ______TS("every question in a page has responses in the page");
+
+        int numberOfPages = 0;
+        String pageToken = null;
+        do {
+            // each page spans several questions, including the one without responses
+            ResultsPage<SessionResultsBundle> page = frLogic.getSessionResultsPageForCourse(
+                    session.getFeedbackSessionName(), session.getCourseId(), instructor.getEmail(),
+                    null, null, pageToken, 5);
+            SessionResultsBundle bundle = page.getResults();
+
+            assertFalse(bundle.getQuestionsMap().containsKey(emptyQuestion.getId()));
+            for (String questionId : bundle.getQuestionsMap().keySet()) {
+                assertFalse(bundle.getQuestionResponseMap().get(questionId).isEmpty());
+            }
+
+            numberOfPages++;
+            pageToken = page.getNextPageToken();
+        } while (pageToken != null);
+
+        assertTrue(numberOfPages > 1);
+    }
+
     @Test
     public void testGetSessionResultsForCourse_allQuestions_shouldGenerateCorrectBundle() {
         DataBundle responseBundle = loadDataBundle("/FeedbackSessionResultsTest.json");
@@ -1003,7 +1085,7 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         assertTrue(responseGiverVisibilityTable.get(getResponseId("qn4.resp3", responseBundle)));
         assertFalse(responseGiverVisibilityTable.get(getResponseId("qn5.resp1", responseBundle)));
         assertTrue(responseGiverVisibilityTable.get(getResponseId("qn6.resp1", responseBundle)));
-        assertEquals(totalResponse + totalMissingResponse, responseGiverVisibilityTable.size());
+        assertEquals(totalResponse, responseGiverVisibilityTable.size());
 
         Map<String, Boolean> responseRecipientVisibilityTable = bundle.getResponseRecipientVisibilityTable();
         assertFalse(responseRecipientVisibilityTable.get(getResponseId("qn2.resp1", responseBundle)));
@@ -1016,7 +1098,23 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         assertTrue(responseRecipientVisibilityTable.get(getResponseId("qn4.resp3", responseBundle)));
         assertTrue(responseRecipientVisibilityTable.get(getResponseId("qn5.resp1", responseBundle)));
         assertTrue(responseRecipientVisibilityTable.get(getResponseId("qn6.resp1", responseBundle)));
-        assertEquals(totalResponse + totalMissingResponse, responseRecipientVisibilityTable.size());
+        assertEquals(totalResponse, responseRecipientVisibilityTable.size());
+
+        // the visibility of the names in missing responses is checked when needed instead of being stored
+        for (List<FeedbackResponseAttributes> missingResponses : bundle.getQuestionMissingResponseMap().values()) {
+            for (FeedbackResponseAttributes missingResponse : missingResponses) {
+                FeedbackQuestionAttributes question =
+                        bundle.getQuestionsMap().get(missingResponse.getFeedbackQuestionId());
+                assertEquals(frLogic.isNameVisibleToUser(question, missingResponse, instructor.getEmail(), true, true,
+                        bundle.getRoster()) || question.getGiverType() == FeedbackParticipantType.NONE,
+                        bundle.isResponseGiverVisible(missingResponse));
+                assertEquals(frLogic.isNameVisibleToUser(question, missingResponse, instructor.getEmail(), true, false,
+                        bundle.getRoster()) || question.getRecipientType() == FeedbackParticipantType.NONE,
+                        bundle.isResponseRecipientVisible(missingResponse));
+            }
+        }
+        assertEquals(totalResponse, responseGiverVisibilityTable.size());
+        assertEquals(totalResponse, responseRecipientVisibilityTable.size());
 
         // no entry in comment visibility table
         Map<Long, Boolean> commentGiverVisibilityTable = bundle.getCommentGiverVisibilityTable();
@@ -1061,15 +1159,15 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         assertTrue(responseGiverVisibilityTable.get(getResponseId("qn4.resp3", responseBundle)));
         assertFalse(responseGiverVisibilityTable.get(getResponseId("qn2.resp3", responseBundle)));
         assertFalse(responseGiverVisibilityTable.get(getResponseId("qn2.resp1", responseBundle)));
-        assertEquals(totalResponse + totalMissingResponse, responseGiverVisibilityTable.size());
+        assertEquals(totalResponse, responseGiverVisibilityTable.size());
 
         Map<String, Boolean> responseRecipientVisibilityTable = bundle.getResponseRecipientVisibilityTable();
         assertFalse(responseRecipientVisibilityTable.get(getResponseId("qn3.resp1", responseBundle)));
         assertTrue(responseRecipientVisibilityTable.get(getResponseId("qn4.resp3", responseBundle)));
         assertFalse(responseRecipientVisibilityTable.get(getResponseId("qn2.resp3", responseBundle)));
         assertFalse(responseRecipientVisibilityTable.get(getResponseId("qn2.resp1", responseBundle)));
-        assertEquals(totalResponse + totalMissingResponse, responseGiverVisibilityTable.size());
-        assertEquals(totalResponse + totalMissingResponse, responseRecipientVisibilityTable.size());
+        assertEquals(totalResponse, responseGiverVisibilityTable.size());
+        assertEquals(totalResponse, responseRecipientVisibilityTable.size());
 
         // no entry in comment visibility table
         Map<Long, Boolean> commentGiverVisibilityTable = bundle.getCommentGiverVisibilityTable();
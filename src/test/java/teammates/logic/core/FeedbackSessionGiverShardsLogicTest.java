@@ -0,0 +1,118 @@
+package teammates.logic.core;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionGiverShardAttributes;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+import teammates.storage.api.FeedbackSessionGiverShardsDb;
+
+/**
+ * SUT: {@link FeedbackSessionGiverShardsLogic}.
+ */
+public class FeedbackSessionGiverShardsLogicTest extends BaseLogicTest {
+
+    private final FeedbackSessionGiverShardsLogic fsgsLogic = FeedbackSessionGiverShardsLogic.inst();
+    private final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+    private final FeedbackSessionGiverShardsDb fsgsDb = FeedbackSessionGiverShardsDb.inst();
+
+    @Override
+    protected void prepareTestData() {
+        // test data is refreshed before each test case
+    }
+
+    @BeforeMethod
+    public void refreshTestData() {
+        dataBundle = getTypicalDataBundle();
+        removeAndRestoreTypicalDataBundle();
+    }
+
+    @Test
+    public void testGetGiverSetThatAnswerFeedbackSession_responsesChange_giverSetUpdated() throws Exception {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        String courseId = session.getCourseId();
+        String sessionName = session.getFeedbackSessionName();
+
+        ______TS("giver set built from existing responses on first read");
+
+        Set<String> expectedGivers = new HashSet<>(Arrays.asList("student1InCourse1@gmail.tmt",
+                "student2InCourse1@gmail.tmt", "student3InCourse1@gmail.tmt", "student5InCourse1@gmail.tmt",
+                "instructor1@course1.tmt"));
+        assertEquals(expectedGivers, fsgsLogic.getGiverSetThatAnswerFeedbackSession(courseId, sessionName));
+        assertEquals(frLogic.getGiverSetThatAnswerFeedbackSession(courseId, sessionName),
+                fsgsLogic.getGiverSetThatAnswerFeedbackSession(courseId, sessionName));
+
+        ______TS("first response of a giver created");
+
+        FeedbackQuestionAttributes question1 = fqLogic.getFeedbackQuestion(sessionName, courseId, 1);
+        FeedbackResponseAttributes newResponse = frLogic.createFeedbackResponse(
+                FeedbackResponseAttributes.builder(question1.getId(),
+                        "student4InCourse1@gmail.tmt", "student4InCourse1@gmail.tmt")
+                        .withCourseId(courseId)
+                        .withFeedbackSessionName(sessionName)
+                        .withResponseDetails(new FeedbackTextResponseDetails("answer"))
+                        .build());
+
+        assertTrue(fsgsLogic.getGiverSetThatAnswerFeedbackSession(courseId, sessionName)
+                .contains("student4InCourse1@gmail.tmt"));
+        assertEquals(6, fsgsLogic.getGiverSetThatAnswerFeedbackSession(courseId, sessionName).size());
+
+        ______TS("only response of a giver deleted");
+
+        frLogic.deleteFeedbackResponseCascade(newResponse.getId());
+
+        assertEquals(expectedGivers, fsgsLogic.getGiverSetThatAnswerFeedbackSession(courseId, sessionName));
+
+        ______TS("response of a giver with other responses deleted");
+
+        FeedbackResponseAttributes responseOfStudent2 = frLogic.getFeedbackResponse(question1.getId(),
+                "student2InCourse1@gmail.tmt", "student2InCourse1@gmail.tmt");
+        frLogic.deleteFeedbackResponseCascade(responseOfStudent2.getId());
+
+        assertEquals(expectedGivers, fsgsLogic.getGiverSetThatAnswerFeedbackSession(courseId, sessionName));
+
+        ______TS("all responses of a question deleted");
+
+        FeedbackQuestionAttributes question2 = fqLogic.getFeedbackQuestion(sessionName, courseId, 2);
+        frLogic.deleteFeedbackResponsesForQuestionCascade(question2.getId());
+
+        expectedGivers = new HashSet<>(Arrays.asList("student1InCourse1@gmail.tmt", "instructor1@course1.tmt"));
+        assertEquals(expectedGivers, fsgsLogic.getGiverSetThatAnswerFeedbackSession(courseId, sessionName));
+    }
+
+    @Test
+    public void testUpdateGiverSet_giverAlreadyInSet_shardNotWritten() {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        String courseId = session.getCourseId();
+        String sessionName = session.getFeedbackSessionName();
+        String giver = "student1InCourse1@gmail.tmt";
+
+        fsgsLogic.getGiverSetThatAnswerFeedbackSession(courseId, sessionName);
+        FeedbackSessionGiverShardAttributes shardBefore = getShardOfGiver(courseId, sessionName, giver);
+
+        FeedbackQuestionAttributes question1 = fqLogic.getFeedbackQuestion(sessionName, courseId, 1);
+        FeedbackResponseAttributes response = frLogic.getFeedbackResponse(question1.getId(), giver, giver);
+        fsgsLogic.updateGiverSet(response, response);
+
+        FeedbackSessionGiverShardAttributes shardAfter = getShardOfGiver(courseId, sessionName, giver);
+        assertEquals(shardBefore.getGivers(), shardAfter.getGivers());
+        assertEquals(shardBefore.getUpdatedAt(), shardAfter.getUpdatedAt());
+    }
+
+    private FeedbackSessionGiverShardAttributes getShardOfGiver(String courseId, String sessionName, String giver) {
+        int shardIndex = FeedbackSessionGiverShardAttributes.getShardIndex(giver);
+        return fsgsDb.getFeedbackSessionGiverShards(courseId, sessionName).stream()
+                .filter(shard -> shard.getShardIndex() == shardIndex)
+                .findFirst()
+                .orElseThrow();
+    }
+
+}
@@ -0,0 +1,224 @@
+package teammates.logic.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link SessionResultsCache}.
+ */
+public class SessionResultsCacheTest extends BaseTestCase {
+
+    private static final String COURSE_ID = "course-id";
+    private static final String SESSION_NAME = "session name";
+
+    private final SessionResultsCache cache = SessionResultsCache.inst();
+
+    @BeforeMethod
+    public void resetCache() {
+        cache.invalidateAll();
+    }
+
+    @Test
+    public void testGet_dataNotCached_shouldLoadOnlyOnce() {
+        int[] loadCount = new int[1];
+
+        SessionResultsCache.SessionResultsData data = cache.get(COURSE_ID, SESSION_NAME, () -> {
+            loadCount[0]++;
+            return createSessionResultsData();
+        });
+        SessionResultsCache.SessionResultsData cachedData = cache.get(COURSE_ID, SESSION_NAME, () -> {
+            loadCount[0]++;
+            return createSessionResultsData();
+        });
+
+        assertEquals(data, cachedData);
+        assertEquals(1, loadCount[0]);
+    }
+
+    @Test
+    public void testGet_modifiedWhileLoading_shouldNotCacheLoadedData() {
+        SessionResultsCache.SessionResultsData data = cache.get(COURSE_ID, SESSION_NAME, () -> {
+            cache.putResponse(createResponse("r-new", "q1", "Section A", "Section A"));
+            return createSessionResultsData();
+        });
+
+        assertNotSame(data, cache.get(COURSE_ID, SESSION_NAME, this::createSessionResultsData));
+    }
+
+    @Test
+    public void testSessionResultsData_filters() {
+        SessionResultsCache.SessionResultsData data = createSessionResultsData();
+
+        ______TS("no filter");
+
+        assertEquals(2, data.getQuestions(null).size());
+        assertEquals(3, data.getResponses(null, null).size());
+        assertEquals(2, data.getComments(null, null).size());
+
+        ______TS("filter by question");
+
+        assertEquals(1, data.getQuestions("q1").size());
+        assertTrue(data.getQuestions("non-existent").isEmpty());
+        assertEquals(2, data.getResponses("q1", null).size());
+        assertEquals(1, data.getComments("q2", null).size());
+
+        ______TS("filter by section, matching either giver or recipient section");
+
+        assertEquals(2, data.getResponses(null, "Section B").size());
+        assertEquals(1, data.getResponses("q1", "Section B").size());
+        assertEquals(1, data.getComments(null, "Section A").size());
+        assertTrue(data.getResponses(null, "Section C").isEmpty());
+    }
+
+    @Test
+    public void testPatchResponsesAndComments() {
+        SessionResultsCache.SessionResultsData data = cache.get(COURSE_ID, SESSION_NAME, this::createSessionResultsData);
+
+        ______TS("put response");
+
+        cache.putResponse(createResponse("r4", "q2", "Section C", "Section C"));
+        assertEquals(4, data.getResponses(null, null).size());
+        assertEquals(1, data.getResponses(null, "Section C").size());
+
+        ______TS("replace response");
+
+        cache.putResponse(createResponse("r4", "q2", "Section A", "Section A"));
+        assertEquals(4, data.getResponses(null, null).size());
+        assertTrue(data.getResponses(null, "Section C").isEmpty());
+
+        ______TS("put and remove comment");
+
+        cache.putComment(createComment(3L, "r4", "q2", "Section A"));
+        assertEquals(3, data.getComments(null, null).size());
+        cache.removeComment(3L);
+        assertEquals(2, data.getComments(null, null).size());
+
+        ______TS("remove response should remove its comments");
+
+        cache.removeResponse("r1");
+        assertEquals(3, data.getResponses(null, null).size());
+        assertEquals(1, data.getComments(null, null).size());
+
+        ______TS("delete comments of a response");
+
+        cache.invalidate(AttributesDeletionQuery.builder().withResponseId("r3").build());
+        assertEquals(3, data.getResponses(null, null).size());
+        assertTrue(data.getComments(null, null).isEmpty());
+
+        ______TS("changes to other sessions are ignored");
+
+        FeedbackResponseAttributes otherResponse = FeedbackResponseAttributes.builder("q3", "giver", "recipient")
+                .withCourseId(COURSE_ID)
+                .withFeedbackSessionName("other session")
+                .build();
+        otherResponse.setId("r5");
+        cache.putResponse(otherResponse);
+        assertEquals(3, data.getResponses(null, null).size());
+
+        assertEquals(data, cache.get(COURSE_ID, SESSION_NAME, this::createSessionResultsData));
+    }
+
+    @Test
+    public void testInvalidate() {
+        SessionResultsCache.SessionResultsData data = cache.get(COURSE_ID, SESSION_NAME, this::createSessionResultsData);
+
+        ______TS("other session");
+
+        cache.invalidateSession(COURSE_ID, "other session");
+        assertEquals(data, cache.get(COURSE_ID, SESSION_NAME, this::createSessionResultsData));
+
+        ______TS("other course");
+
+        cache.invalidateCourse("other-course");
+        assertEquals(data, cache.get(COURSE_ID, SESSION_NAME, this::createSessionResultsData));
+
+        ______TS("session");
+
+        cache.invalidateSession(COURSE_ID, SESSION_NAME);
+        SessionResultsCache.SessionResultsData newData =
+                cache.get(COURSE_ID, SESSION_NAME, this::createSessionResultsData);
+        assertNotSame(data, newData);
+        data = newData;
+
+        ______TS("course");
+
+        cache.invalidateCourse(COURSE_ID);
+        newData = cache.get(COURSE_ID, SESSION_NAME, this::createSessionResultsData);
+        assertNotSame(data, newData);
+        data = newData;
+
+        ______TS("deletion query of a question in the session");
+
+        cache.invalidate(AttributesDeletionQuery.builder().withQuestionId("q2").build());
+        newData = cache.get(COURSE_ID, SESSION_NAME, this::createSessionResultsData);
+        assertNotSame(data, newData);
+        data = newData;
+
+        ______TS("deletion query of a course");
+
+        cache.invalidate(AttributesDeletionQuery.builder().withCourseId(COURSE_ID).build());
+        assertNotSame(data, cache.get(COURSE_ID, SESSION_NAME, this::createSessionResultsData));
+    }
+
+    private SessionResultsCache.SessionResultsData createSessionResultsData() {
+        List<FeedbackQuestionAttributes> questions = new ArrayList<>();
+        for (String questionId : Arrays.asList("q1", "q2")) {
+            FeedbackQuestionAttributes question = FeedbackQuestionAttributes.builder()
+                    .withCourseId(COURSE_ID)
+                    .withFeedbackSessionName(SESSION_NAME)
+                    .build();
+            question.setId(questionId);
+            questions.add(question);
+        }
+
+        List<FeedbackResponseAttributes> responses = Arrays.asList(
+                createResponse("r1", "q1", "Section A", "Section A"),
+                createResponse("r2", "q1", "Section A", "Section B"),
+                createResponse("r3", "q2", "Section B", "Section B"));
+
+        List<FeedbackResponseCommentAttributes> comments = Arrays.asList(
+                createComment(1L, "r1", "q1", "Section A"),
+                createComment(2L, "r3", "q2", "Section B"));
+
+        return new SessionResultsCache.SessionResultsData(
+                COURSE_ID, new CourseRoster(null, null), questions, responses, comments);
+    }
+
+    private FeedbackResponseAttributes createResponse(
+            String responseId, String questionId, String giverSection, String recipientSection) {
+        FeedbackResponseAttributes response = FeedbackResponseAttributes.builder(questionId, "giver", "recipient")
+                .withCourseId(COURSE_ID)
+                .withFeedbackSessionName(SESSION_NAME)
+                .withGiverSection(giverSection)
+                .withRecipientSection(recipientSection)
+                .build();
+        response.setId(responseId);
+        return response;
+    }
+
+    private FeedbackResponseCommentAttributes createComment(
+            long commentId, String responseId, String questionId, String section) {
+        FeedbackResponseCommentAttributes comment = FeedbackResponseCommentAttributes.builder()
+                .withCourseId(COURSE_ID)
+                .withFeedbackSessionName(SESSION_NAME)
+                .withFeedbackQuestionId(questionId)
+                .withFeedbackResponseId(responseId)
+                .withGiverSection(section)
+                .withReceiverSection(section)
+                .build();
+        comment.setId(commentId);
+        return comment;
+    }
+
+}
@@ -1,6 +1,7 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 
@@ -9,9 +10,11 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.StudentEnrollmentResults;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EnrollException;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -31,6 +34,7 @@ public class StudentsLogicTest extends BaseLogicTest {
     private final CoursesLogic coursesLogic = CoursesLogic.inst();
     private final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
 
     @Override
     protected void prepareTestData() {
@@ -251,6 +255,133 @@ public class StudentsLogicTest extends BaseLogicTest {
         assertNull(responseToBeDeleted);
     }
 
+    @Test
+    public void testEnrollStudents() {
+        StudentAttributes student1InCourse1 = dataBundle.students.get("student1InCourse1");
+        String courseId = student1InCourse1.getCourse();
+
+        FeedbackResponseAttributes responseToBeDeleted = dataBundle.feedbackResponses.get("response2ForQ2S2C1");
+        FeedbackQuestionAttributes feedbackQuestionInDb =
+                fqLogic.getFeedbackQuestion(responseToBeDeleted.getFeedbackSessionName(),
+                        responseToBeDeleted.getCourseId(),
+                        Integer.parseInt(responseToBeDeleted.getFeedbackQuestionId()));
+        responseToBeDeleted =
+                frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
+                        responseToBeDeleted.getGiver(), responseToBeDeleted.getRecipient());
+        assertNotNull(responseToBeDeleted);
+
+        StudentAttributes newStudent = StudentAttributes.builder(courseId, "new.student@email.com")
+                .withName("New Student")
+                .withSectionName(student1InCourse1.getSection())
+                .withTeamName(student1InCourse1.getTeam())
+                .withComment("")
+                .build();
+        StudentAttributes existingStudent = StudentAttributes.builder(courseId, student1InCourse1.getEmail())
+                .withName(student1InCourse1.getName())
+                .withSectionName(student1InCourse1.getSection())
+                .withTeamName(student1InCourse1.getTeam() + "tmp")
+                .withComment(student1InCourse1.getComments())
+                .build();
+        StudentAttributes invalidStudent = StudentAttributes.builder(courseId, "invalidEmail")
+                .withName("Invalid Student")
+                .withSectionName(student1InCourse1.getSection())
+                .withTeamName(student1InCourse1.getTeam())
+                .withComment("")
+                .build();
+        StudentAttributes duplicateStudent = StudentAttributes.builder(courseId, newStudent.getEmail())
+                .withName("Duplicate Student")
+                .withSectionName(student1InCourse1.getSection())
+                .withTeamName(student1InCourse1.getTeam())
+                .withComment("")
+                .build();
+
+        ______TS("typical case: new, existing, invalid and duplicated students");
+
+        StudentEnrollmentResults results = studentsLogic.enrollStudents(courseId,
+                Arrays.asList(newStudent, existingStudent, invalidStudent, duplicateStudent));
+
+        assertEquals(2, results.getEnrolledStudents().size());
+        assertEquals(newStudent.getEmail(), results.getEnrolledStudents().get(0).getEmail());
+        assertEquals(existingStudent.getEmail(), results.getEnrolledStudents().get(1).getEmail());
+        assertEquals(2, results.getFailedEnrollments().size());
+        assertEquals(invalidStudent.getEmail(), results.getFailedEnrollments().get(0).getEmail());
+        assertEquals(duplicateStudent.getEmail(), results.getFailedEnrollments().get(1).getEmail());
+        assertEquals(String.format(StudentsLogic.ERROR_ENROLL_DUPLICATE_EMAIL, duplicateStudent.getEmail()),
+                results.getFailedEnrollments().get(1).getErrorMessage());
+
+        assertEquals("New Student", studentsLogic.getStudentForEmail(courseId, newStudent.getEmail()).getName());
+        assertEquals(existingStudent.getTeam(),
+                studentsLogic.getStudentForEmail(courseId, existingStudent.getEmail()).getTeam());
+        assertNull(studentsLogic.getStudentForEmail(courseId, invalidStudent.getEmail()));
+
+        ______TS("team change should be cascaded to responses");
+
+        responseToBeDeleted =
+                frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
+                        responseToBeDeleted.getGiver(), responseToBeDeleted.getRecipient());
+        assertNull(responseToBeDeleted);
+
+        ______TS("students sharing the same invalid email are reported separately");
+
+        StudentAttributes studentWithoutEmail = StudentAttributes.builder(courseId, "")
+                .withName("Student Without Email")
+                .withSectionName(student1InCourse1.getSection())
+                .withTeamName(student1InCourse1.getTeam())
+                .withComment("")
+                .build();
+        StudentAttributes anotherStudentWithoutEmail = StudentAttributes.builder(courseId, "")
+                .withName("Another Student Without Email")
+                .withSectionName(student1InCourse1.getSection())
+                .withTeamName(student1InCourse1.getTeam())
+                .withComment("")
+                .build();
+
+        results = studentsLogic.enrollStudents(courseId, Arrays.asList(studentWithoutEmail, anotherStudentWithoutEmail));
+
+        assertTrue(results.getEnrolledStudents().isEmpty());
+        assertEquals(2, results.getFailedEnrollments().size());
+
+        ______TS("section changes of giver and recipient should be cascaded to responses and comments");
+
+        StudentAttributes student2InCourse1 = dataBundle.students.get("student2InCourse1");
+        StudentAttributes student5InCourse1 = dataBundle.students.get("student5InCourse1");
+        StudentAttributes giverInNewSection = StudentAttributes.builder(courseId, student2InCourse1.getEmail())
+                .withName(student2InCourse1.getName())
+                .withSectionName("Section 3")
+                .withTeamName(student2InCourse1.getTeam())
+                .withComment(student2InCourse1.getComments())
+                .build();
+        StudentAttributes recipientInNewSection = StudentAttributes.builder(courseId, student5InCourse1.getEmail())
+                .withName(student5InCourse1.getName())
+                .withSectionName("Section 4")
+                .withTeamName(student5InCourse1.getTeam())
+                .withComment(student5InCourse1.getComments())
+                .build();
+
+        results = studentsLogic.enrollStudents(courseId, Arrays.asList(giverInNewSection, recipientInNewSection));
+
+        assertEquals(2, results.getEnrolledStudents().size());
+        assertTrue(results.getFailedEnrollments().isEmpty());
+
+        FeedbackQuestionAttributes question2 = fqLogic.getFeedbackQuestion("First feedback session", courseId, 2);
+        FeedbackResponseAttributes responseInNewSections = frLogic.getFeedbackResponse(
+                question2.getId(), student2InCourse1.getEmail(), student5InCourse1.getEmail());
+        assertEquals("Section 3", responseInNewSections.getGiverSection());
+        assertEquals("Section 4", responseInNewSections.getRecipientSection());
+
+        List<FeedbackResponseCommentAttributes> commentsInNewSections =
+                frcLogic.getFeedbackResponseCommentForResponse(responseInNewSections.getId());
+        assertEquals(1, commentsInNewSections.size());
+        assertEquals("Section 3", commentsInNewSections.get(0).getGiverSection());
+        assertEquals("Section 4", commentsInNewSections.get(0).getReceiverSection());
+
+        ______TS("no students");
+
+        results = studentsLogic.enrollStudents(courseId, new ArrayList<>());
+        assertTrue(results.getEnrolledStudents().isEmpty());
+        assertTrue(results.getFailedEnrollments().isEmpty());
+    }
+
     @Test
     public void testRegenerateStudentRegistrationKey() throws Exception {
         ______TS("typical regeneration of course student's registration key");
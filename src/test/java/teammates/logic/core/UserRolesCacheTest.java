@@ -0,0 +1,85 @@
+package teammates.logic.core;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link UserRolesCache}.
+ */
+public class UserRolesCacheTest extends BaseTestCase {
+
+    private static final String GOOGLE_ID = "user.googleId";
+    private static final String OTHER_GOOGLE_ID = "other.googleId";
+
+    private final UserRolesCache cache = UserRolesCache.inst();
+
+    @BeforeMethod
+    public void resetCache() {
+        cache.invalidateAll();
+    }
+
+    @Test
+    public void testIsInstructor_roleNotCached_shouldLoadOnlyOnce() {
+        int[] loadCount = new int[1];
+
+        assertTrue(cache.isInstructor(GOOGLE_ID, () -> {
+            loadCount[0]++;
+            return true;
+        }));
+        assertTrue(cache.isInstructor(GOOGLE_ID, () -> {
+            loadCount[0]++;
+            return false;
+        }));
+
+        assertEquals(1, loadCount[0]);
+    }
+
+    @Test
+    public void testIsStudent_rolesOfDifferentUsersAndRoleTypes_shouldBeCachedSeparately() {
+        assertTrue(cache.isStudent(GOOGLE_ID, () -> true));
+        assertFalse(cache.isStudent(OTHER_GOOGLE_ID, () -> false));
+        assertFalse(cache.isInstructor(GOOGLE_ID, () -> false));
+
+        assertTrue(cache.isStudent(GOOGLE_ID, () -> false));
+        assertFalse(cache.isStudent(OTHER_GOOGLE_ID, () -> true));
+        assertFalse(cache.isInstructor(GOOGLE_ID, () -> true));
+    }
+
+    @Test
+    public void testIsInstructor_modifiedWhileLoading_shouldNotCacheLoadedRole() {
+        assertFalse(cache.isInstructor(GOOGLE_ID, () -> {
+            cache.invalidate(GOOGLE_ID);
+            return false;
+        }));
+
+        assertTrue(cache.isInstructor(GOOGLE_ID, () -> true));
+    }
+
+    @Test
+    public void testInvalidate() {
+        cache.isInstructor(GOOGLE_ID, () -> false);
+        cache.isStudent(GOOGLE_ID, () -> false);
+        cache.isStudent(OTHER_GOOGLE_ID, () -> false);
+
+        ______TS("null Google ID is ignored");
+
+        cache.invalidate(null);
+        assertFalse(cache.isInstructor(GOOGLE_ID, () -> true));
+
+        ______TS("user");
+
+        cache.invalidate(GOOGLE_ID);
+        assertTrue(cache.isInstructor(GOOGLE_ID, () -> true));
+        assertTrue(cache.isStudent(GOOGLE_ID, () -> true));
+        assertFalse(cache.isStudent(OTHER_GOOGLE_ID, () -> true));
+
+        ______TS("all users");
+
+        cache.invalidateAll();
+        assertFalse(cache.isInstructor(GOOGLE_ID, () -> false));
+        assertTrue(cache.isStudent(OTHER_GOOGLE_ID, () -> true));
+    }
+
+}
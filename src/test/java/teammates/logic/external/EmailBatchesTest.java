@@ -0,0 +1,47 @@
+package teammates.logic.external;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.EmailWrapper;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link EmailBatches}.
+ */
+public class EmailBatchesTest extends BaseTestCase {
+
+    @Test
+    public void testGroupIndexesBySender() {
+        EmailWrapper email1 = createEmail("recipient1@email.com", "content 1", null);
+        EmailWrapper email2 = createEmail("recipient2@email.com", "content 2", null);
+        EmailWrapper email3 = createEmail("recipient3@email.com", "content 1", "bcc@email.com");
+        EmailWrapper email4 = createEmail("recipient4@email.com", "content 1", "");
+        EmailWrapper email5 = createEmail("recipient5@email.com", "content 1", null);
+        email5.setReplyTo("other.replyto@email.com");
+        EmailWrapper email6 = createEmail("recipient1@email.com", "content 3", null);
+        EmailWrapper email7 = createEmail("recipient7@email.com", "large content", null);
+
+        List<List<Integer>> groups = EmailBatches.groupIndexesBySender(
+                Arrays.asList(email1, email2, email3, email4, email5, email6, email7), i -> i != 6);
+
+        assertEquals(Arrays.asList(Arrays.asList(0, 1, 3), Collections.singletonList(2), Collections.singletonList(4),
+                Collections.singletonList(5), Collections.singletonList(6)), groups);
+    }
+
+    private EmailWrapper createEmail(String recipient, String content, String bcc) {
+        EmailWrapper email = new EmailWrapper();
+        email.setSenderName("Sender Name");
+        email.setSenderEmail("sender@email.com");
+        email.setReplyTo("replyto@email.com");
+        email.setRecipient(recipient);
+        email.setBcc(bcc);
+        email.setSubject("Test subject");
+        email.setContent(content);
+        return email;
+    }
+
+}
@@ -0,0 +1,92 @@
+package teammates.storage.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.test.BaseTestCaseWithLocalDatabaseAccess;
+
+/**
+ * SUT: {@link ConcurrentReads}.
+ */
+public class ConcurrentReadsTest extends BaseTestCaseWithLocalDatabaseAccess {
+
+    private final StudentsDb studentsDb = StudentsDb.inst();
+
+    @Test
+    public void testStart_readFromDatabase_shouldRunInOtherThread() throws Exception {
+        StudentAttributes student = StudentAttributes
+                .builder("concurrent-reads-course", "concurrent-reads@email.com")
+                .withName("valid student")
+                .withComment("")
+                .withTeamName("validTeamName")
+                .withSectionName("validSectionName")
+                .withGoogleId("")
+                .build();
+        studentsDb.deleteStudent(student.getCourse(), student.getEmail());
+        studentsDb.createEntity(student);
+
+        Thread callingThread = Thread.currentThread();
+        ConcurrentReads.PendingRead<Thread> readingThread = ConcurrentReads.start(Thread::currentThread);
+        ConcurrentReads.PendingRead<StudentAttributes> readStudent = ConcurrentReads.start(
+                () -> studentsDb.getStudentForEmail(student.getCourse(), student.getEmail()));
+
+        assertNotSame(callingThread, ConcurrentReads.await(readingThread));
+        assertEquals(student.getName(), ConcurrentReads.await(readStudent).getName());
+
+        studentsDb.deleteStudent(student.getCourse(), student.getEmail());
+    }
+
+    @Test
+    public void testStart_nestedRead_shouldRunInCallingThread() {
+        ConcurrentReads.PendingRead<Boolean> isInSameThread = ConcurrentReads.start(() -> {
+            Thread outerThread = Thread.currentThread();
+            return ConcurrentReads.await(ConcurrentReads.start(Thread::currentThread)) == outerThread;
+        });
+
+        assertTrue(ConcurrentReads.await(isInSameThread));
+    }
+
+    @Test
+    public void testAwait_poolSaturated_shouldRunReadInAwaitingThread() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<ConcurrentReads.PendingRead<Boolean>> blockingReads = new ArrayList<>();
+        // more reads than the threads of the pool, so that all the threads are blocked
+        for (int i = 0; i < 32; i++) {
+            blockingReads.add(ConcurrentReads.start(() -> {
+                try {
+                    return release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }));
+        }
+
+        Thread callingThread = Thread.currentThread();
+        ConcurrentReads.PendingRead<Thread> readingThread = ConcurrentReads.start(Thread::currentThread);
+
+        assertSame(callingThread, ConcurrentReads.await(readingThread));
+
+        release.countDown();
+        for (ConcurrentReads.PendingRead<Boolean> blockingRead : blockingReads) {
+            assertTrue(ConcurrentReads.await(blockingRead));
+        }
+    }
+
+    @Test
+    public void testAwait_readThrowsException_shouldRethrowSameException() {
+        IllegalStateException exception = new IllegalStateException("read failed");
+        ConcurrentReads.PendingRead<Object> failedRead = ConcurrentReads.start(() -> {
+            throw exception;
+        });
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> ConcurrentReads.await(failedRead));
+        assertEquals(exception, thrown);
+    }
+
+}
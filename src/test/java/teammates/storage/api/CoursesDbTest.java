@@ -11,6 +11,7 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.FieldValidator;
 import teammates.common.util.JsonUtils;
+import teammates.common.util.RequestCache;
 import teammates.common.util.StringHelperExtension;
 import teammates.test.AssertHelper;
 import teammates.test.BaseTestCaseWithLocalDatabaseAccess;
@@ -112,6 +113,31 @@ public class CoursesDbTest extends BaseTestCaseWithLocalDatabaseAccess {
 
     }
 
+    @Test
+    public void testGetCourse_withRequestCache_shouldReflectWrites() throws Exception {
+        RequestCache.start();
+        try {
+            CourseAttributes c = createNewCourse();
+            assertEquals("Basic Computing", coursesDb.getCourse(c.getId()).getName());
+            assertNull(coursesDb.getCourse("non-existent-course"));
+
+            ______TS("cached course should be invalidated by update");
+
+            coursesDb.updateCourse(
+                    CourseAttributes.updateOptionsBuilder(c.getId())
+                            .withName("Advanced Computing")
+                            .build());
+            assertEquals("Advanced Computing", coursesDb.getCourse(c.getId()).getName());
+
+            ______TS("cached course should be invalidated by deletion");
+
+            coursesDb.deleteCourse(c.getId());
+            assertNull(coursesDb.getCourse(c.getId()));
+        } finally {
+            RequestCache.clear();
+        }
+    }
+
     @Test
     public void testGetCourses() throws Exception {
         CourseAttributes c = createNewCourse();
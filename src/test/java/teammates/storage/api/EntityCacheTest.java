@@ -0,0 +1,115 @@
+package teammates.storage.api;
+
+import java.time.Duration;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link EntityCache}.
+ */
+public class EntityCacheTest extends BaseTestCase {
+
+    private static final String NAMESPACE = "namespace";
+
+    private EntityCache cache;
+    private int loadCount;
+
+    @BeforeMethod
+    public void setUp() {
+        cache = new EntityCache(new LocalEntityCacheService(10, Duration.ofMinutes(1)));
+        loadCount = 0;
+    }
+
+    @Test
+    public void testGet_valueNotCached_shouldLoadOnlyOnce() {
+        assertEquals("value", cache.get(NAMESPACE, "key", () -> load("value")));
+        assertEquals("value", cache.get(NAMESPACE, "key", () -> load("other value")));
+
+        assertEquals(1, loadCount);
+        assertEquals(1, cache.getHitCount(NAMESPACE));
+        assertEquals(1, cache.getMissCount(NAMESPACE));
+    }
+
+    @Test
+    public void testGet_nullValue_shouldBeCached() {
+        assertNull(cache.get(NAMESPACE, "key", () -> load(null)));
+        assertNull(cache.get(NAMESPACE, "key", () -> load("value")));
+
+        assertEquals(1, loadCount);
+    }
+
+    @Test
+    public void testInvalidate() {
+        cache.get(NAMESPACE, "key", () -> load("value"));
+        cache.get("other namespace", "key", () -> load("value"));
+
+        ______TS("invalidate namespace");
+
+        cache.invalidate(NAMESPACE);
+        assertEquals("new value", cache.get(NAMESPACE, "key", () -> load("new value")));
+        assertEquals("value", cache.get("other namespace", "key", () -> load("new value")));
+        assertEquals(3, loadCount);
+
+        ______TS("invalidate all");
+
+        cache.invalidateAll();
+        assertEquals("newer value", cache.get(NAMESPACE, "key", () -> load("newer value")));
+        assertEquals("newer value", cache.get("other namespace", "key", () -> load("newer value")));
+        assertEquals(5, loadCount);
+    }
+
+    @Test
+    public void testGet_invalidatedWhileLoading_shouldNotCacheLoadedValue() {
+        cache.get(NAMESPACE, "key", () -> {
+            cache.invalidate(NAMESPACE);
+            return load("outdated value");
+        });
+
+        assertEquals("value", cache.get(NAMESPACE, "key", () -> load("value")));
+        assertEquals(2, loadCount);
+    }
+
+    @Test
+    public void testGet_valueNotAccepted_shouldNotBeCached() {
+        assertEquals("value", cache.get(NAMESPACE, "key", () -> load("value"), "cached value"::equals));
+        assertEquals("cached value", cache.get(NAMESPACE, "key", () -> load("cached value"), "cached value"::equals));
+        assertEquals("cached value", cache.get(NAMESPACE, "key", () -> load("value"), "cached value"::equals));
+
+        assertEquals(2, loadCount);
+    }
+
+    @Test
+    public void testPut() {
+        cache.put(NAMESPACE, "key", "value");
+
+        assertEquals("value", cache.get(NAMESPACE, "key", () -> load("other value")));
+        assertEquals(0, loadCount);
+
+        ______TS("value put is invalidated with its namespace");
+
+        cache.invalidate(NAMESPACE);
+        assertEquals("other value", cache.get(NAMESPACE, "key", () -> load("other value")));
+        assertEquals(1, loadCount);
+    }
+
+    @Test
+    public void testGet_emptyCacheService_shouldAlwaysLoad() {
+        EntityCache emptyCache = new EntityCache(new EmptyEntityCacheService());
+
+        emptyCache.get(NAMESPACE, "key", () -> load("value"));
+        emptyCache.get(NAMESPACE, "key", () -> load("value"));
+
+        assertEquals(2, loadCount);
+        assertEquals(0, emptyCache.getHitCount(NAMESPACE));
+        assertEquals(2, emptyCache.getMissCount(NAMESPACE));
+    }
+
+    private String load(String value) {
+        loadCount++;
+        return value;
+    }
+
+}
@@ -1,8 +1,10 @@
 package teammates.storage.api;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeClass;
@@ -13,6 +15,7 @@ import com.google.common.collect.Sets;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.ResultsPage;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
@@ -277,6 +280,85 @@ public class FeedbackResponsesDbTest extends BaseTestCaseWithLocalDatabaseAccess
         assertNotNull(frDb.getFeedbackResponse(fraFromAnotherCourse.getId()));
     }
 
+    @Test
+    public void testHasFeedbackResponseEntitiesForCourse() throws Exception {
+        FeedbackResponseAttributes fra = fras.get("response1ForQ1S1C1");
+        String courseId = fra.getCourseId();
+
+        ______TS("course with responses");
+
+        assertTrue(frDb.hasFeedbackResponseEntitiesForCourse(courseId));
+        // answered again from the flag of the course
+        assertTrue(frDb.hasFeedbackResponseEntitiesForCourse(courseId));
+
+        ______TS("course without responses");
+
+        assertFalse(frDb.hasFeedbackResponseEntitiesForCourse("non-existent-course"));
+
+        ______TS("all responses of the course deleted");
+
+        frDb.deleteFeedbackResponses(AttributesDeletionQuery.builder().withCourseId(courseId).build());
+
+        assertFalse(frDb.hasFeedbackResponseEntitiesForCourse(courseId));
+
+        ______TS("response of the course created again");
+
+        frDb.createEntity(fra);
+
+        assertTrue(frDb.hasFeedbackResponseEntitiesForCourse(courseId));
+    }
+
+    @Test
+    public void testDeleteFeedbackResponsesBatch_byCourseIdAndSessionName() throws Exception {
+        FeedbackResponseAttributes fra = fras.get("response1ForQ1S1C1");
+        String courseId = fra.getCourseId();
+        String sessionName = fra.getFeedbackSessionName();
+        AttributesDeletionQuery query = AttributesDeletionQuery.builder()
+                .withCourseId(courseId)
+                .withFeedbackSessionName(sessionName)
+                .build();
+        int numberOfResponses = frDb.getFeedbackResponsesForSession(sessionName, courseId).size();
+        assertTrue(numberOfResponses > 2);
+        FeedbackResponseAttributes fraFromAnotherCourse = fras.get("response1ForQ1S1C2");
+        fraFromAnotherCourse = frDb.getFeedbackResponse(
+                fraFromAnotherCourse.getFeedbackQuestionId(), fraFromAnotherCourse.getGiver(),
+                fraFromAnotherCourse.getRecipient());
+
+        ______TS("invalid cursor");
+
+        assertThrows(InvalidParametersException.class,
+                () -> frDb.deleteFeedbackResponsesBatch(query, "invalid-cursor", 2));
+        assertEquals(numberOfResponses, frDb.getFeedbackResponsesForSession(sessionName, courseId).size());
+
+        ______TS("first batch deletes up to the limit and returns a cursor");
+
+        ResultsPage<Integer> batch = frDb.deleteFeedbackResponsesBatch(query, null, 2);
+
+        assertEquals(2, batch.getResults().intValue());
+        assertTrue(batch.hasNextPage());
+        assertEquals(numberOfResponses - 2, frDb.getFeedbackResponsesForSession(sessionName, courseId).size());
+
+        ______TS("following batches continue from the cursor until all responses are deleted");
+
+        int numberOfResponsesDeleted = batch.getResults();
+        while (batch.hasNextPage()) {
+            batch = frDb.deleteFeedbackResponsesBatch(query, batch.getNextPageToken(), 2);
+            numberOfResponsesDeleted += batch.getResults();
+        }
+
+        assertEquals(numberOfResponses, numberOfResponsesDeleted);
+        assertTrue(frDb.getFeedbackResponsesForSession(sessionName, courseId).isEmpty());
+        // responses of other course remain
+        assertNotNull(frDb.getFeedbackResponse(fraFromAnotherCourse.getId()));
+
+        ______TS("nothing left to delete");
+
+        batch = frDb.deleteFeedbackResponsesBatch(query, null, 2);
+
+        assertEquals(0, batch.getResults().intValue());
+        assertFalse(batch.hasNextPage());
+    }
+
     @Test
     public void testCreateFeedbackResponse() throws Exception {
 
@@ -384,6 +466,42 @@ public class FeedbackResponsesDbTest extends BaseTestCaseWithLocalDatabaseAccess
         assertTrue(frDb.getFeedbackResponsesForQuestion("non-existent fq id").isEmpty());
     }
 
+    @Test
+    public void testGetFeedbackResponsesForQuestionPage() throws Exception {
+        String questionId = fras.get("response1ForQ2S1C1").getFeedbackQuestionId();
+        Set<String> expectedResponseIds = frDb.getFeedbackResponsesForQuestion(questionId).stream()
+                .map(FeedbackResponseAttributes::getId)
+                .collect(Collectors.toSet());
+
+        ______TS("all responses read page by page");
+
+        Set<String> responseIds = new HashSet<>();
+        String pageToken = null;
+        do {
+            ResultsPage<List<FeedbackResponseAttributes>> page =
+                    frDb.getFeedbackResponsesForQuestionPage(questionId, pageToken, 2);
+            assertTrue(page.getResults().size() <= 2);
+            for (FeedbackResponseAttributes response : page.getResults()) {
+                assertTrue(responseIds.add(response.getId()));
+            }
+            pageToken = page.getNextPageToken();
+        } while (pageToken != null);
+
+        assertEquals(expectedResponseIds, responseIds);
+
+        ______TS("page larger than all responses");
+
+        ResultsPage<List<FeedbackResponseAttributes>> page =
+                frDb.getFeedbackResponsesForQuestionPage(questionId, null, expectedResponseIds.size() + 1);
+        assertEquals(expectedResponseIds.size(), page.getResults().size());
+        assertFalse(page.hasNextPage());
+
+        ______TS("invalid page token");
+
+        assertThrows(InvalidParametersException.class,
+                () -> frDb.getFeedbackResponsesForQuestionPage(questionId, "invalid token!", 2));
+    }
+
     @Test
     public void testGetFeedbackResponsesForQuestionInSection() {
 
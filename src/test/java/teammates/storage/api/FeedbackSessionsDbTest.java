@@ -6,6 +6,8 @@ import static teammates.common.util.FieldValidator.TIME_FRAME_ERROR_MESSAGE;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
@@ -186,6 +188,8 @@ public class FeedbackSessionsDbTest extends BaseTestCaseWithLocalDatabaseAccess
         testGetFeedbackSessions();
         testGetFeedbackSessionsForCourse();
         testGetSoftDeletedFeedbackSessionsForCourse();
+        testGetFeedbackSessionsForCourses();
+        testGetSoftDeletedFeedbackSessionsForCourses();
     }
 
     private void testGetFeedbackSessions() {
@@ -280,6 +284,47 @@ public class FeedbackSessionsDbTest extends BaseTestCaseWithLocalDatabaseAccess
         assertTrue(fsDb.getSoftDeletedFeedbackSessionsForCourse("idOfCourseNoEvals").isEmpty());
     }
 
+    private void testGetFeedbackSessionsForCourses() {
+
+        ______TS("standard success case: sessions in the order of the courses");
+
+        List<FeedbackSessionAttributes> expected = new ArrayList<>();
+        expected.addAll(fsDb.getFeedbackSessionsForCourse("idOfTypicalCourse2"));
+        expected.addAll(fsDb.getFeedbackSessionsForCourse("idOfTypicalCourse1"));
+
+        List<FeedbackSessionAttributes> sessions = fsDb.getFeedbackSessionsForCourses(
+                Arrays.asList("idOfTypicalCourse2", "non-existant course", "idOfTypicalCourse1", "idOfCourseNoEvals"));
+
+        assertEquals(expected.toString(), sessions.toString());
+
+        ______TS("null params");
+
+        assertThrows(AssertionError.class, () -> fsDb.getFeedbackSessionsForCourses(null));
+
+        ______TS("no courses");
+
+        assertTrue(fsDb.getFeedbackSessionsForCourses(new ArrayList<>()).isEmpty());
+    }
+
+    private void testGetSoftDeletedFeedbackSessionsForCourses() {
+
+        ______TS("standard success case");
+
+        List<FeedbackSessionAttributes> expected = new ArrayList<>();
+        expected.addAll(fsDb.getSoftDeletedFeedbackSessionsForCourse("idOfTypicalCourse1"));
+        expected.addAll(fsDb.getSoftDeletedFeedbackSessionsForCourse("idOfTypicalCourse3"));
+
+        List<FeedbackSessionAttributes> softDeletedSessions = fsDb.getSoftDeletedFeedbackSessionsForCourses(
+                Arrays.asList("idOfTypicalCourse1", "idOfTypicalCourse3"));
+
+        assertEquals(expected.toString(), softDeletedSessions.toString());
+        assertFalse(softDeletedSessions.isEmpty());
+
+        ______TS("null params");
+
+        assertThrows(AssertionError.class, () -> fsDb.getSoftDeletedFeedbackSessionsForCourses(null));
+    }
+
     @Test
     public void testSoftDeleteFeedbackSession() throws Exception {
         FeedbackSessionAttributes fs = getNewFeedbackSession();
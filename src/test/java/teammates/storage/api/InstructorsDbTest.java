@@ -1,6 +1,7 @@
 package teammates.storage.api;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.testng.annotations.BeforeMethod;
@@ -129,6 +130,29 @@ public class InstructorsDbTest extends BaseTestCaseWithLocalDatabaseAccess {
 
     }
 
+    @Test
+    public void testGetInstructorsForEmails() {
+
+        InstructorAttributes i1 = dataBundle.instructors.get("instructor1OfCourse1");
+        InstructorAttributes i2 = dataBundle.instructors.get("instructor2OfCourse1");
+
+        ______TS("Success: get existing instructors only");
+
+        List<InstructorAttributes> retrieved = instructorsDb.getInstructorsForEmails(i1.getCourseId(),
+                Arrays.asList(i1.getEmail(), i2.getEmail(), "non.existent@email.com"));
+        assertEquals(2, retrieved.size());
+
+        ______TS("Success: no emails");
+
+        assertTrue(instructorsDb.getInstructorsForEmails(i1.getCourseId(), new ArrayList<>()).isEmpty());
+
+        ______TS("Failure: null parameters");
+
+        assertThrows(AssertionError.class,
+                () -> instructorsDb.getInstructorsForEmails(null, new ArrayList<>()));
+
+    }
+
     @Test
     public void testGetInstructorForGoogleId() {
 
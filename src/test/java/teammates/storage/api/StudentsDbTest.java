@@ -3,6 +3,10 @@ package teammates.storage.api;
 import static teammates.common.util.FieldValidator.COURSE_ID_ERROR_MESSAGE;
 import static teammates.common.util.FieldValidator.REASON_INCORRECT_FORMAT;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
@@ -155,6 +159,127 @@ public class StudentsDbTest extends BaseTestCaseWithLocalDatabaseAccess {
         studentsDb.deleteStudent(s2.getCourse(), s2.getEmail());
     }
 
+    @Test
+    public void testGetStudentsForEmails() throws Exception {
+        StudentAttributes s1 = createNewStudent();
+        StudentAttributes s2 = createNewStudent("one.new@gmail.com");
+
+        ______TS("typical case: existing and non-existent emails");
+
+        List<StudentAttributes> retrieved = studentsDb.getStudentsForEmails(s1.getCourse(),
+                Arrays.asList(s1.getEmail(), s2.getEmail(), s1.getEmail(), "non-existent@email.com"));
+        assertEquals(2, retrieved.size());
+        assertTrue(retrieved.stream().anyMatch(student -> student.getEmail().equals(s1.getEmail())));
+        assertTrue(retrieved.stream().anyMatch(student -> student.getEmail().equals(s2.getEmail())));
+
+        ______TS("no emails");
+
+        assertTrue(studentsDb.getStudentsForEmails(s1.getCourse(), Collections.emptyList()).isEmpty());
+
+        ______TS("null parameters");
+
+        assertThrows(AssertionError.class,
+                () -> studentsDb.getStudentsForEmails(null, Collections.emptyList()));
+        assertThrows(AssertionError.class,
+                () -> studentsDb.getStudentsForEmails(s1.getCourse(), null));
+    }
+
+    @Test
+    public void testHasStudentsForGoogleId() throws Exception {
+        StudentAttributes s = createNewStudent();
+
+        ______TS("no student associated with googleId");
+
+        assertFalse(studentsDb.hasStudentsForGoogleId("hasStudents.googleId"));
+
+        ______TS("student joins course");
+
+        studentsDb.updateStudent(
+                StudentAttributes.updateOptionsBuilder(s.getCourse(), s.getEmail())
+                        .withGoogleId("hasStudents.googleId")
+                        .build());
+
+        assertTrue(studentsDb.hasStudentsForGoogleId("hasStudents.googleId"));
+
+        ______TS("student deleted");
+
+        studentsDb.deleteStudent(s.getCourse(), s.getEmail());
+
+        assertFalse(studentsDb.hasStudentsForGoogleId("hasStudents.googleId"));
+
+        ______TS("null parameter");
+
+        assertThrows(AssertionError.class, () -> studentsDb.hasStudentsForGoogleId(null));
+    }
+
+    @Test
+    public void testGetNumberOfStudentsForCourse() throws Exception {
+        StudentAttributes s = createNewStudent();
+        int numberOfStudents = studentsDb.getStudentsForCourse(s.getCourse()).size();
+
+        assertEquals(numberOfStudents, studentsDb.getNumberOfStudentsForCourse(s.getCourse()));
+
+        ______TS("student created");
+
+        createNewStudent("number.of.students@gmail.com");
+
+        assertEquals(numberOfStudents + 1, studentsDb.getNumberOfStudentsForCourse(s.getCourse()));
+
+        ______TS("student deleted");
+
+        studentsDb.deleteStudent(s.getCourse(), "number.of.students@gmail.com");
+
+        assertEquals(numberOfStudents, studentsDb.getNumberOfStudentsForCourse(s.getCourse()));
+        assertEquals(0, studentsDb.getNumberOfStudentsForCourse("non-existent-course"));
+    }
+
+    @Test
+    public void testPutStudentsForEnrollment() {
+        StudentAttributes existingStudent = createNewStudent();
+        studentsDb.deleteStudent(existingStudent.getCourse(), "one.new@gmail.com");
+
+        StudentAttributes updatedStudent = StudentAttributes
+                .builder(existingStudent.getCourse(), existingStudent.getEmail())
+                .withName("new name")
+                .withComment("")
+                .withTeamName("newTeamName")
+                .withSectionName(existingStudent.getSection())
+                .build();
+        StudentAttributes newStudent = StudentAttributes
+                .builder(existingStudent.getCourse(), "one.new@gmail.com")
+                .withName("valid student 2")
+                .withComment("")
+                .withTeamName("validTeamName")
+                .withSectionName("validSectionName")
+                .build();
+
+        ______TS("typical case: create new student and update existing student");
+
+        List<StudentAttributes> enrolled = studentsDb.putStudentsForEnrollment(existingStudent.getCourse(),
+                Arrays.asList(newStudent, updatedStudent));
+
+        assertEquals(2, enrolled.size());
+        assertEquals(newStudent.getEmail(), enrolled.get(0).getEmail());
+        assertEquals(updatedStudent.getEmail(), enrolled.get(1).getEmail());
+
+        StudentAttributes newStudentInDb = studentsDb.getStudentForEmail(newStudent.getCourse(), newStudent.getEmail());
+        assertTrue(isEnrollInfoSameAs(newStudent, newStudentInDb));
+        assertNotNull(newStudentInDb.getKey());
+
+        StudentAttributes updatedStudentInDb =
+                studentsDb.getStudentForEmail(updatedStudent.getCourse(), updatedStudent.getEmail());
+        assertTrue(isEnrollInfoSameAs(updatedStudent, updatedStudentInDb));
+        assertEquals(existingStudent.getKey(), updatedStudentInDb.getKey());
+        assertEquals(existingStudent.getCreatedAt(), updatedStudentInDb.getCreatedAt());
+
+        ______TS("null parameters");
+
+        assertThrows(AssertionError.class,
+                () -> studentsDb.putStudentsForEnrollment(null, Collections.emptyList()));
+        assertThrows(AssertionError.class,
+                () -> studentsDb.putStudentsForEnrollment(existingStudent.getCourse(), null));
+    }
+
     @Test
     public void testUpdateStudent_noChangeToStudent_shouldNotIssueSaveRequest() throws Exception {
         StudentAttributes s = createNewStudent();
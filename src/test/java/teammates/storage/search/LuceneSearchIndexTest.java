@@ -0,0 +1,108 @@
+package teammates.storage.search;
+
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link LuceneSearchIndex}.
+ */
+public class LuceneSearchIndexTest extends BaseTestCase {
+
+    private LuceneSearchIndex index;
+
+    @BeforeClass
+    public void setUpIndex() throws Exception {
+        index = LuceneSearchIndex.forDirectory(Files.createTempDirectory("search-index"));
+    }
+
+    @Test
+    public void testAll() throws Exception {
+        index.putDocuments(Arrays.asList(
+                createDocument("alice@course1", "Alice Tan alice@example.com", "course1"),
+                createDocument("bob@course1", "Bob Lee bob@example.com", "course1"),
+                createDocument("alice@course2", "Alice Tan alice@example.com", "course2")));
+
+        ______TS("search whole index");
+
+        List<Map<String, Object>> results = index.search("alice", null, null, 10);
+        assertEquals(2, results.size());
+
+        ______TS("search is case-insensitive");
+
+        results = index.search("BOB", null, null, 10);
+        assertEquals(1, results.size());
+        assertEquals("bob@course1", results.get(0).get("id"));
+        assertEquals("course1", results.get(0).get("courseId"));
+
+        ______TS("search with filter");
+
+        results = index.search("alice", "courseId", Collections.singletonList("course2"), 10);
+        assertEquals(1, results.size());
+        assertEquals("alice@course2", results.get(0).get("id"));
+
+        ______TS("search with limit");
+
+        assertEquals(1, index.search("alice", null, null, 1).size());
+
+        ______TS("put document with existing ID should replace it");
+
+        index.putDocuments(Collections.singletonList(createDocument("bob@course1", "Robert Lee", "course1")));
+        assertTrue(index.search("bob", null, null, 10).isEmpty());
+        assertEquals(1, index.search("robert", null, null, 10).size());
+
+        ______TS("delete documents");
+
+        index.deleteDocuments(Collections.singletonList("alice@course1"));
+        results = index.search("alice", null, null, 10);
+        assertEquals(1, results.size());
+        assertEquals("alice@course2", results.get(0).get("id"));
+
+        index.deleteAllDocuments();
+        assertTrue(index.search("alice", null, null, 10).isEmpty());
+    }
+
+    @Test
+    public void testSearch_querySyntaxInQueryString_shouldBeSearchedAsText() throws Exception {
+        LuceneSearchIndex otherIndex = LuceneSearchIndex.forDirectory(Files.createTempDirectory("search-index"));
+        otherIndex.putDocuments(Arrays.asList(
+                createDocument("alice@course1", "Alice Tan alice@example.com", "course1"),
+                createDocument("bob@course1", "Bob Lee bob@example.com", "course1")));
+
+        assertEquals(1, otherIndex.search("(alice", null, null, 10).size());
+        assertEquals(1, otherIndex.search("alice AND", null, null, 10).size());
+        assertEquals(1, otherIndex.search("\"alice", null, null, 10).size());
+        assertEquals(1, otherIndex.search("alice* ~tan^", null, null, 10).size());
+        assertEquals(2, otherIndex.search("alice OR NOT bob", null, null, 10).size());
+
+        ______TS("text in double quotes matched as a phrase");
+
+        assertEquals(1, otherIndex.search("\"alice tan\"", null, null, 10).size());
+        assertTrue(otherIndex.search("\"tan alice\"", null, null, 10).isEmpty());
+        assertEquals(1, otherIndex.search("\"bob@example.com\"", null, null, 10).size());
+    }
+
+    @Test
+    public void testSearch_noWordsInQueryString_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> index.search("", null, null, 10));
+        assertThrows(IllegalArgumentException.class, () -> index.search("  ", null, null, 10));
+        assertThrows(IllegalArgumentException.class, () -> index.search("( ) \"\"", null, null, 10));
+    }
+
+    private Map<String, Object> createDocument(String id, String text, String courseId) {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("id", id);
+        fields.put("_text_", text);
+        fields.put("courseId", courseId);
+        return fields;
+    }
+
+}
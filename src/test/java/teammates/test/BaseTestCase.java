@@ -190,6 +190,10 @@ public class BaseTestCase {
         Assert.assertNotSame(unexpected, actual);
     }
 
+    protected static void assertSame(Object expected, Object actual) {
+        Assert.assertSame(expected, actual);
+    }
+
     protected static void assertNull(Object object) {
         Assert.assertNull(object);
     }
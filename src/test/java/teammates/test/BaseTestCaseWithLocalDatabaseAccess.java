@@ -25,6 +25,7 @@ import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.attributes.StudentProfileAttributes;
 import teammates.logic.api.LogicExtension;
 import teammates.logic.core.LogicStarter;
+import teammates.storage.api.EntityCache;
 import teammates.storage.api.OfyHelper;
 import teammates.storage.search.AccountRequestSearchManager;
 import teammates.storage.search.InstructorSearchManager;
@@ -83,6 +84,7 @@ public abstract class BaseTestCaseWithLocalDatabaseAccess extends BaseTestCaseWi
         SearchManagerFactory.getStudentSearchManager().resetCollections();
 
         LOCAL_DATASTORE_HELPER.reset();
+        EntityCache.inst().invalidateAll();
     }
 
     @AfterSuite
@@ -28,6 +28,7 @@ import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.JsonUtils;
+import teammates.common.util.TaskWrapper;
 import teammates.logic.api.LogicExtension;
 import teammates.logic.api.MockEmailSender;
 import teammates.logic.api.MockFileStorage;
@@ -41,6 +42,7 @@ import teammates.test.MockHttpServletRequest;
 import teammates.test.MockPart;
 import teammates.ui.request.BasicRequest;
 import teammates.ui.request.InvalidHttpRequestBodyException;
+import teammates.ui.request.SendEmailsRequest;
 
 /**
  * Base class for all action tests.
@@ -722,6 +724,26 @@ public abstract class BaseActionTest<T extends Action> extends BaseTestCaseWithL
         assertEquals(emailCount, mockEmailSender.getEmailsSent().size());
     }
 
+    /**
+     * Returns the list of emails scheduled for sending as part of the executed action.
+     */
+    protected List<EmailWrapper> getEmailsScheduled() {
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (TaskWrapper task : mockTaskQueuer.getTasksAdded()) {
+            if (Const.TaskQueue.SEND_EMAIL_QUEUE_NAME.equals(task.getQueueName())) {
+                emails.addAll(((SendEmailsRequest) task.getRequestBody()).getEmails());
+            }
+        }
+        return emails;
+    }
+
+    /**
+     * Verifies that the executed action results in the specified number of emails being scheduled for sending.
+     */
+    protected void verifyNumberOfEmailsScheduled(int emailCount) {
+        assertEquals(emailCount, getEmailsScheduled().size());
+    }
+
     /**
      * Writes a file into the mock file storage.
      */
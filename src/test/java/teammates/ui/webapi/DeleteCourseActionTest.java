@@ -1,5 +1,6 @@
 package teammates.ui.webapi;
 
+import org.apache.http.HttpStatus;
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.CourseAttributes;
@@ -54,6 +55,27 @@ public class DeleteCourseActionTest
 
         assertEquals("OK", messageOutput.getMessage());
         assertNull(logic.getCourse(instructor1OfCourse1.getCourseId()));
+        verifySpecifiedTasksAdded(Const.TaskQueue.DELETION_QUEUE_NAME, 1);
+        assertNotNull(logic.getDeletionJob(courseId, null));
+
+        ______TS("Entities under the course are deleted by the background job");
+
+        String feedbackSessionName = typicalBundle.feedbackSessions.get("session1InCourse1").getFeedbackSessionName();
+        assertNotNull(logic.getFeedbackQuestion(feedbackSessionName, courseId, 1));
+
+        assertNull(logic.runDeletionJob(courseId, null, Integer.MAX_VALUE));
+
+        assertNull(logic.getDeletionJob(courseId, null));
+        assertNull(logic.getFeedbackQuestion(feedbackSessionName, courseId, 1));
+
+        ______TS("Course already deleted, no task added");
+
+        deleteCourseAction = getAction(submissionParams);
+        result = getJsonResult(deleteCourseAction);
+        messageOutput = (MessageOutput) result.getOutput();
+
+        assertEquals("OK", messageOutput.getMessage());
+        verifyNoTasksAdded();
     }
 
     @Test
@@ -78,6 +100,35 @@ public class DeleteCourseActionTest
 
         assertEquals("OK", messageOutput.getMessage());
         assertNull(logic.getCourse(instructor1OfCourse1.getCourseId()));
+        verifySpecifiedTasksAdded(Const.TaskQueue.DELETION_QUEUE_NAME, 1);
+
+        assertNull(logic.runDeletionJob(courseId, null, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testExecute_deletionCannotBeScheduled_shouldBeResumedLater() {
+        InstructorAttributes instructor1OfCourse1 = typicalBundle.instructors.get("instructor1OfCourse1");
+        String courseId = instructor1OfCourse1.getCourseId();
+
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, courseId,
+        };
+
+        loginAsInstructor(instructor1OfCourse1.getGoogleId());
+
+        DeleteCourseAction deleteCourseAction = getAction(submissionParams);
+        mockTaskQueuer.failAddingTasksTo(Const.TaskQueue.DELETION_QUEUE_NAME);
+        JsonResult result = getJsonResult(deleteCourseAction, HttpStatus.SC_ACCEPTED);
+        MessageOutput messageOutput = (MessageOutput) result.getOutput();
+
+        assertEquals("The course is deleted, but some of its data will only be removed later.",
+                messageOutput.getMessage());
+        assertNull(logic.getCourse(courseId));
+        verifyNoTasksAdded();
+        // the job remains for the cron job for stalled deletions to resume
+        assertNotNull(logic.getDeletionJob(courseId, null));
+
+        assertNull(logic.runDeletionJob(courseId, null, Integer.MAX_VALUE));
     }
 
     @Override
@@ -74,6 +74,13 @@ public class DeleteFeedbackSessionActionTest extends BaseActionTest<DeleteFeedba
         assertEquals(messageOutput.getMessage(), "The feedback session is deleted.");
         assertNull(logic.getFeedbackSessionFromRecycleBin(session.getFeedbackSessionName(), course.getId()));
         assertNull(logic.getFeedbackSession(session.getFeedbackSessionName(), course.getId()));
+        verifySpecifiedTasksAdded(Const.TaskQueue.DELETION_QUEUE_NAME, 1);
+        assertNotNull(logic.getFeedbackQuestion(session.getFeedbackSessionName(), course.getId(), 1));
+
+        assertNull(logic.runDeletionJob(course.getId(), session.getFeedbackSessionName(), Integer.MAX_VALUE));
+
+        assertNull(logic.getDeletionJob(course.getId(), session.getFeedbackSessionName()));
+        assertNull(logic.getFeedbackQuestion(session.getFeedbackSessionName(), course.getId(), 1));
 
         ______TS("Delete session not in recycle bin");
 
@@ -94,6 +101,8 @@ public class DeleteFeedbackSessionActionTest extends BaseActionTest<DeleteFeedba
         assertEquals(messageOutput.getMessage(), "The feedback session is deleted.");
         assertNull(logic.getFeedbackSessionFromRecycleBin(session2.getFeedbackSessionName(), course.getId()));
         assertNull(logic.getFeedbackSession(session2.getFeedbackSessionName(), course.getId()));
+
+        assertNull(logic.runDeletionJob(course.getId(), session2.getFeedbackSessionName(), Integer.MAX_VALUE));
     }
 
     @Test
@@ -119,6 +128,8 @@ public class DeleteFeedbackSessionActionTest extends BaseActionTest<DeleteFeedba
         getJsonResult(deleteFeedbackSessionAction);
         assertNull(logic.getFeedbackSession(session.getFeedbackSessionName(), course.getId()));
 
+        assertNull(logic.runDeletionJob(course.getId(), session.getFeedbackSessionName(), Integer.MAX_VALUE));
+
         ______TS("Delete session that does not exist");
 
         params = new String[] {
@@ -132,6 +143,7 @@ public class DeleteFeedbackSessionActionTest extends BaseActionTest<DeleteFeedba
         // Will fail silently and not throw any exception
         getJsonResult(deleteFeedbackSessionAction);
         assertNull(logic.getFeedbackSession(session.getFeedbackSessionName(), course.getId()));
+        verifyNoTasksAdded();
     }
 
     @Test
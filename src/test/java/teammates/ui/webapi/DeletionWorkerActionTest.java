@@ -0,0 +1,63 @@
+package teammates.ui.webapi;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Const.TaskQueue;
+
+/**
+ * SUT: {@link DeletionWorkerAction}.
+ */
+public class DeletionWorkerActionTest extends BaseActionTest<DeletionWorkerAction> {
+
+    @Override
+    protected String getActionUri() {
+        return TaskQueue.DELETION_WORKER_URL;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return POST;
+    }
+
+    @Override
+    @Test
+    protected void testExecute() throws Exception {
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session1InCourse1");
+        String courseId = session.getCourseId();
+        String sessionName = session.getFeedbackSessionName();
+
+        ______TS("job of a deleted session is run to completion");
+
+        logic.startFeedbackSessionDeletion(sessionName, courseId);
+        assertNotNull(logic.getDeletionJob(courseId, sessionName));
+        assertNotNull(logic.getFeedbackQuestion(sessionName, courseId, 1));
+
+        String[] submissionParams = new String[] {
+                ParamsNames.COURSE_ID, courseId,
+                ParamsNames.FEEDBACK_SESSION_NAME, sessionName,
+        };
+
+        DeletionWorkerAction action = getAction(submissionParams);
+        getJsonResult(action);
+
+        assertNull(logic.getDeletionJob(courseId, sessionName));
+        assertNull(logic.getFeedbackQuestion(sessionName, courseId, 1));
+        verifyNoTasksAdded();
+
+        ______TS("job already completed, nothing to do");
+
+        action = getAction(submissionParams);
+        getJsonResult(action);
+
+        verifyNoTasksAdded();
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() {
+        verifyOnlyAdminCanAccess();
+    }
+
+}
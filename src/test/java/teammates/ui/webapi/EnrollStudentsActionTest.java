@@ -12,6 +12,7 @@ import teammates.common.util.Const;
 import teammates.ui.output.EnrollStudentsData;
 import teammates.ui.output.StudentData;
 import teammates.ui.request.StudentsEnrollRequest;
+import teammates.ui.request.StudentsSearchIndexingRequest;
 
 /**
  * SUT: {@link EnrollStudentsAction}.
@@ -166,8 +167,12 @@ public class EnrollStudentsActionTest extends BaseActionTest<EnrollStudentsActio
         verifyCorrectResponseData(req.getStudentEnrollRequests().get(0), enrolledStudents.get(0));
         verifyCorrectResponseData(req.getStudentEnrollRequests().get(2), enrolledStudents.get(1));
 
-        // verify tasks only added for students successfully enrolled
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEARCH_INDEXING_QUEUE_NAME, 2);
+        // verify a single indexing task is added only for students successfully enrolled
+        verifySpecifiedTasksAdded(Const.TaskQueue.SEARCH_INDEXING_QUEUE_NAME, 1);
+        StudentsSearchIndexingRequest indexingRequest =
+                (StudentsSearchIndexingRequest) mockTaskQueuer.getTasksAdded().get(0).getRequestBody();
+        assertEquals(Arrays.asList(validNewStudent.getEmail(), validExistingStudent.getEmail()),
+                Arrays.asList(indexingRequest.getStudentEmails()));
     }
 
     @Test
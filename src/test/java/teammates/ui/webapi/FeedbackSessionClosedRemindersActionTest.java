@@ -1,7 +1,6 @@
 package teammates.ui.webapi;
 
 import java.time.Instant;
-import java.util.List;
 
 import org.testng.annotations.Test;
 
@@ -9,10 +8,8 @@ import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.Const;
 import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
-import teammates.common.util.TaskWrapper;
 import teammates.common.util.TimeHelper;
 import teammates.common.util.TimeHelperExtension;
-import teammates.ui.request.SendEmailRequest;
 
 /**
  * SUT: {@link FeedbackSessionClosedRemindersAction}.
@@ -107,13 +104,10 @@ public class FeedbackSessionClosedRemindersActionTest
         action.execute();
 
         // 3 co-owners in course1 x 1 session
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 3);
+        verifyNumberOfEmailsScheduled(3);
 
         String courseName = logic.getCourse(session1.getCourseId()).getName();
-        List<TaskWrapper> tasksAdded = mockTaskQueuer.getTasksAdded();
-        for (TaskWrapper task : tasksAdded) {
-            SendEmailRequest requestBody = (SendEmailRequest) task.getRequestBody();
-            EmailWrapper email = requestBody.getEmail();
+        for (EmailWrapper email : getEmailsScheduled()) {
             String expectedSubject = String.format(EmailType.FEEDBACK_CLOSED.getSubject(),
                     courseName, session1.getFeedbackSessionName());
             assertEquals(expectedSubject, email.getSubject());
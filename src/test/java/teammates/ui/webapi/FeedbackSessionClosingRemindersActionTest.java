@@ -1,18 +1,14 @@
 package teammates.ui.webapi;
 
-import java.util.List;
-
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.Const;
 import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
-import teammates.common.util.TaskWrapper;
 import teammates.common.util.TimeHelper;
 import teammates.common.util.TimeHelperExtension;
 import teammates.test.ThreadHelper;
-import teammates.ui.request.SendEmailRequest;
 
 /**
  * SUT: {@link FeedbackSessionClosingRemindersAction}.
@@ -110,13 +106,10 @@ public class FeedbackSessionClosingRemindersActionTest
         action.execute();
 
         // 5 students, 5 instructors, and 3 co-owner instructors in course1
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 13);
+        verifyNumberOfEmailsScheduled(13);
 
         String courseName = logic.getCourse(session1.getCourseId()).getName();
-        List<TaskWrapper> tasksAdded = mockTaskQueuer.getTasksAdded();
-        for (TaskWrapper task : tasksAdded) {
-            SendEmailRequest requestBody = (SendEmailRequest) task.getRequestBody();
-            EmailWrapper email = requestBody.getEmail();
+        for (EmailWrapper email : getEmailsScheduled()) {
             String expectedSubject = (email.getIsCopy() ? EmailWrapper.EMAIL_COPY_SUBJECT_PREFIX : "")
                     + String.format(EmailType.FEEDBACK_CLOSING.getSubject(),
                     courseName, session1.getFeedbackSessionName());
@@ -1,17 +1,13 @@
 package teammates.ui.webapi;
 
-import java.util.List;
-
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.Const;
 import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
-import teammates.common.util.TaskWrapper;
 import teammates.common.util.TimeHelper;
 import teammates.common.util.TimeHelperExtension;
-import teammates.ui.request.SendEmailRequest;
 
 /**
  * SUT: {@link FeedbackSessionOpeningRemindersAction}.
@@ -87,13 +83,10 @@ public class FeedbackSessionOpeningRemindersActionTest
         action.execute();
 
         // 5 students, 5 instructors, and 3 co-owner instructors in course1
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 26);
+        verifyNumberOfEmailsScheduled(26);
 
         String courseName = logic.getCourse(session1.getCourseId()).getName();
-        List<TaskWrapper> tasksAdded = mockTaskQueuer.getTasksAdded();
-        for (TaskWrapper task : tasksAdded) {
-            SendEmailRequest requestBody = (SendEmailRequest) task.getRequestBody();
-            EmailWrapper email = requestBody.getEmail();
+        for (EmailWrapper email : getEmailsScheduled()) {
             try {
                 String expectedSubject = (email.getIsCopy() ? EmailWrapper.EMAIL_COPY_SUBJECT_PREFIX : "")
                         + String.format(EmailType.FEEDBACK_OPENING.getSubject(),
@@ -1,7 +1,5 @@
 package teammates.ui.webapi;
 
-import java.util.List;
-
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -9,8 +7,6 @@ import teammates.common.util.Const;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
-import teammates.common.util.TaskWrapper;
-import teammates.ui.request.SendEmailRequest;
 
 /**
  * SUT: {@link FeedbackSessionPublishedEmailWorkerAction}.
@@ -48,13 +44,10 @@ public class FeedbackSessionPublishedEmailWorkerActionTest
         action.execute();
 
         // 5 students, 5 instructors, and 3 co-owner instructors in course1
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 13);
+        verifyNumberOfEmailsScheduled(13);
 
         String courseName = logic.getCourse(session1.getCourseId()).getName();
-        List<TaskWrapper> tasksAdded = mockTaskQueuer.getTasksAdded();
-        for (TaskWrapper task : tasksAdded) {
-            SendEmailRequest requestBody = (SendEmailRequest) task.getRequestBody();
-            EmailWrapper email = requestBody.getEmail();
+        for (EmailWrapper email : getEmailsScheduled()) {
             String expectedSubject = (email.getIsCopy() ? EmailWrapper.EMAIL_COPY_SUBJECT_PREFIX : "")
                     + String.format(EmailType.FEEDBACK_PUBLISHED.getSubject(),
                     courseName, session1.getFeedbackSessionName());
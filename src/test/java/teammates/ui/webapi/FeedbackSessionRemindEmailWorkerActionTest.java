@@ -13,8 +13,6 @@ import teammates.common.util.Const;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
-import teammates.common.util.TaskWrapper;
-import teammates.ui.request.SendEmailRequest;
 
 /**
  * SUT: {@link FeedbackSessionRemindEmailWorkerAction}.
@@ -57,7 +55,7 @@ public class FeedbackSessionRemindEmailWorkerActionTest
         action.execute();
 
         // 1 student and 4 instructors sent reminder, 1 instructor notified
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 6);
+        verifyNumberOfEmailsScheduled(6);
 
         Set<String> giverSet =
                 logic.getGiverSetThatAnswerFeedbackSession(session1.getCourseId(), session1.getFeedbackSessionName());
@@ -80,10 +78,7 @@ public class FeedbackSessionRemindEmailWorkerActionTest
                 instructor1.getGoogleId()).getEmail());
 
         String courseName = logic.getCourse(session1.getCourseId()).getName();
-        List<TaskWrapper> tasksAdded = mockTaskQueuer.getTasksAdded();
-        for (TaskWrapper task : tasksAdded) {
-            SendEmailRequest requestBody = (SendEmailRequest) task.getRequestBody();
-            EmailWrapper email = requestBody.getEmail();
+        for (EmailWrapper email : getEmailsScheduled()) {
             String expectedSubject = (email.getIsCopy() ? EmailWrapper.EMAIL_COPY_SUBJECT_PREFIX : "")
                     + String.format(EmailType.FEEDBACK_SESSION_REMINDER.getSubject(),
                     courseName, session1.getFeedbackSessionName());
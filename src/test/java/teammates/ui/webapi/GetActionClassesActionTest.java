@@ -42,6 +42,7 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 CreateFeedbackSessionLogAction.class,
                 GetFeedbackSessionLogsAction.class,
                 GetInstructorPrivilegeAction.class,
+                GetInstructorDashboardAction.class,
                 UpdateInstructorPrivilegeAction.class,
                 GetFeedbackSessionsAction.class,
                 GenerateEmailAction.class,
@@ -105,6 +106,7 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 GetCourseJoinStatusAction.class,
                 JoinCourseAction.class,
                 GetSessionResponseStatsAction.class,
+                GetSessionResultsStatisticsAction.class,
                 DeleteCourseAction.class,
                 CreateCourseAction.class,
                 GetCourseAction.class,
@@ -114,6 +116,7 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 RemindFeedbackSessionSubmissionAction.class,
                 FeedbackSessionUnpublishedEmailWorkerAction.class,
                 SendEmailWorkerAction.class,
+                SendEmailsWorkerAction.class,
                 GetInstructorsAction.class,
                 PutDataBundleDocumentsAction.class,
                 FeedbackSessionResendPublishedEmailWorkerAction.class,
@@ -131,6 +134,10 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 UpdateFeedbackQuestionAction.class,
                 InstructorSearchIndexingWorkerAction.class,
                 StudentSearchIndexingWorkerAction.class,
+                StudentsSearchIndexingWorkerAction.class,
+                DeletionWorkerAction.class,
+                GetDeletionJobAction.class,
+                ResumeDeletionJobsAction.class,
                 AccountRequestSearchIndexingWorkerAction.class,
                 SearchAccountRequestsAction.class
         );
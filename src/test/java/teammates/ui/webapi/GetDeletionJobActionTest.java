@@ -0,0 +1,71 @@
+package teammates.ui.webapi;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Const;
+import teammates.ui.output.DeletionJobData;
+
+/**
+ * SUT: {@link GetDeletionJobAction}.
+ */
+public class GetDeletionJobActionTest extends BaseActionTest<GetDeletionJobAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.ResourceURIs.DELETION_JOB;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return GET;
+    }
+
+    @Override
+    @Test
+    protected void testExecute() throws Exception {
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session2InCourse1");
+        String courseId = session.getCourseId();
+        String sessionName = session.getFeedbackSessionName();
+
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, courseId,
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, sessionName,
+        };
+
+        ______TS("Not enough parameters");
+
+        verifyHttpParameterFailure();
+
+        ______TS("No deletion in progress");
+
+        verifyEntityNotFound(submissionParams);
+
+        ______TS("Progress of a deletion in progress");
+
+        logic.startFeedbackSessionDeletion(sessionName, courseId);
+        logic.runDeletionJob(courseId, sessionName, 1);
+
+        GetDeletionJobAction action = getAction(submissionParams);
+        DeletionJobData output = (DeletionJobData) getJsonResult(action).getOutput();
+
+        assertEquals(courseId, output.getCourseId());
+        assertEquals(sessionName, output.getFeedbackSessionName());
+        assertEquals("FEEDBACK_RESPONSES", output.getStage());
+        assertEquals(logic.getDeletionJob(courseId, sessionName).getNumberOfEntitiesDeleted(),
+                output.getNumberOfEntitiesDeleted());
+
+        ______TS("Course not being deleted");
+
+        verifyEntityNotFound(Const.ParamsNames.COURSE_ID, courseId);
+
+        logic.runDeletionJob(courseId, sessionName, Integer.MAX_VALUE);
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() {
+        verifyOnlyAdminCanAccess();
+    }
+
+}
@@ -0,0 +1,90 @@
+package teammates.ui.webapi;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.util.Const;
+import teammates.ui.output.CourseData;
+import teammates.ui.output.FeedbackSessionData;
+import teammates.ui.output.InstructorDashboardData;
+
+/**
+ * SUT: {@link GetInstructorDashboardAction}.
+ */
+public class GetInstructorDashboardActionTest extends BaseActionTest<GetInstructorDashboardAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.ResourceURIs.INSTRUCTOR_DASHBOARD;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return GET;
+    }
+
+    @Test
+    @Override
+    protected void testExecute() {
+        InstructorAttributes instructor1OfCourse1 = typicalBundle.instructors.get("instructor1OfCourse1");
+        loginAsInstructor(instructor1OfCourse1.getGoogleId());
+
+        List<InstructorAttributes> instructors = logic.getInstructorsForGoogleId(instructor1OfCourse1.getGoogleId(), true);
+        List<CourseAttributes> expectedCourses = logic.getCoursesForInstructor(instructors);
+        CourseAttributes.sortById(expectedCourses);
+        List<FeedbackSessionAttributes> expectedSessions = logic.getFeedbackSessionsListForInstructor(instructors);
+
+        ______TS("courses and sessions of the instructor are returned with the privileges of the instructor");
+
+        GetInstructorDashboardAction action = getAction();
+        InstructorDashboardData dashboardData = (InstructorDashboardData) getJsonResult(action).getOutput();
+
+        assertEquals(expectedCourses.stream().map(CourseAttributes::getId).collect(Collectors.toList()),
+                dashboardData.getCourses().stream().map(CourseData::getCourseId).collect(Collectors.toList()));
+        assertEquals(getSessionIdentifiers(expectedSessions),
+                dashboardData.getFeedbackSessions().stream()
+                        .map(session -> session.getCourseId() + "/" + session.getFeedbackSessionName())
+                        .sorted()
+                        .collect(Collectors.toList()));
+        assertFalse(dashboardData.getFeedbackSessions().isEmpty());
+
+        for (CourseData courseData : dashboardData.getCourses()) {
+            assertNotNull(courseData.getPrivileges());
+        }
+        for (FeedbackSessionData sessionData : dashboardData.getFeedbackSessions()) {
+            assertNotNull(sessionData.getPrivileges());
+        }
+
+        ______TS("course-level privileges of the instructor are returned for the course");
+
+        CourseData course1Data = dashboardData.getCourses().stream()
+                .filter(courseData -> courseData.getCourseId().equals(instructor1OfCourse1.getCourseId()))
+                .findFirst()
+                .orElseThrow();
+        InstructorAttributes instructor = logic.getInstructorForGoogleId(
+                instructor1OfCourse1.getCourseId(), instructor1OfCourse1.getGoogleId());
+        assertEquals(instructor.getPrivileges().getCourseLevelPrivileges().isCanModifyCourse(),
+                course1Data.getPrivileges().isCanModifyCourse());
+        assertEquals(instructor.getPrivileges().getCourseLevelPrivileges().isCanModifySession(),
+                course1Data.getPrivileges().isCanModifySession());
+    }
+
+    @Test
+    @Override
+    protected void testAccessControl() {
+        verifyOnlyInstructorsCanAccess();
+    }
+
+    private List<String> getSessionIdentifiers(List<FeedbackSessionAttributes> sessions) {
+        return sessions.stream()
+                .map(session -> session.getCourseId() + "/" + session.getFeedbackSessionName())
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+}
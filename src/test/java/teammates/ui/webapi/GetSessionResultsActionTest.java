@@ -1,9 +1,12 @@
 package teammates.ui.webapi;
 
+import java.io.StringWriter;
 import java.util.List;
 
 import org.testng.annotations.Test;
 
+import com.google.gson.stream.JsonWriter;
+
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -30,7 +33,7 @@ public class GetSessionResultsActionTest extends BaseActionTest<GetSessionResult
 
     @Override
     @Test
-    protected void testExecute() {
+    protected void testExecute() throws Exception {
         InstructorAttributes instructorAttributes = typicalBundle.instructors.get("instructor1OfCourse1");
         loginAsInstructor(instructorAttributes.getGoogleId());
 
@@ -56,6 +59,13 @@ public class GetSessionResultsActionTest extends BaseActionTest<GetSessionResult
 
         assertTrue(isSessionResultsDataEqual(expectedResults, output));
 
+        ______TS("streamed instructor results should be written in the same format as built results");
+
+        StringWriter streamedJson = new StringWriter();
+        output.writeJson(new JsonWriter(streamedJson));
+        assertEquals(JsonUtils.parse(JsonUtils.toCompactJson(expectedResults)),
+                JsonUtils.parse(streamedJson.toString()));
+
         ______TS("typical: student accesses results of his/her course");
 
         StudentAttributes studentAttributes = typicalBundle.students.get("student1InCourse1");
@@ -0,0 +1,158 @@
+package teammates.ui.webapi;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionStatistics;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+import teammates.ui.output.SessionResultsStatisticsData;
+
+/**
+ * SUT: {@link GetSessionResultsStatisticsAction}.
+ */
+public class GetSessionResultsStatisticsActionTest extends BaseActionTest<GetSessionResultsStatisticsAction> {
+
+    private static final double DELTA = 1e-9;
+
+    @Override
+    protected String getActionUri() {
+        return Const.ResourceURIs.RESULT_STATISTICS;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return GET;
+    }
+
+    @Override
+    @Test
+    protected void testExecute() {
+        InstructorAttributes instructor = typicalBundle.instructors.get("instructor1OfCourse1");
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session1InCourse1");
+        loginAsInstructor(instructor.getGoogleId());
+
+        ______TS("typical: statistics of all questions in session");
+
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+        };
+
+        GetSessionResultsStatisticsAction a = getAction(submissionParams);
+        JsonResult r = getJsonResult(a);
+        SessionResultsStatisticsData output = (SessionResultsStatisticsData) r.getOutput();
+
+        // the session has five text questions, which have no statistics
+        assertEquals(5, output.getQuestions().size());
+        for (SessionResultsStatisticsData.QuestionStatisticsOutput questionOutput : output.getQuestions()) {
+            assertEquals(FeedbackQuestionType.TEXT, questionOutput.getQuestionType());
+            assertEquals("", questionOutput.getQuestionStatistics());
+        }
+
+        ______TS("typical: statistics of a single question");
+
+        FeedbackQuestionAttributes question = logic.getFeedbackQuestion(
+                session.getFeedbackSessionName(), session.getCourseId(), 1);
+        submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                Const.ParamsNames.FEEDBACK_QUESTION_ID, question.getId(),
+        };
+
+        a = getAction(submissionParams);
+        r = getJsonResult(a);
+        output = (SessionResultsStatisticsData) r.getOutput();
+
+        assertEquals(1, output.getQuestions().size());
+        SessionResultsStatisticsData.QuestionStatisticsOutput questionOutput = output.getQuestions().get(0);
+        assertEquals(question.getId(), questionOutput.getFeedbackQuestionId());
+        assertEquals(question.getQuestionType(), questionOutput.getQuestionType());
+
+        ______TS("failure: missing parameters");
+
+        verifyHttpParameterFailure(Const.ParamsNames.COURSE_ID, session.getCourseId());
+    }
+
+    @Test
+    public void testExecute_questionsWithStatistics_shouldReturnStatisticsOfAllResponses() {
+        DataBundle dataBundle = loadDataBundle("/FeedbackSessionQuestionTypeTest.json");
+        removeAndRestoreDataBundle(dataBundle);
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+        loginAsInstructor(instructor.getGoogleId());
+
+        ______TS("MCQ question: answer frequencies and percentages of the options");
+
+        FeedbackSessionAttributes mcqSession = dataBundle.feedbackSessions.get("mcqSession");
+        FeedbackQuestionStatistics statistics = getQuestionStatistics(mcqSession, 1);
+
+        // 1 of the 3 students answered "It's good", the other 2 answered "It's perfect"
+        assertEquals(3, statistics.getNumberOfResponses());
+        assertEquals(Integer.valueOf(1), statistics.getAnswerFrequency().get("It's good"));
+        assertEquals(Integer.valueOf(2), statistics.getAnswerFrequency().get("It's perfect"));
+        assertEquals(100.0 / 3, statistics.getPercentagePerOption().get("It's good"), DELTA);
+        assertEquals(200.0 / 3, statistics.getPercentagePerOption().get("It's perfect"), DELTA);
+        assertNull(statistics.getWeightedPercentagePerOption());
+
+        ______TS("numerical scale question: overall, per recipient and per team summaries");
+
+        FeedbackSessionAttributes numscaleSession = dataBundle.feedbackSessions.get("numscaleSession");
+        statistics = getQuestionStatistics(numscaleSession, 1);
+
+        // student1 rated 3.5 and student2 rated 2 for themselves, both in the same team
+        assertEquals(2, statistics.getNumberOfResponses());
+        assertValueSummary(2, 5.5, 2.75, 2, 3.5, statistics.getOverall());
+        StudentAttributes student1 = dataBundle.students.get("student1InCourse1");
+        StudentAttributes student2 = dataBundle.students.get("student2InCourse1");
+        assertEquals(2, statistics.getPerRecipient().size());
+        assertValueSummary(1, 3.5, 3.5, 3.5, 3.5, statistics.getPerRecipient().get(student1.getEmail()));
+        assertValueSummary(1, 2, 2, 2, 2, statistics.getPerRecipient().get(student2.getEmail()));
+        assertEquals(1, statistics.getPerTeam().size());
+        assertValueSummary(2, 5.5, 2.75, 2, 3.5, statistics.getPerTeam().get(student1.getTeam()));
+    }
+
+    private FeedbackQuestionStatistics getQuestionStatistics(FeedbackSessionAttributes session, int questionNumber) {
+        FeedbackQuestionAttributes question = logic.getFeedbackQuestion(
+                session.getFeedbackSessionName(), session.getCourseId(), questionNumber);
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                Const.ParamsNames.FEEDBACK_QUESTION_ID, question.getId(),
+        };
+
+        GetSessionResultsStatisticsAction a = getAction(submissionParams);
+        JsonResult r = getJsonResult(a);
+        SessionResultsStatisticsData output = (SessionResultsStatisticsData) r.getOutput();
+
+        assertEquals(1, output.getQuestions().size());
+        return JsonUtils.fromJson(output.getQuestions().get(0).getQuestionStatistics(), FeedbackQuestionStatistics.class);
+    }
+
+    private void assertValueSummary(int count, double total, double average, double min, double max,
+                                    FeedbackQuestionStatistics.ValueSummary summary) {
+        assertEquals(count, summary.getCount());
+        assertEquals(total, summary.getTotal(), DELTA);
+        assertEquals(average, summary.getAverage(), DELTA);
+        assertEquals(min, summary.getMin(), DELTA);
+        assertEquals(max, summary.getMax(), DELTA);
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() throws Exception {
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session1InCourse1");
+
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+        };
+
+        verifyOnlyInstructorsOfTheSameCourseCanAccess(submissionParams);
+    }
+
+}
@@ -0,0 +1,49 @@
+package teammates.ui.webapi;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.TaskWrapper;
+
+/**
+ * SUT: {@link ResumeDeletionJobsAction}.
+ */
+public class ResumeDeletionJobsActionTest extends BaseActionTest<ResumeDeletionJobsAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.CronJobURIs.AUTOMATED_DELETION_JOBS_RESUMPTION;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return GET;
+    }
+
+    @Override
+    @Test
+    protected void testExecute() throws Exception {
+        ______TS("job which has just made progress is not resumed");
+
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session1InCourse1");
+        logic.startFeedbackSessionDeletion(session.getFeedbackSessionName(), session.getCourseId());
+
+        ResumeDeletionJobsAction action = getAction();
+        getJsonResult(action);
+
+        // jobs left stalled by other tests may be resumed
+        for (TaskWrapper task : mockTaskQueuer.getTasksAdded()) {
+            assertNotEquals(session.getCourseId(), task.getParamMap().get(Const.ParamsNames.COURSE_ID));
+        }
+
+        logic.runDeletionJob(session.getCourseId(), session.getFeedbackSessionName(), Integer.MAX_VALUE);
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() {
+        verifyOnlyAdminCanAccess();
+    }
+
+}
@@ -0,0 +1,87 @@
+package teammates.ui.webapi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.http.HttpStatus;
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const.TaskQueue;
+import teammates.common.util.EmailType;
+import teammates.common.util.EmailWrapper;
+import teammates.ui.output.MessageOutput;
+import teammates.ui.request.SendEmailsRequest;
+
+/**
+ * SUT: {@link SendEmailsWorkerAction}.
+ */
+public class SendEmailsWorkerActionTest extends BaseActionTest<SendEmailsWorkerAction> {
+
+    @Override
+    protected String getActionUri() {
+        return TaskQueue.SEND_EMAILS_WORKER_URL;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return POST;
+    }
+
+    @Override
+    @Test
+    protected void testExecute() {
+        ______TS("all emails sent");
+
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            EmailWrapper email = new EmailWrapper();
+            email.setType(EmailType.FEEDBACK_PUBLISHED);
+            email.setSenderEmail("sender@email.com");
+            email.setReplyTo("replyto@email.com");
+            email.setRecipient("recipient" + i + "@email.com");
+            email.setSubject("Test subject");
+            email.setContent("<p>This is a test content</p>");
+            emails.add(email);
+        }
+
+        SendEmailsWorkerAction action = getAction(new SendEmailsRequest(emails));
+        JsonResult result = getJsonResult(action);
+
+        assertEquals("Successful", ((MessageOutput) result.getOutput()).getMessage());
+        verifyNumberOfEmailsSent(3);
+        assertEquals("recipient2@email.com", getEmailsSent().get(1).getRecipient());
+        verifyNoTasksAdded();
+
+        ______TS("some emails failed to be sent: only failed emails added in a new task");
+
+        action = getAction(new SendEmailsRequest(emails));
+        mockEmailSender.failSendingEmailsTo("recipient1@email.com", "recipient3@email.com");
+        result = getJsonResult(action);
+
+        assertEquals("Partially successful", ((MessageOutput) result.getOutput()).getMessage());
+        verifyNumberOfEmailsSent(1);
+        verifySpecifiedTasksAdded(TaskQueue.SEND_EMAIL_QUEUE_NAME, 1);
+
+        SendEmailsRequest requestToRetry = (SendEmailsRequest) mockTaskQueuer.getTasksAdded().get(0).getRequestBody();
+        assertEquals(2, requestToRetry.getEmails().size());
+        assertEquals("recipient1@email.com", requestToRetry.getEmails().get(0).getRecipient());
+        assertEquals("recipient3@email.com", requestToRetry.getEmails().get(1).getRecipient());
+
+        ______TS("all emails failed to be sent: task retried");
+
+        action = getAction(new SendEmailsRequest(emails));
+        mockEmailSender.failSendingEmailsTo("recipient1@email.com", "recipient2@email.com", "recipient3@email.com");
+        result = getJsonResult(action, HttpStatus.SC_BAD_GATEWAY);
+
+        assertEquals("Failure", ((MessageOutput) result.getOutput()).getMessage());
+        verifyNoEmailsSent();
+        verifyNoTasksAdded();
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() {
+        verifyOnlyAdminCanAccess();
+    }
+
+}
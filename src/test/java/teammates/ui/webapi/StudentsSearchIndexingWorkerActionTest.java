@@ -0,0 +1,65 @@
+package teammates.ui.webapi;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const.TaskQueue;
+import teammates.test.TestProperties;
+import teammates.ui.request.StudentsSearchIndexingRequest;
+
+/**
+ * SUT: {@link StudentsSearchIndexingWorkerAction}.
+ */
+public class StudentsSearchIndexingWorkerActionTest extends BaseActionTest<StudentsSearchIndexingWorkerAction> {
+
+    @Override
+    protected String getActionUri() {
+        return TaskQueue.STUDENTS_SEARCH_INDEXING_WORKER_URL;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return POST;
+    }
+
+    @Override
+    @Test
+    protected void testExecute() throws Exception {
+        if (!TestProperties.isSearchServiceActive()) {
+            return;
+        }
+
+        StudentAttributes student1 = typicalBundle.students.get("student1InCourse1");
+        StudentAttributes student2 = typicalBundle.students.get("student2InCourse1");
+
+        ______TS("students not yet indexed should not be searchable");
+
+        List<StudentAttributes> studentList = logic.searchStudentsInWholeSystem(student1.getEmail());
+        assertEquals(0, studentList.size());
+        studentList = logic.searchStudentsInWholeSystem(student2.getEmail());
+        assertEquals(0, studentList.size());
+
+        ______TS("students indexed should be searchable");
+
+        StudentsSearchIndexingRequest indexingRequest = new StudentsSearchIndexingRequest(student1.getCourse(),
+                new String[] { student1.getEmail(), student2.getEmail(), "non-existent@email.com" }, Instant.now());
+
+        StudentsSearchIndexingWorkerAction action = getAction(indexingRequest);
+        getJsonResult(action);
+
+        studentList = logic.searchStudentsInWholeSystem(student1.getEmail());
+        assertEquals(1, studentList.size());
+        assertEquals(student1.getName(), studentList.get(0).getName());
+        studentList = logic.searchStudentsInWholeSystem(student2.getEmail());
+        assertEquals(1, studentList.size());
+        assertEquals(student2.getName(), studentList.get(0).getName());
+    }
+
+    @Override
+    protected void testAccessControl() {
+        verifyOnlyAdminCanAccess();
+    }
+}